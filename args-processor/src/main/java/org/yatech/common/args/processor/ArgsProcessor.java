@@ -0,0 +1,670 @@
+package org.yatech.common.args.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor which generates a validator class for each type with properties annotated with the
+ * requirement annotations of <tt>org.yatech.common.args.annotations</tt>.
+ * <p>
+ * For a type <tt>Person</tt> the processor generates a <tt>PersonValidator</tt> class in the same package (for a
+ * nested type <tt>Outer.Person</tt> it is <tt>Outer_PersonValidator</tt>), with the static methods
+ * <tt>validate(Person)</tt> and <tt>validateAll(Person)</tt>. The generated code reads each property directly, or
+ * through its accessor if the field is private, and calls the matching <tt>NumericArgs</tt>, <tt>StringArgs</tt> or
+ * <tt>CollectionArgs</tt> requirement, so validating a value involves no reflection and can be inlined by the JIT:
+ * <pre>
+ * public class Person {
+ *     &#64;NonBlank String name;
+ *     &#64;InRange(from = 0, to = 150) int age;
+ * }
+ *
+ * PersonValidator.validate(person);
+ * </pre>
+ * The requirements are checked in the order the properties are declared, and for each property in the order of its
+ * annotations. The requirements of the properties inherited from a superclass are checked first, by calling the
+ * validator of the nearest superclass with requirement annotations. Unsupported property types and invalid annotation
+ * values are reported as compilation errors.
+ *
+ * @author Yinon Avraham.
+ */
+@SupportedAnnotationTypes("org.yatech.common.args.annotations.*")
+public class ArgsProcessor extends AbstractProcessor {
+
+    static final String ANNOTATIONS_PACKAGE = "org.yatech.common.args.annotations";
+    static final String VALIDATOR_SUFFIX = "Validator";
+
+    private static final Set<String> ANNOTATIONS = new HashSet<>(Arrays.asList("NonNull", "Positive", "NonNegative",
+            "InRange", "NonBlank", "NonEmpty", "Matches", "MaxSize", "MinSize", "Valid"));
+
+    private static final List<String> ARGS_IMPORTS = Arrays.asList("Args", "CollectionArgs", "NumericArgs",
+            "StringArgs", "Violations");
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement type : types) {
+            if (generated.add(type.getQualifiedName().toString())) {
+                new Generator(type).generate();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param type the validated type
+     * @return the simple name of the validator generated for the type
+     */
+    static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.append(VALIDATOR_SUFFIX).toString();
+    }
+
+    private static boolean isRequirement(AnnotationMirror annotation) {
+        TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+        return ANNOTATIONS.contains(type.getSimpleName().toString())
+                && type.getEnclosingElement().toString().equals(ANNOTATIONS_PACKAGE);
+    }
+
+    /**
+     * Generates the validator of a single type
+     */
+    private final class Generator {
+
+        private final Types types = processingEnv.getTypeUtils();
+        private final Elements elements = processingEnv.getElementUtils();
+        private final Messager messager = processingEnv.getMessager();
+        private final TypeElement type;
+        private final List<String> statements = new ArrayList<>();
+        private final List<String> constants = new ArrayList<>();
+        private final Set<String> constantNames = new HashSet<>();
+        private boolean failed;
+
+        Generator(TypeElement type) {
+            this.type = type;
+        }
+
+        void generate() {
+            if (!isAccessible(type)) {
+                error(type, "Type with requirement annotations must be a top level or a non-private member type");
+                return;
+            }
+            TypeElement superclass = validatedType(superclassOf(type));
+            if (superclass != null) {
+                if (!isAccessible(superclass)) {
+                    error(type, "Superclass with requirement annotations must be a top level or a non-private member "
+                            + "type");
+                    return;
+                }
+                add("%s.validate(value);", validatorReference(superclass));
+            }
+            for (Element member : type.getEnclosedElements()) {
+                List<AnnotationMirror> requirements = member.getAnnotationMirrors().stream()
+                        .filter(ArgsProcessor::isRequirement)
+                        .collect(Collectors.toList());
+                if (!requirements.isEmpty() && !isDuplicateOfField(member)) {
+                    Property property = property(member);
+                    if (property != null) {
+                        for (AnnotationMirror requirement : requirements) {
+                            statement(property, requirement);
+                        }
+                    }
+                }
+            }
+            if (!failed) {
+                write();
+            }
+        }
+
+        /**
+         * A record component annotation is propagated to both the component field and its accessor method, so an
+         * accessor is skipped if its field has the same annotations.
+         */
+        private boolean isDuplicateOfField(Element member) {
+            if (member.getKind() != ElementKind.METHOD || !type.getKind().name().equals("RECORD")) {
+                return false;
+            }
+            return type.getEnclosedElements().stream().anyMatch(e -> e.getKind() == ElementKind.FIELD
+                    && e.getSimpleName().equals(member.getSimpleName()));
+        }
+
+        /**
+         * @return the given type, or its nearest superclass, which has requirement annotations (and therefore a
+         *         generated validator), or null if there is none
+         */
+        private TypeElement validatedType(TypeElement element) {
+            for (TypeElement e = element; e != null; e = superclassOf(e)) {
+                if (hasRequirements(e)) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        private TypeElement superclassOf(TypeElement element) {
+            TypeMirror superclass = element.getSuperclass();
+            return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+
+        private boolean hasRequirements(TypeElement element) {
+            return element.getEnclosedElements().stream()
+                    .anyMatch(e -> e.getAnnotationMirrors().stream().anyMatch(ArgsProcessor::isRequirement));
+        }
+
+        private String validatorReference(TypeElement element) {
+            String pkg = elements.getPackageOf(element).getQualifiedName().toString();
+            return (pkg.isEmpty() ? "" : pkg + ".") + validatorName(element);
+        }
+
+        private boolean isAccessible(TypeElement element) {
+            for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+                NestingKind nesting = ((TypeElement) e).getNestingKind();
+                if (e.getModifiers().contains(Modifier.PRIVATE)
+                        || (nesting != NestingKind.TOP_LEVEL && nesting != NestingKind.MEMBER)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Property property(Element member) {
+            if (member.getModifiers().contains(Modifier.STATIC)) {
+                error(member, "Requirement annotations are not supported on static members");
+                return null;
+            }
+            if (member.getKind() == ElementKind.FIELD) {
+                String name = member.getSimpleName().toString();
+                if (!member.getModifiers().contains(Modifier.PRIVATE)) {
+                    return new Property(member, name, "value." + name, member.asType());
+                }
+                ExecutableElement accessor = accessor(name);
+                if (accessor == null) {
+                    error(member, "Private field " + name + " has no accessor method");
+                    return null;
+                }
+                return new Property(member, name, "value." + accessor.getSimpleName() + "()", member.asType());
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            if (method.getModifiers().contains(Modifier.PRIVATE) || !method.getParameters().isEmpty()
+                    || method.getReturnType().getKind() == TypeKind.VOID) {
+                error(member, "Requirement annotations are supported only on non-private accessor methods");
+                return null;
+            }
+            String name = method.getSimpleName().toString();
+            return new Property(member, propertyName(name), "value." + name + "()", method.getReturnType());
+        }
+
+        private ExecutableElement accessor(String name) {
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            List<String> names = Arrays.asList("get" + capitalized, "is" + capitalized, name);
+            for (Element e : type.getEnclosedElements()) {
+                if (e.getKind() == ElementKind.METHOD && names.contains(e.getSimpleName().toString())
+                        && !e.getModifiers().contains(Modifier.PRIVATE)
+                        && !e.getModifiers().contains(Modifier.STATIC)
+                        && ((ExecutableElement) e).getParameters().isEmpty()) {
+                    return (ExecutableElement) e;
+                }
+            }
+            return null;
+        }
+
+        private String propertyName(String accessor) {
+            for (String prefix : new String[]{"get", "is"}) {
+                if (accessor.length() > prefix.length() && accessor.startsWith(prefix)
+                        && Character.isUpperCase(accessor.charAt(prefix.length()))) {
+                    String name = accessor.substring(prefix.length());
+                    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+                }
+            }
+            return accessor;
+        }
+
+        private void statement(Property property, AnnotationMirror requirement) {
+            String annotation = requirement.getAnnotationType().asElement().getSimpleName().toString();
+            Map<String, Object> values = values(requirement);
+            String message = (String) values.get("message");
+            String p = property.name;
+            switch (annotation) {
+                case "NonNull":
+                    if (requireReference(property, annotation)) {
+                        add("Args.requireNonNull(%s, %s);", property.access, message(message, p + " is required"));
+                    }
+                    break;
+                case "Positive":
+                case "NonNegative":
+                    if (numericKind(property, annotation) != null) {
+                        String text = annotation.equals("Positive") ? " must be positive" : " must not be negative";
+                        add("NumericArgs.require%s(%s, %s);", annotation, property.access, message(message, p + text));
+                    }
+                    break;
+                case "InRange":
+                    inRange(property, values, message);
+                    break;
+                case "NonBlank":
+                    if (requireCharSequence(property, annotation)) {
+                        add("StringArgs.requireNonBlank(%s, %s);", property.access,
+                                message(message, p + " must not be blank"));
+                    }
+                    break;
+                case "NonEmpty":
+                    if (isCharSequence(property.type)) {
+                        add("StringArgs.requireNonEmpty(%s, %s);", property.access,
+                                message(message, p + " must not be empty"));
+                    } else if (requireCollection(property, annotation)) {
+                        add("CollectionArgs.requireNonEmpty(%s, %s);", property.access,
+                                message(message, p + " must not be empty"));
+                    }
+                    break;
+                case "Matches":
+                    matches(property, (String) values.get("value"), message);
+                    break;
+                case "MaxSize":
+                case "MinSize":
+                    if (requireCollection(property, annotation)) {
+                        int size = (Integer) values.get("value");
+                        String text = annotation.equals("MaxSize")
+                                ? " size must be at most " : " size must be at least ";
+                        add("CollectionArgs.require%s(%s, %d, %s);", annotation, property.access, size,
+                                message(message, p + text + size));
+                    }
+                    break;
+                case "Valid":
+                    valid(property, message);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown requirement annotation: " + annotation);
+            }
+        }
+
+        private void inRange(Property property, Map<String, Object> values, String message) {
+            TypeKind kind = numericKind(property, "InRange");
+            if (kind == null) {
+                return;
+            }
+            long from = (Long) values.get("from");
+            long to = (Long) values.get("to");
+            boolean fromInclusive = (Boolean) values.get("fromInclusive");
+            boolean toInclusive = (Boolean) values.get("toInclusive");
+            if (from > to) {
+                error(property.element, "InRange lower bound " + from + " is greater than the upper bound " + to);
+                return;
+            }
+            String fromLiteral = literal(kind, from);
+            String toLiteral = literal(kind, to);
+            if (fromLiteral == null || toLiteral == null) {
+                error(property.element, "InRange bounds [" + from + ", " + to + "] do not fit in " + kind.name()
+                        .toLowerCase(Locale.ROOT));
+                return;
+            }
+            String range = (fromInclusive ? "[" : "(") + from + ", " + to + (toInclusive ? "]" : ")");
+            add("NumericArgs.requireInRange(%s, %s, %s, %s, %s, %s);", property.access, fromLiteral, fromInclusive,
+                    toLiteral, toInclusive, message(message, property.name + " must be in " + range));
+        }
+
+        private void matches(Property property, String regex, String message) {
+            if (!requireCharSequence(property, "Matches")) {
+                return;
+            }
+            try {
+                Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                error(property.element, "Invalid Matches regular expression: " + e.getDescription());
+                return;
+            }
+            String constant = constantName(property.name + "_PATTERN");
+            constants.add(String.format("private static final Pattern %s = Pattern.compile(%s);", constant,
+                    quote(regex)));
+            add("StringArgs.requireMatches(%s, %s, %s);", property.access, constant,
+                    message(message, property.name + " must match " + regex));
+        }
+
+        private void valid(Property property, String message) {
+            TypeMirror erasure = types.erasure(property.type);
+            if (erasure.getKind() != TypeKind.DECLARED) {
+                error(property.element, "Valid is not supported on type " + property.type);
+                return;
+            }
+            TypeElement element = validatedType((TypeElement) types.asElement(erasure));
+            if (element == null) {
+                error(property.element, "Valid is not supported on type " + property.type
+                        + ", which has no requirement annotations");
+                return;
+            }
+            if (!isAccessible(element)) {
+                error(property.element, "Valid is not supported on type " + property.type
+                        + ", whose validator is not accessible");
+                return;
+            }
+            add("if (Args.requireNonNull(%s, %s) != null) {", property.access,
+                    message(message, property.name + " is required"));
+            add("    %s.validate(%s);", validatorReference(element), property.access);
+            add("}");
+        }
+
+        private boolean requireReference(Property property, String annotation) {
+            if (property.type.getKind().isPrimitive()) {
+                return unsupported(property, annotation);
+            }
+            return true;
+        }
+
+        private boolean requireCharSequence(Property property, String annotation) {
+            return isCharSequence(property.type) || unsupported(property, annotation);
+        }
+
+        private boolean requireCollection(Property property, String annotation) {
+            return isAssignable(property.type, "java.util.Collection") || isAssignable(property.type, "java.util.Map")
+                    || unsupported(property, annotation);
+        }
+
+        /**
+         * @return the primitive kind of the numeric property, or null if the property type is not supported
+         */
+        private TypeKind numericKind(Property property, String annotation) {
+            TypeMirror type = property.type;
+            if (type.getKind() == TypeKind.DECLARED) {
+                String name = types.erasure(type).toString();
+                if (!Arrays.asList("java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double")
+                        .contains(name)) {
+                    unsupported(property, annotation);
+                    return null;
+                }
+                type = types.unboxedType(type);
+            }
+            switch (type.getKind()) {
+                case BYTE:
+                case SHORT:
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                    return type.getKind();
+                default:
+                    unsupported(property, annotation);
+                    return null;
+            }
+        }
+
+        /**
+         * @return a literal of the value in the given numeric type, or null if the value does not fit in the type
+         */
+        private String literal(TypeKind kind, long value) {
+            switch (kind) {
+                case BYTE:
+                    return value == (byte) value ? "(byte) " + value : null;
+                case SHORT:
+                    return value == (short) value ? "(short) " + value : null;
+                case INT:
+                    return value == (int) value ? Long.toString(value) : null;
+                case LONG:
+                    return value + "L";
+                case FLOAT:
+                    return value + "f";
+                default:
+                    return value + "d";
+            }
+        }
+
+        private boolean isCharSequence(TypeMirror type) {
+            return isAssignable(type, "java.lang.CharSequence");
+        }
+
+        private boolean isAssignable(TypeMirror type, String name) {
+            TypeElement element = elements.getTypeElement(name);
+            return type.getKind() == TypeKind.DECLARED
+                    && types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+        }
+
+        private boolean unsupported(Property property, String annotation) {
+            error(property.element, annotation + " is not supported on type " + property.type);
+            return false;
+        }
+
+        private Map<String, Object> values(AnnotationMirror annotation) {
+            Map<String, Object> values = new HashMap<>();
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+            }
+            return values;
+        }
+
+        private String message(String message, String defaultMessage) {
+            return quote(message.isEmpty() ? defaultMessage : message);
+        }
+
+        private String constantName(String name) {
+            String base = name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+            String constant = base;
+            for (int i = 2; !constantNames.add(constant); i++) {
+                constant = base + "_" + i;
+            }
+            return constant;
+        }
+
+        private void add(String format, Object... args) {
+            statements.add(String.format(format, args));
+        }
+
+        private void error(Element element, String message) {
+            messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+            failed = true;
+        }
+
+        private void write() {
+            PackageElement pkg = elements.getPackageOf(type);
+            String name = validatorName(type);
+            String qualifiedName = pkg.isUnnamed() ? name : pkg.getQualifiedName() + "." + name;
+            String typeParameters = typeParameters();
+            String valueType = type.getQualifiedName() + typeArguments();
+            String visibility = type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+            try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+                Source out = new Source(writer);
+                if (!pkg.isUnnamed()) {
+                    out.line("package %s;", pkg.getQualifiedName()).line();
+                }
+                for (String imported : ARGS_IMPORTS) {
+                    if (imported.equals("Args") || imported.equals("Violations") || uses(imported)) {
+                        out.line("import org.yatech.common.args.%s;", imported);
+                    }
+                }
+                if (!constants.isEmpty()) {
+                    out.line().line("import java.util.regex.Pattern;");
+                }
+                out.line()
+                        .line("/**")
+                        .line(" * The validator of {@link %s}, generated by {@link %s}.", type.getQualifiedName(),
+                                ArgsProcessor.class.getName())
+                        .line(" */")
+                        .line("%sfinal class %s {", visibility, name)
+                        .line();
+                for (String constant : constants) {
+                    out.line("    %s", constant);
+                }
+                if (!constants.isEmpty()) {
+                    out.line();
+                }
+                out.line("    private %s() {", name)
+                        .line("        //utility")
+                        .line("    }")
+                        .line()
+                        .line("    /**")
+                        .line("     * Require that the given value is not null and satisfies all the requirements")
+                        .line("     * @param value the value to validate")
+                        .line("     * @return the value if satisfies the requirements")
+                        .line("     * @throws IllegalArgumentException if the value does not satisfy any requirement")
+                        .line("     */")
+                        .line("    public static %s%s validate(%s value) {", typeParameters, valueType, valueType)
+                        .line("        if (Args.requireNonNull(value, \"value to validate is required\") == null) {")
+                        .line("            return null;")
+                        .line("        }");
+                for (String statement : statements) {
+                    out.line("        %s", statement);
+                }
+                out.line("        return value;")
+                        .line("    }")
+                        .line()
+                        .line("    /**")
+                        .line("     * Check all the requirements on the given value, collecting the error messages of")
+                        .line("     * the requirements which are not satisfied instead of failing on the first one")
+                        .line("     * @param value the value to validate")
+                        .line("     * @return the violations of the requirements, empty if the value is valid")
+                        .line("     */")
+                        .line("    public static %sViolations validateAll(%s value) {", typeParameters, valueType)
+                        .line("        return Violations.collect(value, %s::validate);", name)
+                        .line("    }")
+                        .line("}");
+            } catch (IOException e) {
+                error(type, "Failed to write the validator " + qualifiedName + ": " + e.getMessage());
+            }
+        }
+
+        private boolean uses(String className) {
+            return statements.stream().anyMatch(s -> s.startsWith(className + "."));
+        }
+
+        private String typeParameters() {
+            List<? extends TypeParameterElement> parameters = type.getTypeParameters();
+            if (parameters.isEmpty()) {
+                return "";
+            }
+            return parameters.stream().map(p -> {
+                String bounds = p.getBounds().stream()
+                        .map(TypeMirror::toString)
+                        .filter(b -> !b.equals("java.lang.Object"))
+                        .collect(Collectors.joining(" & "));
+                return bounds.isEmpty() ? p.getSimpleName().toString() : p.getSimpleName() + " extends " + bounds;
+            }).collect(Collectors.joining(", ", "<", "> "));
+        }
+
+        private String typeArguments() {
+            List<? extends TypeParameterElement> parameters = type.getTypeParameters();
+            if (parameters.isEmpty()) {
+                return "";
+            }
+            return parameters.stream()
+                    .map(p -> p.getSimpleName().toString())
+                    .collect(Collectors.joining(", ", "<", ">"));
+        }
+    }
+
+    /**
+     * @return the Java string literal of the given text
+     */
+    static String quote(String text) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * A property of the validated type: its element, name, the expression which reads it from the value and its type
+     */
+    private static final class Property {
+
+        final Element element;
+        final String name;
+        final String access;
+        final TypeMirror type;
+
+        Property(Element element, String name, String access, TypeMirror type) {
+            this.element = element;
+            this.name = name;
+            this.access = access;
+            this.type = type;
+        }
+    }
+
+    /**
+     * A minimal writer of formatted source lines
+     */
+    private static final class Source {
+
+        private final Writer writer;
+
+        Source(Writer writer) {
+            this.writer = writer;
+        }
+
+        Source line() throws IOException {
+            writer.write('\n');
+            return this;
+        }
+
+        Source line(String format, Object... args) throws IOException {
+            writer.write(String.format(format, args));
+            writer.write('\n');
+            return this;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.yatech.common.args.processor
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * @author Yinon Avraham.
+ */
+class ArgsProcessorSpec extends Specification {
+
+    static final String PERSON = '''
+        package com.acme;
+
+        import org.yatech.common.args.annotations.*;
+        import java.util.List;
+
+        public class Person {
+            @NonBlank @Matches("[A-Z]\\\\w*") String name;
+            @InRange(from = 0, to = 150) private int age;
+            @Positive Long id;
+            @MaxSize(2) List<String> tags;
+            @Valid Address address;
+
+            public Person(String name, int age, Long id, List<String> tags, Address address) {
+                this.name = name; this.age = age; this.id = id; this.tags = tags; this.address = address;
+            }
+
+            public int getAge() { return age; }
+
+            public static class Address {
+                @NonNull(message = "city is required") String city;
+
+                public Address(String city) { this.city = city; }
+            }
+        }
+        '''
+
+    Path dir
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>()
+
+    def setup() {
+        dir = Files.createTempDirectory('args-processor')
+    }
+
+    def cleanup() {
+        dir.toFile().deleteDir()
+    }
+
+    def 'generate a validator which calls the requirements directly'() {
+        when:
+        def loader = compile('com.acme.Person': PERSON)
+
+        then:
+        def source = new String(Files.readAllBytes(dir.resolve('com/acme/PersonValidator.java')), 'UTF-8')
+        source.contains('StringArgs.requireNonBlank(value.name, "name must not be blank");')
+        source.contains('NumericArgs.requireInRange(value.getAge(), 0, true, 150, true, "age must be in [0, 150]");')
+        source.contains('com.acme.Person_AddressValidator.validate(value.address);')
+        source.contains('if (Args.requireNonNull(value.address, "address is required") != null) {')
+        !source.contains('java.lang.reflect')
+        loader.loadClass('com.acme.Person_AddressValidator') != null
+    }
+
+    @Unroll
+    def 'validate a value with the generated validator (#expected)'() {
+        given:
+        def loader = compile('com.acme.Person': PERSON)
+        def validator = loader.loadClass('com.acme.PersonValidator')
+        def address = loader.loadClass('com.acme.Person$Address').newInstance(city)
+        def person = loader.loadClass('com.acme.Person').newInstance(name, age, id, tags, address)
+
+        expect:
+        validator.validateAll(person).messages == expected
+
+        where:
+        name    | age | id | tags            | city     | expected
+        'Alice' | 30  | 1L | ['a']           | 'London' | []
+        ' '     | 30  | 1L | ['a']           | 'London' | ['name must not be blank', 'name must match [A-Z]\\w*']
+        'Alice' | 151 | 0L | ['a']           | 'London' | ['age must be in [0, 150]', 'id must be positive']
+        'Alice' | 30  | 1L | ['a', 'b', 'c'] | null     | ['tags size must be at most 2', 'city is required']
+    }
+
+    def 'fail on the first requirement which is not satisfied'() {
+        given:
+        def loader = compile('com.acme.Person': PERSON)
+        def validator = loader.loadClass('com.acme.PersonValidator')
+        def person = loader.loadClass('com.acme.Person').newInstance('Alice', -1, 0L, [], null)
+
+        when:
+        validator.validate(person)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'age must be in [0, 150]'
+    }
+
+    def 'fail with the name of a null property which is required to be valid'() {
+        given:
+        def loader = compile('com.acme.Person': PERSON)
+        def validator = loader.loadClass('com.acme.PersonValidator')
+        def person = loader.loadClass('com.acme.Person').newInstance('Alice', 30, 1L, [], null)
+
+        expect:
+        validator.validateAll(person).messages == ['address is required']
+    }
+
+    def 'check the requirements of the properties inherited from the superclasses'() {
+        given:
+        def loader = compile(
+                'com.acme.Base': '''
+                    package com.acme;
+
+                    import org.yatech.common.args.annotations.*;
+
+                    public class Base {
+                        @NonBlank String id;
+                    }
+                    ''',
+                'com.acme.Middle': '''
+                    package com.acme;
+
+                    public class Middle extends Base {
+                    }
+                    ''',
+                'com.acme.child.Child': '''
+                    package com.acme.child;
+
+                    import org.yatech.common.args.annotations.*;
+
+                    public class Child extends com.acme.Middle {
+                        @Positive public int count;
+                        @Valid public com.acme.Middle parent;
+                    }
+                    ''')
+        def child = loader.loadClass('com.acme.child.Child').newInstance()
+        child.count = 1
+        child.parent = loader.loadClass('com.acme.Middle').newInstance()
+
+        expect:
+        loader.loadClass('com.acme.child.ChildValidator').validateAll(child).messages == ['id must not be blank',
+                                                                                          'id must not be blank']
+    }
+
+    @Unroll
+    def 'report a compilation error for #member'() {
+        when:
+        compile('com.acme.Bad': """
+            package com.acme;
+
+            import org.yatech.common.args.annotations.*;
+
+            class Bad {
+                $member
+            }
+            """)
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains(error)
+
+        where:
+        member                                  | error
+        '@Positive String s;'                   | 'Positive is not supported on type java.lang.String'
+        '@InRange(from = 0, to = 1000) byte b;' | 'InRange bounds [0, 1000] do not fit in byte'
+        '@Matches("[") String s;'               | 'Invalid Matches regular expression'
+        '@NonBlank private String s;'           | 'Private field s has no accessor method'
+        '@NonNull static String s;'             | 'not supported on static members'
+        '@Valid Object o;'                      | 'which has no requirement annotations'
+    }
+
+    def 'quote the generated string literals'() {
+        expect:
+        ArgsProcessor.quote('a "b" \\ c\n\u00e9') == '"a \\"b\\" \\\\ c\\n\\u00e9"'
+    }
+
+    private ClassLoader compile(Map<String, String> sources) {
+        def files = sources.collect { name, source ->
+            def file = dir.resolve(name.replace('.', '/') + '.java')
+            Files.createDirectories(file.parent)
+            Files.write(file, source.stripIndent().getBytes('UTF-8'))
+            file.toFile()
+        }
+        def compiler = ToolProvider.systemJavaCompiler
+        def fileManager = compiler.getStandardFileManager(diagnostics, null, null)
+        def options = ['-d', dir.toString(), '-s', dir.toString(), '-classpath', System.getProperty('java.class.path'),
+                       '-processor', ArgsProcessor.name]
+        def task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjectsFromFiles(files))
+        if (!task.call()) {
+            def errors = diagnostics.diagnostics.findAll { it.kind == Diagnostic.Kind.ERROR }
+            throw new IllegalStateException(errors*.getMessage(Locale.ROOT).join('\n'))
+        }
+        return new URLClassLoader([dir.toUri().toURL()] as URL[], getClass().classLoader)
+    }
+}
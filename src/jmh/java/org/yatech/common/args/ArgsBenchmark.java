@@ -0,0 +1,69 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Args}, on the success and on the failure path.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArgsBenchmark {
+
+    String value = "value";
+    String nullValue = null;
+    int limit = 10;
+
+    @Benchmark
+    public String requireNonNull() {
+        return Args.requireNonNull(value, "value is null");
+    }
+
+    @Benchmark
+    public String requireSatisfies() {
+        return Args.requireSatisfies(value, v -> v.length() < limit, "value is too long");
+    }
+
+    @Benchmark
+    public String requireSatisfiesWithContext() {
+        return Args.requireSatisfies(value, limit, (v, max) -> v.length() < max, "value is too long");
+    }
+
+    @Benchmark
+    public long requireSatisfiesLong() {
+        return Args.requireSatisfiesLong(limit, v -> v % 2 == 0, "value is odd");
+    }
+
+    @Benchmark
+    public Object requireNonNullFailure() {
+        try {
+            return Args.requireNonNull(nullValue, "value is null");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireSatisfiesFailure() {
+        try {
+            return Args.requireSatisfies(value, v -> v.length() > limit, "value is too short");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
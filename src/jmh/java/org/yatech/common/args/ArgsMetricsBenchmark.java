@@ -0,0 +1,79 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the overhead of the {@link ArgsMetrics} on the success path: the same requirements with the metrics
+ * disabled (where the overhead should be none), enabled, and enabled with the latency of every validation sampled.
+ * The requirements are checked by 4 threads, to include the contention on the counters of the same rule.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(4)
+@Fork(1)
+public class ArgsMetricsBenchmark {
+
+    private static final String METRICS_ENABLED = "-D" + ArgsMetrics.ENABLED_PROPERTY + "=true";
+
+    private static final Validator<String> VALIDATOR = Validator.<String>builder()
+            .requireNonBlank(value -> value, "value is required")
+            .requireSatisfiesInt(String::length, length -> length <= 64, "value is too long")
+            .build();
+
+    int count = 42;
+    String value = "value";
+
+    @Benchmark
+    public int requirePositive() {
+        return NumericArgs.requirePositive(count, "count must be positive");
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ENABLED)
+    public int requirePositiveWithMetrics() {
+        return NumericArgs.requirePositive(count, "count must be positive");
+    }
+
+    @Benchmark
+    public String validate() {
+        return VALIDATOR.validate(value);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ENABLED)
+    public String validateWithMetrics() {
+        return VALIDATOR.validate(value);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ENABLED)
+    public String validateWithLatencySampling(LatencySampling latencySampling) {
+        return VALIDATOR.validate(value);
+    }
+
+    @State(Scope.Benchmark)
+    public static class LatencySampling {
+
+        @Setup
+        public void setUp() {
+            ArgsMetrics.setLatencySampleRate(1);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmarks of {@link BatchingRequirement} against a store stand-in which takes 100 microseconds per lookup, whether
+ * it looks up a single ID or a batch of IDs. The <tt>*Sequential</tt> benchmark is the baseline of checking each ID
+ * with {@link Args#requireSatisfies(Object, java.util.function.Predicate, String)} on the calling thread.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchingRequirementBenchmark {
+
+    private static final int IDS = 64;
+    private static final long LOOKUP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    final BatchingRequirement<Long> exists = BatchingRequirement.builder(BatchingRequirementBenchmark::existing)
+            .maxBatchSize(IDS)
+            .build();
+
+    @SuppressWarnings("unchecked")
+    final CompletableFuture<Long>[] results = new CompletableFuture[IDS];
+
+    @Benchmark
+    @OperationsPerInvocation(IDS)
+    public Long requireSatisfiesSequential() {
+        Long last = null;
+        for (long id = 0; id < IDS; id++) {
+            last = Args.requireSatisfies(id, BatchingRequirementBenchmark::exists, "id does not exist");
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IDS)
+    public Object requireBatched() {
+        for (int i = 0; i < IDS; i++) {
+            results[i] = exists.require((long) i, "id does not exist");
+        }
+        return CompletableFuture.allOf(results).join();
+    }
+
+    private static boolean exists(Long id) {
+        LockSupport.parkNanos(LOOKUP_NANOS);
+        return id >= 0;
+    }
+
+    private static boolean[] existing(List<Long> ids) {
+        LockSupport.parkNanos(LOOKUP_NANOS);
+        boolean[] existing = new boolean[ids.size()];
+        for (int i = 0; i < existing.length; i++) {
+            existing[i] = ids.get(i) >= 0;
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,100 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ByteArgs} on heap and direct buffers, for short and long ASCII and non-ASCII values. The
+ * <tt>*Decode</tt> benchmarks are the baselines of decoding the bytes to a {@link String} in order to check them with
+ * {@link StringArgs}.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ByteArgsBenchmark {
+
+    @Param({"16", "1024"})
+    int length;
+
+    @Param({"heap", "direct"})
+    String type;
+
+    ByteBuffer ascii;
+    ByteBuffer utf8;
+
+    @Setup
+    public void setUp() {
+        byte[] asciiBytes = new byte[length];
+        Arrays.fill(asciiBytes, (byte) 'a');
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < length / 2) {
+            builder.append("caf\u00e9 ");
+        }
+        ascii = buffer(asciiBytes);
+        utf8 = buffer(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ByteBuffer buffer(byte[] bytes) {
+        ByteBuffer buffer = type.equals("direct")
+                ? ByteBuffer.allocateDirect(bytes.length)
+                : ByteBuffer.allocate(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer requireAscii() {
+        return ByteArgs.requireAscii(ascii, "value is not ascii");
+    }
+
+    @Benchmark
+    public ByteBuffer requireValidUtf8Ascii() {
+        return ByteArgs.requireValidUtf8(ascii, "value is not utf-8");
+    }
+
+    @Benchmark
+    public ByteBuffer requireValidUtf8() {
+        return ByteArgs.requireValidUtf8(utf8, "value is not utf-8");
+    }
+
+    @Benchmark
+    public ByteBuffer requireNonBlank() {
+        return ByteArgs.requireNonBlank(utf8, "value is blank");
+    }
+
+    @Benchmark
+    public ByteBuffer requireMaxLength() {
+        return ByteArgs.requireMaxLength(utf8, length, "value is too long");
+    }
+
+    @Benchmark
+    public String requireNonBlankDecode() {
+        return StringArgs.requireNonBlank(StandardCharsets.UTF_8.decode(utf8.duplicate()).toString(),
+                "value is blank");
+    }
+
+    @Benchmark
+    public String requireAsciiDecode() {
+        return StringArgs.requireAscii(StandardCharsets.US_ASCII.decode(ascii.duplicate()).toString(),
+                "value is not ascii");
+    }
+}
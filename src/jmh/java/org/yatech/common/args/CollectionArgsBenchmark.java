@@ -0,0 +1,158 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link CollectionArgs}, on the success and on the failure path, for small and large collections
+ * and for a {@link java.util.List}, a {@link java.util.Set} and a {@link ConcurrentLinkedQueue} (whose size is
+ * computed by traversing its elements).
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CollectionArgsBenchmark {
+
+    @Param({"10", "10000"})
+    int size;
+
+    @Param({"list", "set", "queue"})
+    String type;
+
+    Collection<String> collection;
+    Iterable<String> iterable;
+    Map<String, String> map;
+    List<String> elements;
+    String lastElement;
+    String missingElement;
+
+    @Setup
+    public void setUp() {
+        if ("list".equals(type)) {
+            collection = new ArrayList<>(size);
+        } else if ("set".equals(type)) {
+            collection = new HashSet<>(size * 2);
+        } else {
+            collection = new ConcurrentLinkedQueue<>();
+        }
+        iterable = collection::iterator;
+        map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String element = "element-" + i;
+            collection.add(element);
+            map.put(element, element);
+        }
+        elements = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i -= 2) {
+            elements.add("element-" + i);
+        }
+        lastElement = "element-" + (size - 1);
+        missingElement = "element-" + size;
+    }
+
+    /* *********************************************************************************
+     * Success path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Collection<String> requireContains() {
+        return CollectionArgs.requireContains(collection, lastElement, "element is missing");
+    }
+
+    @Benchmark
+    public Collection<String> requireExcludes() {
+        return CollectionArgs.requireExcludes(collection, missingElement, "element is not allowed");
+    }
+
+    @Benchmark
+    public Map<String, String> requireContainsKey() {
+        return CollectionArgs.requireContainsKey(map, lastElement, "key is missing");
+    }
+
+    @Benchmark
+    public Map<String, String> requireContainsValue() {
+        return CollectionArgs.requireContainsValue(map, lastElement, "value is missing");
+    }
+
+    @Benchmark
+    public Collection<String> requireMaxSize() {
+        return CollectionArgs.requireMaxSize(collection, size, "too many elements");
+    }
+
+    @Benchmark
+    public Collection<String> requireNonEmpty() {
+        return CollectionArgs.requireNonEmpty(collection, "no elements");
+    }
+
+    @Benchmark
+    public Collection<String> requireMinSize() {
+        return CollectionArgs.requireMinSize(collection, 2, "not enough elements");
+    }
+
+    @Benchmark
+    public Iterable<String> requireMinCount() {
+        return CollectionArgs.requireMinCount(iterable, 2, "not enough elements");
+    }
+
+    @Benchmark
+    public Collection<String> requireContainsAll() {
+        return CollectionArgs.requireContainsAll(collection, elements, "elements are missing");
+    }
+
+    @Benchmark
+    public Collection<String> requireExcludesAll() {
+        return CollectionArgs.requireExcludesAll(collection, Collections.singletonList(missingElement),
+                "elements are not allowed");
+    }
+
+    @Benchmark
+    public Collection<String> requireDistinct() {
+        return CollectionArgs.requireDistinct(collection, "duplicate elements");
+    }
+
+    /* *********************************************************************************
+     * Failure path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Object requireContainsFailure() {
+        try {
+            return CollectionArgs.requireContains(collection, missingElement, "element is missing");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireMaxSizeFailure() {
+        try {
+            return CollectionArgs.requireMaxSize(collection, size - 1, "too many elements");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link CollectionArgs} requirements on all the elements of a collection, sequentially and in
+ * parallel, on the success path and with an invalid element in the middle of the collection.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CollectionElementsBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"sequential", "parallel"})
+    String mode;
+
+    List<String> ids;
+    List<String> invalidIds;
+
+    @Setup
+    public void setUp() {
+        CollectionArgs.setParallelThreshold("parallel".equals(mode) ? 1 : Integer.MAX_VALUE);
+        ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add("id-" + i);
+        }
+        invalidIds = new ArrayList<>(ids);
+        invalidIds.set(size / 2, " ");
+    }
+
+    @TearDown
+    public void tearDown() {
+        CollectionArgs.setParallelThreshold(CollectionArgs.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /* *********************************************************************************
+     * Success path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public List<String> requireNoNulls() {
+        return CollectionArgs.requireNoNulls(ids, "ids[%s] is null");
+    }
+
+    @Benchmark
+    public List<String> requireAllSatisfy() {
+        return CollectionArgs.requireAllSatisfy(ids, StringArgs::isNonBlank, "ids[%s] is blank");
+    }
+
+    /* *********************************************************************************
+     * Failure path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Object requireAllSatisfyFailure() {
+        try {
+            return CollectionArgs.requireAllSatisfy(invalidIds, StringArgs::isNonBlank, "ids[%s] is blank");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the failure path with the different {@link FailureFactory failure factories}, at different stack
+ * depths (the cost of filling in a stack trace grows with the depth of the stack).
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FailureFactoryBenchmark {
+
+    @Param({"1", "64"})
+    int depth;
+
+    @Param({"ILLEGAL_ARGUMENT", "STACKLESS"})
+    String failureFactory;
+
+    FailureFactory factory;
+
+    @Setup
+    public void setUp() {
+        factory = "STACKLESS".equals(failureFactory) ? FailureFactory.STACKLESS : FailureFactory.ILLEGAL_ARGUMENT;
+        Args.setFailureFactory(factory);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Args.setFailureFactory(FailureFactory.ILLEGAL_ARGUMENT);
+    }
+
+    @Benchmark
+    public Object requireFailure() {
+        try {
+            return requireAtDepth(depth, -1);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireFailureTemplate() {
+        try {
+            return requireTemplateAtDepth(depth, -1);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private static long requireAtDepth(int depth, long value) {
+        if (depth > 1) {
+            return requireAtDepth(depth - 1, value);
+        }
+        return NumericArgs.requireNonNegative(value, "value must be non-negative");
+    }
+
+    private static long requireTemplateAtDepth(int depth, long value) {
+        if (depth > 1) {
+            return requireTemplateAtDepth(depth - 1, value);
+        }
+        return NumericArgs.requireNonNegative(value, "value must be non-negative: %s", value);
+    }
+}
@@ -0,0 +1,62 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link KeySchema} on a valid map. The <tt>*PerKey</tt> benchmark is the baseline of checking each
+ * required and forbidden key with {@link CollectionArgs}.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class KeySchemaBenchmark {
+
+    static final KeySchema<String> SCHEMA = KeySchema.<String>builder()
+            .required("url", "username", "driver", "schema")
+            .optional("password", "poolSize", "timeout")
+            .forbidden("jdbcPassword")
+            .build();
+
+    Map<String, Object> config = new HashMap<>();
+
+    @Setup
+    public void setUp() {
+        config.put("url", "jdbc:h2:mem:test");
+        config.put("username", "sa");
+        config.put("driver", "org.h2.Driver");
+        config.put("schema", "public");
+        config.put("poolSize", 10);
+    }
+
+    @Benchmark
+    public Map<String, Object> validate() {
+        return SCHEMA.validate(config);
+    }
+
+    @Benchmark
+    public Map<String, Object> validatePerKey() {
+        CollectionArgs.requireContainsKey(config, "url", "url is required");
+        CollectionArgs.requireContainsKey(config, "username", "username is required");
+        CollectionArgs.requireContainsKey(config, "driver", "driver is required");
+        CollectionArgs.requireContainsKey(config, "schema", "schema is required");
+        return CollectionArgs.requireExcludesKey(config, "jdbcPassword", "jdbcPassword is forbidden");
+    }
+}
@@ -0,0 +1,84 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks of {@link LinearPattern} side by side with {@link Pattern}, on typical ID, slug and email patterns. The
+ * <tt>valid</tt> input is a short matching value, and the <tt>hostile</tt> input is a long value which fails to match
+ * only at its last character, on which {@link Pattern} backtracks over the repeated groups.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LinearPatternBenchmark {
+
+    private static final String[] REGEXES = {
+            "[A-Za-z][A-Za-z0-9_]{0,63}",
+            "[a-z0-9]+(-[a-z0-9]+)*",
+            "[\\w.+-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}"
+    };
+
+    private static final String[] VALID_VALUES = {
+            "customer_id_42",
+            "linear-time-patterns",
+            "first.last@example.com"
+    };
+
+    @Param({"id", "slug", "email"})
+    String kind;
+
+    @Param({"valid", "hostile"})
+    String input;
+
+    Pattern jdkPattern;
+    LinearPattern linearPattern;
+    String value;
+
+    @Setup
+    public void setUp() {
+        int index = kind.equals("id") ? 0 : kind.equals("slug") ? 1 : 2;
+        jdkPattern = Pattern.compile(REGEXES[index]);
+        linearPattern = LinearPattern.compile(REGEXES[index]);
+        if (!linearPattern.isLinear()) {
+            throw new IllegalStateException("pattern is not linear: " + linearPattern);
+        }
+        StringBuilder builder = new StringBuilder();
+        if (input.equals("valid")) {
+            builder.append(VALID_VALUES[index]);
+        } else {
+            for (int i = 0; i < 512; i++) {
+                builder.append(index == 1 ? "a-" : "a.");
+            }
+            builder.append('!');
+        }
+        value = builder.toString();
+    }
+
+    @Benchmark
+    public boolean jdkPattern() {
+        return jdkPattern.matcher(value).matches();
+    }
+
+    @Benchmark
+    public boolean linearPattern() {
+        return linearPattern.matches(value);
+    }
+}
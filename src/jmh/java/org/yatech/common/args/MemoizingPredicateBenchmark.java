@@ -0,0 +1,70 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks of {@link MemoizingPredicate} with a long regular expression of host names, on a small set of host names
+ * which repeat. The <tt>*Direct</tt> benchmark is the baseline of evaluating the regular expression on each test.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MemoizingPredicateBenchmark {
+
+    private static final Pattern HOST_NAME = Pattern.compile(
+            "(?=.{1,253}$)([a-zA-Z0-9]([a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)"
+                    + "(\\.[a-zA-Z0-9]([a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*");
+
+    static final Predicate<String> VALID_HOST = host -> HOST_NAME.matcher(host).matches();
+    static final MemoizingPredicate<String> MEMOIZED_VALID_HOST = MemoizingPredicate.builder(VALID_HOST).build();
+    static final MemoizingPredicate<String> EXPIRING_VALID_HOST = MemoizingPredicate.builder(VALID_HOST)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    String[] hosts = new String[64];
+    int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < hosts.length; i++) {
+            hosts[i] = "service-" + (i % 16) + ".eu-west-1.internal.example.com";
+        }
+    }
+
+    private String nextHost() {
+        return hosts[next++ & (hosts.length - 1)];
+    }
+
+    @Benchmark
+    public String requireSatisfiesDirect() {
+        return Args.requireSatisfies(nextHost(), VALID_HOST, "invalid host name");
+    }
+
+    @Benchmark
+    public String requireSatisfiesMemoized() {
+        return Args.requireSatisfies(nextHost(), MEMOIZED_VALID_HOST, "invalid host name");
+    }
+
+    @Benchmark
+    public String requireSatisfiesMemoizedExpiring() {
+        return Args.requireSatisfies(nextHost(), EXPIRING_VALID_HOST, "invalid host name");
+    }
+}
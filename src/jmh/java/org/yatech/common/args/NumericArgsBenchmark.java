@@ -0,0 +1,154 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link NumericArgs}, for primitive and boxed values, on the success and on the failure path.
+ * <p>
+ * The values are kept in (non-final) fields and are outside the small-value cache of the boxed types, so that
+ * neither constant folding nor the cache hide the cost of boxing.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumericArgsBenchmark {
+
+    long longValue = 1000L;
+    int intValue = 1000;
+    short shortValue = 1000;
+    double doubleValue = 1000.5d;
+    float floatValue = 1000.5f;
+    Long boxedLongValue = 1000L;
+    Integer boxedIntValue = 1000;
+    Double boxedDoubleValue = 1000.5d;
+    long lowerBound = 0L;
+    long upperBound = 5000L;
+
+    /* *********************************************************************************
+     * Success path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public long requirePositiveLong() {
+        return NumericArgs.requirePositive(longValue, "value must be positive");
+    }
+
+    @Benchmark
+    public long requirePositiveBoxedLong() {
+        return NumericArgs.requirePositive(boxedLongValue, "value must be positive");
+    }
+
+    @Benchmark
+    public int requireNonNegativeInt() {
+        return NumericArgs.requireNonNegative(intValue, "value must be non-negative");
+    }
+
+    @Benchmark
+    public int requireNonNegativeBoxedInt() {
+        return NumericArgs.requireNonNegative(boxedIntValue, "value must be non-negative");
+    }
+
+    @Benchmark
+    public short requireNonZeroShort() {
+        return NumericArgs.requireNonZero(shortValue, "value must be non-zero");
+    }
+
+    @Benchmark
+    public long requireInRangeLong() {
+        return NumericArgs.requireInRange(longValue, lowerBound, true, upperBound, false, "value out of range");
+    }
+
+    @Benchmark
+    public long requireInRangeBoxedLong() {
+        return NumericArgs.requireInRange(boxedLongValue, lowerBound, true, upperBound, false, "value out of range");
+    }
+
+    @Benchmark
+    public double requireInRangeDouble() {
+        return NumericArgs.requireInRangeInclusive(doubleValue, 0.0d, 5000.0d, "value out of range");
+    }
+
+    @Benchmark
+    public double requireInRangeBoxedDouble() {
+        return NumericArgs.requireInRangeInclusive(boxedDoubleValue, 0.0d, 5000.0d, "value out of range");
+    }
+
+    @Benchmark
+    public float requireLessThanFloat() {
+        return NumericArgs.requireLessThan(floatValue, 5000.0f, "value too large");
+    }
+
+    @Benchmark
+    public long requireInRangeLongConcatenatedMessage() {
+        return NumericArgs.requireInRange(longValue, lowerBound, true, upperBound, false,
+                "value " + longValue + " is not in [" + lowerBound + ", " + upperBound + ")");
+    }
+
+    @Benchmark
+    public long requireInRangeLongTemplateMessage() {
+        return NumericArgs.requireInRange(longValue, lowerBound, true, upperBound, false,
+                "value %s exceeds %s", longValue, upperBound);
+    }
+
+    @Benchmark
+    public long requireInRangeLongMessageSupplier() {
+        return NumericArgs.requireInRange(longValue, lowerBound, true, upperBound, false,
+                () -> "value " + longValue + " exceeds " + upperBound);
+    }
+
+    /* *********************************************************************************
+     * Failure path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Object requirePositiveLongFailure() {
+        try {
+            return NumericArgs.requirePositive(-longValue, "value must be positive");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requirePositiveBoxedLongNullFailure() {
+        try {
+            return NumericArgs.requirePositive((Long) null, "value must be positive");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireInRangeDoubleFailure() {
+        try {
+            return NumericArgs.requireInRangeInclusive(-doubleValue, 0.0d, 5000.0d, "value out of range");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireInRangeLongTemplateMessageFailure() {
+        try {
+            return NumericArgs.requireInRange(-longValue, lowerBound, true, upperBound, false,
+                    "value %s is below %s", -longValue, lowerBound);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link NumericArrayArgs} requirements on arrays of valid elements, compared with a plain loop of
+ * the equivalent {@link NumericArgs} requirement per element. The scores are in elements per microsecond.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumericArrayArgsBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    long[] longs;
+    int[] ints;
+    double[] doubles;
+    float[] floats;
+
+    @Setup
+    public void setUp() {
+        longs = new long[SIZE];
+        ints = new int[SIZE];
+        doubles = new double[SIZE];
+        floats = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            longs[i] = i + 1;
+            ints[i] = i + 1;
+            doubles[i] = (i + 1) / 2.0;
+            floats[i] = (i + 1) / 2.0f;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] requireAllInRangeLong() {
+        return NumericArrayArgs.requireAllInRange(longs, 1, SIZE, "values[%s] = %s is out of range");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] requireAllInRangeInt() {
+        return NumericArrayArgs.requireAllInRange(ints, 1, SIZE, "values[%s] = %s is out of range");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] requireAllInRangeDouble() {
+        return NumericArrayArgs.requireAllInRange(doubles, 0.5, SIZE, "values[%s] = %s is out of range");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float[] requireAllInRangeFloat() {
+        return NumericArrayArgs.requireAllInRange(floats, 0.5f, SIZE, "values[%s] = %s is out of range");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long requireInRangeLongLoop() {
+        long sum = 0;
+        for (long value : longs) {
+            sum += NumericArgs.requireInRange(value, 1, true, SIZE, true, "value is out of range");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] requireAllNonNegativeLong() {
+        return NumericArrayArgs.requireAllNonNegative(longs, "values[%s] = %s is negative");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] requireAllNonNegativeInt() {
+        return NumericArrayArgs.requireAllNonNegative(ints, "values[%s] = %s is negative");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] requireAllNonNegativeDouble() {
+        return NumericArrayArgs.requireAllNonNegative(doubles, "values[%s] = %s is negative");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] requireAllNonZeroInt() {
+        return NumericArrayArgs.requireAllNonZero(ints, "values[%s] = %s is zero");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] requireAllNonZeroDouble() {
+        return NumericArrayArgs.requireAllNonZero(doubles, "values[%s] = %s is zero");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] requireAllFiniteDouble() {
+        return NumericArrayArgs.requireAllFinite(doubles, "values[%s] = %s is not finite");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float[] requireAllFiniteFloat() {
+        return NumericArrayArgs.requireAllFinite(floats, "values[%s] = %s is not finite");
+    }
+}
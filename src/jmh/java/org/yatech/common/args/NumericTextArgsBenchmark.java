@@ -0,0 +1,80 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link NumericTextArgs} on valid and invalid values. The <tt>*Boxed</tt> benchmarks are the baselines
+ * of parsing the text to a boxed value in order to check it with {@link NumericArgs}.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumericTextArgsBenchmark {
+
+    String id = "1234567890123";
+    String invalidId = "12345678901234567890";
+    String price = "1299.95";
+    ByteBuffer idBytes = ByteBuffer.wrap(id.getBytes(StandardCharsets.US_ASCII));
+
+    @Benchmark
+    public long requireParsableLong() {
+        return NumericTextArgs.requireParsableLong(id, 1, Long.MAX_VALUE, "id is not valid");
+    }
+
+    @Benchmark
+    public long requireParsableLongBytes() {
+        return NumericTextArgs.requireParsableLong(idBytes, 1, Long.MAX_VALUE, "id is not valid");
+    }
+
+    @Benchmark
+    public long requireParsableLongBoxed() {
+        return NumericArgs.requireInRange(Long.valueOf(id), 1L, true, Long.MAX_VALUE, true, "id is not valid");
+    }
+
+    @Benchmark
+    public boolean requireParsableLongInvalid() {
+        try {
+            NumericTextArgs.requireParsableLong(invalidId, 1, Long.MAX_VALUE, "id is not valid");
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean requireParsableLongInvalidBoxed() {
+        try {
+            NumericArgs.requireInRange(Long.valueOf(invalidId), 1L, true, Long.MAX_VALUE, true, "id is not valid");
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public double requireParsableDouble() {
+        return NumericTextArgs.requireParsableDouble(price, 0, 1e6, "price is not valid");
+    }
+
+    @Benchmark
+    public double requireParsableDoubleBoxed() {
+        return NumericArgs.requireInRange(Double.valueOf(price), 0d, true, 1e6, true, "price is not valid");
+    }
+}
@@ -0,0 +1,78 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks of validating the elements of a stream and an iterator lazily with {@link StreamArgs}, for each
+ * {@link InvalidElementPolicy}, compared with consuming the elements without validation. A tenth of the elements are
+ * invalid, except for {@link InvalidElementPolicy#FAIL_FAST}.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StreamArgsBenchmark {
+
+    private static final Consumer<String> RULE = id -> StringArgs.requireNonBlank(id, "id is required");
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"FAIL_FAST", "SKIP_INVALID", "COLLECT"})
+    InvalidElementPolicy policy;
+
+    List<String> ids;
+
+    @Setup
+    public void setUp() {
+        ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(policy != InvalidElementPolicy.FAIL_FAST && i % 10 == 0 ? " " : "id-" + i);
+        }
+    }
+
+    @Benchmark
+    public long stream() {
+        return ids.stream().filter(id -> id.length() > 3).count();
+    }
+
+    @Benchmark
+    public long validatingStream() {
+        return StreamArgs.validating(ids.stream(), RULE, policy).filter(id -> id.length() > 3).count();
+    }
+
+    @Benchmark
+    public long validatingParallelStream() {
+        return StreamArgs.validating(ids.parallelStream(), RULE, policy).filter(id -> id.length() > 3).count();
+    }
+
+    @Benchmark
+    public long validatingIterator() {
+        long count = 0;
+        Iterator<String> iterator = StreamArgs.validating(ids.iterator(), RULE, policy);
+        while (iterator.hasNext()) {
+            count += iterator.next().length();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,167 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks of {@link StringArgs}, on the success and on the failure path, for short and long values. The
+ * <tt>*Copy</tt> and <tt>*Encode</tt> benchmarks are the baselines of copying the value to a {@link String} and of
+ * encoding it in order to check its length in bytes.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringArgsBenchmark {
+
+    private static final String IDENTIFIER_REGEX = "[a-z][a-z0-9_-]*";
+    private static final Pattern IDENTIFIER = Pattern.compile(IDENTIFIER_REGEX);
+
+    @Param({"8", "256"})
+    int length;
+
+    String value;
+    String leadingWhitespacesValue;
+    String blankValue;
+    String nonMatchingValue;
+    StringBuilder builderValue;
+    String nonAsciiValue;
+
+    @Setup
+    public void setUp() {
+        value = repeat('a', length);
+        leadingWhitespacesValue = repeat(' ', length - 1) + 'a';
+        blankValue = repeat(' ', length);
+        nonMatchingValue = repeat('a', length - 1) + '!';
+        builderValue = new StringBuilder(value);
+        nonAsciiValue = repeat('\u00e9', length);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /* *********************************************************************************
+     * Success path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public String requireNonEmpty() {
+        return StringArgs.requireNonEmpty(value, "value is empty");
+    }
+
+    @Benchmark
+    public String requireNonBlank() {
+        return StringArgs.requireNonBlank(value, "value is blank");
+    }
+
+    @Benchmark
+    public String requireNonBlankLeadingWhitespaces() {
+        return StringArgs.requireNonBlank(leadingWhitespacesValue, "value is blank");
+    }
+
+    @Benchmark
+    public String requireMatches() {
+        return StringArgs.requireMatches(value, IDENTIFIER, "value is not an identifier");
+    }
+
+    @Benchmark
+    public String requireMatchesCachedRegex() {
+        return StringArgs.requireMatches(value, IDENTIFIER_REGEX, "value is not an identifier");
+    }
+
+    @Benchmark
+    public String requireMatchesCompiledRegex() {
+        return StringArgs.requireMatches(value, Pattern.compile(IDENTIFIER_REGEX), "value is not an identifier");
+    }
+
+    @Benchmark
+    public StringBuilder requireNonBlankBuilder() {
+        return StringArgs.requireNonBlank(builderValue, "value is blank");
+    }
+
+    @Benchmark
+    public String requireNonBlankBuilderCopy() {
+        return StringArgs.requireNonBlank(builderValue.toString(), "value is blank");
+    }
+
+    @Benchmark
+    public String requireMaxLength() {
+        return StringArgs.requireMaxLength(value, length, "value is too long");
+    }
+
+    @Benchmark
+    public String requireAscii() {
+        return StringArgs.requireAscii(value, "value is not ascii");
+    }
+
+    @Benchmark
+    public String requireNoControlChars() {
+        return StringArgs.requireNoControlChars(value, "value has control characters");
+    }
+
+    /**
+     * The limit is at least 3 bytes per character, so the value is not scanned
+     */
+    @Benchmark
+    public String requireMaxUtf8Length() {
+        return StringArgs.requireMaxUtf8Length(nonAsciiValue, 3 * length, "value is too long");
+    }
+
+    /**
+     * The limit is exactly the length in bytes, so the whole value is scanned
+     */
+    @Benchmark
+    public String requireMaxUtf8LengthScan() {
+        return StringArgs.requireMaxUtf8Length(nonAsciiValue, 2 * length, "value is too long");
+    }
+
+    @Benchmark
+    public int requireMaxUtf8LengthEncode() {
+        return NumericArgs.requireInRange(nonAsciiValue.getBytes(StandardCharsets.UTF_8).length, 0, true, 2 * length,
+                true, "value is too long");
+    }
+
+    /* *********************************************************************************
+     * Failure path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Object requireNonBlankFailure() {
+        try {
+            return StringArgs.requireNonBlank(blankValue, "value is blank");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object requireMatchesFailure() {
+        try {
+            return StringArgs.requireMatches(nonMatchingValue, IDENTIFIER, "value is not an identifier");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
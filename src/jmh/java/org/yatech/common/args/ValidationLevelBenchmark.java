@@ -0,0 +1,71 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the requirements at each {@link ValidationLevel}, set at runtime before the warmup, compared with a
+ * baseline which does not check anything. The requirements which are turned off should score the same as the
+ * baseline, i.e. the JIT compiler should remove them altogether.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValidationLevelBenchmark {
+
+    @Param({"OFF", "CHEAP", "FULL"})
+    ValidationLevel level;
+
+    int count = 42;
+    List<String> ids;
+    String lastId;
+
+    @Setup
+    public void setUp() {
+        Args.setValidationLevel(level);
+        ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add("id-" + i);
+        }
+        lastId = "id-999";
+    }
+
+    @TearDown
+    public void tearDown() {
+        Args.setValidationLevel(ValidationLevel.FULL);
+    }
+
+    @Benchmark
+    public int baseline() {
+        return count;
+    }
+
+    @Benchmark
+    public int requirePositive() {
+        return NumericArgs.requirePositive(count, "count must be positive");
+    }
+
+    @Benchmark
+    public List<String> requireContains() {
+        return CollectionArgs.requireContains(ids, lastId, "id is missing");
+    }
+}
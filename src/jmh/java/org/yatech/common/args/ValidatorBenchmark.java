@@ -0,0 +1,120 @@
+package org.yatech.common.args;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks of {@link Validator}, compared with the equivalent standalone requirement calls.
+ *
+ * @author Yinon Avraham.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final Pattern CURRENCY = Pattern.compile("[A-Z]{3}");
+
+    private static final Validator<Payment> PAYMENT = Validator.<Payment>builder()
+            .requireNonBlank(Payment::getId, "id is required")
+            .requireMatches(Payment::getCurrency, CURRENCY, "invalid currency")
+            .requireInRange(Payment::getAmount, 1, 1_000_000, "amount out of range")
+            .requireMaxSize(Payment::getTags, 8, "too many tags")
+            .build();
+
+    Payment payment;
+    Payment invalidPayment;
+
+    @Setup
+    public void setUp() {
+        payment = new Payment("p-1", "USD", 100, Arrays.asList("a", "b"));
+        invalidPayment = new Payment("p-1", "USD", 0, Arrays.asList("a", "b"));
+    }
+
+    /* *********************************************************************************
+     * Success path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Payment validator() {
+        return PAYMENT.validate(payment);
+    }
+
+    @Benchmark
+    public Violations validatorValidateAll() {
+        return PAYMENT.validateAll(payment);
+    }
+
+    @Benchmark
+    public Payment standalone() {
+        StringArgs.requireNonBlank(payment.getId(), "id is required");
+        StringArgs.requireMatches(payment.getCurrency(), CURRENCY, "invalid currency");
+        NumericArgs.requireInRange(payment.getAmount(), 1, true, 1_000_000, true, "amount out of range");
+        CollectionArgs.requireMaxSize(payment.getTags(), 8, "too many tags");
+        return payment;
+    }
+
+    /* *********************************************************************************
+     * Failure path                                                                    *
+     ***********************************************************************************/
+
+    @Benchmark
+    public Object validatorFailure() {
+        try {
+            return PAYMENT.validate(invalidPayment);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Violations validatorValidateAllFailure() {
+        return PAYMENT.validateAll(invalidPayment);
+    }
+
+    static final class Payment {
+        private final String id;
+        private final String currency;
+        private final long amount;
+        private final List<String> tags;
+
+        Payment(String id, String currency, long amount, List<String> tags) {
+            this.id = id;
+            this.currency = currency;
+            this.amount = amount;
+            this.tags = tags;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getCurrency() {
+            return currency;
+        }
+
+        long getAmount() {
+            return amount;
+        }
+
+        List<String> getTags() {
+            return tags;
+        }
+    }
+}
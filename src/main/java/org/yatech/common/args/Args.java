@@ -2,18 +2,94 @@ package org.yatech.common.args;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
 import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.yatech.common.args.ValidationLevel.CHEAP;
 
 /**
+ * A utility class for common methods on arguments.
+ * <p>
+ * Each requirement method (here and in the other <tt>*Args</tt> classes) is available with an eager error message,
+ * with a {@link Supplier} of the error message, and with an error message template and one or two arguments. The
+ * supplier and template forms build the error message only if the requirement is not satisfied. In a template, each
+ * <tt>%s</tt> is replaced with the next argument; arguments left without a placeholder are appended in square
+ * brackets, e.g. <tt>"limit %s exceeded", 10</tt> becomes <tt>"limit 10 exceeded"</tt>.
+ * <p>
+ * A lambda which captures a local variable is a new object on every evaluation, unless the JIT manages to eliminate
+ * it. The <tt>requireSatisfies</tt> variants which take a context argument, and the primitive
+ * <tt>requireSatisfiesLong</tt>, <tt>requireSatisfiesInt</tt> and <tt>requireSatisfiesDouble</tt> variants, let
+ * callers pass the bound or context explicitly to a non-capturing lambda or a static method reference, so that a
+ * satisfied requirement does not allocate:
+ * <pre>
+ * Args.requireSatisfies(collection, element, Collection::contains, "element is missing");
+ * Args.requireSatisfiesLong(count, c -&gt; c % 2 == 0, "count must be even");
+ * </pre>
+ * The requirements of {@link NumericArgs}, {@link StringArgs} and {@link CollectionArgs} also have non-throwing
+ * <tt>is*</tt> counterparts (e.g. {@link NumericArgs#isInRange(long, long, boolean, long, boolean)} for
+ * <tt>requireInRange</tt>), which the requirements themselves use, for branching on the validity of a value.
+ * <p>
+ * All the requirements fail through the same path, so instead of throwing on the first failure they can also record
+ * all the failures of a block of code, see {@link Violations#collect(Runnable)}. The exception thrown on a failure is
+ * created by a {@link FailureFactory}, which can be replaced, e.g. with one which creates stackless exceptions or
+ * domain-specific exceptions. The number of times each requirement is checked and fails can be tracked with
+ * {@link ArgsMetrics}.
+ * <p>
+ * The requirements can be turned off, entirely or only the ones which may scan their argument, by setting the
+ * {@link ValidationLevel}, e.g. with <tt>-Dorg.yatech.common.args.level=CHEAP</tt> or at runtime with
+ * {@link #setValidationLevel(ValidationLevel)}. The level is held as the constant target of a
+ * {@link MutableCallSite}, which the JIT compiler folds into the compiled requirements, so a requirement which is
+ * turned off costs nothing. Changing the level deoptimizes the code compiled with the previous level, so it is meant to
+ * be changed rarely, e.g. by an operator.
+ *
  * @author Yinon Avraham.
  */
 public abstract class Args {
 
+    /**
+     * The system property which sets the initial {@link ValidationLevel} (<tt>OFF</tt>, <tt>CHEAP</tt> or
+     * <tt>FULL</tt>, the default). A value which is not a validation level is ignored, so the checks stay fully
+     * enabled.
+     */
+    public static final String VALIDATION_LEVEL_PROPERTY = "org.yatech.common.args.level";
+
+    private static final MutableCallSite VALIDATION_LEVEL = new MutableCallSite(MethodHandles.constant(
+            ValidationLevel.class, toValidationLevel(System.getProperty(VALIDATION_LEVEL_PROPERTY))));
+    private static final MethodHandle VALIDATION_LEVEL_GETTER = VALIDATION_LEVEL.dynamicInvoker();
+
+    private static final ThreadLocal<FailureFactory> FAILURE_FACTORY_OVERRIDE = new ThreadLocal<>();
+    private static volatile FailureFactory failureFactory = FailureFactory.ILLEGAL_ARGUMENT;
+
     private Args() {
         //utility
     }
 
+    /**
+     * Parse the initial validation level without failing, since it is parsed while this class is initialized, and a
+     * failure would fail every later use of the class
+     * @param property the value of the {@link #VALIDATION_LEVEL_PROPERTY} system property, or null if it is not set
+     * @return the validation level named by the property (ignoring case), or {@link ValidationLevel#FULL FULL} if the
+     *         property is not set or does not name a validation level
+     */
+    static ValidationLevel toValidationLevel(String property) {
+        if (property != null) {
+            for (ValidationLevel level : ValidationLevel.values()) {
+                if (level.name().equalsIgnoreCase(property.trim())) {
+                    return level;
+                }
+            }
+        }
+        return ValidationLevel.FULL;
+    }
+
     /**
      * Require that the given value is not null and return it
      * @param value the value to check
@@ -27,6 +103,77 @@ public abstract class Args {
         return requireSatisfies(value, Objects::nonNull, message);
     }
 
+    /**
+     * Require that the given value is not null and return it
+     * @param value the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <V> the value type
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <V> V requireNonNull(V value, @Nonnull Supplier<String> messageSupplier) {
+        return requireSatisfies(value, Objects::nonNull, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is not null and return it
+     * @param value the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <V> the value type
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <V> V requireNonNull(V value, @Nonnull String message, Object arg1) {
+        return requireSatisfies(value, Objects::nonNull, message, arg1);
+    }
+
+    /**
+     * Require that the given value is not null and return it
+     * @param value the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <V> the value type
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <V> V requireNonNull(V value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireSatisfies(value, Objects::nonNull, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not null and return it
+     * @param value the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <V> the value type
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <V> V requireNonNull(V value, @Nonnull String message, long arg1) {
+        return requireSatisfies(value, Objects::nonNull, message, arg1);
+    }
+
+    /**
+     * Require that the given value is not null and return it
+     * @param value the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <V> the value type
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <V> V requireNonNull(V value, @Nonnull String message, long arg1, long arg2) {
+        return requireSatisfies(value, Objects::nonNull, message, arg1, arg2);
+    }
+
     /**
      * Require that the given value satisfies the given predicate
      * @param <V> the value type
@@ -37,9 +184,861 @@ public abstract class Args {
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
     public static <V> V requireSatisfies(@Nullable V value, @Nonnull Predicate<V> predicate, @Nonnull String message) {
-        if (!predicate.test(value)) {
-            throw new IllegalArgumentException(message);
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate
+     * @param <V> the value type
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, @Nonnull Predicate<V> predicate,
+                                         @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(predicate.test(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate
+     * @param <V> the value type
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, @Nonnull Predicate<V> predicate, @Nonnull String message,
+                                         Object arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate
+     * @param <V> the value type
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, @Nonnull Predicate<V> predicate, @Nonnull String message,
+                                         Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate
+     * @param <V> the value type
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, @Nonnull Predicate<V> predicate, @Nonnull String message,
+                                         long arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate
+     * @param <V> the value type
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, @Nonnull Predicate<V> predicate, @Nonnull String message,
+                                         long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a context argument
+     * @param <V> the value type
+     * @param <C> the context type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V, C> V requireSatisfies(@Nullable V value, @Nullable C context,
+                                            @Nonnull BiPredicate<V, C> predicate, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a context argument
+     * @param <V> the value type
+     * @param <C> the context type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V, C> V requireSatisfies(@Nullable V value, @Nullable C context,
+                                            @Nonnull BiPredicate<V, C> predicate,
+                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a context argument
+     * @param <V> the value type
+     * @param <C> the context type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V, C> V requireSatisfies(@Nullable V value, @Nullable C context,
+                                            @Nonnull BiPredicate<V, C> predicate, @Nonnull String message,
+                                            Object arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a context argument
+     * @param <V> the value type
+     * @param <C> the context type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V, C> V requireSatisfies(@Nullable V value, @Nullable C context,
+                                            @Nonnull BiPredicate<V, C> predicate, @Nonnull String message, Object arg1,
+                                            Object arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a context argument
+     * @param <V> the value type
+     * @param <C> the context type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V, C> V requireSatisfies(@Nullable V value, @Nullable C context,
+                                            @Nonnull BiPredicate<V, C> predicate, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a context argument
+     * @param <V> the value type
+     * @param <C> the context type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V, C> V requireSatisfies(@Nullable V value, @Nullable C context,
+                                            @Nonnull BiPredicate<V, C> predicate, @Nonnull String message, long arg1,
+                                            long arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a <tt>long</tt> context argument
+     * @param <V> the value type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, long context, @Nonnull ObjLongPredicate<V> predicate,
+                                         @Nonnull String message) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a <tt>long</tt> context argument
+     * @param <V> the value type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, long context, @Nonnull ObjLongPredicate<V> predicate,
+                                         @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a <tt>long</tt> context argument
+     * @param <V> the value type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, long context, @Nonnull ObjLongPredicate<V> predicate,
+                                         @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a <tt>long</tt> context argument
+     * @param <V> the value type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, long context, @Nonnull ObjLongPredicate<V> predicate,
+                                         @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a <tt>long</tt> context argument
+     * @param <V> the value type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, long context, @Nonnull ObjLongPredicate<V> predicate,
+                                         @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value satisfies the given predicate together with a <tt>long</tt> context argument
+     * @param <V> the value type
+     * @param value the value to check
+     * @param context the context argument to pass to the predicate, e.g. a bound to compare the value with
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static <V> V requireSatisfies(@Nullable V value, long context, @Nonnull ObjLongPredicate<V> predicate,
+                                         @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value, context), message)) {
+            fail(message, arg1, arg2);
         }
         return value;
     }
+
+    /**
+     * Require that the given <tt>long</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireSatisfiesLong(long value, @Nonnull LongPredicate predicate, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>long</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireSatisfiesLong(long value, @Nonnull LongPredicate predicate,
+                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(predicate.test(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>long</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireSatisfiesLong(long value, @Nonnull LongPredicate predicate, @Nonnull String message,
+                                            Object arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>long</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireSatisfiesLong(long value, @Nonnull LongPredicate predicate, @Nonnull String message,
+                                            Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>long</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireSatisfiesLong(long value, @Nonnull LongPredicate predicate, @Nonnull String message,
+                                            long arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>long</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireSatisfiesLong(long value, @Nonnull LongPredicate predicate, @Nonnull String message,
+                                            long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>int</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireSatisfiesInt(int value, @Nonnull IntPredicate predicate, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>int</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireSatisfiesInt(int value, @Nonnull IntPredicate predicate,
+                                          @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(predicate.test(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>int</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireSatisfiesInt(int value, @Nonnull IntPredicate predicate, @Nonnull String message,
+                                          Object arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>int</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireSatisfiesInt(int value, @Nonnull IntPredicate predicate, @Nonnull String message,
+                                          Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>int</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireSatisfiesInt(int value, @Nonnull IntPredicate predicate, @Nonnull String message,
+                                          long arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>int</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireSatisfiesInt(int value, @Nonnull IntPredicate predicate, @Nonnull String message,
+                                          long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(predicate.test(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given <tt>double</tt> value satisfies the given predicate
+     * @param value the value to check
+     * @param predicate the predicate to satisfy
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireSatisfiesDouble(double value, @Nonnull DoublePredicate predicate,
+                                                @Nonnull String message, double arg1, double arg2) {
+        if (enabled(CHEAP) && !record(predicate.test(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Get the factory of the exceptions thrown by the requirement methods
+     * @return the global failure factory
+     */
+    @Nonnull
+    public static FailureFactory getFailureFactory() {
+        return failureFactory;
+    }
+
+    /**
+     * Set the factory of the exceptions thrown by the requirement methods, e.g. {@link FailureFactory#STACKLESS}
+     * @param failureFactory the global failure factory to use
+     */
+    public static void setFailureFactory(@Nonnull FailureFactory failureFactory) {
+        if (failureFactory == null) {
+            throw new IllegalArgumentException("failure factory is required");
+        }
+        Args.failureFactory = failureFactory;
+    }
+
+    /**
+     * Run a block of code with a given factory of the exceptions thrown by the requirement methods on the current
+     * thread, instead of the global one
+     * @param failureFactory the failure factory to use in the block
+     * @param block the block to run
+     * @param <T> the result type
+     * @return the result of the block
+     */
+    public static <T> T withFailureFactory(@Nonnull FailureFactory failureFactory, @Nonnull Supplier<T> block) {
+        if (failureFactory == null) {
+            throw new IllegalArgumentException("failure factory is required");
+        }
+        FailureFactory previous = FAILURE_FACTORY_OVERRIDE.get();
+        FAILURE_FACTORY_OVERRIDE.set(failureFactory);
+        try {
+            return block.get();
+        } finally {
+            FAILURE_FACTORY_OVERRIDE.set(previous);
+        }
+    }
+
+    /**
+     * Run a block of code with a given factory of the exceptions thrown by the requirement methods on the current
+     * thread, instead of the global one
+     * @param failureFactory the failure factory to use in the block
+     * @param block the block to run
+     */
+    public static void withFailureFactory(@Nonnull FailureFactory failureFactory, @Nonnull Runnable block) {
+        if (failureFactory == null) {
+            throw new IllegalArgumentException("failure factory is required");
+        }
+        FailureFactory previous = FAILURE_FACTORY_OVERRIDE.get();
+        FAILURE_FACTORY_OVERRIDE.set(failureFactory);
+        try {
+            block.run();
+        } finally {
+            FAILURE_FACTORY_OVERRIDE.set(previous);
+        }
+    }
+
+    /**
+     * Get the level of the validation done by the requirement methods
+     * @return the current validation level
+     */
+    @Nonnull
+    public static ValidationLevel getValidationLevel() {
+        try {
+            return (ValidationLevel) VALIDATION_LEVEL_GETTER.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to get the validation level", e);
+        }
+    }
+
+    /**
+     * Set the level of the validation done by the requirement methods, on all the threads
+     * @param validationLevel the validation level to use
+     */
+    public static synchronized void setValidationLevel(@Nonnull ValidationLevel validationLevel) {
+        if (validationLevel == null) {
+            throw new IllegalArgumentException("validation level is required");
+        }
+        VALIDATION_LEVEL.setTarget(MethodHandles.constant(ValidationLevel.class, validationLevel));
+        MutableCallSite.syncAll(new MutableCallSite[] { VALIDATION_LEVEL });
+    }
+
+    /* *********************************************************************************
+     * Failure                                                                         *
+     ***********************************************************************************/
+
+    /**
+     * @return whether the requirements of the given tier are checked at the current validation level
+     */
+    static boolean enabled(@Nonnull ValidationLevel tier) {
+        return getValidationLevel().ordinal() >= tier.ordinal();
+    }
+
+    /**
+     * Record the result of checking a requirement in the {@link ArgsMetrics}, if enabled
+     * @return whether the requirement is satisfied
+     */
+    static boolean record(boolean satisfied, @Nonnull String message) {
+        if (ArgsMetrics.ENABLED) {
+            ArgsMetrics.record(message, satisfied);
+        }
+        return satisfied;
+    }
+
+    static boolean record(boolean satisfied, @Nonnull Supplier<String> messageSupplier) {
+        if (ArgsMetrics.ENABLED) {
+            ArgsMetrics.record(ArgsMetrics.SUPPLIED_MESSAGE_RULES, satisfied);
+        }
+        return satisfied;
+    }
+
+    static void fail(@Nonnull String message) {
+        if (!Violations.record(message)) {
+            throw currentFailureFactory().create(message);
+        }
+    }
+
+    /**
+     * @return the failure factory in use on the current thread, i.e. its override or the global factory
+     */
+    static FailureFactory currentFailureFactory() {
+        FailureFactory factory = FAILURE_FACTORY_OVERRIDE.get();
+        return factory != null ? factory : failureFactory;
+    }
+
+    static void fail(@Nonnull Supplier<String> messageSupplier) {
+        fail(messageSupplier.get());
+    }
+
+    static void fail(@Nonnull String message, Object arg1) {
+        fail(format(message, arg1));
+    }
+
+    static void fail(@Nonnull String message, Object arg1, Object arg2) {
+        fail(format(message, arg1, arg2));
+    }
+
+    static void fail(@Nonnull String message, long arg1) {
+        fail(format(message, arg1));
+    }
+
+    static void fail(@Nonnull String message, long arg1, long arg2) {
+        fail(format(message, arg1, arg2));
+    }
+
+    static void fail(@Nonnull String message, double arg1) {
+        fail(format(message, arg1));
+    }
+
+    static void fail(@Nonnull String message, double arg1, double arg2) {
+        fail(format(message, arg1, arg2));
+    }
+
+    /**
+     * Format a message template, replacing each <tt>%s</tt> with the next argument and appending any surplus
+     * arguments in square brackets. Unlike {@link String#format(String, Object...)} this never fails on a mismatch
+     * between the template and the arguments, which matters since it is only called while reporting a failure.
+     */
+    static String format(@Nonnull String template, Object... args) {
+        StringBuilder builder = new StringBuilder(template.length() + 16 * args.length);
+        int start = 0;
+        int i = 0;
+        while (i < args.length) {
+            int placeholder = template.indexOf("%s", start);
+            if (placeholder < 0) {
+                break;
+            }
+            builder.append(template, start, placeholder).append(args[i++]);
+            start = placeholder + 2;
+        }
+        builder.append(template, start, template.length());
+        if (i < args.length) {
+            builder.append(" [").append(args[i++]);
+            while (i < args.length) {
+                builder.append(", ").append(args[i++]);
+            }
+            builder.append(']');
+        }
+        return builder.toString();
+    }
 }
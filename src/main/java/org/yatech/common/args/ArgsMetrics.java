@@ -0,0 +1,375 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Opt-in metrics of the requirements: the number of times each rule was checked and failed, and optionally a sampled
+ * histogram of the time it took to check the rules of a {@link Validator}.
+ * <p>
+ * A rule is identified by the error message (or the message template) of the requirement. The requirements which take
+ * a {@link java.util.function.Supplier} of the message are counted together under {@link #SUPPLIED_MESSAGE_RULES},
+ * since the supplier is invoked only on a failure and has no stable name of its own, so a rule which should be tracked
+ * on its own should be given a message or a message template. The metrics are enabled by starting the JVM with
+ * <tt>-Dorg.yatech.common.args.metrics=true</tt>. The setting is read once into a <tt>static final</tt> field, so when
+ * the metrics are disabled the JIT compiler removes the recording code from the requirements altogether. When
+ * enabled, the counters are {@link LongAdder}s, which scale with the number of threads checking the same rule:
+ * <pre>
+ * ArgsMetrics.setLatencySampleRate(100); // time 1 in 100 validations
+ * ArgsMetrics.registerMBean();           // expose the metrics over JMX
+ * ...
+ * ArgsMetrics.RuleMetrics metrics = ArgsMetrics.snapshot().get("Person name is required");
+ * </pre>
+ * Up to {@link #MAX_RULES} distinct rules are tracked, so that messages which are built dynamically do not grow the
+ * metrics without bound. The rules beyond that are counted together under {@link #OTHER_RULES}.
+ *
+ * @author Yinon Avraham.
+ */
+public abstract class ArgsMetrics {
+
+    /**
+     * The system property which enables the metrics when set to <tt>true</tt>
+     */
+    public static final String ENABLED_PROPERTY = "org.yatech.common.args.metrics";
+
+    /**
+     * The name of the metrics MBean
+     */
+    public static final String OBJECT_NAME = "org.yatech.common.args:type=ArgsMetrics";
+
+    /**
+     * The maximum number of distinct rules tracked
+     */
+    public static final int MAX_RULES = 4096;
+
+    /**
+     * The name under which the rules beyond {@link #MAX_RULES} are counted
+     */
+    public static final String OTHER_RULES = "<other>";
+
+    /**
+     * The name under which the rules of the requirements with a message supplier are counted
+     */
+    public static final String SUPPLIED_MESSAGE_RULES = "<supplied message>";
+
+    /**
+     * The number of latency histogram buckets, where bucket <tt>i</tt> counts the durations in
+     * <tt>[2<sup>i-1</sup>, 2<sup>i</sup>)</tt> nanoseconds (and bucket <tt>0</tt> counts zero durations)
+     */
+    public static final int LATENCY_BUCKETS = 64;
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final Map<String, Counters> RULES = new ConcurrentHashMap<>();
+    private static final Counters OTHER = new Counters();
+    private static volatile int latencySampleRate;
+
+    private ArgsMetrics() {
+        //utility
+    }
+
+    /**
+     * @return whether the metrics are enabled
+     * @see #ENABLED_PROPERTY
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Get the rate of sampling the latency of the {@link Validator} rules
+     * @return one in how many validations is timed, or <tt>0</tt> if the latency is not sampled
+     */
+    public static int getLatencySampleRate() {
+        return latencySampleRate;
+    }
+
+    /**
+     * Set the rate of sampling the latency of the {@link Validator} rules. Timing a rule takes two reads of
+     * {@link System#nanoTime()}, so a low rate keeps the overhead negligible.
+     * @param latencySampleRate one in how many validations to time, e.g. <tt>1</tt> to time all the validations, or
+     *                          <tt>0</tt> to not sample the latency (the default)
+     */
+    public static void setLatencySampleRate(int latencySampleRate) {
+        if (latencySampleRate < 0) {
+            throw new IllegalArgumentException("latency sample rate must not be negative");
+        }
+        ArgsMetrics.latencySampleRate = latencySampleRate;
+    }
+
+    /**
+     * Take a snapshot of the metrics of all the rules checked since the metrics were enabled or last reset
+     * @return the metrics of each rule, by the rule name
+     */
+    @Nonnull
+    public static Map<String, RuleMetrics> snapshot() {
+        Map<String, RuleMetrics> snapshot = new TreeMap<>();
+        RULES.forEach((rule, counters) -> snapshot.put(rule, counters.snapshot(rule)));
+        if (OTHER.invocations.sum() > 0) {
+            snapshot.put(OTHER_RULES, OTHER.snapshot(OTHER_RULES));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Reset the metrics of all the rules
+     */
+    public static void reset() {
+        RULES.clear();
+        OTHER.reset();
+    }
+
+    /**
+     * Register the metrics MBean in the platform MBean server, under {@link #OBJECT_NAME}, if not registered yet
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), objectName());
+        } catch (InstanceAlreadyExistsException e) {
+            // already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Unregister the metrics MBean from the platform MBean server, if registered
+     */
+    public static void unregisterMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName());
+        } catch (InstanceNotFoundException e) {
+            // not registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister the metrics MBean", e);
+        }
+    }
+
+    private static ObjectName objectName() throws MalformedObjectNameException {
+        return new ObjectName(OBJECT_NAME);
+    }
+
+    /**
+     * Record a check of a rule. Should be called only if the metrics are {@link #ENABLED}.
+     */
+    static void record(@Nonnull String rule, boolean satisfied) {
+        Counters counters = counters(rule);
+        counters.invocations.increment();
+        if (!satisfied) {
+            counters.failures.increment();
+        }
+    }
+
+    /**
+     * @return whether to time the current validation. Should be called only if the metrics are {@link #ENABLED}.
+     */
+    static boolean sampleLatency() {
+        int rate = latencySampleRate;
+        return rate > 0 && (rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0);
+    }
+
+    /**
+     * Record the time it took to check a rule. Should be called only if the metrics are {@link #ENABLED}.
+     */
+    static void recordLatency(@Nonnull String rule, long nanos) {
+        counters(rule).latency(Math.max(nanos, 0));
+    }
+
+    private static Counters counters(String rule) {
+        Counters counters = RULES.get(rule);
+        if (counters == null) {
+            counters = RULES.size() < MAX_RULES ? RULES.computeIfAbsent(rule, r -> new Counters()) : OTHER;
+        }
+        return counters;
+    }
+
+    private static final class Counters {
+
+        final LongAdder invocations = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        private volatile LongAdder[] latency;
+
+        void latency(long nanos) {
+            LongAdder[] buckets = latency;
+            if (buckets == null) {
+                buckets = createLatencyBuckets();
+            }
+            buckets[LATENCY_BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+        }
+
+        private synchronized LongAdder[] createLatencyBuckets() {
+            if (latency == null) {
+                LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS];
+                for (int i = 0; i < buckets.length; i++) {
+                    buckets[i] = new LongAdder();
+                }
+                latency = buckets;
+            }
+            return latency;
+        }
+
+        void reset() {
+            invocations.reset();
+            failures.reset();
+            latency = null;
+        }
+
+        RuleMetrics snapshot(String rule) {
+            LongAdder[] buckets = latency;
+            long[] histogram = new long[LATENCY_BUCKETS];
+            if (buckets != null) {
+                for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                    histogram[i] = buckets[i].sum();
+                }
+            }
+            return new RuleMetrics(rule, invocations.sum(), failures.sum(), histogram);
+        }
+    }
+
+    /**
+     * A snapshot of the metrics of a rule
+     */
+    public static final class RuleMetrics {
+
+        private final String rule;
+        private final long invocationCount;
+        private final long failureCount;
+        private final long[] latencyHistogram;
+        private final long latencySampleCount;
+
+        RuleMetrics(String rule, long invocationCount, long failureCount, long[] latencyHistogram) {
+            this.rule = rule;
+            this.invocationCount = invocationCount;
+            this.failureCount = failureCount;
+            this.latencyHistogram = latencyHistogram;
+            this.latencySampleCount = Arrays.stream(latencyHistogram).sum();
+        }
+
+        /**
+         * @return the rule name
+         */
+        @Nonnull
+        public String getRule() {
+            return rule;
+        }
+
+        /**
+         * @return the number of times the rule was checked
+         */
+        public long getInvocationCount() {
+            return invocationCount;
+        }
+
+        /**
+         * @return the number of times the rule was not satisfied
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * @return the number of times the latency of the rule was sampled
+         */
+        public long getLatencySampleCount() {
+            return latencySampleCount;
+        }
+
+        /**
+         * @return the sampled latency counts, by {@link #LATENCY_BUCKETS bucket}
+         */
+        @Nonnull
+        public long[] getLatencyHistogram() {
+            return latencyHistogram.clone();
+        }
+
+        /**
+         * Estimate a percentile of the sampled latency, by the upper bound of the histogram bucket it falls in
+         * @param percentile the percentile, in <tt>(0, 100]</tt>
+         * @return the estimated latency in nanoseconds, or <tt>0</tt> if the latency was not sampled
+         */
+        public long getLatencyPercentile(double percentile) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentile must be in (0, 100]");
+            }
+            long rank = (long) Math.ceil(latencySampleCount * percentile / 100);
+            long count = 0;
+            for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                count += latencyHistogram[i];
+                if (count >= rank && count > 0) {
+                    return (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "RuleMetrics{rule='" + rule + "', invocations=" + invocationCount + ", failures=" + failureCount +
+                    ", latencySamples=" + latencySampleCount + '}';
+        }
+    }
+
+    private static final class MXBean implements ArgsMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public int getLatencySampleRate() {
+            return ArgsMetrics.getLatencySampleRate();
+        }
+
+        @Override
+        public void setLatencySampleRate(int latencySampleRate) {
+            ArgsMetrics.setLatencySampleRate(latencySampleRate);
+        }
+
+        @Override
+        public Map<String, Long> getInvocationCounts() {
+            return collect(RuleMetrics::getInvocationCount);
+        }
+
+        @Override
+        public Map<String, Long> getFailureCounts() {
+            return collect(RuleMetrics::getFailureCount);
+        }
+
+        @Override
+        public Map<String, Long> getLatencyMedianNanos() {
+            return collect(metrics -> metrics.getLatencyPercentile(50));
+        }
+
+        @Override
+        public Map<String, Long> getLatency99thPercentileNanos() {
+            return collect(metrics -> metrics.getLatencyPercentile(99));
+        }
+
+        @Override
+        public void reset() {
+            ArgsMetrics.reset();
+        }
+
+        private static Map<String, Long> collect(ToLongFunction<RuleMetrics> metric) {
+            Map<String, Long> result = new TreeMap<>();
+            snapshot().forEach((rule, metrics) -> result.put(rule, metric.applyAsLong(metrics)));
+            return result;
+        }
+    }
+}
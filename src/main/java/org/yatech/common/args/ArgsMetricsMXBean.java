@@ -0,0 +1,51 @@
+package org.yatech.common.args;
+
+import java.util.Map;
+
+/**
+ * The management interface of the {@link ArgsMetrics}, registered with {@link ArgsMetrics#registerMBean()}.
+ *
+ * @author Yinon Avraham.
+ */
+public interface ArgsMetricsMXBean {
+
+    /**
+     * @return whether the metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * @return one in how many validations is timed, or <tt>0</tt> if the latency is not sampled
+     */
+    int getLatencySampleRate();
+
+    /**
+     * @param latencySampleRate one in how many validations to time, or <tt>0</tt> to not sample the latency
+     */
+    void setLatencySampleRate(int latencySampleRate);
+
+    /**
+     * @return the number of times each rule was checked, by the rule name
+     */
+    Map<String, Long> getInvocationCounts();
+
+    /**
+     * @return the number of times each rule was not satisfied, by the rule name
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * @return the estimated median of the sampled latency of each rule in nanoseconds, by the rule name
+     */
+    Map<String, Long> getLatencyMedianNanos();
+
+    /**
+     * @return the estimated 99th percentile of the sampled latency of each rule in nanoseconds, by the rule name
+     */
+    Map<String, Long> getLatency99thPercentileNanos();
+
+    /**
+     * Reset the metrics of all the rules
+     */
+    void reset();
+}
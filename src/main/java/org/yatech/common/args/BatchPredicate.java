@@ -0,0 +1,24 @@
+package org.yatech.common.args;
+
+import java.util.List;
+
+/**
+ * Represents a predicate (boolean-valued function) which is evaluated on a batch of values at once, e.g. with a single
+ * query to a store which checks which of the given IDs exist.
+ *
+ * @param <T> the type of the values
+ * @author Yinon Avraham.
+ * @see BatchingRequirement
+ */
+@FunctionalInterface
+public interface BatchPredicate<T> {
+
+    /**
+     * Evaluates this predicate on each of the given values.
+     *
+     * @param values the values to test, not empty
+     * @return the results, in the order of the values (<tt>true</tt> if the value matches the predicate)
+     * @throws Exception if the values could not be tested
+     */
+    boolean[] test(List<T> values) throws Exception;
+}
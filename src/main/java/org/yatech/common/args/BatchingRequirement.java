@@ -0,0 +1,318 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.FULL;
+
+/**
+ * An asynchronous requirement with an expensive predicate, e.g. "the ID exists" or "the name is unique" against a
+ * store, which groups the concurrent requirements into batches and evaluates each batch at once.
+ * <p>
+ * Instead of evaluating the predicate on the calling thread with <tt>Args.requireSatisfies</tt>, one value at a time,
+ * the value is added to the pending batch and a {@link CompletableFuture} of the result is returned. The pending batch
+ * is evaluated with the {@link BatchPredicate} on the requirement's executor when it reaches the maximum batch size,
+ * or when the maximum delay passes since its first value was added, whichever comes first:
+ * <pre>
+ * static final BatchingRequirement&lt;Long&gt; USER_EXISTS = BatchingRequirement.builder(userStore::existing)
+ *         .maxBatchSize(100)
+ *         .maxDelay(2, TimeUnit.MILLISECONDS)
+ *         .build();
+ *
+ * CompletableFuture&lt;Long&gt; userId = USER_EXISTS.require(request.getUserId(), "user does not exist");
+ * </pre>
+ * A requirement which is not satisfied completes its future exceptionally with the exception of the
+ * {@link FailureFactory} which was in use on the calling thread, and a batch whose evaluation fails completes all its
+ * futures exceptionally with the evaluation error. Note that a failure is never recorded in the {@link Violations}
+ * collecting mode, since the result is not known while the calling block runs.
+ * <p>
+ * By default, the batches are evaluated on virtual threads where available (Java 21 and later), otherwise on a shared
+ * pool of daemon threads. Since evaluating a batch is expensive, the requirement is checked only with the
+ * {@link ValidationLevel#FULL FULL} validation level, otherwise the returned futures are already completed with the
+ * values. A requirement is thread-safe.
+ *
+ * @param <V> the type of the values
+ * @author Yinon Avraham.
+ */
+public final class BatchingRequirement<V> {
+
+    private final BatchPredicate<V> predicate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+    private final Object lock = new Object();
+    private List<V> pendingValues;
+    private List<CompletableFuture<Boolean>> pendingResults;
+    private long batchNumber;
+
+    private BatchingRequirement(Builder<V> builder) {
+        this.predicate = builder.predicate;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.executor = builder.executor != null ? builder.executor : Defaults.EXECUTOR;
+        this.pendingValues = new ArrayList<>(maxBatchSize);
+        this.pendingResults = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * Create a new batching requirement builder
+     * @param predicate the predicate to evaluate on each batch of values
+     * @param <V>       the type of the values
+     * @return a new builder, with the default batch size (64), delay (1 millisecond) and executor
+     */
+    @Nonnull
+    public static <V> Builder<V> builder(@Nonnull BatchPredicate<V> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("predicate is required");
+        }
+        return new Builder<>(predicate);
+    }
+
+    /**
+     * Require asynchronously that the given value satisfies the predicate of this requirement
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return a future of the value if satisfies the requirement
+     */
+    @Nonnull
+    public CompletableFuture<V> require(V value, @Nonnull String message) {
+        if (!enabled(FULL)) {
+            return CompletableFuture.completedFuture(value);
+        }
+        FailureFactory failureFactory = Args.currentFailureFactory();
+        return test(value).thenApply(satisfied -> {
+            if (!record(satisfied, message)) {
+                throw failureFactory.create(message);
+            }
+            return value;
+        });
+    }
+
+    /**
+     * Require asynchronously that the given value satisfies the predicate of this requirement
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return a future of the value if satisfies the requirement
+     */
+    @Nonnull
+    public CompletableFuture<V> require(V value, @Nonnull Supplier<String> messageSupplier) {
+        if (!enabled(FULL)) {
+            return CompletableFuture.completedFuture(value);
+        }
+        FailureFactory failureFactory = Args.currentFailureFactory();
+        return test(value).thenApply(satisfied -> {
+            if (!record(satisfied, messageSupplier)) {
+                throw failureFactory.create(messageSupplier.get());
+            }
+            return value;
+        });
+    }
+
+    /**
+     * Evaluate asynchronously the predicate of this requirement on the given value, regardless of the validation level
+     * @param value the value to test
+     * @return a future of whether the value satisfies the predicate
+     */
+    @Nonnull
+    public CompletableFuture<Boolean> test(V value) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        List<V> fullValues = null;
+        List<CompletableFuture<Boolean>> fullResults = null;
+        long firstOfBatch = -1;
+        synchronized (lock) {
+            pendingValues.add(value);
+            pendingResults.add(result);
+            if (pendingValues.size() >= maxBatchSize) {
+                fullValues = pendingValues;
+                fullResults = pendingResults;
+                startBatch();
+            } else if (pendingValues.size() == 1) {
+                firstOfBatch = batchNumber;
+            }
+        }
+        if (fullValues != null) {
+            evaluate(fullValues, fullResults);
+        } else if (firstOfBatch >= 0) {
+            long number = firstOfBatch;
+            Defaults.TIMER.schedule(() -> flush(number), maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluate the pending batch now, without waiting for it to be full or for its delay to pass
+     */
+    public void flush() {
+        List<V> values;
+        List<CompletableFuture<Boolean>> results;
+        synchronized (lock) {
+            if (pendingValues.isEmpty()) {
+                return;
+            }
+            values = pendingValues;
+            results = pendingResults;
+            startBatch();
+        }
+        evaluate(values, results);
+    }
+
+    /**
+     * Evaluate the pending batch if it is still the batch with the given number, i.e. it was not evaluated yet
+     */
+    private void flush(long number) {
+        List<V> values;
+        List<CompletableFuture<Boolean>> results;
+        synchronized (lock) {
+            if (batchNumber != number || pendingValues.isEmpty()) {
+                return;
+            }
+            values = pendingValues;
+            results = pendingResults;
+            startBatch();
+        }
+        evaluate(values, results);
+    }
+
+    private void startBatch() {
+        pendingValues = new ArrayList<>(maxBatchSize);
+        pendingResults = new ArrayList<>(maxBatchSize);
+        batchNumber++;
+    }
+
+    private void evaluate(List<V> values, List<CompletableFuture<Boolean>> results) {
+        try {
+            executor.execute(() -> complete(values, results));
+        } catch (RejectedExecutionException e) {
+            results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private void complete(List<V> values, List<CompletableFuture<Boolean>> results) {
+        boolean[] satisfied;
+        try {
+            satisfied = predicate.test(values);
+            if (satisfied == null || satisfied.length != values.size()) {
+                throw new IllegalStateException("batch predicate returned "
+                        + (satisfied == null ? "null" : satisfied.length + " results") + " for " + values.size()
+                        + " values");
+            }
+        } catch (Throwable e) {
+            results.forEach(result -> result.completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < satisfied.length; i++) {
+            results.get(i).complete(satisfied[i]);
+        }
+    }
+
+    /**
+     * A builder of {@link BatchingRequirement}s
+     * @param <V> the type of the values
+     */
+    public static final class Builder<V> {
+
+        private final BatchPredicate<V> predicate;
+        private int maxBatchSize = 64;
+        private long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(1);
+        private Executor executor;
+
+        private Builder(BatchPredicate<V> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Set the maximum number of values in a batch
+         * @param maxBatchSize the maximum batch size
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<V> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maximum batch size must be positive");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum time to wait for more values since the first value of a batch was added, before evaluating
+         * the batch
+         * @param maxDelay the maximum delay
+         * @param unit     the time unit of the delay
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<V> maxDelay(long maxDelay, @Nonnull TimeUnit unit) {
+            if (maxDelay < 0) {
+                throw new IllegalArgumentException("maximum delay must not be negative");
+            }
+            if (unit == null) {
+                throw new IllegalArgumentException("time unit is required");
+            }
+            this.maxDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Set the executor to evaluate the batches on
+         * @param executor the executor to use
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<V> executor(@Nonnull Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("executor is required");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @return a new batching requirement with the settings of this builder
+         */
+        @Nonnull
+        public BatchingRequirement<V> build() {
+            return new BatchingRequirement<>(this);
+        }
+    }
+
+    /**
+     * The default executor and the timer of the batch delays, created when first used
+     */
+    private static final class Defaults {
+
+        static final Executor EXECUTOR = createExecutor();
+        static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+                daemonThreads("batching-requirement-timer"));
+
+        private static Executor createExecutor() {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) method.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return Executors.newCachedThreadPool(daemonThreads("batching-requirement"));
+            }
+        }
+
+        private static ThreadFactory daemonThreads(String name) {
+            return runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache with a bounded number of entries, used internally for caching values which are expensive to
+ * compute.
+ * <p>
+ * Reads are lock-free: a hit is a single {@link ConcurrentHashMap#get(Object)}. On a miss the value is loaded outside
+ * of any lock (so two threads which miss on the same key at the same time may both load it, and one of the loaded
+ * values is kept), and if the cache exceeds its maximum size, entries are evicted using the CLOCK (second chance)
+ * policy: entries are considered for eviction in insertion order, and an entry which was read since it was last
+ * considered is given another round instead of being evicted.
+ * <p>
+ * Entries may also expire a fixed time after they were written. An expired entry is not returned, and it is replaced
+ * in place when its key is loaded again (so its place in the eviction order is kept), or evicted first when the cache
+ * is full. The values must not be null.
+ * <p>
+ * An entry can also be removed explicitly, e.g. when its key becomes obsolete. Its key is left in the eviction order,
+ * which is compacted once it holds as many removed keys as the maximum size, so removing is constant time on average.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Yinon Avraham.
+ */
+final class BoundedCache<K, V> {
+
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final Function<? super K, ? extends V> loader;
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    private final ConcurrentLinkedQueue<K> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final AtomicInteger removedSinceCompaction = new AtomicInteger();
+
+    BoundedCache(int maximumSize, @Nonnull Function<? super K, ? extends V> loader) {
+        this(maximumSize, 0, loader);
+        if (loader == null) {
+            throw new IllegalArgumentException("loader is required");
+        }
+    }
+
+    /**
+     * @param expireAfterWriteNanos the time after which an entry expires, or <tt>0</tt> if the entries do not expire
+     * @param loader                the loader of the values of {@link #get(Object)}, or null if only
+     *                              {@link #getIfPresent(Object)} and {@link #put(Object, Object)} are used
+     */
+    BoundedCache(int maximumSize, long expireAfterWriteNanos, @Nullable Function<? super K, ? extends V> loader) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximum size must be positive");
+        }
+        if (expireAfterWriteNanos < 0) {
+            throw new IllegalArgumentException("expiration time must not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.loader = loader;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+    }
+
+    V get(@Nonnull K key) {
+        V value = getIfPresent(key);
+        return value != null ? value : put(key, loader.apply(key));
+    }
+
+    /**
+     * @return the cached value of the key, or null if it is not cached or expired
+     */
+    V getIfPresent(@Nonnull K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !isExpired(entry)) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hitCount.increment();
+            return entry.value;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Cache the value of a key, unless another value which is not expired is already cached for it
+     * @return the cached value
+     */
+    V put(@Nonnull K key, @Nonnull V value) {
+        Entry<V> entry = new Entry<>(value, expireAfterWriteNanos > 0 ? System.nanoTime() : 0);
+        while (true) {
+            Entry<V> existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                evictionQueue.offer(key);
+                evictIfNeeded();
+                return value;
+            }
+            if (!isExpired(existing)) {
+                return existing.value;
+            }
+            if (entries.replace(key, existing, entry)) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Remove the entry of a key, if it is cached. Meant for keys which are not cached again, e.g. keys whose referents
+     * were garbage collected, since a key which is cached again before the compaction is in the eviction order twice.
+     */
+    void remove(@Nonnull K key) {
+        if (entries.remove(key) != null && removedSinceCompaction.incrementAndGet() >= maximumSize) {
+            removedSinceCompaction.set(0);
+            evictionQueue.removeIf(candidate -> !entries.containsKey(candidate));
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return expireAfterWriteNanos > 0 && System.nanoTime() - entry.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maximumSize) {
+            K candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            Entry<V> entry = entries.get(candidate);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced && !isExpired(entry)) {
+                entry.referenced = false;
+                evictionQueue.offer(candidate);
+            } else if (entries.remove(candidate, entry)) {
+                evictionCount.increment();
+            } else {
+                // the entry was replaced after it expired, the key stays in the cache
+                evictionQueue.offer(candidate);
+            }
+        }
+    }
+
+    int maximumSize() {
+        return maximumSize;
+    }
+
+    long expireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long hitCount() {
+        return hitCount.sum();
+    }
+
+    long missCount() {
+        return missCount.sum();
+    }
+
+    long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    void clear() {
+        entries.clear();
+        evictionQueue.clear();
+        removedSinceCompaction.set(0);
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long writeTime;
+        volatile boolean referenced;
+
+        Entry(V value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+}
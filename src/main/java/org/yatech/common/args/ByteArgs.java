@@ -0,0 +1,3463 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
+import static org.yatech.common.args.ValidationLevel.FULL;
+
+/**
+ * A utility class for common methods on arguments of raw bytes: the remaining bytes of a {@link ByteBuffer} (heap,
+ * direct or memory-mapped), a <tt>byte[]</tt>, or a sub-range of it.
+ * <p>
+ * This is the byte-oriented counterpart of {@link StringArgs}, for fields which are held as bytes and would otherwise
+ * have to be decoded into a {@link String} before they are checked. The checks read the bytes in place, so they
+ * neither copy the bytes nor allocate, and do not move the position of a buffer. The scanning checks skip ASCII bytes 8
+ * at a time: a buffer with {@link ByteBuffer#getLong(int)}, and an array by combining the sign bits of 8 bytes.
+ * <pre>
+ * ByteArgs.requireValidUtf8(ByteArgs.requireMaxLength(name, 64, "name is too long"), "name is not UTF-8");
+ * </pre>
+ *
+ * @author Yinon Avraham.
+ */
+public abstract class ByteArgs {
+
+    private static final long NON_ASCII_BITS = 0x8080808080808080L;
+
+    private ByteArgs() {
+        //utility
+    }
+
+    /**
+     * An immutable set of byte values, e.g. the allowed bytes of a token for {@link #requireOnly(ByteBuffer, ByteSet,
+     * String)}. A set is built from ranges and from the characters of ASCII strings:
+     * <pre>
+     * static final ByteSet TOKEN = ByteSet.range('a', 'z').union(ByteSet.range('0', '9')).union(ByteSet.of("-_."));
+     * </pre>
+     */
+    public static final class ByteSet {
+
+        private final long[] bits;
+
+        private ByteSet(long[] bits) {
+            this.bits = bits;
+        }
+
+        /**
+         * Create a set of the given bytes
+         * @param bytes the bytes in the set
+         * @return the set
+         */
+        @Nonnull
+        public static ByteSet of(@Nonnull byte... bytes) {
+            long[] bits = new long[4];
+            for (byte b : bytes) {
+                int i = b & 0xFF;
+                bits[i >>> 6] |= 1L << i;
+            }
+            return new ByteSet(bits);
+        }
+
+        /**
+         * Create a set of the characters of an ASCII string
+         * @param chars the ASCII characters in the set
+         * @return the set
+         * @throws IllegalArgumentException if any of the characters is not ASCII
+         */
+        @Nonnull
+        public static ByteSet of(@Nonnull String chars) {
+            if (!StringArgs.isAscii(chars)) {
+                throw new IllegalArgumentException("chars must be ASCII");
+            }
+            byte[] bytes = new byte[chars.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) chars.charAt(i);
+            }
+            return of(bytes);
+        }
+
+        /**
+         * Create a set of a range of unsigned byte values
+         * @param from the first value in the range (inclusive), between <tt>0</tt> and <tt>255</tt>
+         * @param to   the last value in the range (inclusive), between <tt>from</tt> and <tt>255</tt>
+         * @return the set
+         * @throws IllegalArgumentException if the range is invalid
+         */
+        @Nonnull
+        public static ByteSet range(int from, int to) {
+            if (from < 0 || to > 0xFF || from > to) {
+                throw new IllegalArgumentException("invalid byte range [" + from + ", " + to + "]");
+            }
+            long[] bits = new long[4];
+            for (int i = from; i <= to; i++) {
+                bits[i >>> 6] |= 1L << i;
+            }
+            return new ByteSet(bits);
+        }
+
+        /**
+         * @param other the other set
+         * @return a set of the bytes in this set or in the other set
+         */
+        @Nonnull
+        public ByteSet union(@Nonnull ByteSet other) {
+            long[] union = new long[4];
+            for (int i = 0; i < 4; i++) {
+                union[i] = bits[i] | other.bits[i];
+            }
+            return new ByteSet(union);
+        }
+
+        /**
+         * @param b the byte to check
+         * @return whether the byte is in this set
+         */
+        public boolean contains(byte b) {
+            int i = b & 0xFF;
+            return (bits[i >>> 6] & (1L << i)) != 0;
+        }
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMinLength(B buffer, int minLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(buffer, minLength), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least a given number of remaining bytes
+     *
+     * @param buffer          the buffer to check
+     * @param minLength       the minimum allowed number of bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMinLength(B buffer, int minLength,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(buffer, minLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMinLength(B buffer, int minLength, @Nonnull String message,
+                                                            Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(buffer, minLength), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMinLength(B buffer, int minLength, @Nonnull String message,
+                                                            Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(buffer, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMinLength(B buffer, int minLength, @Nonnull String message,
+                                                            long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(buffer, minLength), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMinLength(B buffer, int minLength, @Nonnull String message, long arg1,
+                                                            long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(buffer, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int minLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, minLength), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least a given number of bytes
+     *
+     * @param bytes           the array to check
+     * @param minLength       the minimum allowed number of bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int minLength, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, minLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int minLength, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, minLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int minLength, @Nonnull String message, Object arg1,
+                                          Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int minLength, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, minLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int minLength, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int from, int to, int minLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, from, to, minLength), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least a given number of bytes
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param minLength       the minimum allowed number of bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int from, int to, int minLength,
+                                          @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, from, to, minLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int from, int to, int minLength, @Nonnull String message,
+                                          Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, from, to, minLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int from, int to, int minLength, @Nonnull String message,
+                                          Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, from, to, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int from, int to, int minLength, @Nonnull String message,
+                                          long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, from, to, minLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMinLength(byte[] bytes, int from, int to, int minLength, @Nonnull String message,
+                                          long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(bytes, from, to, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at most a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMaxLength(B buffer, int maxLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(buffer, maxLength), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at most a given number of remaining bytes
+     *
+     * @param buffer          the buffer to check
+     * @param maxLength       the maximum allowed number of bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMaxLength(B buffer, int maxLength,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(buffer, maxLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at most a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMaxLength(B buffer, int maxLength, @Nonnull String message,
+                                                            Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(buffer, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at most a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMaxLength(B buffer, int maxLength, @Nonnull String message,
+                                                            Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(buffer, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at most a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMaxLength(B buffer, int maxLength, @Nonnull String message,
+                                                            long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(buffer, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at most a given number of remaining bytes
+     *
+     * @param buffer    the buffer to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireMaxLength(B buffer, int maxLength, @Nonnull String message, long arg1,
+                                                            long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(buffer, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int maxLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, maxLength), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at most a given number of bytes
+     *
+     * @param bytes           the array to check
+     * @param maxLength       the maximum allowed number of bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int maxLength, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, maxLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int maxLength, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int maxLength, @Nonnull String message, Object arg1,
+                                          Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int maxLength, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int maxLength, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int from, int to, int maxLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, from, to, maxLength), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at most a given number of bytes
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param maxLength       the maximum allowed number of bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int from, int to, int maxLength,
+                                          @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, from, to, maxLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int from, int to, int maxLength, @Nonnull String message,
+                                          Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, from, to, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int from, int to, int maxLength, @Nonnull String message,
+                                          Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, from, to, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int from, int to, int maxLength, @Nonnull String message,
+                                          long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, from, to, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at most a given number of bytes
+     *
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireMaxLength(byte[] bytes, int from, int to, int maxLength, @Nonnull String message,
+                                          long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(bytes, from, to, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireNonBlank(B buffer, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonBlank(buffer), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param buffer          the buffer to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireNonBlank(B buffer, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonBlank(buffer), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireNonBlank(B buffer, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonBlank(buffer), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireNonBlank(B buffer, @Nonnull String message, Object arg1,
+                                                           Object arg2) {
+        if (enabled(CHEAP) && !record(isNonBlank(buffer), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireNonBlank(B buffer, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonBlank(buffer), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireNonBlank(B buffer, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonBlank(buffer), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes           the array to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, int from, int to, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes, from, to), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, int from, int to, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes, from, to), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, int from, int to, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes, from, to), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, int from, int to, @Nonnull String message, Object arg1,
+                                         Object arg2) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes, from, to), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, int from, int to, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes, from, to), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireNonBlank(byte[] bytes, int from, int to, @Nonnull String message, long arg1,
+                                         long arg2) {
+        if (enabled(CHEAP) && !record(isNonBlank(bytes, from, to), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireAscii(B buffer, @Nonnull String message) {
+        if (enabled(FULL) && !record(isAscii(buffer), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param buffer          the buffer to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireAscii(B buffer, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isAscii(buffer), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireAscii(B buffer, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isAscii(buffer), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireAscii(B buffer, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isAscii(buffer), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireAscii(B buffer, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isAscii(buffer), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireAscii(B buffer, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isAscii(buffer), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, @Nonnull String message) {
+        if (enabled(FULL) && !record(isAscii(bytes), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param bytes           the array to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isAscii(bytes), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isAscii(bytes), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isAscii(bytes), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isAscii(bytes), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isAscii(bytes), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, int from, int to, @Nonnull String message) {
+        if (enabled(FULL) && !record(isAscii(bytes, from, to), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, int from, int to, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isAscii(bytes, from, to), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, int from, int to, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isAscii(bytes, from, to), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, int from, int to, @Nonnull String message, Object arg1,
+                                      Object arg2) {
+        if (enabled(FULL) && !record(isAscii(bytes, from, to), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, int from, int to, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isAscii(bytes, from, to), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireAscii(byte[] bytes, int from, int to, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isAscii(bytes, from, to), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireValidUtf8(B buffer, @Nonnull String message) {
+        if (enabled(FULL) && !record(isValidUtf8(buffer), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param buffer          the buffer to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireValidUtf8(B buffer, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isValidUtf8(buffer), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireValidUtf8(B buffer, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isValidUtf8(buffer), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireValidUtf8(B buffer, @Nonnull String message, Object arg1,
+                                                            Object arg2) {
+        if (enabled(FULL) && !record(isValidUtf8(buffer), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireValidUtf8(B buffer, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isValidUtf8(buffer), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param buffer  the buffer to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireValidUtf8(B buffer, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isValidUtf8(buffer), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no encoded
+     * surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, @Nonnull String message) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no encoded
+     * surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes           the array to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no encoded
+     * surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no encoded
+     * surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no encoded
+     * surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no encoded
+     * surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it is well-formed UTF-8 (no truncated or
+     * overlong sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, int from, int to, @Nonnull String message) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes, from, to), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it is well-formed UTF-8 (no truncated or
+     * overlong sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, int from, int to, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes, from, to), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it is well-formed UTF-8 (no truncated or
+     * overlong sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, int from, int to, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes, from, to), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it is well-formed UTF-8 (no truncated or
+     * overlong sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, int from, int to, @Nonnull String message, Object arg1,
+                                          Object arg2) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes, from, to), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it is well-formed UTF-8 (no truncated or
+     * overlong sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, int from, int to, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes, from, to), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it is well-formed UTF-8 (no truncated or
+     * overlong sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireValidUtf8(byte[] bytes, int from, int to, @Nonnull String message, long arg1,
+                                          long arg2) {
+        if (enabled(FULL) && !record(isValidUtf8(bytes, from, to), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which start with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param prefix  the bytes to start with
+     * @param message the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireStartsWith(B buffer, @Nonnull byte[] prefix,
+                                                             @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isStartingWith(buffer, prefix), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which start with the given bytes
+     *
+     * @param buffer          the buffer to check
+     * @param prefix          the bytes to start with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireStartsWith(B buffer, @Nonnull byte[] prefix,
+                                                             @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isStartingWith(buffer, prefix), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which start with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireStartsWith(B buffer, @Nonnull byte[] prefix, @Nonnull String message,
+                                                             Object arg1) {
+        if (enabled(CHEAP) && !record(isStartingWith(buffer, prefix), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which start with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireStartsWith(B buffer, @Nonnull byte[] prefix, @Nonnull String message,
+                                                             Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isStartingWith(buffer, prefix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which start with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireStartsWith(B buffer, @Nonnull byte[] prefix, @Nonnull String message,
+                                                             long arg1) {
+        if (enabled(CHEAP) && !record(isStartingWith(buffer, prefix), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which start with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireStartsWith(B buffer, @Nonnull byte[] prefix, @Nonnull String message,
+                                                             long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isStartingWith(buffer, prefix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param prefix  the bytes to start with
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, @Nonnull byte[] prefix, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, prefix), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and starts with the given bytes
+     *
+     * @param bytes           the array to check
+     * @param prefix          the bytes to start with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, @Nonnull byte[] prefix,
+                                           @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, prefix), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, @Nonnull byte[] prefix, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, prefix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, @Nonnull byte[] prefix, @Nonnull String message, Object arg1,
+                                           Object arg2) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, prefix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, @Nonnull byte[] prefix, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, prefix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, @Nonnull byte[] prefix, @Nonnull String message, long arg1,
+                                           long arg2) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, prefix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param prefix  the bytes to start with
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix,
+                                           @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, from, to, prefix), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it starts with the given bytes
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param prefix          the bytes to start with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix,
+                                           @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, from, to, prefix), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix,
+                                           @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, from, to, prefix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix,
+                                           @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, from, to, prefix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix,
+                                           @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, from, to, prefix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it starts with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param prefix  the bytes to start with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireStartsWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix,
+                                           @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isStartingWith(bytes, from, to, prefix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which end with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param suffix  the bytes to end with
+     * @param message the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireEndsWith(B buffer, @Nonnull byte[] suffix, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isEndingWith(buffer, suffix), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which end with the given bytes
+     *
+     * @param buffer          the buffer to check
+     * @param suffix          the bytes to end with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireEndsWith(B buffer, @Nonnull byte[] suffix,
+                                                           @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isEndingWith(buffer, suffix), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which end with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireEndsWith(B buffer, @Nonnull byte[] suffix, @Nonnull String message,
+                                                           Object arg1) {
+        if (enabled(CHEAP) && !record(isEndingWith(buffer, suffix), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which end with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireEndsWith(B buffer, @Nonnull byte[] suffix, @Nonnull String message,
+                                                           Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isEndingWith(buffer, suffix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which end with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireEndsWith(B buffer, @Nonnull byte[] suffix, @Nonnull String message,
+                                                           long arg1) {
+        if (enabled(CHEAP) && !record(isEndingWith(buffer, suffix), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has remaining bytes which end with the given bytes
+     *
+     * @param buffer  the buffer to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireEndsWith(B buffer, @Nonnull byte[] suffix, @Nonnull String message,
+                                                           long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isEndingWith(buffer, suffix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param suffix  the bytes to end with
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, @Nonnull byte[] suffix, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, suffix), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and ends with the given bytes
+     *
+     * @param bytes           the array to check
+     * @param suffix          the bytes to end with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, @Nonnull byte[] suffix,
+                                         @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, suffix), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, @Nonnull byte[] suffix, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, suffix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, @Nonnull byte[] suffix, @Nonnull String message, Object arg1,
+                                         Object arg2) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, suffix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, @Nonnull byte[] suffix, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, suffix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, @Nonnull byte[] suffix, @Nonnull String message, long arg1,
+                                         long arg2) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, suffix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param suffix  the bytes to end with
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix,
+                                         @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, from, to, suffix), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it ends with the given bytes
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param suffix          the bytes to end with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix,
+                                         @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, from, to, suffix), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix,
+                                         @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, from, to, suffix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix,
+                                         @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, from, to, suffix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix,
+                                         @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, from, to, suffix), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it ends with the given bytes
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param suffix  the bytes to end with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireEndsWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix,
+                                         @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isEndingWith(bytes, from, to, suffix), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only remaining bytes of the given set
+     *
+     * @param buffer  the buffer to check
+     * @param allowed the allowed bytes
+     * @param message the error message to use
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireOnly(B buffer, @Nonnull ByteSet allowed, @Nonnull String message) {
+        if (enabled(FULL) && !record(isOnly(buffer, allowed), message)) {
+            fail(message);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only remaining bytes of the given set
+     *
+     * @param buffer          the buffer to check
+     * @param allowed         the allowed bytes
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireOnly(B buffer, @Nonnull ByteSet allowed,
+                                                       @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isOnly(buffer, allowed), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only remaining bytes of the given set
+     *
+     * @param buffer  the buffer to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireOnly(B buffer, @Nonnull ByteSet allowed, @Nonnull String message,
+                                                       Object arg1) {
+        if (enabled(FULL) && !record(isOnly(buffer, allowed), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only remaining bytes of the given set
+     *
+     * @param buffer  the buffer to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireOnly(B buffer, @Nonnull ByteSet allowed, @Nonnull String message,
+                                                       Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isOnly(buffer, allowed), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only remaining bytes of the given set
+     *
+     * @param buffer  the buffer to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireOnly(B buffer, @Nonnull ByteSet allowed, @Nonnull String message,
+                                                       long arg1) {
+        if (enabled(FULL) && !record(isOnly(buffer, allowed), message)) {
+            fail(message, arg1);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given buffer is not null and has only remaining bytes of the given set
+     *
+     * @param buffer  the buffer to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the buffer if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <B extends ByteBuffer> B requireOnly(B buffer, @Nonnull ByteSet allowed, @Nonnull String message,
+                                                       long arg1, long arg2) {
+        if (enabled(FULL) && !record(isOnly(buffer, allowed), message)) {
+            fail(message, arg1, arg2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Require that the given array is not null and has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param allowed the allowed bytes
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, @Nonnull ByteSet allowed, @Nonnull String message) {
+        if (enabled(FULL) && !record(isOnly(bytes, allowed), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only bytes of the given set
+     *
+     * @param bytes           the array to check
+     * @param allowed         the allowed bytes
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, @Nonnull ByteSet allowed,
+                                     @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isOnly(bytes, allowed), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, @Nonnull ByteSet allowed, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isOnly(bytes, allowed), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, @Nonnull ByteSet allowed, @Nonnull String message, Object arg1,
+                                     Object arg2) {
+        if (enabled(FULL) && !record(isOnly(bytes, allowed), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, @Nonnull ByteSet allowed, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isOnly(bytes, allowed), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null and has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, @Nonnull ByteSet allowed, @Nonnull String message, long arg1,
+                                     long arg2) {
+        if (enabled(FULL) && !record(isOnly(bytes, allowed), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param allowed the allowed bytes
+     * @param message the error message to use
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed,
+                                     @Nonnull String message) {
+        if (enabled(FULL) && !record(isOnly(bytes, from, to, allowed), message)) {
+            fail(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only bytes of the given set
+     *
+     * @param bytes           the array to check
+     * @param from            the index of the first byte to check (inclusive)
+     * @param to              the index of the last byte to check (exclusive)
+     * @param allowed         the allowed bytes
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed,
+                                     @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isOnly(bytes, from, to, allowed), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed, @Nonnull String message,
+                                     Object arg1) {
+        if (enabled(FULL) && !record(isOnly(bytes, from, to, allowed), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed, @Nonnull String message,
+                                     Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isOnly(bytes, from, to, allowed), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed, @Nonnull String message,
+                                     long arg1) {
+        if (enabled(FULL) && !record(isOnly(bytes, from, to, allowed), message)) {
+            fail(message, arg1);
+        }
+        return bytes;
+    }
+
+    /**
+     * Require that the given array is not null, and that a sub-range of it has only bytes of the given set
+     *
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param allowed the allowed bytes
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the array if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static byte[] requireOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed, @Nonnull String message,
+                                     long arg1, long arg2) {
+        if (enabled(FULL) && !record(isOnly(bytes, from, to, allowed), message)) {
+            fail(message, arg1, arg2);
+        }
+        return bytes;
+    }
+
+    /* *********************************************************************************
+     * Predicates                                                                      *
+     ***********************************************************************************/
+
+    /**
+     * Check whether the given buffer is not null and has at least a given number of remaining bytes
+     * @param buffer    the buffer to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isAtLeastMinLength(ByteBuffer buffer, int minLength) {
+        return buffer != null && buffer.remaining() >= minLength;
+    }
+
+    /**
+     * Check whether the given array is not null and has at least a given number of bytes
+     * @param bytes     the array to check
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isAtLeastMinLength(byte[] bytes, int minLength) {
+        return bytes != null && bytes.length >= minLength;
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it has at least a given number of bytes
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param minLength the minimum allowed number of bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isAtLeastMinLength(byte[] bytes, int from, int to, int minLength) {
+        return bytes != null && checkRange(bytes, from, to) >= minLength;
+    }
+
+    /**
+     * Check whether the given buffer is not null and has at most a given number of remaining bytes
+     * @param buffer    the buffer to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isWithinMaxLength(ByteBuffer buffer, int maxLength) {
+        return buffer != null && buffer.remaining() <= maxLength;
+    }
+
+    /**
+     * Check whether the given array is not null and has at most a given number of bytes
+     * @param bytes     the array to check
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isWithinMaxLength(byte[] bytes, int maxLength) {
+        return bytes != null && bytes.length <= maxLength;
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it has at most a given number of bytes
+     * @param bytes     the array to check
+     * @param from      the index of the first byte to check (inclusive)
+     * @param to        the index of the last byte to check (exclusive)
+     * @param maxLength the maximum allowed number of bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isWithinMaxLength(byte[] bytes, int from, int to, int maxLength) {
+        return bytes != null && checkRange(bytes, from, to) <= maxLength;
+    }
+
+    /**
+     * Check whether the given buffer is not null and has at least one remaining byte which is not an ASCII whitespace
+     * (as in {@link StringArgs.Whitespace#ASCII})
+     * @param buffer the buffer to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonBlank(ByteBuffer buffer) {
+        return buffer != null && isNonBlankBetween(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Check whether the given array is not null and has at least one byte which is not an ASCII whitespace (as in
+     * {@link StringArgs.Whitespace#ASCII})
+     * @param bytes the array to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonBlank(byte[] bytes) {
+        return bytes != null && isNonBlankBetween(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it has at least one byte which is not an ASCII
+     * whitespace (as in {@link StringArgs.Whitespace#ASCII})
+     * @param bytes the array to check
+     * @param from  the index of the first byte to check (inclusive)
+     * @param to    the index of the last byte to check (exclusive)
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isNonBlank(byte[] bytes, int from, int to) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, from, to);
+        return isNonBlankBetween(bytes, from, to);
+    }
+
+    /**
+     * Check whether the given buffer is not null and has only ASCII remaining bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     * @param buffer the buffer to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isAscii(ByteBuffer buffer) {
+        return buffer != null && isAsciiBetween(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Check whether the given array is not null and has only ASCII bytes (<tt>0x00</tt> to <tt>0x7F</tt>)
+     * @param bytes the array to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isAscii(byte[] bytes) {
+        return bytes != null && isAsciiBetween(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it has only ASCII bytes (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     * @param bytes the array to check
+     * @param from  the index of the first byte to check (inclusive)
+     * @param to    the index of the last byte to check (exclusive)
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isAscii(byte[] bytes, int from, int to) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, from, to);
+        return isAsciiBetween(bytes, from, to);
+    }
+
+    /**
+     * Check whether the given buffer is not null and has well-formed UTF-8 remaining bytes (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     * @param buffer the buffer to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isValidUtf8(ByteBuffer buffer) {
+        return buffer != null && isValidUtf8Between(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Check whether the given array is not null and is well-formed UTF-8 (no truncated or overlong sequences, no
+     * encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     * @param bytes the array to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isValidUtf8(byte[] bytes) {
+        return bytes != null && isValidUtf8Between(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it is well-formed UTF-8 (no truncated or overlong
+     * sequences, no encoded surrogates and no code points above <tt>U+10FFFF</tt>)
+     * @param bytes the array to check
+     * @param from  the index of the first byte to check (inclusive)
+     * @param to    the index of the last byte to check (exclusive)
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isValidUtf8(byte[] bytes, int from, int to) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, from, to);
+        return isValidUtf8Between(bytes, from, to);
+    }
+
+    /**
+     * Check whether the given buffer is not null and has remaining bytes which start with the given bytes
+     * @param buffer the buffer to check
+     * @param prefix the bytes to start with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isStartingWith(ByteBuffer buffer, @Nonnull byte[] prefix) {
+        return buffer != null && isStartingWithBetween(buffer, buffer.position(), buffer.limit(), prefix);
+    }
+
+    /**
+     * Check whether the given array is not null and starts with the given bytes
+     * @param bytes  the array to check
+     * @param prefix the bytes to start with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isStartingWith(byte[] bytes, @Nonnull byte[] prefix) {
+        return bytes != null && isStartingWithBetween(bytes, 0, bytes.length, prefix);
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it starts with the given bytes
+     * @param bytes  the array to check
+     * @param from   the index of the first byte to check (inclusive)
+     * @param to     the index of the last byte to check (exclusive)
+     * @param prefix the bytes to start with
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isStartingWith(byte[] bytes, int from, int to, @Nonnull byte[] prefix) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, from, to);
+        return isStartingWithBetween(bytes, from, to, prefix);
+    }
+
+    /**
+     * Check whether the given buffer is not null and has remaining bytes which end with the given bytes
+     * @param buffer the buffer to check
+     * @param suffix the bytes to end with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isEndingWith(ByteBuffer buffer, @Nonnull byte[] suffix) {
+        return buffer != null && isEndingWithBetween(buffer, buffer.position(), buffer.limit(), suffix);
+    }
+
+    /**
+     * Check whether the given array is not null and ends with the given bytes
+     * @param bytes  the array to check
+     * @param suffix the bytes to end with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isEndingWith(byte[] bytes, @Nonnull byte[] suffix) {
+        return bytes != null && isEndingWithBetween(bytes, 0, bytes.length, suffix);
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it ends with the given bytes
+     * @param bytes  the array to check
+     * @param from   the index of the first byte to check (inclusive)
+     * @param to     the index of the last byte to check (exclusive)
+     * @param suffix the bytes to end with
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isEndingWith(byte[] bytes, int from, int to, @Nonnull byte[] suffix) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, from, to);
+        return isEndingWithBetween(bytes, from, to, suffix);
+    }
+
+    /**
+     * Check whether the given buffer is not null and has only remaining bytes of the given set
+     * @param buffer  the buffer to check
+     * @param allowed the allowed bytes
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isOnly(ByteBuffer buffer, @Nonnull ByteSet allowed) {
+        return buffer != null && isOnlyBetween(buffer, buffer.position(), buffer.limit(), allowed);
+    }
+
+    /**
+     * Check whether the given array is not null and has only bytes of the given set
+     * @param bytes   the array to check
+     * @param allowed the allowed bytes
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isOnly(byte[] bytes, @Nonnull ByteSet allowed) {
+        return bytes != null && isOnlyBetween(bytes, 0, bytes.length, allowed);
+    }
+
+    /**
+     * Check whether the given array is not null, and a sub-range of it has only bytes of the given set
+     * @param bytes   the array to check
+     * @param from    the index of the first byte to check (inclusive)
+     * @param to      the index of the last byte to check (exclusive)
+     * @param allowed the allowed bytes
+     * @return whether the value satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static boolean isOnly(byte[] bytes, int from, int to, @Nonnull ByteSet allowed) {
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(bytes, from, to);
+        return isOnlyBetween(bytes, from, to, allowed);
+    }
+    /* *********************************************************************************
+     * Scanning of the bytes between two absolute indexes of a buffer                  *
+     ***********************************************************************************/
+
+    private static boolean isNonBlankBetween(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isAsciiWhitespace(buffer.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAsciiBetween(ByteBuffer buffer, int from, int to) {
+        return indexOfNonAscii(buffer, from, to) == to;
+    }
+
+    private static boolean isValidUtf8Between(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        while ((i = indexOfNonAscii(buffer, i, to)) < to) {
+            int length = utf8SequenceLength(buffer, i, to);
+            if (length == 0) {
+                return false;
+            }
+            i += length;
+        }
+        return true;
+    }
+
+    private static boolean isStartingWithBetween(ByteBuffer buffer, int from, int to, byte[] prefix) {
+        return prefix.length <= to - from && isEqualAt(buffer, from, prefix);
+    }
+
+    private static boolean isEndingWithBetween(ByteBuffer buffer, int from, int to, byte[] suffix) {
+        return suffix.length <= to - from && isEqualAt(buffer, to - suffix.length, suffix);
+    }
+
+    private static boolean isOnlyBetween(ByteBuffer buffer, int from, int to, ByteSet allowed) {
+        for (int i = from; i < to; i++) {
+            if (!allowed.contains(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEqualAt(ByteBuffer buffer, int index, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(index + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the first byte which is not ASCII, or <tt>to</tt> if there is none. The bytes are read 8 at
+     * a time, and only a word with a non-ASCII byte is scanned byte by byte.
+     */
+    private static int indexOfNonAscii(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        for (int end = to - Long.BYTES; i <= end; i += Long.BYTES) {
+            if ((buffer.getLong(i) & NON_ASCII_BITS) != 0) {
+                break;
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) < 0) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * @return the length of the well-formed UTF-8 multi-byte sequence at the given index, or 0 if it is malformed
+     */
+    private static int utf8SequenceLength(ByteBuffer buffer, int index, int to) {
+        int lead = buffer.get(index) & 0xFF;
+        int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            if (lead == 0xE0) {
+                min = 0xA0; // overlong
+            } else if (lead == 0xED) {
+                max = 0x9F; // surrogates
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            if (lead == 0xF0) {
+                min = 0x90; // overlong
+            } else if (lead == 0xF4) {
+                max = 0x8F; // above U+10FFFF
+            }
+        } else {
+            return 0;
+        }
+        if (to - index < length) {
+            return 0;
+        }
+        int second = buffer.get(index + 1) & 0xFF;
+        if (second < min || second > max) {
+            return 0;
+        }
+        for (int i = 2; i < length; i++) {
+            int continuation = buffer.get(index + i) & 0xFF;
+            if (continuation < 0x80 || continuation > 0xBF) {
+                return 0;
+            }
+        }
+        return length;
+    }
+
+    /* *********************************************************************************
+     * Scanning of the bytes between two indexes of an array                           *
+     ***********************************************************************************/
+
+    /**
+     * @return the length of the sub-range
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    private static int checkRange(byte[] bytes, int from, int to) {
+        if (from < 0 || from > to || to > bytes.length) {
+            throw new IndexOutOfBoundsException(
+                    "range [" + from + ", " + to + ") is out of the bounds of an array of length " + bytes.length);
+        }
+        return to - from;
+    }
+
+    private static boolean isNonBlankBetween(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isAsciiWhitespace(bytes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAsciiBetween(byte[] bytes, int from, int to) {
+        return indexOfNonAscii(bytes, from, to) == to;
+    }
+
+    private static boolean isValidUtf8Between(byte[] bytes, int from, int to) {
+        int i = from;
+        while ((i = indexOfNonAscii(bytes, i, to)) < to) {
+            int length = utf8SequenceLength(bytes, i, to);
+            if (length == 0) {
+                return false;
+            }
+            i += length;
+        }
+        return true;
+    }
+
+    private static boolean isStartingWithBetween(byte[] bytes, int from, int to, byte[] prefix) {
+        return prefix.length <= to - from && isEqualAt(bytes, from, prefix);
+    }
+
+    private static boolean isEndingWithBetween(byte[] bytes, int from, int to, byte[] suffix) {
+        return suffix.length <= to - from && isEqualAt(bytes, to - suffix.length, suffix);
+    }
+
+    private static boolean isOnlyBetween(byte[] bytes, int from, int to, ByteSet allowed) {
+        for (int i = from; i < to; i++) {
+            if (!allowed.contains(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEqualAt(byte[] bytes, int index, byte[] other) {
+        for (int i = 0; i < other.length; i++) {
+            if (bytes[index + i] != other[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the first byte which is not ASCII, or <tt>to</tt> if there is none. The sign bits of 8 bytes
+     * are combined at a time, and only a block with a non-ASCII byte is scanned byte by byte.
+     */
+    private static int indexOfNonAscii(byte[] bytes, int from, int to) {
+        int i = from;
+        for (int end = to - Long.BYTES; i <= end; i += Long.BYTES) {
+            if ((bytes[i] | bytes[i + 1] | bytes[i + 2] | bytes[i + 3]
+                    | bytes[i + 4] | bytes[i + 5] | bytes[i + 6] | bytes[i + 7]) < 0) {
+                break;
+            }
+        }
+        for (; i < to; i++) {
+            if (bytes[i] < 0) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * @return the length of the well-formed UTF-8 multi-byte sequence at the given index, or 0 if it is malformed
+     */
+    private static int utf8SequenceLength(byte[] bytes, int index, int to) {
+        int lead = bytes[index] & 0xFF;
+        int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            if (lead == 0xE0) {
+                min = 0xA0; // overlong
+            } else if (lead == 0xED) {
+                max = 0x9F; // surrogates
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            if (lead == 0xF0) {
+                min = 0x90; // overlong
+            } else if (lead == 0xF4) {
+                max = 0x8F; // above U+10FFFF
+            }
+        } else {
+            return 0;
+        }
+        if (to - index < length) {
+            return 0;
+        }
+        int second = bytes[index + 1] & 0xFF;
+        if (second < min || second > max) {
+            return 0;
+        }
+        for (int i = 2; i < length; i++) {
+            int continuation = bytes[index + i] & 0xFF;
+            if (continuation < 0x80 || continuation > 0xBF) {
+                return 0;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Same as {@link StringArgs.Whitespace#ASCII}: <tt>[ \t\n\x0B\f\r]</tt>
+     */
+    private static boolean isAsciiWhitespace(byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r');
+    }
+}
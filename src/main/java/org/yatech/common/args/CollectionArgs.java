@@ -1,18 +1,80 @@
 package org.yatech.common.args;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import static org.yatech.common.args.Args.requireSatisfies;
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
+import static org.yatech.common.args.ValidationLevel.FULL;
 
 /**
  * A utility class for common methods on arguments of type {@link java.util.Collection}
+ * <p>
+ * The requirements on all the elements of a collection (e.g. {@link #requireAllSatisfy(Collection, Predicate, String)})
+ * check the elements sequentially, or in parallel in the {@link ForkJoinPool#commonPool() common pool} if the
+ * collection has at least {@link #getParallelThreshold() a threshold} of elements and its spliterator can be split
+ * with known sizes (e.g. an {@link java.util.ArrayList}). In the parallel mode, the predicate must be thread-safe.
+ * Either way, the check stops as soon as the first element which fails it is known, and its index is reported.
+ * <p>
+ * The requirements on multiple elements (e.g. {@link #requireContainsAll(Collection, Collection, String)}) use direct
+ * lookups in a {@link Set}, or in a temporary hash index of the smaller of the two collections. If the index would
+ * be larger than {@link #getMaxIndexSize() a limit}, the input is indexed in chunks of that size instead, scanning the
+ * other collection once per chunk.
+ * <p>
+ * The size requirements (e.g. {@link #requireMinSize(Collection, int, String)}) use {@link Collection#size()}, unless
+ * the collection is of a type whose size is computed by traversing its elements, such as
+ * {@link ConcurrentLinkedQueue} or the {@link ConcurrentSkipListMap} views (more such types can be
+ * {@link #addLinearSizeType(Class) added}). Those are checked by iterating at most one element beyond the required
+ * size. The count requirements (e.g. {@link #requireMinCount(Iterable, long, String)}) apply the same bounded
+ * iteration to any {@link Iterable}, {@link Iterator} or {@link Stream}.
+ * <p>
+ * The requirements which may scan a collection (e.g. {@link #requireContains(Collection, Object, String)} on a
+ * collection which is not a {@link Set}, or {@link #requireContainsValue(Map, Object, String)}) are checked only at
+ * the {@link ValidationLevel#FULL full} validation level, see {@link Args#setValidationLevel(ValidationLevel)}.
  *
  * @author Yinon Avraham.
  */
 public abstract class CollectionArgs {
 
+    /**
+     * The default minimum size of a collection for checking its elements in parallel
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * The default maximum number of elements in a temporary hash index built by the requirements on multiple elements
+     */
+    public static final int DEFAULT_MAX_INDEX_SIZE = 1 << 20;
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private static volatile int maxIndexSize = DEFAULT_MAX_INDEX_SIZE;
+    private static volatile LinearSizeTypes linearSizeTypes = new LinearSizeTypes(new Class<?>[] {
+            ConcurrentLinkedQueue.class, ConcurrentLinkedDeque.class, LinkedTransferQueue.class,
+            ConcurrentSkipListSet.class, ConcurrentSkipListMap.class });
+
     private CollectionArgs() {
         //utility
     }
@@ -28,7 +90,106 @@ public abstract class CollectionArgs {
      */
     @Nonnull
     public static <C extends Collection<E>, E> C requireContains(C collection, E element, @Nonnull String message) {
-        return requireSatisfies(collection, c -> c != null && c.contains(element), message);
+        if (enabled(lookupTier(collection)) && !record(isContaining(collection, element), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain a specific element
+     * @param collection the collection to check
+     * @param element the required element
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContains(C collection, E element,
+                                                                 @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(lookupTier(collection)) && !record(isContaining(collection, element), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain a specific element
+     * @param collection the collection to check
+     * @param element the required element
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContains(C collection, E element, @Nonnull String message,
+                                                                 Object arg1) {
+        if (enabled(lookupTier(collection)) && !record(isContaining(collection, element), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain a specific element
+     * @param collection the collection to check
+     * @param element the required element
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContains(C collection, E element, @Nonnull String message,
+                                                                 Object arg1, Object arg2) {
+        if (enabled(lookupTier(collection)) && !record(isContaining(collection, element), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain a specific element
+     * @param collection the collection to check
+     * @param element the required element
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContains(C collection, E element, @Nonnull String message,
+                                                                 long arg1) {
+        if (enabled(lookupTier(collection)) && !record(isContaining(collection, element), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain a specific element
+     * @param collection the collection to check
+     * @param element the required element
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContains(C collection, E element, @Nonnull String message,
+                                                                 long arg1, long arg2) {
+        if (enabled(lookupTier(collection)) && !record(isContaining(collection, element), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
     }
 
     /**
@@ -43,7 +204,109 @@ public abstract class CollectionArgs {
      */
     @Nonnull
     public static <M extends Map<K, V>, K, V> M requireContainsKey(M map, K key, @Nonnull String message) {
-        return requireSatisfies(map, m -> m != null && m.containsKey(key), message);
+        if (enabled(CHEAP) && !record(isContainingKey(map, key), message)) {
+            fail(message);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map contain a specific key
+     * @param map the map to check
+     * @param key the required key
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireContainsKey(M map, K key,
+                                                                   @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isContainingKey(map, key), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map contain a specific key
+     * @param map the map to check
+     * @param key the required key
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireContainsKey(M map, K key, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isContainingKey(map, key), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map contain a specific key
+     * @param map the map to check
+     * @param key the required key
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireContainsKey(M map, K key, @Nonnull String message, Object arg1,
+                                                                   Object arg2) {
+        if (enabled(CHEAP) && !record(isContainingKey(map, key), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map contain a specific key
+     * @param map the map to check
+     * @param key the required key
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireContainsKey(M map, K key, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isContainingKey(map, key), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map contain a specific key
+     * @param map the map to check
+     * @param key the required key
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireContainsKey(M map, K key, @Nonnull String message, long arg1,
+                                                                   long arg2) {
+        if (enabled(CHEAP) && !record(isContainingKey(map, key), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
     }
 
     /**
@@ -58,127 +321,230 @@ public abstract class CollectionArgs {
      */
     @Nonnull
     public static <M extends Map<K, V>, K, V> M requireContainsValue(M map, V value, @Nonnull String message) {
-        return requireSatisfies(map, m -> m != null && m.containsValue(value), message);
+        if (enabled(FULL) && !record(isContainingValue(map, value), message)) {
+            fail(message);
+        }
+        return map;
     }
 
     /**
-     * Require that a given collection does not contain a specific element
-     * @param collection the collection to check
-     * @param element the element to exclude
-     * @param message the error message
-     * @param <C> the collection type
-     * @param <E> the element type
-     * @return the collection if the requirement is satisfied
+     * Require that a given map contain a specific value
+     * @param map the map to check
+     * @param value the required value
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element, @Nonnull String message) {
-        return requireSatisfies(collection, c -> !c.contains(element), message);
+    public static <M extends Map<K, V>, K, V> M requireContainsValue(M map, V value,
+                                                                     @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isContainingValue(map, value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return map;
     }
 
     /**
-     * Require that a given map does not contain a specific key
+     * Require that a given map contain a specific value
      * @param map the map to check
-     * @param key the key to exclude
-     * @param message the error message
+     * @param value the required value
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
      * @param <M> the map type
      * @param <K> the key type
      * @param <V> the value type
      * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key, @Nonnull String message) {
-        return requireSatisfies(map, m -> !m.containsKey(key), message);
+    public static <M extends Map<K, V>, K, V> M requireContainsValue(M map, V value, @Nonnull String message,
+                                                                     Object arg1) {
+        if (enabled(FULL) && !record(isContainingValue(map, value), message)) {
+            fail(message, arg1);
+        }
+        return map;
     }
 
     /**
-     * Require that a given map does not contain a specific value
+     * Require that a given map contain a specific value
      * @param map the map to check
-     * @param value the value to exclude
-     * @param message the error message
+     * @param value the required value
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
      * @param <M> the map type
      * @param <K> the key type
      * @param <V> the value type
      * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value, @Nonnull String message) {
-        return requireSatisfies(map, m -> !m.containsValue(value), message);
+    public static <M extends Map<K, V>, K, V> M requireContainsValue(M map, V value, @Nonnull String message,
+                                                                     Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isContainingValue(map, value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
     }
 
     /**
-     * Require that a given collection does not exceed a max size
-     * @param collection the collection to check
-     * @param size the maximum size
-     * @param message the error message
-     * @param <C> the collection type
-     * @param <E> the element type
-     * @return the collection if the requirement is satisfied
+     * Require that a given map contain a specific value
+     * @param map the map to check
+     * @param value the required value
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size, @Nonnull String message) {
-        return requireSatisfies(collection, c -> c != null && c.size() <= size, message);
+    public static <M extends Map<K, V>, K, V> M requireContainsValue(M map, V value, @Nonnull String message,
+                                                                     long arg1) {
+        if (enabled(FULL) && !record(isContainingValue(map, value), message)) {
+            fail(message, arg1);
+        }
+        return map;
     }
 
     /**
-     * Require that a given map does not exceed a max size
+     * Require that a given map contain a specific value
      * @param map the map to check
-     * @param size the maximum size
-     * @param message the error message
+     * @param value the required value
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
      * @param <M> the map type
      * @param <K> the key type
      * @param <V> the value type
      * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size, @Nonnull String message) {
-        return requireSatisfies(map, m -> m != null && m.size() <= size, message);
+    public static <M extends Map<K, V>, K, V> M requireContainsValue(M map, V value, @Nonnull String message, long arg1,
+                                                                     long arg2) {
+        if (enabled(FULL) && !record(isContainingValue(map, value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
     }
 
     /**
-     * Require that a given collection is empty
+     * Require that a given collection does not contain a specific element
      * @param collection the collection to check
+     * @param element the element to exclude
      * @param message the error message
      * @param <C> the collection type
      * @param <E> the element type
      * @return the collection if the requirement is satisfied
      */
     @Nonnull
-    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull String message) {
-        return requireMaxSize(collection, 0, message);
+    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element, @Nonnull String message) {
+        if (enabled(lookupTier(collection)) && !record(isExcluding(collection, element), message)) {
+            fail(message);
+        }
+        return collection;
     }
 
     /**
-     * Require that a given map is empty
-     * @param map the map to check
-     * @param message the error message
-     * @param <M> the map type
-     * @param <K> the key type
-     * @param <V> the value type
-     * @return the map if the requirement is satisfied
+     * Require that a given collection does not contain a specific element
+     * @param collection the collection to check
+     * @param element the element to exclude
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
      */
     @Nonnull
-    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull String message) {
-        return requireMaxSize(map, 0, message);
+    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element,
+                                                                 @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(lookupTier(collection)) && !record(isExcluding(collection, element), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
     }
 
     /**
-     * Require that a given collection has a minimum size
+     * Require that a given collection does not contain a specific element
      * @param collection the collection to check
-     * @param size the minimum size
-     * @param message the error message
+     * @param element the element to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
      * @param <C> the collection type
      * @param <E> the element type
      * @return the collection if the requirement is satisfied
      */
     @Nonnull
-    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size, @Nonnull String message) {
-        return requireSatisfies(collection, c -> c != null && c.size() >= size, message);
+    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element, @Nonnull String message,
+                                                                 Object arg1) {
+        if (enabled(lookupTier(collection)) && !record(isExcluding(collection, element), message)) {
+            fail(message, arg1);
+        }
+        return collection;
     }
 
     /**
-     * Require that a given map has a minimum size
+     * Require that a given collection does not contain a specific element
+     * @param collection the collection to check
+     * @param element the element to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element, @Nonnull String message,
+                                                                 Object arg1, Object arg2) {
+        if (enabled(lookupTier(collection)) && !record(isExcluding(collection, element), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain a specific element
+     * @param collection the collection to check
+     * @param element the element to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element, @Nonnull String message,
+                                                                 long arg1) {
+        if (enabled(lookupTier(collection)) && !record(isExcluding(collection, element), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain a specific element
+     * @param collection the collection to check
+     * @param element the element to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludes(C collection, E element, @Nonnull String message,
+                                                                 long arg1, long arg2) {
+        if (enabled(lookupTier(collection)) && !record(isExcluding(collection, element), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given map does not contain a specific key
      * @param map the map to check
-     * @param size the minimum size
+     * @param key the key to exclude
      * @param message the error message
      * @param <M> the map type
      * @param <K> the key type
@@ -186,34 +552,2982 @@ public abstract class CollectionArgs {
      * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size, @Nonnull String message) {
-        return requireSatisfies(map, m -> m != null && m.size() >= size, message);
+    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isExcludingKey(map, key), message)) {
+            fail(message);
+        }
+        return map;
     }
 
     /**
-     * Require that a given collection is not empty
-     * @param collection the collection to check
-     * @param message the error message
-     * @param <C> the collection type
-     * @param <E> the element type
-     * @return the collection if the requirement is satisfied
+     * Require that a given map does not contain a specific key
+     * @param map the map to check
+     * @param key the key to exclude
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <C extends Collection<E>, E> C requireNonEmpty(C collection, @Nonnull String message) {
-        return requireMinSize(collection, 1, message);
+    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key,
+                                                                   @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isExcludingKey(map, key), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return map;
     }
 
     /**
-     * Require that a given map is not empty
+     * Require that a given map does not contain a specific key
      * @param map the map to check
-     * @param message the error message
+     * @param key the key to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
      * @param <M> the map type
      * @param <K> the key type
      * @param <V> the value type
      * @return the map if the requirement is satisfied
      */
     @Nonnull
-    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull String message) {
+    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isExcludingKey(map, key), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific key
+     * @param map the map to check
+     * @param key the key to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key, @Nonnull String message, Object arg1,
+                                                                   Object arg2) {
+        if (enabled(CHEAP) && !record(isExcludingKey(map, key), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific key
+     * @param map the map to check
+     * @param key the key to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isExcludingKey(map, key), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific key
+     * @param map the map to check
+     * @param key the key to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesKey(M map, K key, @Nonnull String message, long arg1,
+                                                                   long arg2) {
+        if (enabled(CHEAP) && !record(isExcludingKey(map, key), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific value
+     * @param map the map to check
+     * @param value the value to exclude
+     * @param message the error message
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value, @Nonnull String message) {
+        if (enabled(FULL) && !record(isExcludingValue(map, value), message)) {
+            fail(message);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific value
+     * @param map the map to check
+     * @param value the value to exclude
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value,
+                                                                     @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isExcludingValue(map, value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific value
+     * @param map the map to check
+     * @param value the value to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value, @Nonnull String message,
+                                                                     Object arg1) {
+        if (enabled(FULL) && !record(isExcludingValue(map, value), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific value
+     * @param map the map to check
+     * @param value the value to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value, @Nonnull String message,
+                                                                     Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isExcludingValue(map, value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific value
+     * @param map the map to check
+     * @param value the value to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value, @Nonnull String message,
+                                                                     long arg1) {
+        if (enabled(FULL) && !record(isExcludingValue(map, value), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not contain a specific value
+     * @param map the map to check
+     * @param value the value to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireExcludesValue(M map, V value, @Nonnull String message, long arg1,
+                                                                     long arg2) {
+        if (enabled(FULL) && !record(isExcludingValue(map, value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given collection does not exceed a max size
+     * @param collection the collection to check
+     * @param size the maximum size
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(collection, size), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not exceed a max size
+     * @param collection the collection to check
+     * @param size the maximum size
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size,
+                                                                @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(collection, size), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not exceed a max size
+     * @param collection the collection to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size, @Nonnull String message,
+                                                                Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(collection, size), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not exceed a max size
+     * @param collection the collection to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size, @Nonnull String message,
+                                                                Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(collection, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not exceed a max size
+     * @param collection the collection to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size, @Nonnull String message,
+                                                                long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(collection, size), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not exceed a max size
+     * @param collection the collection to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMaxSize(C collection, int size, @Nonnull String message,
+                                                                long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(collection, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given map does not exceed a max size
+     * @param map the map to check
+     * @param size the maximum size
+     * @param message the error message
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(map, size), message)) {
+            fail(message);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not exceed a max size
+     * @param map the map to check
+     * @param size the maximum size
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size,
+                                                               @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(map, size), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not exceed a max size
+     * @param map the map to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(map, size), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not exceed a max size
+     * @param map the map to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size, @Nonnull String message, Object arg1,
+                                                               Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(map, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not exceed a max size
+     * @param map the map to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(map, size), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map does not exceed a max size
+     * @param map the map to check
+     * @param size the maximum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMaxSize(M map, int size, @Nonnull String message, long arg1,
+                                                               long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxSize(map, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given collection is empty
+     * @param collection the collection to check
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull String message) {
+        return requireMaxSize(collection, 0, message);
+    }
+
+    /**
+     * Require that a given collection is empty
+     * @param collection the collection to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull Supplier<String> messageSupplier) {
+        return requireMaxSize(collection, 0, messageSupplier);
+    }
+
+    /**
+     * Require that a given collection is empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull String message, Object arg1) {
+        return requireMaxSize(collection, 0, message, arg1);
+    }
+
+    /**
+     * Require that a given collection is empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull String message, Object arg1,
+                                                              Object arg2) {
+        return requireMaxSize(collection, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given collection is empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull String message, long arg1) {
+        return requireMaxSize(collection, 0, message, arg1);
+    }
+
+    /**
+     * Require that a given collection is empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireEmpty(C collection, @Nonnull String message, long arg1,
+                                                              long arg2) {
+        return requireMaxSize(collection, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given map is empty
+     * @param map the map to check
+     * @param message the error message
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull String message) {
+        return requireMaxSize(map, 0, message);
+    }
+
+    /**
+     * Require that a given map is empty
+     * @param map the map to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull Supplier<String> messageSupplier) {
+        return requireMaxSize(map, 0, messageSupplier);
+    }
+
+    /**
+     * Require that a given map is empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull String message, Object arg1) {
+        return requireMaxSize(map, 0, message, arg1);
+    }
+
+    /**
+     * Require that a given map is empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull String message, Object arg1, Object arg2) {
+        return requireMaxSize(map, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given map is empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull String message, long arg1) {
+        return requireMaxSize(map, 0, message, arg1);
+    }
+
+    /**
+     * Require that a given map is empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireEmpty(M map, @Nonnull String message, long arg1, long arg2) {
+        return requireMaxSize(map, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given collection has a minimum size
+     * @param collection the collection to check
+     * @param size the minimum size
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(collection, size), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection has a minimum size
+     * @param collection the collection to check
+     * @param size the minimum size
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size,
+                                                                @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(collection, size), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection has a minimum size
+     * @param collection the collection to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size, @Nonnull String message,
+                                                                Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(collection, size), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection has a minimum size
+     * @param collection the collection to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size, @Nonnull String message,
+                                                                Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(collection, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection has a minimum size
+     * @param collection the collection to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size, @Nonnull String message,
+                                                                long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(collection, size), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection has a minimum size
+     * @param collection the collection to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireMinSize(C collection, int size, @Nonnull String message,
+                                                                long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(collection, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given map has a minimum size
+     * @param map the map to check
+     * @param size the minimum size
+     * @param message the error message
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(map, size), message)) {
+            fail(message);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map has a minimum size
+     * @param map the map to check
+     * @param size the minimum size
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size,
+                                                               @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(map, size), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map has a minimum size
+     * @param map the map to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(map, size), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map has a minimum size
+     * @param map the map to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size, @Nonnull String message, Object arg1,
+                                                               Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(map, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map has a minimum size
+     * @param map the map to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(map, size), message)) {
+            fail(message, arg1);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given map has a minimum size
+     * @param map the map to check
+     * @param size the minimum size
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireMinSize(M map, int size, @Nonnull String message, long arg1,
+                                                               long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinSize(map, size), message)) {
+            fail(message, arg1, arg2);
+        }
+        return map;
+    }
+
+    /**
+     * Require that a given collection is not empty
+     * @param collection the collection to check
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNonEmpty(C collection, @Nonnull String message) {
+        return requireMinSize(collection, 1, message);
+    }
+
+    /**
+     * Require that a given collection is not empty
+     * @param collection the collection to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNonEmpty(C collection,
+                                                                 @Nonnull Supplier<String> messageSupplier) {
+        return requireMinSize(collection, 1, messageSupplier);
+    }
+
+    /**
+     * Require that a given collection is not empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNonEmpty(C collection, @Nonnull String message, Object arg1) {
+        return requireMinSize(collection, 1, message, arg1);
+    }
+
+    /**
+     * Require that a given collection is not empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNonEmpty(C collection, @Nonnull String message, Object arg1,
+                                                                 Object arg2) {
+        return requireMinSize(collection, 1, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given collection is not empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNonEmpty(C collection, @Nonnull String message, long arg1) {
+        return requireMinSize(collection, 1, message, arg1);
+    }
+
+    /**
+     * Require that a given collection is not empty
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNonEmpty(C collection, @Nonnull String message, long arg1,
+                                                                 long arg2) {
+        return requireMinSize(collection, 1, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given map is not empty
+     * @param map the map to check
+     * @param message the error message
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull String message) {
         return requireMinSize(map, 1, message);
     }
+
+    /**
+     * Require that a given map is not empty
+     * @param map the map to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull Supplier<String> messageSupplier) {
+        return requireMinSize(map, 1, messageSupplier);
+    }
+
+    /**
+     * Require that a given map is not empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull String message, Object arg1) {
+        return requireMinSize(map, 1, message, arg1);
+    }
+
+    /**
+     * Require that a given map is not empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull String message, Object arg1,
+                                                                Object arg2) {
+        return requireMinSize(map, 1, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given map is not empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull String message, long arg1) {
+        return requireMinSize(map, 1, message, arg1);
+    }
+
+    /**
+     * Require that a given map is not empty
+     * @param map the map to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <M> the map type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the map if the requirement is satisfied
+     */
+    @Nonnull
+    public static <M extends Map<K, V>, K, V> M requireNonEmpty(M map, @Nonnull String message, long arg1, long arg2) {
+        return requireMinSize(map, 1, message, arg1, arg2);
+    }
+
+    /**
+     * Require that a given iterable has at most a given number of elements, iterating at most one element beyond it
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @param message the error message
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMaxCount(I iterable, long count, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxCount(iterable, count), message)) {
+            fail(message);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at most a given number of elements, iterating at most one element beyond it
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMaxCount(I iterable, long count,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxCount(iterable, count), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at most a given number of elements, iterating at most one element beyond it
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMaxCount(I iterable, long count, @Nonnull String message,
+                                                            Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxCount(iterable, count), message)) {
+            fail(message, arg1);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at most a given number of elements, iterating at most one element beyond it
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMaxCount(I iterable, long count, @Nonnull String message,
+                                                            Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxCount(iterable, count), message)) {
+            fail(message, arg1, arg2);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at most a given number of elements, iterating at most one element beyond it
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMaxCount(I iterable, long count, @Nonnull String message,
+                                                            long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxCount(iterable, count), message)) {
+            fail(message, arg1);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at most a given number of elements, iterating at most one element beyond it
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMaxCount(I iterable, long count, @Nonnull String message, long arg1,
+                                                            long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxCount(iterable, count), message)) {
+            fail(message, arg1, arg2);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterator has at most a given number of remaining elements. The iterator is advanced by
+     * at most one element beyond the maximum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @param message the error message
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMaxCount(Iterator<?> iterator, long count, @Nonnull String message) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(iterator != null && consumed <= count, message)) {
+            fail(message);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at most a given number of remaining elements. The iterator is advanced by
+     * at most one element beyond the maximum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMaxCount(Iterator<?> iterator, long count, @Nonnull Supplier<String> messageSupplier) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(iterator != null && consumed <= count, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at most a given number of remaining elements. The iterator is advanced by
+     * at most one element beyond the maximum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMaxCount(Iterator<?> iterator, long count, @Nonnull String message, Object arg1) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(iterator != null && consumed <= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at most a given number of remaining elements. The iterator is advanced by
+     * at most one element beyond the maximum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMaxCount(Iterator<?> iterator, long count, @Nonnull String message, Object arg1,
+                                       Object arg2) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(iterator != null && consumed <= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at most a given number of remaining elements. The iterator is advanced by
+     * at most one element beyond the maximum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMaxCount(Iterator<?> iterator, long count, @Nonnull String message, long arg1) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(iterator != null && consumed <= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at most a given number of remaining elements. The iterator is advanced by
+     * at most one element beyond the maximum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMaxCount(Iterator<?> iterator, long count, @Nonnull String message, long arg1,
+                                       long arg2) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(iterator != null && consumed <= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at most a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @param message the error message
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMaxCount(Stream<?> stream, long count, @Nonnull String message) {
+        long consumed = stream == null ? 0 : countUpTo(stream, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(stream != null && consumed <= count, message)) {
+            fail(message);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at most a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMaxCount(Stream<?> stream, long count, @Nonnull Supplier<String> messageSupplier) {
+        long consumed = stream == null ? 0 : countUpTo(stream, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(stream != null && consumed <= count, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at most a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMaxCount(Stream<?> stream, long count, @Nonnull String message, Object arg1) {
+        long consumed = stream == null ? 0 : countUpTo(stream, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(stream != null && consumed <= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at most a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMaxCount(Stream<?> stream, long count, @Nonnull String message, Object arg1,
+                                       Object arg2) {
+        long consumed = stream == null ? 0 : countUpTo(stream, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(stream != null && consumed <= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at most a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMaxCount(Stream<?> stream, long count, @Nonnull String message, long arg1) {
+        long consumed = stream == null ? 0 : countUpTo(stream, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(stream != null && consumed <= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at most a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMaxCount(Stream<?> stream, long count, @Nonnull String message, long arg1, long arg2) {
+        long consumed = stream == null ? 0 : countUpTo(stream, saturatedIncrement(count));
+        if (enabled(CHEAP) && !record(stream != null && consumed <= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterable has at least a given number of elements, iterating at most that number of
+     * elements
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @param message the error message
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMinCount(I iterable, long count, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinCount(iterable, count), message)) {
+            fail(message);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at least a given number of elements, iterating at most that number of
+     * elements
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMinCount(I iterable, long count,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinCount(iterable, count), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at least a given number of elements, iterating at most that number of
+     * elements
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMinCount(I iterable, long count, @Nonnull String message,
+                                                            Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinCount(iterable, count), message)) {
+            fail(message, arg1);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at least a given number of elements, iterating at most that number of
+     * elements
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMinCount(I iterable, long count, @Nonnull String message,
+                                                            Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinCount(iterable, count), message)) {
+            fail(message, arg1, arg2);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at least a given number of elements, iterating at most that number of
+     * elements
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMinCount(I iterable, long count, @Nonnull String message,
+                                                            long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinCount(iterable, count), message)) {
+            fail(message, arg1);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterable has at least a given number of elements, iterating at most that number of
+     * elements
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <I> the iterable type
+     * @return the iterable if the requirement is satisfied
+     */
+    @Nonnull
+    public static <I extends Iterable<?>> I requireMinCount(I iterable, long count, @Nonnull String message, long arg1,
+                                                            long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinCount(iterable, count), message)) {
+            fail(message, arg1, arg2);
+        }
+        return iterable;
+    }
+
+    /**
+     * Require that a given iterator has at least a given number of remaining elements. The iterator is advanced by
+     * at most the minimum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @param message the error message
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMinCount(Iterator<?> iterator, long count, @Nonnull String message) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, count);
+        if (enabled(CHEAP) && !record(iterator != null && consumed >= count, message)) {
+            fail(message);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at least a given number of remaining elements. The iterator is advanced by
+     * at most the minimum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMinCount(Iterator<?> iterator, long count, @Nonnull Supplier<String> messageSupplier) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, count);
+        if (enabled(CHEAP) && !record(iterator != null && consumed >= count, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at least a given number of remaining elements. The iterator is advanced by
+     * at most the minimum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMinCount(Iterator<?> iterator, long count, @Nonnull String message, Object arg1) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, count);
+        if (enabled(CHEAP) && !record(iterator != null && consumed >= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at least a given number of remaining elements. The iterator is advanced by
+     * at most the minimum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMinCount(Iterator<?> iterator, long count, @Nonnull String message, Object arg1,
+                                       Object arg2) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, count);
+        if (enabled(CHEAP) && !record(iterator != null && consumed >= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at least a given number of remaining elements. The iterator is advanced by
+     * at most the minimum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMinCount(Iterator<?> iterator, long count, @Nonnull String message, long arg1) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, count);
+        if (enabled(CHEAP) && !record(iterator != null && consumed >= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given iterator has at least a given number of remaining elements. The iterator is advanced by
+     * at most the minimum count, at any validation level.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the iterator
+     */
+    public static long requireMinCount(Iterator<?> iterator, long count, @Nonnull String message, long arg1,
+                                       long arg2) {
+        long consumed = iterator == null ? 0 : countUpTo(iterator, count);
+        if (enabled(CHEAP) && !record(iterator != null && consumed >= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at least a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @param message the error message
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMinCount(Stream<?> stream, long count, @Nonnull String message) {
+        long consumed = stream == null ? 0 : countUpTo(stream, count);
+        if (enabled(CHEAP) && !record(stream != null && consumed >= count, message)) {
+            fail(message);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at least a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMinCount(Stream<?> stream, long count, @Nonnull Supplier<String> messageSupplier) {
+        long consumed = stream == null ? 0 : countUpTo(stream, count);
+        if (enabled(CHEAP) && !record(stream != null && consumed >= count, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at least a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMinCount(Stream<?> stream, long count, @Nonnull String message, Object arg1) {
+        long consumed = stream == null ? 0 : countUpTo(stream, count);
+        if (enabled(CHEAP) && !record(stream != null && consumed >= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at least a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMinCount(Stream<?> stream, long count, @Nonnull String message, Object arg1,
+                                       Object arg2) {
+        long consumed = stream == null ? 0 : countUpTo(stream, count);
+        if (enabled(CHEAP) && !record(stream != null && consumed >= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at least a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMinCount(Stream<?> stream, long count, @Nonnull String message, long arg1) {
+        long consumed = stream == null ? 0 : countUpTo(stream, count);
+        if (enabled(CHEAP) && !record(stream != null && consumed >= count, message)) {
+            fail(message, arg1);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given stream has at least a given number of elements. This is a terminal operation on the
+     * stream at any validation level, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @return the number of elements consumed from the stream
+     */
+    public static long requireMinCount(Stream<?> stream, long count, @Nonnull String message, long arg1, long arg2) {
+        long consumed = stream == null ? 0 : countUpTo(stream, count);
+        if (enabled(CHEAP) && !record(stream != null && consumed >= count, message)) {
+            fail(message, arg1, arg2);
+        }
+        return consumed;
+    }
+
+    /**
+     * Require that a given collection contain all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message) {
+        if (enabled(FULL) && !record(isContainingAll(collection, elements), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isContainingAll(collection, elements), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isContainingAll(collection, elements), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isContainingAll(collection, elements), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isContainingAll(collection, elements), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isContainingAll(collection, elements), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAny(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message) {
+        if (enabled(FULL) && !record(isContainingAny(collection, elements), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAny(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isContainingAny(collection, elements), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAny(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isContainingAny(collection, elements), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAny(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isContainingAny(collection, elements), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAny(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isContainingAny(collection, elements), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection contain at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireContainsAny(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isContainingAny(collection, elements), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludesAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message) {
+        if (enabled(FULL) && !record(isExcludingAll(collection, elements), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludesAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isExcludingAll(collection, elements), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludesAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isExcludingAll(collection, elements), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludesAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isExcludingAll(collection, elements), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludesAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isExcludingAll(collection, elements), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireExcludesAll(C collection,
+                                                                    @Nonnull Collection<? extends E> elements,
+                                                                    @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isExcludingAll(collection, elements), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain duplicate elements (by {@link Object#equals(Object)})
+     * @param collection the collection to check
+     * @param message the error message
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireDistinct(C collection, @Nonnull String message) {
+        if (enabled(FULL) && !record(isDistinct(collection), message)) {
+            fail(message);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain duplicate elements (by {@link Object#equals(Object)})
+     * @param collection the collection to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireDistinct(C collection,
+                                                                 @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isDistinct(collection), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain duplicate elements (by {@link Object#equals(Object)})
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireDistinct(C collection, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isDistinct(collection), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain duplicate elements (by {@link Object#equals(Object)})
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireDistinct(C collection, @Nonnull String message, Object arg1,
+                                                                 Object arg2) {
+        if (enabled(FULL) && !record(isDistinct(collection), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain duplicate elements (by {@link Object#equals(Object)})
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireDistinct(C collection, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isDistinct(collection), message)) {
+            fail(message, arg1);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain duplicate elements (by {@link Object#equals(Object)})
+     * @param collection the collection to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1 the first argument of the error message template
+     * @param arg2 the second argument of the error message template
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireDistinct(C collection, @Nonnull String message, long arg1,
+                                                                 long arg2) {
+        if (enabled(FULL) && !record(isDistinct(collection), message)) {
+            fail(message, arg1, arg2);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that all the elements of a given collection satisfy a predicate. The message is always a template, since
+     * it is formatted with the index of the failing element, so there is no separate plain message form: the index is
+     * appended in square brackets to a message without a placeholder.
+     * @param collection the collection to check
+     * @param predicate the predicate the elements should satisfy
+     * @param messageTemplate the error message template, formatted with the index of the first element which does
+     *                        not satisfy the predicate (or <tt>-1</tt> if the collection is null), e.g.
+     *                        <tt>"ids[%s] must be positive"</tt>
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireAllSatisfy(C collection,
+                                                                   @Nonnull Predicate<? super E> predicate,
+                                                                   @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return collection;
+        }
+        int index = collection == null ? -1 : indexOfFirst(collection, predicate, false);
+        if (!record(index == NOT_FOUND, messageTemplate)) {
+            fail(messageTemplate, index);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that all the elements of a given collection satisfy a predicate
+     * @param collection the collection to check
+     * @param predicate the predicate the elements should satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not
+     *                        satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireAllSatisfy(C collection,
+                                                                   @Nonnull Predicate<? super E> predicate,
+                                                                   @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(collection != null && indexOfFirst(collection, predicate, false) == NOT_FOUND,
+                messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that none of the elements of a given collection satisfies a predicate. The message is always a template,
+     * since it is formatted with the index of the failing element, so there is no separate plain message form: the
+     * index is appended in square brackets to a message without a placeholder.
+     * @param collection the collection to check
+     * @param predicate the predicate the elements should not satisfy
+     * @param messageTemplate the error message template, formatted with the index of the first element which
+     *                        satisfies the predicate (or <tt>-1</tt> if the collection is null), e.g.
+     *                        <tt>"ids[%s] is reserved"</tt>
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNoneSatisfy(C collection,
+                                                                    @Nonnull Predicate<? super E> predicate,
+                                                                    @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return collection;
+        }
+        int index = collection == null ? -1 : indexOfFirst(collection, predicate, true);
+        if (!record(index == NOT_FOUND, messageTemplate)) {
+            fail(messageTemplate, index);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that none of the elements of a given collection satisfies a predicate
+     * @param collection the collection to check
+     * @param predicate the predicate the elements should not satisfy
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not
+     *                        satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNoneSatisfy(C collection,
+                                                                    @Nonnull Predicate<? super E> predicate,
+                                                                    @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(collection != null && indexOfFirst(collection, predicate, true) == NOT_FOUND,
+                messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return collection;
+    }
+
+    /**
+     * Require that a given collection does not contain null elements. The message is always a template, since it is
+     * formatted with the index of the null element, so there is no separate plain message form: the index is appended
+     * in square brackets to a message without a placeholder.
+     * @param collection the collection to check
+     * @param messageTemplate the error message template, formatted with the index of the first null element (or
+     *                        <tt>-1</tt> if the collection is null), e.g. <tt>"ids[%s] is null"</tt>
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNoNulls(C collection, @Nonnull String messageTemplate) {
+        return requireAllSatisfy(collection, Objects::nonNull, messageTemplate);
+    }
+
+    /**
+     * Require that a given collection does not contain null elements
+     * @param collection the collection to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not
+     *                        satisfied
+     * @param <C> the collection type
+     * @param <E> the element type
+     * @return the collection if the requirement is satisfied
+     */
+    @Nonnull
+    public static <C extends Collection<E>, E> C requireNoNulls(C collection,
+                                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireAllSatisfy(collection, Objects::nonNull, messageSupplier);
+    }
+
+    /**
+     * Get the maximum number of elements in a temporary hash index built by the requirements on multiple elements
+     * @return the maximum index size
+     */
+    public static int getMaxIndexSize() {
+        return maxIndexSize;
+    }
+
+    /**
+     * Set the maximum number of elements in a temporary hash index built by the requirements on multiple elements.
+     * Larger inputs are indexed in chunks of this size, trading time for memory.
+     * @param maxIndexSize the maximum index size, must be positive
+     */
+    public static void setMaxIndexSize(int maxIndexSize) {
+        if (maxIndexSize <= 0) {
+            throw new IllegalArgumentException("max index size must be positive");
+        }
+        CollectionArgs.maxIndexSize = maxIndexSize;
+    }
+
+    /**
+     * Add a type of collections or maps whose {@link Collection#size()} (or {@link Map#size()}) is computed by
+     * traversing the elements, e.g. a lazy view, so that the size requirements on instances of it (and of its
+     * subtypes) iterate only as many elements as needed instead
+     * @param type the collection or map type
+     */
+    public static synchronized void addLinearSizeType(@Nonnull Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+        Class<?>[] types = linearSizeTypes.types;
+        Class<?>[] newTypes = Arrays.copyOf(types, types.length + 1);
+        newTypes[types.length] = type;
+        linearSizeTypes = new LinearSizeTypes(newTypes);
+    }
+
+    /**
+     * Check whether the size of a given collection or map is computed by traversing its elements
+     * @param collection the collection or map to check
+     * @return whether the collection or map is of a type with linear time size
+     * @see #addLinearSizeType(Class)
+     */
+    public static boolean hasLinearSize(Object collection) {
+        return collection != null && linearSizeTypes.get(collection.getClass());
+    }
+
+    /**
+     * Get the minimum size of a collection for checking its elements in parallel
+     * @return the parallel threshold
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Set the minimum size of a collection for checking its elements in parallel, e.g. {@link Integer#MAX_VALUE} to
+     * always check sequentially
+     * @param parallelThreshold the parallel threshold, must be positive
+     */
+    public static void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("parallel threshold must be positive");
+        }
+        CollectionArgs.parallelThreshold = parallelThreshold;
+    }
+
+    /* *********************************************************************************
+     * Predicates                                                                      *
+     ***********************************************************************************/
+
+    /**
+     * Check whether a given collection is not null and contains a specific element
+     * @param collection the collection to check
+     * @param element the required element
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isContaining(Collection<?> collection, Object element) {
+        return collection != null && collection.contains(element);
+    }
+
+    /**
+     * Check whether a given map is not null and contains a specific key
+     * @param map the map to check
+     * @param key the required key
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isContainingKey(Map<?, ?> map, Object key) {
+        return map != null && map.containsKey(key);
+    }
+
+    /**
+     * Check whether a given map is not null and contains a specific value
+     * @param map the map to check
+     * @param value the required value
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isContainingValue(Map<?, ?> map, Object value) {
+        return map != null && map.containsValue(value);
+    }
+
+    /**
+     * Check whether a given collection is not null and does not contain a specific element
+     * @param collection the collection to check
+     * @param element the excluded element
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isExcluding(Collection<?> collection, Object element) {
+        return collection != null && !collection.contains(element);
+    }
+
+    /**
+     * Check whether a given map is not null and does not contain a specific key
+     * @param map the map to check
+     * @param key the excluded key
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isExcludingKey(Map<?, ?> map, Object key) {
+        return map != null && !map.containsKey(key);
+    }
+
+    /**
+     * Check whether a given map is not null and does not contain a specific value
+     * @param map the map to check
+     * @param value the excluded value
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isExcludingValue(Map<?, ?> map, Object value) {
+        return map != null && !map.containsValue(value);
+    }
+
+    /**
+     * Check whether a given collection is not null and has at most a given size
+     * @param collection the collection to check
+     * @param size the maximum allowed size
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isWithinMaxSize(Collection<?> collection, long size) {
+        if (collection == null) {
+            return false;
+        }
+        if (hasLinearSize(collection)) {
+            return countUpTo(collection.iterator(), saturatedIncrement(size)) <= size;
+        }
+        return collection.size() <= size;
+    }
+
+    /**
+     * Check whether a given map is not null and has at most a given size
+     * @param map the map to check
+     * @param size the maximum allowed size
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isWithinMaxSize(Map<?, ?> map, long size) {
+        if (map == null) {
+            return false;
+        }
+        if (hasLinearSize(map)) {
+            return countUpTo(map.keySet().iterator(), saturatedIncrement(size)) <= size;
+        }
+        return map.size() <= size;
+    }
+
+    /**
+     * Check whether a given collection is not null and has at least a given size
+     * @param collection the collection to check
+     * @param size the minimum allowed size
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isAtLeastMinSize(Collection<?> collection, long size) {
+        if (collection == null) {
+            return false;
+        }
+        if (hasLinearSize(collection)) {
+            return countUpTo(collection.iterator(), size) >= size;
+        }
+        return collection.size() >= size;
+    }
+
+    /**
+     * Check whether a given map is not null and has at least a given size
+     * @param map the map to check
+     * @param size the minimum allowed size
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isAtLeastMinSize(Map<?, ?> map, long size) {
+        if (map == null) {
+            return false;
+        }
+        if (hasLinearSize(map)) {
+            return countUpTo(map.keySet().iterator(), size) >= size;
+        }
+        return map.size() >= size;
+    }
+
+    /**
+     * Check whether a given collection is not null and empty
+     * @param collection the collection to check
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isEmpty(Collection<?> collection) {
+        return isWithinMaxSize(collection, 0);
+    }
+
+    /**
+     * Check whether a given map is not null and empty
+     * @param map the map to check
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isEmpty(Map<?, ?> map) {
+        return isWithinMaxSize(map, 0);
+    }
+
+    /**
+     * Check whether a given collection is not null and not empty
+     * @param collection the collection to check
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isNonEmpty(Collection<?> collection) {
+        return isAtLeastMinSize(collection, 1);
+    }
+
+    /**
+     * Check whether a given map is not null and not empty
+     * @param map the map to check
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isNonEmpty(Map<?, ?> map) {
+        return isAtLeastMinSize(map, 1);
+    }
+
+    /**
+     * Check whether a given iterable is not null and has at most a given number of elements, iterating at most one
+     * element beyond it (or using {@link Collection#size()} if it is a collection with a constant time size)
+     * @param iterable the iterable to check
+     * @param count the maximum number of elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isWithinMaxCount(Iterable<?> iterable, long count) {
+        if (iterable instanceof Collection) {
+            return isWithinMaxSize((Collection<?>) iterable, count);
+        }
+        return iterable != null && countUpTo(iterable.iterator(), saturatedIncrement(count)) <= count;
+    }
+
+    /**
+     * Check whether a given iterator is not null and has at most a given number of remaining elements. The iterator
+     * is advanced by at most one element beyond the maximum count.
+     * @param iterator the iterator to check
+     * @param count the maximum number of elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isWithinMaxCount(Iterator<?> iterator, long count) {
+        return iterator != null && countUpTo(iterator, saturatedIncrement(count)) <= count;
+    }
+
+    /**
+     * Check whether a given stream is not null and has at most a given number of elements. This is a terminal
+     * operation on the stream, which stops after at most one element beyond the maximum count.
+     * @param stream the stream to check
+     * @param count the maximum number of elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isWithinMaxCount(Stream<?> stream, long count) {
+        return stream != null && countUpTo(stream, saturatedIncrement(count)) <= count;
+    }
+
+    /**
+     * Check whether a given iterable is not null and has at least a given number of elements, iterating at most that
+     * number of elements (or using {@link Collection#size()} if it is a collection with a constant time size)
+     * @param iterable the iterable to check
+     * @param count the minimum number of elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isAtLeastMinCount(Iterable<?> iterable, long count) {
+        if (iterable instanceof Collection) {
+            return isAtLeastMinSize((Collection<?>) iterable, count);
+        }
+        return iterable != null && countUpTo(iterable.iterator(), count) >= count;
+    }
+
+    /**
+     * Check whether a given iterator is not null and has at least a given number of remaining elements. The iterator
+     * is advanced by at most the minimum count.
+     * @param iterator the iterator to check
+     * @param count the minimum number of elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isAtLeastMinCount(Iterator<?> iterator, long count) {
+        return iterator != null && countUpTo(iterator, count) >= count;
+    }
+
+    /**
+     * Check whether a given stream is not null and has at least a given number of elements. This is a terminal
+     * operation on the stream, which stops after at most the minimum count of elements.
+     * @param stream the stream to check
+     * @param count the minimum number of elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isAtLeastMinCount(Stream<?> stream, long count) {
+        return stream != null && countUpTo(stream, count) >= count;
+    }
+
+    /**
+     * Check whether a given collection is not null and all its elements satisfy a predicate
+     * @param collection the collection to check
+     * @param predicate the predicate the elements should satisfy
+     * @param <E> the element type
+     * @return whether the requirement is satisfied
+     */
+    public static <E> boolean isAllSatisfying(Collection<? extends E> collection,
+                                              @Nonnull Predicate<? super E> predicate) {
+        return collection != null && indexOfFirst(collection, predicate, false) == NOT_FOUND;
+    }
+
+    /**
+     * Check whether a given collection is not null and none of its elements satisfies a predicate
+     * @param collection the collection to check
+     * @param predicate the predicate the elements should not satisfy
+     * @param <E> the element type
+     * @return whether the requirement is satisfied
+     */
+    public static <E> boolean isNoneSatisfying(Collection<? extends E> collection,
+                                               @Nonnull Predicate<? super E> predicate) {
+        return collection != null && indexOfFirst(collection, predicate, true) == NOT_FOUND;
+    }
+
+    /**
+     * Check whether a given collection is not null and does not contain null elements
+     * @param collection the collection to check
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isNoNulls(Collection<?> collection) {
+        return isAllSatisfying(collection, Objects::nonNull);
+    }
+
+    /**
+     * Check whether a given collection is not null and contains all the given elements
+     * @param collection the collection to check
+     * @param elements the required elements
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isContainingAll(Collection<?> collection, @Nonnull Collection<?> elements) {
+        return collection != null && containsAll(collection, elements);
+    }
+
+    /**
+     * Check whether a given collection is not null and contains at least one of the given elements
+     * @param collection the collection to check
+     * @param elements the elements of which at least one is required
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isContainingAny(Collection<?> collection, @Nonnull Collection<?> elements) {
+        return collection != null && containsAny(collection, elements);
+    }
+
+    /**
+     * Check whether a given collection is not null and does not contain any of the given elements
+     * @param collection the collection to check
+     * @param elements the elements to exclude
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isExcludingAll(Collection<?> collection, @Nonnull Collection<?> elements) {
+        return collection != null && !containsAny(collection, elements);
+    }
+
+    /**
+     * Check whether a given collection is not null and does not contain duplicate elements
+     * @param collection the collection to check
+     * @return whether the requirement is satisfied
+     */
+    public static boolean isDistinct(Collection<?> collection) {
+        return collection != null && (collection instanceof Set || firstDuplicate(collection) == NONE);
+    }
+
+    /* *********************************************************************************
+     * Bounded counting                                                                *
+     ***********************************************************************************/
+
+    /**
+     * @return the number of elements consumed from the iterator, at most <tt>limit</tt>
+     */
+    private static long countUpTo(Iterator<?> iterator, long limit) {
+        long count = 0;
+        while (count < limit && iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of elements consumed from the stream, at most <tt>limit</tt>
+     */
+    private static long countUpTo(Stream<?> stream, long limit) {
+        return limit <= 0 ? 0 : stream.limit(limit).count();
+    }
+
+    /**
+     * @return the validation tier of looking up an element in the collection, which scans it unless it is a set, or of
+     *         rejecting a null collection
+     */
+    private static ValidationLevel lookupTier(Collection<?> collection) {
+        return collection == null || collection instanceof Set ? CHEAP : FULL;
+    }
+
+    private static long saturatedIncrement(long count) {
+        return count == Long.MAX_VALUE ? count : count + 1;
+    }
+
+    /**
+     * Whether the instances of a class have a linear time size, i.e. are a subtype of one of the given types or one of
+     * the {@link ConcurrentSkipListMap} views
+     */
+    private static final class LinearSizeTypes extends ClassValue<Boolean> {
+
+        private static final String SKIP_LIST_MAP_VIEW_PREFIX = ConcurrentSkipListMap.class.getName() + '$';
+
+        final Class<?>[] types;
+
+        LinearSizeTypes(Class<?>[] types) {
+            this.types = types;
+        }
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (type.getName().startsWith(SKIP_LIST_MAP_VIEW_PREFIX)) {
+                return true;
+            }
+            for (Class<?> linearSizeType : types) {
+                if (linearSizeType.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /* *********************************************************************************
+     * Multiple elements lookup                                                        *
+     ***********************************************************************************/
+
+    /**
+     * Up to this number of elements to look up, the lookups are done directly on the collection
+     */
+    private static final int DIRECT_LOOKUP_LIMIT = 8;
+    private static final Object NONE = new Object();
+
+    private static boolean containsAll(Collection<?> collection, Collection<?> elements) {
+        int size = collection.size();
+        int count = elements.size();
+        if (count == 0) {
+            return true;
+        }
+        if (collection instanceof Set || count <= DIRECT_LOOKUP_LIMIT) {
+            return !anyLookup(elements, collection, false);
+        }
+        int limit = maxIndexSize;
+        if (size < count && size <= limit) {
+            return !anyLookup(elements, new HashSet<>(collection), false);
+        }
+        // index the required elements (in chunks if needed) and cross them off while scanning the collection
+        Set<Object> pending = new HashSet<>(Math.min(count, limit) * 4 / 3 + 1);
+        Iterator<?> iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            pending.clear();
+            for (int i = 0; i < limit && iterator.hasNext(); i++) {
+                pending.add(iterator.next());
+            }
+            if (!removeAll(pending, collection)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAny(Collection<?> collection, Collection<?> elements) {
+        int size = collection.size();
+        int count = elements.size();
+        if (size == 0 || count == 0) {
+            return false;
+        }
+        if (collection instanceof Set || count <= DIRECT_LOOKUP_LIMIT) {
+            return anyLookup(elements, collection, true);
+        }
+        if (elements instanceof Set || size <= DIRECT_LOOKUP_LIMIT) {
+            return anyLookup(collection, elements, true);
+        }
+        // index the smaller collection (in chunks if needed) and look up the elements of the other one
+        Collection<?> indexed = size <= count ? collection : elements;
+        Collection<?> scanned = size <= count ? elements : collection;
+        int limit = maxIndexSize;
+        if (indexed.size() <= limit) {
+            return anyLookup(scanned, new HashSet<>(indexed), true);
+        }
+        Set<Object> chunk = new HashSet<>(limit * 4 / 3 + 1);
+        Iterator<?> iterator = indexed.iterator();
+        while (iterator.hasNext()) {
+            chunk.clear();
+            for (int i = 0; i < limit && iterator.hasNext(); i++) {
+                chunk.add(iterator.next());
+            }
+            if (anyLookup(scanned, chunk, true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return a duplicate element (which may be null), or {@link #NONE} if there is none
+     */
+    private static Object firstDuplicate(Collection<?> collection) {
+        int size = collection.size();
+        int limit = maxIndexSize;
+        Set<Object> seen = new HashSet<>(Math.min(size, limit) * 4 / 3 + 1);
+        for (int start = 0; start < size; start += limit) {
+            seen.clear();
+            Object duplicate = firstDuplicate(collection, start, Math.min(start + limit, size), seen);
+            if (duplicate != NONE) {
+                return duplicate;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Index the elements in <tt>[start, end)</tt>, and look up the elements after them in the index
+     * @return a duplicate of an element in <tt>[start, end)</tt>, or {@link #NONE} if there is none
+     */
+    private static Object firstDuplicate(Collection<?> collection, int start, int end, Set<Object> seen) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<?> list = (List<?>) collection;
+            for (int i = start; i < end; i++) {
+                Object element = list.get(i);
+                if (!seen.add(element)) {
+                    return element;
+                }
+            }
+            int size = list.size();
+            for (int i = end; i < size; i++) {
+                Object element = list.get(i);
+                if (seen.contains(element)) {
+                    return element;
+                }
+            }
+            return NONE;
+        }
+        Iterator<?> iterator = collection.iterator();
+        for (int i = 0; i < start; i++) {
+            iterator.next();
+        }
+        for (int i = start; i < end; i++) {
+            Object element = iterator.next();
+            if (!seen.add(element)) {
+                return element;
+            }
+        }
+        while (iterator.hasNext()) {
+            Object element = iterator.next();
+            if (seen.contains(element)) {
+                return element;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return whether any of the elements has the given result of {@link Collection#contains(Object)} in the index
+     */
+    private static boolean anyLookup(Collection<?> elements, Collection<?> index, boolean contained) {
+        if (elements instanceof List && elements instanceof RandomAccess) {
+            List<?> list = (List<?>) elements;
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                if (index.contains(list.get(i)) == contained) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (Object element : elements) {
+            if (index.contains(element) == contained) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove the elements of a collection from the pending set, until it is empty
+     * @return whether the pending set is empty
+     */
+    private static boolean removeAll(Set<Object> pending, Collection<?> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<?> list = (List<?>) collection;
+            int size = list.size();
+            for (int i = 0; i < size && !pending.isEmpty(); i++) {
+                pending.remove(list.get(i));
+            }
+            return pending.isEmpty();
+        }
+        Iterator<?> iterator = collection.iterator();
+        while (!pending.isEmpty() && iterator.hasNext()) {
+            pending.remove(iterator.next());
+        }
+        return pending.isEmpty();
+    }
+
+    /* *********************************************************************************
+     * Element scanning                                                                *
+     ***********************************************************************************/
+
+    private static final int NOT_FOUND = Integer.MIN_VALUE;
+    private static final int MIN_LEAF_SIZE = 1024;
+
+    /**
+     * @return the index of the first element for which the predicate returns <tt>result</tt>, or {@link #NOT_FOUND}
+     */
+    private static <E> int indexOfFirst(Collection<? extends E> collection, Predicate<? super E> predicate,
+                                        boolean result) {
+        if (!hasLinearSize(collection) && collection.size() >= parallelThreshold) {
+            Spliterator<? extends E> spliterator = collection.spliterator();
+            if (spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SUBSIZED)) {
+                return IndexOfFirstTask.indexOfFirst(spliterator, predicate, result);
+            }
+        }
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<? extends E> list = (List<? extends E>) collection;
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                if (predicate.test(list.get(i)) == result) {
+                    return i;
+                }
+            }
+            return NOT_FOUND;
+        }
+        int i = 0;
+        for (E element : collection) {
+            if (predicate.test(element) == result) {
+                return i;
+            }
+            i++;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the first element for which a predicate returns a given result, by splitting the
+     * spliterator of the elements to ranges with known offsets. The index found so far is shared by all the tasks, so
+     * a task stops as soon as it reaches an index after it (and a range after it is not scanned at all).
+     */
+    private static final class IndexOfFirstTask<E> extends RecursiveAction implements Consumer<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<? extends E> spliterator;
+        private final long offset;
+        private final Predicate<? super E> predicate;
+        private final boolean result;
+        private final long leafSize;
+        private final AtomicLong first;
+        private boolean found;
+
+        private IndexOfFirstTask(Spliterator<? extends E> spliterator, long offset, Predicate<? super E> predicate,
+                                 boolean result, long leafSize, AtomicLong first) {
+            this.spliterator = spliterator;
+            this.offset = offset;
+            this.predicate = predicate;
+            this.result = result;
+            this.leafSize = leafSize;
+            this.first = first;
+        }
+
+        static <E> int indexOfFirst(Spliterator<? extends E> spliterator, Predicate<? super E> predicate,
+                                    boolean result) {
+            long leafSize = Math.max(spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() * 8L),
+                    MIN_LEAF_SIZE);
+            AtomicLong first = new AtomicLong(Long.MAX_VALUE);
+            new IndexOfFirstTask<>(spliterator, 0, predicate, result, leafSize, first).invoke();
+            long index = first.get();
+            return index == Long.MAX_VALUE ? NOT_FOUND : (int) index;
+        }
+
+        @Override
+        protected void compute() {
+            if (offset >= first.get()) {
+                return;
+            }
+            Spliterator<? extends E> prefix;
+            if (spliterator.estimateSize() > leafSize && (prefix = spliterator.trySplit()) != null) {
+                long prefixSize = prefix.estimateSize();
+                invokeAll(new IndexOfFirstTask<>(prefix, offset, predicate, result, leafSize, first),
+                        new IndexOfFirstTask<>(spliterator, offset + prefixSize, predicate, result, leafSize, first));
+                return;
+            }
+            long index = offset;
+            while (index < first.get() && spliterator.tryAdvance(this)) {
+                if (found) {
+                    long current;
+                    while (index < (current = first.get()) && !first.compareAndSet(current, index)) {
+                        //retry
+                    }
+                    return;
+                }
+                index++;
+            }
+        }
+
+        @Override
+        public void accept(E element) {
+            found = predicate.test(element) == result;
+        }
+    }
 }
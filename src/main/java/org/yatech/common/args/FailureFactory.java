@@ -0,0 +1,38 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A factory of the exceptions thrown by the requirement methods when a requirement is not satisfied.
+ * <p>
+ * The factory in use is {@link Args#getFailureFactory() global}, and can be overridden for a block of code on the
+ * current thread with {@link Args#withFailureFactory(FailureFactory, java.util.function.Supplier)}. A factory can
+ * create a domain-specific exception, which is then thrown as is:
+ * <pre>
+ * Args.setFailureFactory(InvalidRequestException::new);
+ * </pre>
+ *
+ * @author Yinon Avraham.
+ */
+@FunctionalInterface
+public interface FailureFactory {
+
+    /**
+     * The default factory, which creates an {@link IllegalArgumentException}
+     */
+    FailureFactory ILLEGAL_ARGUMENT = IllegalArgumentException::new;
+
+    /**
+     * A factory which creates a {@link StacklessIllegalArgumentException}, for which the cost of a failure does not
+     * depend on the depth of the stack
+     */
+    FailureFactory STACKLESS = StacklessIllegalArgumentException::new;
+
+    /**
+     * Create the exception to throw for a requirement which is not satisfied
+     * @param message the error message
+     * @return the exception to throw
+     */
+    @Nonnull
+    RuntimeException create(@Nonnull String message);
+}
@@ -0,0 +1,28 @@
+package org.yatech.common.args;
+
+/**
+ * The handling of an element which does not satisfy the requirements, when validating the elements of an
+ * {@link java.util.Iterator}, {@link java.util.Spliterator} or {@link java.util.stream.Stream} lazily with
+ * {@link StreamArgs}.
+ *
+ * @author Yinon Avraham.
+ */
+public enum InvalidElementPolicy {
+
+    /**
+     * Fail on the first invalid element, as the requirements do when called directly. This holds also when the
+     * elements are consumed inside a {@link Violations#collect(Runnable)} block, so the invalid element is not recorded
+     * among the violations of the block and passed on.
+     */
+    FAIL_FAST,
+
+    /**
+     * Drop the invalid elements, passing only the valid elements on
+     */
+    SKIP_INVALID,
+
+    /**
+     * Pass all the elements on, reporting the violations of each invalid element to a listener
+     */
+    COLLECT
+}
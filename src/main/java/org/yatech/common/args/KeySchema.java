@@ -0,0 +1,331 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
+import static org.yatech.common.args.ValidationLevel.FULL;
+
+/**
+ * A reusable set of requirements on the keys of a map, e.g. a configuration or a parsed JSON object, composed once and
+ * then checked many times.
+ * <p>
+ * A schema declares the keys which are required, the keys which are optional and the keys which are forbidden, and
+ * whether any other (unknown) key is allowed. Instead of a <tt>CollectionArgs.requireContainsKey</tt> call per
+ * required key, a schema checks a map in a single pass over its keys, and reports all the missing and unexpected keys
+ * in a single error message:
+ * <pre>
+ * static final KeySchema&lt;String&gt; DATASOURCE = KeySchema.&lt;String&gt;builder()
+ *         .required("url", "username")
+ *         .optional("password", "poolSize")
+ *         .forbidden("jdbcPassword")
+ *         .build();
+ *
+ * DATASOURCE.validate(properties);
+ * </pre>
+ * The keys of the schema are looked up in an open-addressing table built with the schema, and the required keys seen
+ * so far are tracked in a bitset, so checking a map which satisfies the schema does not allocate (apart from the
+ * iterator of the map keys, and the bitset of a schema with more than 64 required keys). A schema is immutable and
+ * thread-safe. Since it scans the map, it is checked only with the {@link ValidationLevel#FULL FULL} validation level.
+ *
+ * @param <K> the type of the keys
+ * @author Yinon Avraham.
+ */
+public final class KeySchema<K> {
+
+    private static final int OPTIONAL = -1;
+    private static final int FORBIDDEN = -2;
+    private static final int UNKNOWN = -3;
+    private static final String RULE_NAME = "map keys must satisfy the key schema";
+
+    private final Object[] table;
+    private final int[] slots;
+    private final int mask;
+    private final List<K> required;
+    private final int knownCount;
+    private final boolean allowUnknown;
+    private final Consumer<Map<? extends K, ?>> validation = this::validate;
+
+    private KeySchema(Map<K, Integer> keys, List<K> required, boolean allowUnknown) {
+        int capacity = Integer.highestOneBit(Math.max(keys.size(), 1) * 2 - 1) << 1;
+        this.table = new Object[capacity];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        this.required = required;
+        this.allowUnknown = allowUnknown;
+        int known = 0;
+        for (Map.Entry<K, Integer> entry : keys.entrySet()) {
+            int i = indexOf(entry.getKey());
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = entry.getKey();
+            slots[i] = entry.getValue();
+            if (entry.getValue() != FORBIDDEN) {
+                known++;
+            }
+        }
+        this.knownCount = known;
+    }
+
+    /**
+     * Create a new key schema builder
+     * @param <K> the type of the keys
+     * @return a new builder, with no keys and which does not allow unknown keys
+     */
+    @Nonnull
+    public static <K> Builder<K> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Require that the given map is not null and that its keys satisfy this schema: it contains all the required keys,
+     * it does not contain any of the forbidden keys, and unless unknown keys are allowed, it does not contain any key
+     * which is not declared by this schema
+     * @param map the map to validate
+     * @param <M> the map type
+     * @return the map if satisfies the schema
+     * @throws IllegalArgumentException if the map does not satisfy the schema, with a message listing all the missing
+     *                                  and unexpected keys
+     */
+    public <M extends Map<? extends K, ?>> M validate(M map) {
+        if (map == null) {
+            if (enabled(CHEAP) && !record(false, "map to validate is required")) {
+                fail("map to validate is required");
+            }
+            return null;
+        }
+        if (enabled(FULL) && !record(isSatisfied(map), RULE_NAME)) {
+            fail(violationMessage(map));
+        }
+        return map;
+    }
+
+    /**
+     * Check the keys of the given map against this schema, collecting the violation instead of failing
+     * @param map the map to validate
+     * @return the violations of the schema, empty if the map is valid
+     * @see Violations#collect(Runnable)
+     */
+    @Nonnull
+    public Violations validateAll(Map<? extends K, ?> map) {
+        return Violations.collect(map, validation);
+    }
+
+    /**
+     * Check whether the keys of the given map satisfy this schema, regardless of the validation level
+     * @param map the map to check
+     * @return whether the map is not null and satisfies this schema
+     */
+    public boolean isSatisfied(Map<? extends K, ?> map) {
+        if (map == null || map.size() < required.size() || !allowUnknown && map.size() > knownCount) {
+            return false;
+        }
+        int requiredCount = required.size();
+        long seen = 0;
+        long[] moreSeen = requiredCount > 64 ? new long[(requiredCount - 1) >>> 6] : null;
+        int seenCount = 0;
+        for (Object key : map.keySet()) {
+            int slot = slotOf(key);
+            if (slot >= 64) {
+                long bit = 1L << slot;
+                int word = (slot >>> 6) - 1;
+                if ((moreSeen[word] & bit) == 0) {
+                    moreSeen[word] |= bit;
+                    seenCount++;
+                }
+            } else if (slot >= 0) {
+                long bit = 1L << slot;
+                if ((seen & bit) == 0) {
+                    seen |= bit;
+                    seenCount++;
+                }
+            } else if (slot == FORBIDDEN || slot == UNKNOWN && !allowUnknown) {
+                return false;
+            }
+        }
+        return seenCount == requiredCount;
+    }
+
+    /**
+     * @param map the map to check
+     * @return the required keys which the given map does not contain, in the order they were declared
+     */
+    @Nonnull
+    public List<K> getMissingKeys(@Nonnull Map<? extends K, ?> map) {
+        List<K> missing = new ArrayList<>();
+        for (K key : required) {
+            if (!map.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * @param map the map to check
+     * @return the keys of the given map which are forbidden, or which are unknown if unknown keys are not allowed, in
+     *         the iteration order of the map
+     */
+    @Nonnull
+    public List<K> getUnexpectedKeys(@Nonnull Map<? extends K, ?> map) {
+        List<K> unexpected = new ArrayList<>();
+        for (K key : map.keySet()) {
+            int slot = slotOf(key);
+            if (slot == FORBIDDEN || slot == UNKNOWN && !allowUnknown) {
+                unexpected.add(key);
+            }
+        }
+        return unexpected;
+    }
+
+    /**
+     * @return the required keys of this schema, in the order they were declared
+     */
+    @Nonnull
+    public List<K> getRequiredKeys() {
+        return required;
+    }
+
+    private String violationMessage(Map<? extends K, ?> map) {
+        List<K> missing = getMissingKeys(map);
+        List<K> unexpected = getUnexpectedKeys(map);
+        StringBuilder message = new StringBuilder();
+        if (!missing.isEmpty()) {
+            message.append("missing required keys ").append(missing);
+        }
+        if (!unexpected.isEmpty()) {
+            message.append(missing.isEmpty() ? "unexpected keys " : ", unexpected keys ").append(unexpected);
+        }
+        // a map which does not compare its keys by equals (e.g. an IdentityHashMap) may fail without a listed key
+        return message.length() == 0 ? RULE_NAME : message.toString();
+    }
+
+    private int slotOf(Object key) {
+        if (key == null) {
+            return UNKNOWN;
+        }
+        for (int i = indexOf(key); ; i = (i + 1) & mask) {
+            Object candidate = table[i];
+            if (candidate == null) {
+                return UNKNOWN;
+            }
+            if (candidate == key || candidate.equals(key)) {
+                return slots[i];
+            }
+        }
+    }
+
+    private int indexOf(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * A builder of {@link KeySchema}s. A builder is not thread-safe, but the schemas it builds are.
+     * @param <K> the type of the keys
+     */
+    public static final class Builder<K> {
+
+        private final Map<K, Integer> keys = new LinkedHashMap<>();
+        private final List<K> required = new ArrayList<>();
+        private boolean allowUnknown;
+
+        private Builder() {
+        }
+
+        /**
+         * Declare keys which the map must contain
+         * @param keys the required keys
+         * @return this builder
+         * @throws IllegalArgumentException if any of the keys is null or already declared
+         */
+        @Nonnull
+        @SafeVarargs
+        public final Builder<K> required(@Nonnull K... keys) {
+            if (keys == null) {
+                throw new IllegalArgumentException("keys are required");
+            }
+            for (K key : keys) {
+                add(key, required.size());
+                required.add(key);
+            }
+            return this;
+        }
+
+        /**
+         * Declare keys which the map may contain
+         * @param keys the optional keys
+         * @return this builder
+         * @throws IllegalArgumentException if any of the keys is null or already declared
+         */
+        @Nonnull
+        @SafeVarargs
+        public final Builder<K> optional(@Nonnull K... keys) {
+            if (keys == null) {
+                throw new IllegalArgumentException("keys are required");
+            }
+            for (K key : keys) {
+                add(key, OPTIONAL);
+            }
+            return this;
+        }
+
+        /**
+         * Declare keys which the map must not contain, even if unknown keys are allowed
+         * @param keys the forbidden keys
+         * @return this builder
+         * @throws IllegalArgumentException if any of the keys is null or already declared
+         */
+        @Nonnull
+        @SafeVarargs
+        public final Builder<K> forbidden(@Nonnull K... keys) {
+            if (keys == null) {
+                throw new IllegalArgumentException("keys are required");
+            }
+            for (K key : keys) {
+                add(key, FORBIDDEN);
+            }
+            return this;
+        }
+
+        /**
+         * Set whether the map may contain keys which are not declared as required, optional or forbidden
+         * @param allowUnknown whether unknown keys are allowed (by default they are not)
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<K> allowUnknown(boolean allowUnknown) {
+            this.allowUnknown = allowUnknown;
+            return this;
+        }
+
+        /**
+         * Build a schema with the keys declared so far. The builder can still be used afterwards, without affecting
+         * the built schema.
+         * @return the schema
+         */
+        @Nonnull
+        public KeySchema<K> build() {
+            return new KeySchema<>(keys, Collections.unmodifiableList(new ArrayList<>(required)), allowUnknown);
+        }
+
+        private void add(K key, int slot) {
+            if (key == null) {
+                throw new IllegalArgumentException("key is required");
+            }
+            if (keys.containsKey(key)) {
+                throw new IllegalArgumentException("key " + key + " is already declared");
+            }
+            keys.put(key, slot);
+        }
+    }
+}
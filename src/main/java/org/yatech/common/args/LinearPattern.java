@@ -0,0 +1,767 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled regular expression which is matched in linear time, for checking untrusted input against a pattern
+ * without the risk of catastrophic backtracking.
+ * <p>
+ * {@link Pattern} matches with backtracking, so some patterns (e.g. <tt>(a+)+b</tt>, or a less obvious variant of it
+ * in an email or URL pattern) take exponential time on some inputs. A linear pattern compiles the regular expression
+ * to a deterministic finite automaton, which reads each character of the input exactly once, and matching does not
+ * allocate. It is used like a {@link Pattern} with {@link StringArgs#requireMatches(CharSequence, LinearPattern,
+ * String)}:
+ * <pre>
+ * static final LinearPattern SLUG = LinearPattern.compile("[a-z0-9]+(-[a-z0-9]+)*");
+ *
+ * StringArgs.requireMatches(slug, SLUG, "invalid slug");
+ * </pre>
+ * The automaton supports the common subset of the {@link Pattern} syntax, with the same meaning:
+ * <ul>
+ *     <li>literal characters, <tt>.</tt> and the escapes <tt>\t \n \r \f \a \e \xhh &#92;uhhhh</tt>, and an escaped
+ *     character which is not a letter or a digit</li>
+ *     <li>character classes with ranges and negation, e.g. <tt>[a-zA-Z_]</tt> or <tt>[^,]</tt>, and the predefined
+ *     classes <tt>\d \D \w \W \s \S</tt></li>
+ *     <li>alternation, capturing and non-capturing groups</li>
+ *     <li>the greedy and reluctant quantifiers <tt>* + ? {n} {n,} {n,m}</tt></li>
+ *     <li>the <tt>^</tt> and <tt>$</tt> anchors at the start and the end of the pattern (or of a top level
+ *     alternative)</li>
+ * </ul>
+ * Any other construct, e.g. back references, look-around, possessive quantifiers, flags, nested or intersected
+ * character classes, or word boundaries, is matched by falling back to a {@link Pattern}, as is a pattern whose
+ * automaton would be too large (e.g. because of a large bounded repetition of a complex expression).
+ * {@link #isLinear()} tells which engine is used, so a pattern which must be linear can be checked in a unit test.
+ * <p>
+ * Note that a linear pattern only tells whether the whole input matches, like
+ * {@link java.util.regex.Matcher#matches()}, and does not find matches or capture groups. A linear pattern is
+ * immutable and thread-safe.
+ *
+ * @author Yinon Avraham.
+ */
+public final class LinearPattern {
+
+    private static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+    private static final int MAX_NFA_STATES = 4096;
+    private static final int MAX_DFA_STATES = 4096;
+    private static final int MAX_TRANSITIONS = 1 << 20;
+    private static final int DEAD = 0;
+
+    private final Pattern pattern;
+    private final boolean linear;
+    private final int[] boundaries;
+    private final int[] asciiClasses;
+    private final int classCount;
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final int start;
+
+    private LinearPattern(Pattern pattern, Dfa dfa) {
+        this.pattern = pattern;
+        this.linear = dfa != null;
+        this.boundaries = linear ? dfa.boundaries : null;
+        this.asciiClasses = linear ? dfa.asciiClasses : null;
+        this.classCount = linear ? dfa.boundaries.length : 0;
+        this.transitions = linear ? dfa.transitions : null;
+        this.accepting = linear ? dfa.accepting : null;
+        this.start = linear ? dfa.start : 0;
+    }
+
+    /**
+     * Compile a regular expression to a linear pattern, or to a {@link Pattern} if the regular expression uses a
+     * construct which is not supported by the automaton
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static LinearPattern compile(@Nonnull String regex) {
+        if (regex == null) {
+            throw new IllegalArgumentException("regular expression is required");
+        }
+        Pattern pattern = Pattern.compile(regex);
+        Dfa dfa;
+        try {
+            dfa = new Dfa(new Nfa(new Parser(regex).parse()));
+        } catch (UnsupportedException e) {
+            dfa = null;
+        }
+        return new LinearPattern(pattern, dfa);
+    }
+
+    /**
+     * Check whether the whole input matches this pattern
+     * @param input the input to match
+     * @return whether the input matches
+     */
+    public boolean matches(@Nonnull CharSequence input) {
+        if (!linear) {
+            return pattern.matcher(input).matches();
+        }
+        int state = start;
+        for (int i = 0, length = input.length(); i < length; ) {
+            char c = input.charAt(i++);
+            int characterClass;
+            if (c < 128) {
+                characterClass = asciiClasses[c];
+            } else {
+                int codePoint = c;
+                if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(input.charAt(i))) {
+                    codePoint = Character.toCodePoint(c, input.charAt(i++));
+                }
+                characterClass = classOf(codePoint);
+            }
+            state = transitions[state * classCount + characterClass];
+            if (state == DEAD) {
+                return false;
+            }
+        }
+        return accepting[state];
+    }
+
+    /**
+     * @return whether this pattern is matched by the linear time automaton, otherwise it falls back to a
+     *         {@link Pattern}
+     */
+    public boolean isLinear() {
+        return linear;
+    }
+
+    /**
+     * @return the regular expression of this pattern
+     */
+    @Nonnull
+    public String pattern() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public String toString() {
+        return pattern.pattern();
+    }
+
+    /**
+     * @return the index of the class of characters (which all have the same transitions) of a code point
+     */
+    private int classOf(int codePoint) {
+        int low = 0;
+        int high = boundaries.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (boundaries[middle] <= codePoint) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /* *********************************************************************************
+     * Compilation                                                                     *
+     ***********************************************************************************/
+
+    /**
+     * Thrown while compiling a regular expression which the automaton does not support
+     */
+    private static final class UnsupportedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * A node of the syntax tree of a regular expression
+     */
+    private abstract static class Node {
+    }
+
+    /**
+     * A set of code points, as sorted and disjoint inclusive ranges: <tt>{from1, to1, from2, to2, ...}</tt>
+     */
+    private static final class SetNode extends Node {
+        final int[] ranges;
+
+        SetNode(int[] ranges) {
+            this.ranges = ranges;
+        }
+    }
+
+    private static final class ConcatNode extends Node {
+        final List<Node> nodes;
+
+        ConcatNode(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    private static final class AlternationNode extends Node {
+        final List<Node> alternatives;
+
+        AlternationNode(List<Node> alternatives) {
+            this.alternatives = alternatives;
+        }
+    }
+
+    /**
+     * A repetition of a node, with a negative maximum for an unbounded repetition
+     */
+    private static final class RepeatNode extends Node {
+        final Node node;
+        final int min;
+        final int max;
+
+        RepeatNode(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * A recursive descent parser of the supported subset of the {@link Pattern} syntax
+     */
+    private static final class Parser {
+
+        private static final int[] DIGITS = {'0', '9'};
+        private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+        private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+        private static final int[] LINE_TERMINATORS = {'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029};
+
+        private final String regex;
+        private int position;
+        private int depth;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() throws UnsupportedException {
+            Node node = parseAlternation();
+            if (position != regex.length()) {
+                throw new UnsupportedException();
+            }
+            return node;
+        }
+
+        private Node parseAlternation() throws UnsupportedException {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseConcat());
+            while (peek() == '|') {
+                position++;
+                alternatives.add(parseConcat());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new AlternationNode(alternatives);
+        }
+
+        private Node parseConcat() throws UnsupportedException {
+            List<Node> nodes = new ArrayList<>();
+            if (depth == 0 && peek() == '^') {
+                position++;
+            }
+            while (position < regex.length() && peek() != '|' && peek() != ')') {
+                if (depth == 0 && peek() == '$' && (position + 1 == regex.length() || peekAt(position + 1) == '|')) {
+                    position++;
+                    break;
+                }
+                nodes.add(parseQuantifiers(parseAtom()));
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new ConcatNode(nodes);
+        }
+
+        private Node parseQuantifiers(Node atom) throws UnsupportedException {
+            int min;
+            int max;
+            switch (peek()) {
+                case '*':
+                    min = 0;
+                    max = -1;
+                    position++;
+                    break;
+                case '+':
+                    min = 1;
+                    max = -1;
+                    position++;
+                    break;
+                case '?':
+                    min = 0;
+                    max = 1;
+                    position++;
+                    break;
+                case '{':
+                    position++;
+                    min = parseNumber();
+                    max = min;
+                    if (peek() == ',') {
+                        position++;
+                        max = peek() == '}' ? -1 : parseNumber();
+                    }
+                    if (peek() != '}' || max >= 0 && max < min) {
+                        throw new UnsupportedException();
+                    }
+                    position++;
+                    break;
+                default:
+                    return atom;
+            }
+            if (peek() == '?') {
+                // a reluctant quantifier matches the same inputs as a greedy one
+                position++;
+            } else if (peek() == '+') {
+                throw new UnsupportedException();
+            }
+            if (peek() == '*' || peek() == '+' || peek() == '?' || peek() == '{') {
+                throw new UnsupportedException();
+            }
+            return new RepeatNode(atom, min, max);
+        }
+
+        private int parseNumber() throws UnsupportedException {
+            int start = position;
+            int number = 0;
+            while (position < regex.length() && peek() >= '0' && peek() <= '9') {
+                number = number * 10 + (regex.charAt(position++) - '0');
+                if (number > MAX_NFA_STATES) {
+                    throw new UnsupportedException();
+                }
+            }
+            if (position == start) {
+                throw new UnsupportedException();
+            }
+            return number;
+        }
+
+        private Node parseAtom() throws UnsupportedException {
+            int c = regex.codePointAt(position);
+            switch (c) {
+                case '(':
+                    position++;
+                    if (peek() == '?') {
+                        if (peekAt(position + 1) != ':') {
+                            throw new UnsupportedException();
+                        }
+                        position += 2;
+                    }
+                    depth++;
+                    Node group = parseAlternation();
+                    depth--;
+                    if (peek() != ')') {
+                        throw new UnsupportedException();
+                    }
+                    position++;
+                    return group;
+                case '[':
+                    position++;
+                    return new SetNode(parseClass());
+                case '.':
+                    position++;
+                    return new SetNode(complement(LINE_TERMINATORS));
+                case '\\':
+                    position++;
+                    int[] set = parseEscape();
+                    return new SetNode(set);
+                case '^':
+                case '$':
+                case ')':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedException();
+                default:
+                    position += Character.charCount(c);
+                    return new SetNode(new int[]{c, c});
+            }
+        }
+
+        private int[] parseClass() throws UnsupportedException {
+            boolean negated = peek() == '^';
+            if (negated) {
+                position++;
+            }
+            List<int[]> sets = new ArrayList<>();
+            boolean first = true;
+            while (true) {
+                if (position >= regex.length()) {
+                    throw new UnsupportedException();
+                }
+                int c = regex.codePointAt(position);
+                if (c == ']' && !first) {
+                    position++;
+                    break;
+                }
+                if (c == '[' || c == ']' || c == '&' && peekAt(position + 1) == '&') {
+                    throw new UnsupportedException();
+                }
+                int[] item;
+                if (c == '\\') {
+                    position++;
+                    item = parseEscape();
+                } else {
+                    position += Character.charCount(c);
+                    item = new int[]{c, c};
+                }
+                if (peek() == '-' && peekAt(position + 1) != ']') {
+                    if (item.length != 2 || item[0] != item[1]) {
+                        throw new UnsupportedException();
+                    }
+                    position++;
+                    int to = regex.codePointAt(position);
+                    if (to == '[' || to == '&') {
+                        throw new UnsupportedException();
+                    }
+                    if (to == '\\') {
+                        position++;
+                        int[] escaped = parseEscape();
+                        if (escaped.length != 2 || escaped[0] != escaped[1]) {
+                            throw new UnsupportedException();
+                        }
+                        to = escaped[0];
+                    } else {
+                        position += Character.charCount(to);
+                    }
+                    if (to < item[0]) {
+                        throw new UnsupportedException();
+                    }
+                    item = new int[]{item[0], to};
+                }
+                sets.add(item);
+                first = false;
+            }
+            int[] union = union(sets);
+            return negated ? complement(union) : union;
+        }
+
+        /**
+         * Parse an escape after its backslash
+         * @return the set of code points of the escape
+         */
+        private int[] parseEscape() throws UnsupportedException {
+            if (position >= regex.length()) {
+                throw new UnsupportedException();
+            }
+            int c = regex.codePointAt(position);
+            position += Character.charCount(c);
+            switch (c) {
+                case 't':
+                    return single('\t');
+                case 'n':
+                    return single('\n');
+                case 'r':
+                    return single('\r');
+                case 'f':
+                    return single('\f');
+                case 'a':
+                    return single('\u0007');
+                case 'e':
+                    return single('\u001B');
+                case 'x':
+                    return single(parseHex(2));
+                case 'u':
+                    return single(parseHex(4));
+                case 'd':
+                    return DIGITS;
+                case 'D':
+                    return complement(DIGITS);
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return complement(WORD);
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return complement(SPACE);
+                default:
+                    if (c < 128 && Character.isLetterOrDigit(c)) {
+                        throw new UnsupportedException();
+                    }
+                    return single(c);
+            }
+        }
+
+        private int parseHex(int digits) throws UnsupportedException {
+            if (position + digits > regex.length()) {
+                throw new UnsupportedException();
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = Character.digit(regex.charAt(position++), 16);
+                if (digit < 0) {
+                    throw new UnsupportedException();
+                }
+                value = value * 16 + digit;
+            }
+            if (Character.isSurrogate((char) value)) {
+                // a surrogate pair of escapes is a single code point
+                throw new UnsupportedException();
+            }
+            return value;
+        }
+
+        private int peek() {
+            return peekAt(position);
+        }
+
+        private int peekAt(int index) {
+            return index < regex.length() ? regex.charAt(index) : -1;
+        }
+
+        private static int[] single(int c) {
+            return new int[]{c, c};
+        }
+
+        private static int[] union(List<int[]> sets) {
+            List<int[]> ranges = new ArrayList<>();
+            for (int[] set : sets) {
+                for (int i = 0; i < set.length; i += 2) {
+                    ranges.add(new int[]{set[i], set[i + 1]});
+                }
+            }
+            ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+            int[] union = new int[ranges.size() * 2];
+            int size = 0;
+            for (int[] range : ranges) {
+                if (size > 0 && range[0] <= union[size - 1] + 1) {
+                    union[size - 1] = Math.max(union[size - 1], range[1]);
+                } else {
+                    union[size++] = range[0];
+                    union[size++] = range[1];
+                }
+            }
+            return Arrays.copyOf(union, size);
+        }
+
+        private static int[] complement(int[] set) {
+            int[] complement = new int[set.length + 2];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i < set.length; i += 2) {
+                if (set[i] > next) {
+                    complement[size++] = next;
+                    complement[size++] = set[i] - 1;
+                }
+                next = set[i + 1] + 1;
+            }
+            if (next <= MAX_CODE_POINT) {
+                complement[size++] = next;
+                complement[size++] = MAX_CODE_POINT;
+            }
+            return Arrays.copyOf(complement, size);
+        }
+    }
+
+    /**
+     * A non-deterministic finite automaton (with epsilon transitions) of a syntax tree, built with Thompson's
+     * construction
+     */
+    private static final class Nfa {
+
+        static final int SET = 0;
+        static final int SPLIT = 1;
+        static final int MATCH = 2;
+
+        final List<int[]> sets = new ArrayList<>();
+        int[] kinds = new int[16];
+        int[] firstTargets = new int[16];
+        int[] secondTargets = new int[16];
+        int size;
+        final int start;
+
+        Nfa(Node root) throws UnsupportedException {
+            int match = add(MATCH, -1, -1, null);
+            this.start = build(root, match);
+        }
+
+        private int build(Node node, int next) throws UnsupportedException {
+            if (node instanceof SetNode) {
+                return add(SET, next, -1, ((SetNode) node).ranges);
+            }
+            if (node instanceof ConcatNode) {
+                List<Node> nodes = ((ConcatNode) node).nodes;
+                int state = next;
+                for (int i = nodes.size() - 1; i >= 0; i--) {
+                    state = build(nodes.get(i), state);
+                }
+                return state;
+            }
+            if (node instanceof AlternationNode) {
+                List<Node> alternatives = ((AlternationNode) node).alternatives;
+                int state = build(alternatives.get(alternatives.size() - 1), next);
+                for (int i = alternatives.size() - 2; i >= 0; i--) {
+                    state = add(SPLIT, build(alternatives.get(i), next), state, null);
+                }
+                return state;
+            }
+            RepeatNode repeat = (RepeatNode) node;
+            int state = next;
+            if (repeat.max < 0) {
+                int loop = add(SPLIT, -1, next, null);
+                // the arrays may grow while building the body, so it is patched into the current array only after
+                int body = build(repeat.node, loop);
+                firstTargets[loop] = body;
+                state = loop;
+            } else {
+                for (int i = repeat.min; i < repeat.max; i++) {
+                    state = add(SPLIT, build(repeat.node, state), next, null);
+                }
+            }
+            for (int i = 0; i < repeat.min; i++) {
+                state = build(repeat.node, state);
+            }
+            return state;
+        }
+
+        private int add(int kind, int first, int second, int[] set) throws UnsupportedException {
+            if (size == MAX_NFA_STATES) {
+                throw new UnsupportedException();
+            }
+            if (size == kinds.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                firstTargets = Arrays.copyOf(firstTargets, size * 2);
+                secondTargets = Arrays.copyOf(secondTargets, size * 2);
+            }
+            kinds[size] = kind;
+            firstTargets[size] = first;
+            secondTargets[size] = kind == SET ? sets.size() : second;
+            if (kind == SET) {
+                sets.add(set);
+            }
+            return size++;
+        }
+    }
+
+    /**
+     * A deterministic finite automaton of an NFA, built with the subset construction over the classes of code points
+     * which have the same transitions in the NFA
+     */
+    private static final class Dfa {
+
+        final int[] boundaries;
+        final int[] asciiClasses = new int[128];
+        final int[] transitions;
+        final boolean[] accepting;
+        final int start;
+
+        Dfa(Nfa nfa) throws UnsupportedException {
+            TreeSet<Integer> starts = new TreeSet<>();
+            starts.add(0);
+            for (int[] set : nfa.sets) {
+                for (int i = 0; i < set.length; i += 2) {
+                    starts.add(set[i]);
+                    if (set[i + 1] < MAX_CODE_POINT) {
+                        starts.add(set[i + 1] + 1);
+                    }
+                }
+            }
+            boundaries = starts.stream().mapToInt(Integer::intValue).toArray();
+            int classCount = boundaries.length;
+            for (int c = 0, characterClass = 0; c < 128; c++) {
+                while (characterClass + 1 < classCount && boundaries[characterClass + 1] <= c) {
+                    characterClass++;
+                }
+                asciiClasses[c] = characterClass;
+            }
+            // the classes which each set of the NFA contains, all of whose code points are either in or out of it
+            BitSet[] setClasses = new BitSet[nfa.sets.size()];
+            for (int s = 0; s < setClasses.length; s++) {
+                int[] set = nfa.sets.get(s);
+                setClasses[s] = new BitSet(classCount);
+                for (int i = 0; i < set.length; i += 2) {
+                    int from = Arrays.binarySearch(boundaries, set[i]);
+                    int to = set[i + 1] == MAX_CODE_POINT
+                            ? classCount
+                            : Arrays.binarySearch(boundaries, set[i + 1] + 1);
+                    setClasses[s].set(from, to);
+                }
+            }
+
+            List<BitSet> states = new ArrayList<>();
+            Map<BitSet, Integer> indexes = new HashMap<>();
+            BitSet dead = new BitSet();
+            states.add(dead);
+            indexes.put(dead, DEAD);
+            BitSet initial = closure(nfa, single(nfa.start));
+            start = indexOf(initial, states, indexes);
+            int[] table = new int[16 * classCount];
+            for (int state = 1; state < states.size(); state++) {
+                BitSet nfaStates = states.get(state);
+                if ((state + 1) * classCount > table.length) {
+                    table = Arrays.copyOf(table, Math.max(table.length * 2, (state + 1) * classCount));
+                }
+                for (int characterClass = 0; characterClass < classCount; characterClass++) {
+                    BitSet targets = new BitSet();
+                    for (int s = nfaStates.nextSetBit(0); s >= 0; s = nfaStates.nextSetBit(s + 1)) {
+                        if (nfa.kinds[s] == Nfa.SET && setClasses[nfa.secondTargets[s]].get(characterClass)) {
+                            targets.set(nfa.firstTargets[s]);
+                        }
+                    }
+                    table[state * classCount + characterClass] = targets.isEmpty()
+                            ? DEAD
+                            : indexOf(closure(nfa, targets), states, indexes);
+                }
+                if (states.size() > MAX_DFA_STATES || states.size() * classCount > MAX_TRANSITIONS) {
+                    throw new UnsupportedException();
+                }
+            }
+            transitions = Arrays.copyOf(table, states.size() * classCount);
+            accepting = new boolean[states.size()];
+            for (int state = 0; state < accepting.length; state++) {
+                BitSet nfaStates = states.get(state);
+                for (int s = nfaStates.nextSetBit(0); s >= 0; s = nfaStates.nextSetBit(s + 1)) {
+                    accepting[state] |= nfa.kinds[s] == Nfa.MATCH;
+                }
+            }
+        }
+
+        private static int indexOf(BitSet nfaStates, List<BitSet> states, Map<BitSet, Integer> indexes) {
+            Integer index = indexes.get(nfaStates);
+            if (index == null) {
+                index = states.size();
+                states.add(nfaStates);
+                indexes.put(nfaStates, index);
+            }
+            return index;
+        }
+
+        private static BitSet single(int state) {
+            BitSet set = new BitSet();
+            set.set(state);
+            return set;
+        }
+
+        /**
+         * @return the states which are reachable from the given states with epsilon transitions
+         */
+        private static BitSet closure(Nfa nfa, BitSet states) {
+            BitSet closure = new BitSet();
+            Deque<Integer> pending = new ArrayDeque<>();
+            for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+                pending.push(s);
+            }
+            while (!pending.isEmpty()) {
+                int state = pending.pop();
+                if (closure.get(state)) {
+                    continue;
+                }
+                closure.set(state);
+                if (nfa.kinds[state] == Nfa.SPLIT) {
+                    pending.push(nfa.firstTargets[state]);
+                    pending.push(nfa.secondTargets[state]);
+                }
+            }
+            return closure;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A predicate which remembers its recent results, for a costly predicate (e.g. a long regular expression, a checksum
+ * verification or a canonicalization) which is tested on values which repeat heavily, such as tenant IDs, host names
+ * or header values.
+ * <p>
+ * The results are kept in a thread-safe cache with a bounded number of entries, with the same policy as the
+ * {@link PatternCache}: looking up a result is lock-free, and when the cache is full the least recently used results
+ * are evicted (approximately, using the CLOCK policy). The results may also expire a fixed time after they were
+ * computed, for a predicate whose result may change (e.g. a lookup of the current configuration). A memoizing predicate
+ * can be passed to any requirement which takes a predicate:
+ * <pre>
+ * static final MemoizingPredicate&lt;String&gt; VALID_HOST = MemoizingPredicate.builder(Hosts::isValidHostName)
+ *         .maximumSize(10_000)
+ *         .expireAfterWrite(10, TimeUnit.MINUTES)
+ *         .build();
+ *
+ * Args.requireSatisfies(host, VALID_HOST, "invalid host name");
+ * </pre>
+ * By default the values are compared with {@link Object#equals(Object)}, which is the common case of small values
+ * such as strings. For large immutable objects, whose <tt>equals</tt> and <tt>hashCode</tt> are costly, the values can
+ * be compared by identity instead, and with weak keys the cached results do not keep their values from being garbage
+ * collected (the results of collected values are removed from the cache on its next write). Looking up a result by
+ * identity does not allocate. A <tt>null</tt> value is always tested with the predicate itself, and the hit and miss
+ * counts of the cache are kept for monitoring and for sizing the cache.
+ *
+ * @param <T> the type of the values
+ * @author Yinon Avraham.
+ */
+public final class MemoizingPredicate<T> implements Predicate<T> {
+
+    /**
+     * The maximum number of results in the cache of a predicate built with the default settings
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final ThreadLocal<IdentityProbe> IDENTITY_PROBE = ThreadLocal.withInitial(IdentityProbe::new);
+
+    private final Predicate<? super T> predicate;
+    private final BoundedCache<Object, Boolean> cache;
+    private final Keys keys;
+    private final ReferenceQueue<Object> collectedKeys;
+
+    private MemoizingPredicate(Builder<T> builder) {
+        this.predicate = builder.predicate;
+        this.cache = new BoundedCache<>(builder.maximumSize, builder.expireAfterWriteNanos, null);
+        this.keys = builder.keys;
+        this.collectedKeys = builder.keys == Keys.WEAK ? new ReferenceQueue<>() : null;
+    }
+
+    /**
+     * Create a new memoizing predicate builder
+     * @param predicate the costly predicate to remember the results of
+     * @param <T>       the type of the values
+     * @return a new builder, with the {@link #DEFAULT_MAXIMUM_SIZE default maximum size}, results which do not expire
+     *         and values which are compared with <tt>equals</tt>
+     */
+    @Nonnull
+    public static <T> Builder<T> builder(@Nonnull Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("predicate is required");
+        }
+        return new Builder<>(predicate);
+    }
+
+    /**
+     * Test the value with the predicate, or return the remembered result if the value was recently tested
+     * @param value the value to test
+     * @return the result of the predicate on the value
+     */
+    @Override
+    public boolean test(T value) {
+        if (value == null) {
+            return predicate.test(null);
+        }
+        Boolean cached = keys.getIfPresent(cache, value);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = predicate.test(value);
+        removeCollectedKeys();
+        cache.put(keys.storedKey(value, collectedKeys), result);
+        return result;
+    }
+
+    private void removeCollectedKeys() {
+        if (collectedKeys != null) {
+            for (Reference<?> key; (key = collectedKeys.poll()) != null; ) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of results to keep in the cache
+     */
+    public int getMaximumSize() {
+        return cache.maximumSize();
+    }
+
+    /**
+     * @return the current number of results in the cache
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of tests which used a remembered result
+     */
+    public long getHitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * @return the number of tests of non-null values which had to evaluate the predicate
+     */
+    public long getMissCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * @return the ratio of the tests which used a remembered result out of all the tests of non-null values, or
+     *         <tt>0</tt> if no value was tested yet
+     */
+    public double getHitRate() {
+        long hits = cache.hitCount();
+        long total = hits + cache.missCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return the number of results evicted from the cache since it was created
+     */
+    public long getEvictionCount() {
+        return cache.evictionCount();
+    }
+
+    /**
+     * Forget all the remembered results (the counts are not reset)
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizingPredicate{size=" + getSize() + ", maximumSize=" + getMaximumSize() + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + '}';
+    }
+
+    /**
+     * How the values are compared and kept as keys of the cache
+     */
+    private enum Keys {
+        EQUALITY {
+            @Override
+            Boolean getIfPresent(BoundedCache<Object, Boolean> cache, Object value) {
+                return cache.getIfPresent(value);
+            }
+
+            @Override
+            Object storedKey(Object value, ReferenceQueue<Object> collectedKeys) {
+                return value;
+            }
+        },
+        IDENTITY {
+            @Override
+            Object storedKey(Object value, ReferenceQueue<Object> collectedKeys) {
+                return new IdentityKey(value);
+            }
+        },
+        WEAK {
+            @Override
+            Object storedKey(Object value, ReferenceQueue<Object> collectedKeys) {
+                return new WeakKey(value, collectedKeys);
+            }
+        };
+
+        /**
+         * Look up the result of a value. A value compared by identity is looked up with the probe of the current
+         * thread, which is cleared right after, so a lookup does not allocate a key.
+         */
+        Boolean getIfPresent(BoundedCache<Object, Boolean> cache, Object value) {
+            IdentityProbe probe = IDENTITY_PROBE.get();
+            probe.value = value;
+            probe.hash = System.identityHashCode(value);
+            try {
+                return cache.getIfPresent(probe);
+            } finally {
+                probe.value = null;
+            }
+        }
+
+        abstract Object storedKey(Object value, ReferenceQueue<Object> collectedKeys);
+    }
+
+    /**
+     * @return the value which a key compares by identity, or null if it is not such a key or its value was collected
+     */
+    private static Object identityOf(Object key) {
+        if (key instanceof IdentityKey) {
+            return ((IdentityKey) key).value;
+        }
+        if (key instanceof WeakKey) {
+            return ((WeakKey) key).get();
+        }
+        return key instanceof IdentityProbe ? ((IdentityProbe) key).value : null;
+    }
+
+    /**
+     * A key which compares its value by identity, with any other identity key
+     */
+    private static final class IdentityKey {
+        private final Object value;
+        private final int hash;
+
+        IdentityKey(Object value) {
+            this.value = value;
+            this.hash = System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || value == identityOf(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A key which compares its value by identity, and does not keep it from being garbage collected. A key whose value
+     * was collected is equal only to itself, and it is enqueued so its result is removed from the cache.
+     */
+    private static final class WeakKey extends WeakReference<Object> {
+        private final int hash;
+
+        WeakKey(Object value, ReferenceQueue<Object> collectedKeys) {
+            super(value, collectedKeys);
+            this.hash = System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            Object value = get();
+            return value != null && value == identityOf(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A reusable key for looking up a value by identity, which is never stored in the cache
+     */
+    private static final class IdentityProbe {
+        private Object value;
+        private int hash;
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || value != null && value == identityOf(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A builder of {@link MemoizingPredicate}s
+     * @param <T> the type of the values
+     */
+    public static final class Builder<T> {
+
+        private final Predicate<? super T> predicate;
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private long expireAfterWriteNanos;
+        private Keys keys = Keys.EQUALITY;
+
+        private Builder(Predicate<? super T> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Set the maximum number of results to keep in the cache
+         * @param maximumSize the maximum size
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximum size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Set the time after which a result expires and the predicate is evaluated again
+         * @param duration the time to keep a result after it was computed
+         * @param unit     the time unit of the duration
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> expireAfterWrite(long duration, @Nonnull TimeUnit unit) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("expiration time must be positive");
+            }
+            if (unit == null) {
+                throw new IllegalArgumentException("time unit is required");
+            }
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Compare the values by identity instead of with <tt>equals</tt>, e.g. for large immutable objects which are
+         * shared rather than copied
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> identityKeys() {
+            this.keys = Keys.IDENTITY;
+            return this;
+        }
+
+        /**
+         * Compare the values by identity, and do not keep them from being garbage collected
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> weakKeys() {
+            this.keys = Keys.WEAK;
+            return this;
+        }
+
+        /**
+         * @return a new memoizing predicate with the settings of this builder
+         */
+        @Nonnull
+        public MemoizingPredicate<T> build() {
+            return new MemoizingPredicate<>(this);
+        }
+    }
+}
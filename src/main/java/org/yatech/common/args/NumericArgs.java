@@ -1,10 +1,21 @@
 package org.yatech.common.args;
 
 import javax.annotation.Nonnull;
+import java.util.function.Supplier;
 
-import static org.yatech.common.args.Args.requireSatisfies;
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
 
 /**
+ * A utility class for common methods on numeric arguments.
+ * <p>
+ * Each requirement is available for the primitive types (<tt>long</tt>, <tt>int</tt>, <tt>short</tt>, <tt>byte</tt>,
+ * <tt>char</tt>, <tt>double</tt> and <tt>float</tt>), which neither box the value nor allocate when the requirement is
+ * satisfied, and for the boxed types (<tt>Long</tt>, <tt>Integer</tt>, <tt>Double</tt> and <tt>Float</tt>), which
+ * also reject a <tt>null</tt> value.
+ *
  * @author Yinon Avraham.
  */
 public abstract class NumericArgs {
@@ -30,343 +41,341 @@ public abstract class NumericArgs {
     }
 
     /**
-     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
-     * @param value   the value to check
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireNonNegative(Long value, String message) {
-        return requireGreaterThanEquals(value, 0, message);
+    public static long requirePositive(Long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0, messageSupplier);
     }
 
     /**
-     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
      * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireGreaterThan(Long value, long other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v > other, message);
+    public static long requirePositive(Long value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
      * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireGreaterThanEquals(Long value, long other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v >= other, message);
+    public static long requirePositive(Long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireNegative(Long value, String message) {
-        return requireLessThan(value, 0, message);
+    public static long requirePositive(Long value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireNonPositive(Long value, String message) {
-        return requireLessThanEquals(value, 0, message);
+    public static long requirePositive(Long value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
      * @param value   the value to check
-     * @param other   the other value to compare with
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireLessThan(Long value, long other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v < other, message);
+    public static long requirePositive(long value, @Nonnull String message) {
+        return requireGreaterThan(value, 0, message);
     }
 
     /**
-     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
-     * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireLessThanEquals(Long value, long other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v <= other, message);
+    public static long requirePositive(long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0, messageSupplier);
     }
 
     /**
-     * Require that the given value is not zero (<tt>value != 0</tt>)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireNonZero(Long value, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v != 0, message);
+    public static long requirePositive(long value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is in a given range (inclusive)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (inclusive)
-     * @param to            the upper end of the range (inclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireInRangeInclusive(Long value, long from, long to, @Nonnull String message) {
-        return requireInRange(value, from, true, to, true, message);
+    public static long requirePositive(long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is in a given range (exclusive)
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (exclusive)
-     * @param to            the upper end of the range (exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireInRangeExclusive(Long value, long from, long to, @Nonnull String message) {
-        return requireInRange(value, from, false, to, false, message);
+    public static long requirePositive(long value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is in a given range
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range
-     * @param fromInclusive whether the lower end is inclusive (or exclusive)
-     * @param to            the upper end of the range
-     * @param toInclusive   whether the upper end is inclusive (or exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
-                                      @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null &&
-                        (fromInclusive ? v >= from : v > from) &&
-                        (toInclusive ? value <= to : value < to),
-                message);
+    public static long requirePositive(long value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
     }
 
-    /* *********************************************************************************
-     * Integer                                                                         *
-     ***********************************************************************************/
-
     /**
-     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requirePositive(Integer value, String message) {
-        return requireGreaterThan(value, 0, message);
+    public static long requireNonNegative(Long value, String message) {
+        return requireGreaterThanEquals(value, 0, message);
     }
 
     /**
      * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
-     * @param value   the value to check
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireNonNegative(Integer value, String message) {
-        return requireGreaterThanEquals(value, 0, message);
+    public static long requireNonNegative(Long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0, messageSupplier);
     }
 
     /**
-     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireGreaterThan(Integer value, int other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v > other, message);
+    public static long requireNonNegative(Long value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v >= other, message);
+    public static long requireNonNegative(Long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireNegative(Integer value, String message) {
-        return requireLessThan(value, 0, message);
+    public static long requireNonNegative(Long value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireNonPositive(Integer value, String message) {
-        return requireLessThanEquals(value, 0, message);
+    public static long requireNonNegative(Long value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
-     * @param other   the other value to compare with
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireLessThan(Integer value, int other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v < other, message);
+    public static long requireNonNegative(long value, @Nonnull String message) {
+        return requireGreaterThanEquals(value, 0, message);
     }
 
     /**
-     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
-     * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireLessThanEquals(Integer value, int other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v <= other, message);
+    public static long requireNonNegative(long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0, messageSupplier);
     }
 
     /**
-     * Require that the given value is not zero (<tt>value != 0</tt>)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireNonZero(Integer value, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v != 0, message);
+    public static long requireNonNegative(long value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is in a given range (inclusive)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (inclusive)
-     * @param to            the upper end of the range (inclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireInRangeInclusive(Integer value, int from, int to, @Nonnull String message) {
-        return requireInRange(value, from, true, to, true, message);
+    public static long requireNonNegative(long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is in a given range (exclusive)
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (exclusive)
-     * @param to            the upper end of the range (exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireInRangeExclusive(Integer value, int from, int to, @Nonnull String message) {
-        return requireInRange(value, from, false, to, false, message);
+    public static long requireNonNegative(long value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is in a given range
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range
-     * @param fromInclusive whether the lower end is inclusive (or exclusive)
-     * @param to            the upper end of the range
-     * @param toInclusive   whether the upper end is inclusive (or exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
-                                      @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null &&
-                        (fromInclusive ? v >= from : v > from) &&
-                        (toInclusive ? value <= to : value < to),
-                message);
+    public static long requireNonNegative(long value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
     }
 
-    /* *********************************************************************************
-     * Double                                                                          *
-     ***********************************************************************************/
-
     /**
-     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
      * @param value   the value to check
+     * @param other   the other value to compare with
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requirePositive(Double value, String message) {
-        return requireGreaterThan(value, 0.0d, message);
+    public static long requireGreaterThan(Long value, long other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.longValue(), other, message);
     }
 
     /**
-     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
-     * @param value   the value to check
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireNonNegative(Double value, String message) {
-        return requireGreaterThanEquals(value, 0.0d, message);
+    public static long requireGreaterThan(Long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.longValue(), other, messageSupplier);
     }
 
     /**
@@ -374,53 +383,85 @@ public abstract class NumericArgs {
      *
      * @param value   the value to check
      * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireGreaterThan(Double value, double other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v > other, message);
+    public static long requireGreaterThan(Long value, long other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.longValue(), other, message, arg1);
     }
 
     /**
-     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
      * @param value   the value to check
      * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v >= other, message);
+    public static long requireGreaterThan(Long value, long other, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.longValue(), other, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireNegative(Double value, String message) {
-        return requireLessThan(value, 0.0d, message);
+    public static long requireGreaterThan(Long value, long other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.longValue(), other, message, arg1);
     }
 
     /**
-     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireNonPositive(Double value, String message) {
-        return requireLessThanEquals(value, 0.0d, message);
+    public static long requireGreaterThan(Long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.longValue(), other, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
      * @param value   the value to check
      * @param other   the other value to compare with
@@ -428,122 +469,155 @@ public abstract class NumericArgs {
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireLessThan(Double value, double other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v < other, message);
+    public static long requireGreaterThan(long value, long other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
     }
 
     /**
-     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
-     * @param value   the value to check
-     * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireLessThanEquals(Double value, double other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v <= other, message);
+    public static long requireGreaterThan(long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
     }
 
     /**
-     * Require that the given value is not zero (<tt>value != 0</tt>)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireNonZero(Double value, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v != 0.0d, message);
+    public static long requireGreaterThan(long value, long other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
     }
 
     /**
-     * Require that the given value is in a given range (inclusive)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (inclusive)
-     * @param to            the upper end of the range (inclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message) {
-        return requireInRange(value, from, true, to, true, message);
+    public static long requireGreaterThan(long value, long other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
     }
 
     /**
-     * Require that the given value is in a given range (exclusive)
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (exclusive)
-     * @param to            the upper end of the range (exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message) {
-        return requireInRange(value, from, false, to, false, message);
+    public static long requireGreaterThan(long value, long other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
     }
 
     /**
-     * Require that the given value is in a given range
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range
-     * @param fromInclusive whether the lower end is inclusive (or exclusive)
-     * @param to            the upper end of the range
-     * @param toInclusive   whether the upper end is inclusive (or exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static double requireInRange(Double value, double from, boolean fromInclusive, double to, boolean toInclusive,
-                                      @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null &&
-                        (fromInclusive ? v >= from : v > from) &&
-                        (toInclusive ? value <= to : value < to),
-                message);
+    public static long requireGreaterThan(long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
     }
 
-    /* *********************************************************************************
-     * Float                                                                           *
-     ***********************************************************************************/
-
     /**
-     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
      * @param value   the value to check
+     * @param other   the other value to compare with
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requirePositive(Float value, String message) {
-        return requireGreaterThan(value, 0.0f, message);
+    public static long requireGreaterThanEquals(Long value, long other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.longValue(), other, message);
     }
 
     /**
-     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
-     * @param value   the value to check
-     * @param message the error message to use
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireNonNegative(Float value, String message) {
-        return requireGreaterThanEquals(value, 0.0f, message);
+    public static long requireGreaterThanEquals(Long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.longValue(), other, messageSupplier);
     }
 
     /**
-     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
      * @param value   the value to check
      * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireGreaterThan(Float value, float other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v > other, message);
+    public static long requireGreaterThanEquals(Long value, long other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.longValue(), other, message, arg1);
     }
 
     /**
@@ -551,40 +625,66 @@ public abstract class NumericArgs {
      *
      * @param value   the value to check
      * @param other   the other value to compare with
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v >= other, message);
+    public static long requireGreaterThanEquals(Long value, long other, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.longValue(), other, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireNegative(Float value, String message) {
-        return requireLessThan(value, 0.0f, message);
+    public static long requireGreaterThanEquals(Long value, long other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.longValue(), other, message, arg1);
     }
 
     /**
-     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
      * @param value   the value to check
-     * @param message the error message to use
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireNonPositive(Float value, String message) {
-        return requireLessThanEquals(value, 0.0f, message);
+    public static long requireGreaterThanEquals(Long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.longValue(), other, message, arg1, arg2);
     }
 
     /**
-     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
      * @param value   the value to check
      * @param other   the other value to compare with
@@ -592,81 +692,15003 @@ public abstract class NumericArgs {
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireLessThan(Float value, float other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v < other, message);
+    public static long requireGreaterThanEquals(long value, long other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
     }
 
     /**
-     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireGreaterThanEquals(long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireGreaterThanEquals(long value, long other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireGreaterThanEquals(long value, long other, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireGreaterThanEquals(long value, long other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
      *
      * @param value   the value to check
      * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireGreaterThanEquals(long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireLessThanEquals(Float value, float other, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v <= other, message);
+    public static long requireNegative(Long value, String message) {
+        return requireLessThan(value, 0, message);
     }
 
     /**
-     * Require that the given value is not zero (<tt>value != 0</tt>)
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(Long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(Long value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(Long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(Long value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(Long value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
      *
      * @param value   the value to check
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireNonZero(Float value, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v != 0.0f, message);
+    public static long requireNegative(long value, @Nonnull String message) {
+        return requireLessThan(value, 0, message);
     }
 
     /**
-     * Require that the given value is in a given range (inclusive)
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (inclusive)
-     * @param to            the upper end of the range (inclusive)
-     * @param message       the error message to use
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message) {
-        return requireInRange(value, from, true, to, true, message);
+    public static long requireNegative(long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0, messageSupplier);
     }
 
     /**
-     * Require that the given value is in a given range (exclusive)
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range (exclusive)
-     * @param to            the upper end of the range (exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message) {
-        return requireInRange(value, from, false, to, false, message);
+    public static long requireNegative(long value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0, message, arg1);
     }
 
     /**
-     * Require that the given value is in a given range
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
      *
-     * @param value         the value to check
-     * @param from          the lower end of the range
-     * @param fromInclusive whether the lower end is inclusive (or exclusive)
-     * @param to            the upper end of the range
-     * @param toInclusive   whether the upper end is inclusive (or exclusive)
-     * @param message       the error message to use
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
-    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
-                                      @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null &&
-                        (fromInclusive ? v >= from : v > from) &&
-                        (toInclusive ? value <= to : value < to),
-                message);
+    public static long requireNegative(long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(long value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNegative(long value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(Long value, String message) {
+        return requireLessThanEquals(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(Long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(Long value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(Long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(Long value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(Long value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(long value, @Nonnull String message) {
+        return requireLessThanEquals(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(long value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(long value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(long value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
     }
 
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(long value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonPositive(long value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(Long value, long other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThan(value.longValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(Long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThan(value.longValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(Long value, long other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.longValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(Long value, long other, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.longValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(Long value, long other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.longValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(Long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.longValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(long value, long other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(long value, long other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(long value, long other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(long value, long other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThan(long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(Long value, long other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.longValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(Long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.longValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(Long value, long other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.longValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(Long value, long other, @Nonnull String message, Object arg1,
+                                             Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.longValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(Long value, long other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.longValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(Long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.longValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(long value, long other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(long value, long other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(long value, long other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(long value, long other, @Nonnull String message, Object arg1,
+                                             Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(long value, long other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireLessThanEquals(long value, long other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(Long value, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireNonZero(value.longValue(), message);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(Long value, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireNonZero(value.longValue(), messageSupplier);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(Long value, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.longValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(Long value, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.longValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(Long value, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.longValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(Long value, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.longValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(long value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(long value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(long value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(long value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(long value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireNonZero(long value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(Long value, long from, long to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(Long value, long from, long to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(Long value, long from, long to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(Long value, long from, long to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(Long value, long from, long to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(Long value, long from, long to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(long value, long from, long to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(long value, long from, long to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(long value, long from, long to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(long value, long from, long to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(long value, long from, long to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeInclusive(long value, long from, long to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(Long value, long from, long to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(Long value, long from, long to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(Long value, long from, long to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(Long value, long from, long to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(Long value, long from, long to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(Long value, long from, long to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(long value, long from, long to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(long value, long from, long to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(long value, long from, long to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(long value, long from, long to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(long value, long from, long to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRangeExclusive(long value, long from, long to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireInRange(value.longValue(), from, fromInclusive, to, toInclusive, message);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireInRange(value.longValue(), from, fromInclusive, to, toInclusive, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.longValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.longValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.longValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.longValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive,
+                                      @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Integer                                                                         *
+     ***********************************************************************************/
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(Integer value, String message) {
+        return requireGreaterThan(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(Integer value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(Integer value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(Integer value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(Integer value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(Integer value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(int value, @Nonnull String message) {
+        return requireGreaterThan(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(int value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(int value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(int value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(int value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requirePositive(int value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(Integer value, String message) {
+        return requireGreaterThanEquals(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(Integer value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(Integer value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(Integer value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(Integer value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(Integer value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(int value, @Nonnull String message) {
+        return requireGreaterThanEquals(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(int value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(int value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(int value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(int value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonNegative(int value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(Integer value, int other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.intValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(Integer value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.intValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(Integer value, int other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(Integer value, int other, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(Integer value, int other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(Integer value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(int value, int other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(int value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(int value, int other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(int value, int other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(int value, int other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThan(int value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.intValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.intValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(Integer value, int other, @Nonnull String message, long arg1,
+                                               long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(int value, int other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(int value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(int value, int other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(int value, int other, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(int value, int other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireGreaterThanEquals(int value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(Integer value, String message) {
+        return requireLessThan(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(Integer value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(Integer value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(Integer value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(Integer value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(Integer value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(int value, @Nonnull String message) {
+        return requireLessThan(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(int value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(int value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(int value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(int value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNegative(int value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(Integer value, String message) {
+        return requireLessThanEquals(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(Integer value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(Integer value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(Integer value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(Integer value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(Integer value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(int value, @Nonnull String message) {
+        return requireLessThanEquals(value, 0, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(int value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(int value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(int value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(int value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonPositive(int value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(Integer value, int other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThan(value.intValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(Integer value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThan(value.intValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(Integer value, int other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(Integer value, int other, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(Integer value, int other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(Integer value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(int value, int other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(int value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(int value, int other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(int value, int other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(int value, int other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThan(int value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(Integer value, int other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.intValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(Integer value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.intValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(Integer value, int other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(Integer value, int other, @Nonnull String message, Object arg1,
+                                            Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(Integer value, int other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.intValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(Integer value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.intValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(int value, int other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(int value, int other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(int value, int other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(int value, int other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(int value, int other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireLessThanEquals(int value, int other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(Integer value, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireNonZero(value.intValue(), message);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(Integer value, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireNonZero(value.intValue(), messageSupplier);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(Integer value, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.intValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(Integer value, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.intValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(Integer value, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.intValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(Integer value, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.intValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(int value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(int value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(int value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(int value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(int value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireNonZero(int value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(Integer value, int from, int to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(Integer value, int from, int to,
+                                              @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(Integer value, int from, int to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(Integer value, int from, int to, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(Integer value, int from, int to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(Integer value, int from, int to, @Nonnull String message, long arg1,
+                                              long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(int value, int from, int to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(int value, int from, int to, @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(int value, int from, int to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(int value, int from, int to, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(int value, int from, int to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeInclusive(int value, int from, int to, @Nonnull String message, long arg1,
+                                              long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(Integer value, int from, int to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(Integer value, int from, int to,
+                                              @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(Integer value, int from, int to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(Integer value, int from, int to, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(Integer value, int from, int to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(Integer value, int from, int to, @Nonnull String message, long arg1,
+                                              long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(int value, int from, int to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(int value, int from, int to, @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(int value, int from, int to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(int value, int from, int to, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(int value, int from, int to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRangeExclusive(int value, int from, int to, @Nonnull String message, long arg1,
+                                              long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireInRange(value.intValue(), from, fromInclusive, to, toInclusive, message);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireInRange(value.intValue(), from, fromInclusive, to, toInclusive, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.intValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.intValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.intValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.intValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive,
+                                     @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Short                                                                           *
+     ***********************************************************************************/
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requirePositive(short value, @Nonnull String message) {
+        return requireGreaterThan(value, (short) 0, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requirePositive(short value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, (short) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requirePositive(short value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requirePositive(short value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requirePositive(short value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requirePositive(short value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonNegative(short value, @Nonnull String message) {
+        return requireGreaterThanEquals(value, (short) 0, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonNegative(short value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, (short) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonNegative(short value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonNegative(short value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonNegative(short value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonNegative(short value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThan(short value, short other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThan(short value, short other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThan(short value, short other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThan(short value, short other, @Nonnull String message, Object arg1,
+                                           Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThan(short value, short other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThan(short value, short other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThanEquals(short value, short other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThanEquals(short value, short other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThanEquals(short value, short other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThanEquals(short value, short other, @Nonnull String message, Object arg1,
+                                                 Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThanEquals(short value, short other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireGreaterThanEquals(short value, short other, @Nonnull String message, long arg1,
+                                                 long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNegative(short value, @Nonnull String message) {
+        return requireLessThan(value, (short) 0, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNegative(short value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, (short) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNegative(short value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNegative(short value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNegative(short value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNegative(short value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonPositive(short value, @Nonnull String message) {
+        return requireLessThanEquals(value, (short) 0, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonPositive(short value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, (short) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonPositive(short value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonPositive(short value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonPositive(short value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, (short) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonPositive(short value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, (short) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThan(short value, short other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThan(short value, short other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThan(short value, short other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThan(short value, short other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThan(short value, short other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThan(short value, short other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThanEquals(short value, short other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThanEquals(short value, short other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThanEquals(short value, short other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThanEquals(short value, short other, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThanEquals(short value, short other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireLessThanEquals(short value, short other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonZero(short value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonZero(short value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonZero(short value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonZero(short value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonZero(short value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireNonZero(short value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeInclusive(short value, short from, short to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeInclusive(short value, short from, short to,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeInclusive(short value, short from, short to, @Nonnull String message,
+                                                Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeInclusive(short value, short from, short to, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeInclusive(short value, short from, short to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeInclusive(short value, short from, short to, @Nonnull String message, long arg1,
+                                                long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeExclusive(short value, short from, short to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeExclusive(short value, short from, short to,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeExclusive(short value, short from, short to, @Nonnull String message,
+                                                Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeExclusive(short value, short from, short to, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeExclusive(short value, short from, short to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRangeExclusive(short value, short from, short to, @Nonnull String message, long arg1,
+                                                long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive,
+                                       @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive,
+                                       @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive,
+                                       @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive,
+                                       @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive,
+                                       @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static short requireInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive,
+                                       @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Byte                                                                            *
+     ***********************************************************************************/
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requirePositive(byte value, @Nonnull String message) {
+        return requireGreaterThan(value, (byte) 0, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requirePositive(byte value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, (byte) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requirePositive(byte value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requirePositive(byte value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requirePositive(byte value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requirePositive(byte value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonNegative(byte value, @Nonnull String message) {
+        return requireGreaterThanEquals(value, (byte) 0, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonNegative(byte value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, (byte) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonNegative(byte value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonNegative(byte value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonNegative(byte value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonNegative(byte value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThan(byte value, byte other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThan(byte value, byte other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThan(byte value, byte other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThan(byte value, byte other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThan(byte value, byte other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThan(byte value, byte other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThanEquals(byte value, byte other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThanEquals(byte value, byte other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThanEquals(byte value, byte other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThanEquals(byte value, byte other, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThanEquals(byte value, byte other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireGreaterThanEquals(byte value, byte other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNegative(byte value, @Nonnull String message) {
+        return requireLessThan(value, (byte) 0, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNegative(byte value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, (byte) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNegative(byte value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNegative(byte value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNegative(byte value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNegative(byte value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonPositive(byte value, @Nonnull String message) {
+        return requireLessThanEquals(value, (byte) 0, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonPositive(byte value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, (byte) 0, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonPositive(byte value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonPositive(byte value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonPositive(byte value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, (byte) 0, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonPositive(byte value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, (byte) 0, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThan(byte value, byte other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThan(byte value, byte other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThan(byte value, byte other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThan(byte value, byte other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThan(byte value, byte other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThan(byte value, byte other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThanEquals(byte value, byte other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThanEquals(byte value, byte other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThanEquals(byte value, byte other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThanEquals(byte value, byte other, @Nonnull String message, Object arg1,
+                                             Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThanEquals(byte value, byte other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireLessThanEquals(byte value, byte other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonZero(byte value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonZero(byte value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonZero(byte value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonZero(byte value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonZero(byte value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireNonZero(byte value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeInclusive(byte value, byte from, byte to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeInclusive(byte value, byte from, byte to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeInclusive(byte value, byte from, byte to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeInclusive(byte value, byte from, byte to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeInclusive(byte value, byte from, byte to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeInclusive(byte value, byte from, byte to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeExclusive(byte value, byte from, byte to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeExclusive(byte value, byte from, byte to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeExclusive(byte value, byte from, byte to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeExclusive(byte value, byte from, byte to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeExclusive(byte value, byte from, byte to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRangeExclusive(byte value, byte from, byte to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive,
+                                      @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive,
+                                      @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive,
+                                      @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static byte requireInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive,
+                                      @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Character                                                                       *
+     ***********************************************************************************/
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThan(char value, char other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThan(char value, char other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThan(char value, char other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThan(char value, char other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThan(char value, char other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThan(char value, char other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThanEquals(char value, char other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThanEquals(char value, char other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThanEquals(char value, char other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThanEquals(char value, char other, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThanEquals(char value, char other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireGreaterThanEquals(char value, char other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThan(char value, char other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThan(char value, char other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThan(char value, char other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThan(char value, char other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThan(char value, char other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThan(char value, char other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThanEquals(char value, char other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThanEquals(char value, char other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThanEquals(char value, char other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThanEquals(char value, char other, @Nonnull String message, Object arg1,
+                                             Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThanEquals(char value, char other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireLessThanEquals(char value, char other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireNonZero(char value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireNonZero(char value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireNonZero(char value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireNonZero(char value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireNonZero(char value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireNonZero(char value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeInclusive(char value, char from, char to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeInclusive(char value, char from, char to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeInclusive(char value, char from, char to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeInclusive(char value, char from, char to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeInclusive(char value, char from, char to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeInclusive(char value, char from, char to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeExclusive(char value, char from, char to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeExclusive(char value, char from, char to,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeExclusive(char value, char from, char to, @Nonnull String message, Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeExclusive(char value, char from, char to, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeExclusive(char value, char from, char to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRangeExclusive(char value, char from, char to, @Nonnull String message, long arg1,
+                                               long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive,
+                                      @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive,
+                                      @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive,
+                                      @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive,
+                                      @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static char requireInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive,
+                                      @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Double                                                                          *
+     ***********************************************************************************/
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, String message) {
+        return requireGreaterThan(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull String message, double arg1) {
+        return requireGreaterThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(Double value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message) {
+        return requireGreaterThan(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message, double arg1) {
+        return requireGreaterThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requirePositive(double value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, String message) {
+        return requireGreaterThanEquals(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull String message, double arg1) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(Double value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message) {
+        return requireGreaterThanEquals(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message, double arg1) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonNegative(double value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message, Object arg1,
+                                            Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(Double value, double other, @Nonnull String message, double arg1,
+                                            double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message, Object arg1,
+                                            Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThan(double value, double other, @Nonnull String message, double arg1,
+                                            double arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other,
+                                                  @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message, Object arg1,
+                                                  Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message, long arg1,
+                                                  long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(Double value, double other, @Nonnull String message, double arg1,
+                                                  double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other,
+                                                  @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message, Object arg1,
+                                                  Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message, long arg1,
+                                                  long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireGreaterThanEquals(double value, double other, @Nonnull String message, double arg1,
+                                                  double arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, String message) {
+        return requireLessThan(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull String message, double arg1) {
+        return requireLessThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(Double value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message) {
+        return requireLessThan(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message, double arg1) {
+        return requireLessThan(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNegative(double value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThan(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, String message) {
+        return requireLessThanEquals(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull String message, double arg1) {
+        return requireLessThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(Double value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message) {
+        return requireLessThanEquals(value, 0.0d, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0.0d, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message, double arg1) {
+        return requireLessThanEquals(value, 0.0d, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonPositive(double value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThanEquals(value, 0.0d, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message, Object arg1,
+                                         Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(Double value, double other, @Nonnull String message, double arg1,
+                                         double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message, Object arg1,
+                                         Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThan(double value, double other, @Nonnull String message, double arg1,
+                                         double arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message, long arg1,
+                                               long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(Double value, double other, @Nonnull String message, double arg1,
+                                               double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.doubleValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message, Object arg1,
+                                               Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message, long arg1,
+                                               long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireLessThanEquals(double value, double other, @Nonnull String message, double arg1,
+                                               double arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), messageSupplier);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(Double value, @Nonnull String message, double arg1, double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.doubleValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireNonZero(double value, @Nonnull String message, double arg1, double arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to,
+                                                 @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message,
+                                                 Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message,
+                                                 Object arg1, Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message,
+                                                 long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message,
+                                                 long arg1, long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message,
+                                                 double arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(Double value, double from, double to, @Nonnull String message,
+                                                 double arg1, double arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to,
+                                                 @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message,
+                                                 Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message,
+                                                 Object arg1, Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message,
+                                                 long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message,
+                                                 long arg1, long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message,
+                                                 double arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeInclusive(double value, double from, double to, @Nonnull String message,
+                                                 double arg1, double arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to,
+                                                 @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message,
+                                                 Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message,
+                                                 Object arg1, Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message,
+                                                 long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message,
+                                                 long arg1, long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message,
+                                                 double arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(Double value, double from, double to, @Nonnull String message,
+                                                 double arg1, double arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to,
+                                                 @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message,
+                                                 Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message,
+                                                 Object arg1, Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message,
+                                                 long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message,
+                                                 long arg1, long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message,
+                                                 double arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRangeExclusive(double value, double from, double to, @Nonnull String message,
+                                                 double arg1, double arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to, boolean toInclusive,
+                                        @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(Double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, double arg1, double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.doubleValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to, boolean toInclusive,
+                                        @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireInRange(double value, double from, boolean fromInclusive, double to,
+                                        boolean toInclusive, @Nonnull String message, double arg1, double arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Float                                                                           *
+     ***********************************************************************************/
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, String message) {
+        return requireGreaterThan(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull String message, double arg1) {
+        return requireGreaterThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(Float value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message) {
+        return requireGreaterThan(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThan(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message, Object arg1) {
+        return requireGreaterThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message, long arg1) {
+        return requireGreaterThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message, double arg1) {
+        return requireGreaterThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requirePositive(float value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, String message) {
+        return requireGreaterThanEquals(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull String message, double arg1) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(Float value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message) {
+        return requireGreaterThanEquals(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireGreaterThanEquals(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message, Object arg1) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message, long arg1) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message, long arg1, long arg2) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message, double arg1) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonNegative(float value, @Nonnull String message, double arg1, double arg2) {
+        return requireGreaterThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message, Object arg1,
+                                           Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(Float value, float other, @Nonnull String message, double arg1,
+                                           double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThan(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message, Object arg1,
+                                           Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThan(float value, float other, @Nonnull String message, double arg1,
+                                           double arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message, Object arg1,
+                                                 Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message, long arg1,
+                                                 long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(Float value, float other, @Nonnull String message, double arg1,
+                                                 double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireGreaterThanEquals(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message, Object arg1,
+                                                 Object arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message, long arg1,
+                                                 long arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireGreaterThanEquals(float value, float other, @Nonnull String message, double arg1,
+                                                 double arg2) {
+        if (enabled(CHEAP) && !record(isGreaterThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, String message) {
+        return requireLessThan(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull String message, double arg1) {
+        return requireLessThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(Float value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message) {
+        return requireLessThan(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThan(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message, Object arg1) {
+        return requireLessThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message, long arg1) {
+        return requireLessThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message, double arg1) {
+        return requireLessThan(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNegative(float value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThan(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, String message) {
+        return requireLessThanEquals(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull String message, double arg1) {
+        return requireLessThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(Float value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message) {
+        return requireLessThanEquals(value, 0.0f, message);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull Supplier<String> messageSupplier) {
+        return requireLessThanEquals(value, 0.0f, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message, Object arg1) {
+        return requireLessThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message, Object arg1, Object arg2) {
+        return requireLessThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message, long arg1) {
+        return requireLessThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message, long arg1, long arg2) {
+        return requireLessThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message, double arg1) {
+        return requireLessThanEquals(value, 0.0f, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonPositive(float value, @Nonnull String message, double arg1, double arg2) {
+        return requireLessThanEquals(value, 0.0f, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(Float value, float other, @Nonnull String message, double arg1, double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThan(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThan(float value, float other, @Nonnull String message, double arg1, double arg2) {
+        if (enabled(CHEAP) && !record(isLessThan(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message, arg1);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(Float value, float other, @Nonnull String message, double arg1,
+                                              double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireLessThanEquals(value.floatValue(), other, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value           the value to check
+     * @param other           the other value to compare with
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message, Object arg1,
+                                              Object arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value   the value to check
+     * @param other   the other value to compare with
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireLessThanEquals(float value, float other, @Nonnull String message, double arg1,
+                                              double arg2) {
+        if (enabled(CHEAP) && !record(isLessThanEquals(value, other), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), messageSupplier);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message, arg1);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(Float value, @Nonnull String message, double arg1, double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireNonZero(value.floatValue(), message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isNonZero(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireNonZero(float value, @Nonnull String message, double arg1, double arg2) {
+        if (enabled(CHEAP) && !record(isNonZero(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message,
+                                                Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message, long arg1,
+                                                long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message,
+                                                double arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(Float value, float from, float to, @Nonnull String message, double arg1,
+                                                double arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message) {
+        return requireInRange(value, from, true, to, true, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (inclusive)
+     * @param to              the upper end of the range (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, true, to, true, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message,
+                                                Object arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message, long arg1,
+                                                long arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message,
+                                                double arg1) {
+        return requireInRange(value, from, true, to, true, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (inclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (inclusive)
+     * @param to      the upper end of the range (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeInclusive(float value, float from, float to, @Nonnull String message, double arg1,
+                                                double arg2) {
+        return requireInRange(value, from, true, to, true, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message,
+                                                Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message, long arg1,
+                                                long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message,
+                                                double arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(Float value, float from, float to, @Nonnull String message, double arg1,
+                                                double arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message) {
+        return requireInRange(value, from, false, to, false, message);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range (exclusive)
+     * @param to              the upper end of the range (exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to,
+                                                @Nonnull Supplier<String> messageSupplier) {
+        return requireInRange(value, from, false, to, false, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message,
+                                                Object arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message, Object arg1,
+                                                Object arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message, long arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message, long arg1,
+                                                long arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message,
+                                                double arg1) {
+        return requireInRange(value, from, false, to, false, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range (exclusive)
+     *
+     * @param value   the value to check
+     * @param from    the lower end of the range (exclusive)
+     * @param to      the upper end of the range (exclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRangeExclusive(float value, float from, float to, @Nonnull String message, double arg1,
+                                                double arg2) {
+        return requireInRange(value, from, false, to, false, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull Supplier<String> messageSupplier) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, messageSupplier)) {
+                fail(messageSupplier);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, Object arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, Object arg1, Object arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, long arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, long arg1, long arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, double arg1) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message, arg1);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, double arg1, double arg2) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, message)) {
+                fail(message, arg1, arg2);
+            }
+            return 0;
+        }
+        return requireInRange(value.floatValue(), from, fromInclusive, to, toInclusive, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value           the value to check
+     * @param from            the lower end of the range
+     * @param fromInclusive   whether the lower end is inclusive (or exclusive)
+     * @param to              the upper end of the range
+     * @param toInclusive     whether the upper end is inclusive (or exclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, long arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, double arg1) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static float requireInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive,
+                                       @Nonnull String message, double arg1, double arg2) {
+        if (enabled(CHEAP) && !record(isInRange(value, from, fromInclusive, to, toInclusive), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /* *********************************************************************************
+     * Predicates                                                                      *
+     ***********************************************************************************/
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isPositive(Long value) {
+        return isGreaterThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isPositive(long value) {
+        return isGreaterThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonNegative(Long value) {
+        return isGreaterThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonNegative(long value) {
+        return isGreaterThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThan(Long value, long other) {
+        return value != null && isGreaterThan(value.longValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(long value, long other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThanEquals(Long value, long other) {
+        return value != null && isGreaterThanEquals(value.longValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(long value, long other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNegative(Long value) {
+        return isLessThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNegative(long value) {
+        return isLessThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonPositive(Long value) {
+        return isLessThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonPositive(long value) {
+        return isLessThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThan(Long value, long other) {
+        return value != null && isLessThan(value.longValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(long value, long other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThanEquals(Long value, long other) {
+        return value != null && isLessThanEquals(value.longValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(long value, long other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonZero(Long value) {
+        return value != null && isNonZero(value.longValue());
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(long value) {
+        return value != 0;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeInclusive(Long value, long from, long to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(long value, long from, long to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeExclusive(Long value, long from, long to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(long value, long from, long to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRange(Long value, long from, boolean fromInclusive, long to, boolean toInclusive) {
+        return value != null && isInRange(value.longValue(), from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(long value, long from, boolean fromInclusive, long to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isPositive(Integer value) {
+        return isGreaterThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isPositive(int value) {
+        return isGreaterThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonNegative(Integer value) {
+        return isGreaterThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonNegative(int value) {
+        return isGreaterThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThan(Integer value, int other) {
+        return value != null && isGreaterThan(value.intValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(int value, int other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThanEquals(Integer value, int other) {
+        return value != null && isGreaterThanEquals(value.intValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(int value, int other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNegative(Integer value) {
+        return isLessThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNegative(int value) {
+        return isLessThan(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonPositive(Integer value) {
+        return isLessThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonPositive(int value) {
+        return isLessThanEquals(value, 0);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThan(Integer value, int other) {
+        return value != null && isLessThan(value.intValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(int value, int other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThanEquals(Integer value, int other) {
+        return value != null && isLessThanEquals(value.intValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(int value, int other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonZero(Integer value) {
+        return value != null && isNonZero(value.intValue());
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(int value) {
+        return value != 0;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeInclusive(Integer value, int from, int to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(int value, int from, int to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeExclusive(Integer value, int from, int to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(int value, int from, int to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRange(Integer value, int from, boolean fromInclusive, int to, boolean toInclusive) {
+        return value != null && isInRange(value.intValue(), from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(int value, int from, boolean fromInclusive, int to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isPositive(short value) {
+        return isGreaterThan(value, (short) 0);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonNegative(short value) {
+        return isGreaterThanEquals(value, (short) 0);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(short value, short other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(short value, short other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNegative(short value) {
+        return isLessThan(value, (short) 0);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonPositive(short value) {
+        return isLessThanEquals(value, (short) 0);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(short value, short other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(short value, short other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(short value) {
+        return value != (short) 0;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(short value, short from, short to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(short value, short from, short to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(short value, short from, boolean fromInclusive, short to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isPositive(byte value) {
+        return isGreaterThan(value, (byte) 0);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonNegative(byte value) {
+        return isGreaterThanEquals(value, (byte) 0);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(byte value, byte other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(byte value, byte other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNegative(byte value) {
+        return isLessThan(value, (byte) 0);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonPositive(byte value) {
+        return isLessThanEquals(value, (byte) 0);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(byte value, byte other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(byte value, byte other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(byte value) {
+        return value != (byte) 0;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(byte value, byte from, byte to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(byte value, byte from, byte to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(byte value, byte from, boolean fromInclusive, byte to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(char value, char other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(char value, char other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(char value, char other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(char value, char other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(char value) {
+        return value != 0;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(char value, char from, char to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(char value, char from, char to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(char value, char from, boolean fromInclusive, char to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isPositive(Double value) {
+        return isGreaterThan(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isPositive(double value) {
+        return isGreaterThan(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonNegative(Double value) {
+        return isGreaterThanEquals(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonNegative(double value) {
+        return isGreaterThanEquals(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThan(Double value, double other) {
+        return value != null && isGreaterThan(value.doubleValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(double value, double other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThanEquals(Double value, double other) {
+        return value != null && isGreaterThanEquals(value.doubleValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(double value, double other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNegative(Double value) {
+        return isLessThan(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNegative(double value) {
+        return isLessThan(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonPositive(Double value) {
+        return isLessThanEquals(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonPositive(double value) {
+        return isLessThanEquals(value, 0.0d);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThan(Double value, double other) {
+        return value != null && isLessThan(value.doubleValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(double value, double other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThanEquals(Double value, double other) {
+        return value != null && isLessThanEquals(value.doubleValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(double value, double other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonZero(Double value) {
+        return value != null && isNonZero(value.doubleValue());
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(double value) {
+        return value != 0.0d;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeInclusive(Double value, double from, double to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(double value, double from, double to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeExclusive(Double value, double from, double to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(double value, double from, double to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRange(Double value, double from, boolean fromInclusive, double to, boolean toInclusive) {
+        return value != null && isInRange(value.doubleValue(), from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(double value, double from, boolean fromInclusive, double to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isPositive(Float value) {
+        return isGreaterThan(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is positive (<tt>value &gt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isPositive(float value) {
+        return isGreaterThan(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonNegative(Float value) {
+        return isGreaterThanEquals(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is non-negative (<tt>value &gt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonNegative(float value) {
+        return isGreaterThanEquals(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThan(Float value, float other) {
+        return value != null && isGreaterThan(value.floatValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than another value (<tt>value &gt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThan(float value, float other) {
+        return value > other;
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isGreaterThanEquals(Float value, float other) {
+        return value != null && isGreaterThanEquals(value.floatValue(), other);
+    }
+
+    /**
+     * Check whether the given value is greater than or equals to another value (<tt>value &gt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isGreaterThanEquals(float value, float other) {
+        return value >= other;
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNegative(Float value) {
+        return isLessThan(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is negative (<tt>value &lt; 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNegative(float value) {
+        return isLessThan(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonPositive(Float value) {
+        return isLessThanEquals(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is non-positive (<tt>value &lt;= 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonPositive(float value) {
+        return isLessThanEquals(value, 0.0f);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThan(Float value, float other) {
+        return value != null && isLessThan(value.floatValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than another value (<tt>value &lt; other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThan(float value, float other) {
+        return value < other;
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isLessThanEquals(Float value, float other) {
+        return value != null && isLessThanEquals(value.floatValue(), other);
+    }
+
+    /**
+     * Check whether the given value is less than or equals to another value (<tt>value &lt;= other</tt>)
+     *
+     * @param value the value to check
+     * @param other the other value to compare with
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isLessThanEquals(float value, float other) {
+        return value <= other;
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isNonZero(Float value) {
+        return value != null && isNonZero(value.floatValue());
+    }
+
+    /**
+     * Check whether the given value is not zero (<tt>value != 0</tt>)
+     *
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonZero(float value) {
+        return value != 0.0f;
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeInclusive(Float value, float from, float to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (inclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (inclusive)
+     * @param to            the upper end of the range (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeInclusive(float value, float from, float to) {
+        return isInRange(value, from, true, to, true);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRangeExclusive(Float value, float from, float to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range (exclusive)
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range (exclusive)
+     * @param to            the upper end of the range (exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRangeExclusive(float value, float from, float to) {
+        return isInRange(value, from, false, to, false);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement (<tt>false</tt> if it is <tt>null</tt>)
+     */
+    public static boolean isInRange(Float value, float from, boolean fromInclusive, float to, boolean toInclusive) {
+        return value != null && isInRange(value.floatValue(), from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Check whether the given value is in a given range
+     *
+     * @param value         the value to check
+     * @param from          the lower end of the range
+     * @param fromInclusive whether the lower end is inclusive (or exclusive)
+     * @param to            the upper end of the range
+     * @param toInclusive   whether the upper end is inclusive (or exclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isInRange(float value, float from, boolean fromInclusive, float to, boolean toInclusive) {
+        return (fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to);
+    }
 }
@@ -0,0 +1,1017 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.FULL;
+
+/**
+ * A utility class for common methods on arguments of primitive array types (<tt>long[]</tt>, <tt>int[]</tt>,
+ * <tt>double[]</tt> and <tt>float[]</tt>), requiring that all the elements of an array, or of a sub-range of it,
+ * satisfy a requirement.
+ * <p>
+ * The elements are checked in blocks, with loops which have no early exit and no branch on the element values (e.g.
+ * a bitwise <tt>or</tt> of the elements for a sign check, or a non-short-circuit <tt>and</tt> of the comparisons for a
+ * range check), which keeps the common case of a valid array free of mispredicted branches. Only a block which
+ * fails the check is scanned again to find the first offending element, whose index and value are reported through the
+ * error message template. The <tt>indexOf*</tt> methods return that index without failing, or <tt>-1</tt> if all the
+ * elements satisfy the requirement. A <tt>null</tt> array fails a requirement with the index <tt>-1</tt>.
+ *
+ * @author Yinon Avraham.
+ */
+public abstract class NumericArrayArgs {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    private NumericArrayArgs() {
+        //utility
+    }
+
+    /* *********************************************************************************
+     * long                                                                            *
+     ***********************************************************************************/
+
+    /**
+     * Require that each element of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static long[] requireAllInRange(long[] values, long lo, long hi, @Nonnull String messageTemplate) {
+        return requireAllInRange(values, 0, values == null ? 0 : values.length, lo, hi, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static long[] requireAllInRange(long[] values, int from, int to, long lo, long hi,
+                                           @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfOutOfRange(values, from, to, lo, hi);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, index, values[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static long[] requireAllNonNegative(long[] values, @Nonnull String messageTemplate) {
+        return requireAllNonNegative(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static long[] requireAllNonNegative(long[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfNegative(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, index, values[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static long[] requireAllNonZero(long[] values, @Nonnull String messageTemplate) {
+        return requireAllNonZero(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static long[] requireAllNonZero(long[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfZero(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, index, values[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is out of a given range (inclusive)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @param lo     the lower end of the range (inclusive)
+     * @param hi     the upper end of the range (inclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfOutOfRange(@Nonnull long[] values, int from, int to, long lo, long hi) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            long min = values[start];
+            long max = values[start];
+            for (int i = start + 1; i < end; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+            if (!(min >= lo && max <= hi)) {
+                for (int i = start; i < end; i++) {
+                    if (!(values[i] >= lo && values[i] <= hi)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is negative (<tt>value &lt; 0</tt>, or NaN)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfNegative(@Nonnull long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            long bits = 0;
+            for (int i = start; i < end; i++) {
+                bits |= values[i];
+            }
+            if (bits < 0) {
+                for (int i = start; i < end; i++) {
+                    if (values[i] < 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is zero (<tt>value == 0</tt>)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfZero(@Nonnull long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            long bits = -1;
+            for (int i = start; i < end; i++) {
+                bits &= values[i] | -values[i];
+            }
+            if (bits >= 0) {
+                for (int i = start; i < end; i++) {
+                    if (values[i] == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /* *********************************************************************************
+     * int                                                                             *
+     ***********************************************************************************/
+
+    /**
+     * Require that each element of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static int[] requireAllInRange(int[] values, int lo, int hi, @Nonnull String messageTemplate) {
+        return requireAllInRange(values, 0, values == null ? 0 : values.length, lo, hi, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static int[] requireAllInRange(int[] values, int from, int to, int lo, int hi,
+                                          @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfOutOfRange(values, from, to, lo, hi);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, index, values[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static int[] requireAllNonNegative(int[] values, @Nonnull String messageTemplate) {
+        return requireAllNonNegative(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static int[] requireAllNonNegative(int[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfNegative(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, index, values[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static int[] requireAllNonZero(int[] values, @Nonnull String messageTemplate) {
+        return requireAllNonZero(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static int[] requireAllNonZero(int[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfZero(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, index, values[index]);
+        }
+        return values;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is out of a given range (inclusive)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @param lo     the lower end of the range (inclusive)
+     * @param hi     the upper end of the range (inclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfOutOfRange(@Nonnull int[] values, int from, int to, int lo, int hi) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int min = values[start];
+            int max = values[start];
+            for (int i = start + 1; i < end; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+            if (!(min >= lo && max <= hi)) {
+                for (int i = start; i < end; i++) {
+                    if (!(values[i] >= lo && values[i] <= hi)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is negative (<tt>value &lt; 0</tt>, or NaN)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfNegative(@Nonnull int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int bits = 0;
+            for (int i = start; i < end; i++) {
+                bits |= values[i];
+            }
+            if (bits < 0) {
+                for (int i = start; i < end; i++) {
+                    if (values[i] < 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is zero (<tt>value == 0</tt>)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfZero(@Nonnull int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int bits = -1;
+            for (int i = start; i < end; i++) {
+                bits &= values[i] | -values[i];
+            }
+            if (bits >= 0) {
+                for (int i = start; i < end; i++) {
+                    if (values[i] == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /* *********************************************************************************
+     * double                                                                          *
+     ***********************************************************************************/
+
+    /**
+     * Require that each element of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static double[] requireAllInRange(double[] values, double lo, double hi, @Nonnull String messageTemplate) {
+        return requireAllInRange(values, 0, values == null ? 0 : values.length, lo, hi, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static double[] requireAllInRange(double[] values, int from, int to, double lo, double hi,
+                                             @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfOutOfRange(values, from, to, lo, hi);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Double.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static double[] requireAllNonNegative(double[] values, @Nonnull String messageTemplate) {
+        return requireAllNonNegative(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static double[] requireAllNonNegative(double[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfNegative(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Double.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static double[] requireAllNonZero(double[] values, @Nonnull String messageTemplate) {
+        return requireAllNonZero(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static double[] requireAllNonZero(double[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfZero(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Double.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is finite (not infinite and not NaN)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is not finite"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static double[] requireAllFinite(double[] values, @Nonnull String messageTemplate) {
+        return requireAllFinite(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is finite (not infinite and not NaN)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is not finite"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static double[] requireAllFinite(double[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfNonFinite(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Double.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is out of a given range (inclusive)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @param lo     the lower end of the range (inclusive)
+     * @param hi     the upper end of the range (inclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfOutOfRange(@Nonnull double[] values, int from, int to, double lo, double hi) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            boolean valid = true;
+            for (int i = start; i < end; i++) {
+                valid &= values[i] >= lo & values[i] <= hi;
+            }
+            if (!valid) {
+                for (int i = start; i < end; i++) {
+                    if (!(values[i] >= lo && values[i] <= hi)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is negative (<tt>value &lt; 0</tt>, or NaN)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfNegative(@Nonnull double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            boolean valid = true;
+            for (int i = start; i < end; i++) {
+                valid &= values[i] >= 0;
+            }
+            if (!valid) {
+                for (int i = start; i < end; i++) {
+                    if (!(values[i] >= 0)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is zero (<tt>value == 0</tt>)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfZero(@Nonnull double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int zeros = 0;
+            for (int i = start; i < end; i++) {
+                zeros += values[i] == 0 ? 1 : 0;
+            }
+            if (zeros > 0) {
+                for (int i = start; i < end; i++) {
+                    if (values[i] == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is not finite (infinite or NaN)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfNonFinite(@Nonnull double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            boolean valid = true;
+            for (int i = start; i < end; i++) {
+                valid &= Math.abs(values[i]) <= Double.MAX_VALUE;
+            }
+            if (!valid) {
+                for (int i = start; i < end; i++) {
+                    if (!(Math.abs(values[i]) <= Double.MAX_VALUE)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /* *********************************************************************************
+     * float                                                                           *
+     ***********************************************************************************/
+
+    /**
+     * Require that each element of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static float[] requireAllInRange(float[] values, float lo, float hi, @Nonnull String messageTemplate) {
+        return requireAllInRange(values, 0, values == null ? 0 : values.length, lo, hi, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is within a given range (inclusive)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param lo              the lower end of the range (inclusive)
+     * @param hi              the upper end of the range (inclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is out of range"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static float[] requireAllInRange(float[] values, int from, int to, float lo, float hi,
+                                            @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfOutOfRange(values, from, to, lo, hi);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Float.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static float[] requireAllNonNegative(float[] values, @Nonnull String messageTemplate) {
+        return requireAllNonNegative(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is non-negative (<tt>value &gt;= 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is negative"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static float[] requireAllNonNegative(float[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfNegative(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Float.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static float[] requireAllNonZero(float[] values, @Nonnull String messageTemplate) {
+        return requireAllNonZero(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is not zero (<tt>value != 0</tt>)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is zero"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static float[] requireAllNonZero(float[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfZero(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Float.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Require that each element of the given array is finite (not infinite and not NaN)
+     * @param values          the array to check
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is not finite"</tt>
+     * @return the array if satisfies the requirement
+     */
+    @Nonnull
+    public static float[] requireAllFinite(float[] values, @Nonnull String messageTemplate) {
+        return requireAllFinite(values, 0, values == null ? 0 : values.length, messageTemplate);
+    }
+
+    /**
+     * Require that each element in a sub-range of the given array is finite (not infinite and not NaN)
+     * @param values          the array to check
+     * @param from            the index of the first element to check (inclusive)
+     * @param to              the index of the last element to check (exclusive)
+     * @param messageTemplate the error message template, formatted with the index and the value of the first element
+     *                        which does not satisfy the requirement, e.g. <tt>"values[%s] = %s is not finite"</tt>
+     * @return the array if satisfies the requirement
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    @Nonnull
+    public static float[] requireAllFinite(float[] values, int from, int to, @Nonnull String messageTemplate) {
+        if (!enabled(FULL)) {
+            return values;
+        }
+        if (values == null) {
+            record(false, messageTemplate);
+            fail(messageTemplate, -1, null);
+            return null;
+        }
+        int index = indexOfNonFinite(values, from, to);
+        if (!record(index < 0, messageTemplate)) {
+            fail(messageTemplate, Integer.valueOf(index), Float.valueOf(values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is out of a given range (inclusive)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @param lo     the lower end of the range (inclusive)
+     * @param hi     the upper end of the range (inclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfOutOfRange(@Nonnull float[] values, int from, int to, float lo, float hi) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            boolean valid = true;
+            for (int i = start; i < end; i++) {
+                valid &= values[i] >= lo & values[i] <= hi;
+            }
+            if (!valid) {
+                for (int i = start; i < end; i++) {
+                    if (!(values[i] >= lo && values[i] <= hi)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is negative (<tt>value &lt; 0</tt>, or NaN)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfNegative(@Nonnull float[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            boolean valid = true;
+            for (int i = start; i < end; i++) {
+                valid &= values[i] >= 0;
+            }
+            if (!valid) {
+                for (int i = start; i < end; i++) {
+                    if (!(values[i] >= 0)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is zero (<tt>value == 0</tt>)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfZero(@Nonnull float[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int zeros = 0;
+            for (int i = start; i < end; i++) {
+                zeros += values[i] == 0 ? 1 : 0;
+            }
+            if (zeros > 0) {
+                for (int i = start; i < end; i++) {
+                    if (values[i] == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first element in a sub-range of the given array which is not finite (infinite or NaN)
+     * @param values the array to check
+     * @param from   the index of the first element to check (inclusive)
+     * @param to     the index of the last element to check (exclusive)
+     * @return the index of the first element which does not satisfy the requirement, or <tt>-1</tt> if there is none
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int indexOfNonFinite(@Nonnull float[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            boolean valid = true;
+            for (int i = start; i < end; i++) {
+                valid &= Math.abs(values[i]) <= Float.MAX_VALUE;
+            }
+            if (!valid) {
+                for (int i = start; i < end; i++) {
+                    if (!(Math.abs(values[i]) <= Float.MAX_VALUE)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /* *********************************************************************************
+     * Range checks                                                                    *
+     ***********************************************************************************/
+
+    /**
+     * @throws IndexOutOfBoundsException if the sub-range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException(
+                    "range [" + from + ", " + to + ") is out of the bounds of an array of length " + length);
+        }
+    }
+}
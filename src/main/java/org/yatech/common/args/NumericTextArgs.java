@@ -0,0 +1,2524 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
+
+/**
+ * A utility class for common methods on numeric arguments given as text, e.g. query parameters, headers or CSV cells,
+ * which parse the text and check the range of the value in a single pass.
+ * <p>
+ * The text can be a {@link CharSequence} (or a sub-sequence of it), or ASCII bytes in a {@link ByteBuffer} (between
+ * its position and limit, which are not changed) or in a sub-range of a <tt>byte[]</tt>. Instead of
+ * <tt>NumericArgs.requireInRange(Long.valueOf(text.toString()), ...)</tt>, which copies the text and boxes the value,
+ * the requirements return the primitive value and do not allocate when they are satisfied:
+ * <pre>
+ * int limit = NumericTextArgs.requireParsableInt(request.getParameter("limit"), 1, 1000,
+ *         "limit must be an integer in [1, 1000]");
+ * </pre>
+ * An integer is parsed with an early exit as soon as its digits overflow its type, as in
+ * {@link Integer#parseInt(String)}, and the parsed value is then checked against the range. A decimal number is
+ * computed exactly from its digits when its first 18 significant digits form an integer of at most 2<sup>53</sup>, any
+ * further digits are zeros, and its decimal exponent is at most 22 in magnitude, which covers every number with up to
+ * 15 significant digits. Any other decimal number falls back to {@link Double#parseDouble(String)} (after its syntax is
+ * checked). Note that the text is not trimmed, and that a decimal number does not include <tt>NaN</tt>,
+ * <tt>Infinity</tt> or hexadecimal notation.
+ * <p>
+ * A text which cannot be parsed fails the requirement like a value which is out of range, with the same error
+ * message. When the requirement is not enforced (in the {@link Violations collecting mode}, or with the
+ * {@link ValidationLevel#OFF OFF} validation level), a value which is out of range is returned as parsed, and only a
+ * text which cannot be parsed is returned as <tt>0</tt>.
+ *
+ * @author Yinon Avraham.
+ */
+public abstract class NumericTextArgs {
+
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXPONENT = 100_000;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final NotParsableException NOT_PARSABLE = new NotParsableException();
+
+    private NumericTextArgs() {
+        //utility
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in {@link Long#parseLong(String)},
+     * and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(CharSequence text, long lo, long hi, @Nonnull String message) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, 0, text == null ? 0 : text.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in {@link Long#parseLong(String)},
+     * and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text            the text to parse
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(CharSequence text, long lo, long hi,
+                                           @Nonnull Supplier<String> messageSupplier) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, 0, text == null ? 0 : text.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in {@link Long#parseLong(String)},
+     * and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(CharSequence text, long lo, long hi, @Nonnull String message, Object arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, 0, text == null ? 0 : text.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in {@link Long#parseLong(String)},
+     * and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(CharSequence text, long lo, long hi, @Nonnull String message, Object arg1,
+                                           Object arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, 0, text == null ? 0 : text.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in {@link Long#parseLong(String)},
+     * and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(CharSequence text, long lo, long hi, @Nonnull String message, long arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, 0, text == null ? 0 : text.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in {@link Long#parseLong(String)},
+     * and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(CharSequence text, long lo, long hi, @Nonnull String message, long arg1,
+                                           long arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, 0, text == null ? 0 : text.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static long requireParsableLong(CharSequence text, int start, int end, long lo, long hi,
+                                           @Nonnull String message) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text            the text to parse
+     * @param start           the index of the first character to parse (inclusive)
+     * @param end             the index of the last character to parse (exclusive)
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static long requireParsableLong(CharSequence text, int start, int end, long lo, long hi,
+                                           @Nonnull Supplier<String> messageSupplier) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static long requireParsableLong(CharSequence text, int start, int end, long lo, long hi,
+                                           @Nonnull String message, Object arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static long requireParsableLong(CharSequence text, int start, int end, long lo, long hi,
+                                           @Nonnull String message, Object arg1, Object arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static long requireParsableLong(CharSequence text, int start, int end, long lo, long hi,
+                                           @Nonnull String message, long arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static long requireParsableLong(CharSequence text, int start, int end, long lo, long hi,
+                                           @Nonnull String message, long arg1, long arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(ByteBuffer buffer, long lo, long hi, @Nonnull String message) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(buffer, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param buffer          the buffer to parse
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(ByteBuffer buffer, long lo, long hi,
+                                           @Nonnull Supplier<String> messageSupplier) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(buffer, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(ByteBuffer buffer, long lo, long hi, @Nonnull String message, Object arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(buffer, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(ByteBuffer buffer, long lo, long hi, @Nonnull String message, Object arg1,
+                                           Object arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(buffer, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(ByteBuffer buffer, long lo, long hi, @Nonnull String message, long arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(buffer, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static long requireParsableLong(ByteBuffer buffer, long lo, long hi, @Nonnull String message, long arg1,
+                                           long arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(buffer, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static long requireParsableLong(byte[] bytes, int from, int to, long lo, long hi, @Nonnull String message) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param bytes           the array to parse
+     * @param from            the index of the first byte to parse (inclusive)
+     * @param to              the index of the last byte to parse (exclusive)
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static long requireParsableLong(byte[] bytes, int from, int to, long lo, long hi,
+                                           @Nonnull Supplier<String> messageSupplier) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static long requireParsableLong(byte[] bytes, int from, int to, long lo, long hi, @Nonnull String message,
+                                           Object arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static long requireParsableLong(byte[] bytes, int from, int to, long lo, long hi, @Nonnull String message,
+                                           Object arg1, Object arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static long requireParsableLong(byte[] bytes, int from, int to, long lo, long hi, @Nonnull String message,
+                                           long arg1) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Long#parseLong(String)}, and parse it to a <tt>long</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static long requireParsableLong(byte[] bytes, int from, int to, long lo, long hi, @Nonnull String message,
+                                           long arg1, long arg2) {
+        long value = 0;
+        boolean parsed;
+        try {
+            value = parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(CharSequence text, int lo, int hi, @Nonnull String message) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, 0, text == null ? 0 : text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text            the text to parse
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(CharSequence text, int lo, int hi, @Nonnull Supplier<String> messageSupplier) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, 0, text == null ? 0 : text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(CharSequence text, int lo, int hi, @Nonnull String message, Object arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, 0, text == null ? 0 : text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(CharSequence text, int lo, int hi, @Nonnull String message, Object arg1,
+                                         Object arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, 0, text == null ? 0 : text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(CharSequence text, int lo, int hi, @Nonnull String message, long arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, 0, text == null ? 0 : text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(CharSequence text, int lo, int hi, @Nonnull String message, long arg1,
+                                         long arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, 0, text == null ? 0 : text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static int requireParsableInt(CharSequence text, int start, int end, int lo, int hi,
+                                         @Nonnull String message) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text            the text to parse
+     * @param start           the index of the first character to parse (inclusive)
+     * @param end             the index of the last character to parse (exclusive)
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static int requireParsableInt(CharSequence text, int start, int end, int lo, int hi,
+                                         @Nonnull Supplier<String> messageSupplier) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static int requireParsableInt(CharSequence text, int start, int end, int lo, int hi, @Nonnull String message,
+                                         Object arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static int requireParsableInt(CharSequence text, int start, int end, int lo, int hi, @Nonnull String message,
+                                         Object arg1, Object arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static int requireParsableInt(CharSequence text, int start, int end, int lo, int hi, @Nonnull String message,
+                                         long arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static int requireParsableInt(CharSequence text, int start, int end, int lo, int hi, @Nonnull String message,
+                                         long arg1, long arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(ByteBuffer buffer, int lo, int hi, @Nonnull String message) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param buffer          the buffer to parse
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(ByteBuffer buffer, int lo, int hi, @Nonnull Supplier<String> messageSupplier) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(ByteBuffer buffer, int lo, int hi, @Nonnull String message, Object arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(ByteBuffer buffer, int lo, int hi, @Nonnull String message, Object arg1,
+                                         Object arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(ByteBuffer buffer, int lo, int hi, @Nonnull String message, long arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static int requireParsableInt(ByteBuffer buffer, int lo, int hi, @Nonnull String message, long arg1,
+                                         long arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int requireParsableInt(byte[] bytes, int from, int to, int lo, int hi, @Nonnull String message) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param bytes           the array to parse
+     * @param from            the index of the first byte to parse (inclusive)
+     * @param to              the index of the last byte to parse (exclusive)
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int requireParsableInt(byte[] bytes, int from, int to, int lo, int hi,
+                                         @Nonnull Supplier<String> messageSupplier) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int requireParsableInt(byte[] bytes, int from, int to, int lo, int hi, @Nonnull String message,
+                                         Object arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int requireParsableInt(byte[] bytes, int from, int to, int lo, int hi, @Nonnull String message,
+                                         Object arg1, Object arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int requireParsableInt(byte[] bytes, int from, int to, int lo, int hi, @Nonnull String message,
+                                         long arg1) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is an optional sign followed by decimal digits, as in
+     * {@link Integer#parseInt(String)}, and parse it to a <tt>int</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static int requireParsableInt(byte[] bytes, int from, int to, int lo, int hi, @Nonnull String message,
+                                         long arg1, long arg2) {
+        int value = 0;
+        boolean parsed;
+        try {
+            value = (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is a decimal number with an optional sign, fraction and exponent, e.g.
+     * <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(CharSequence text, double lo, double hi, @Nonnull String message) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, 0, text == null ? 0 : text.length());
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is a decimal number with an optional sign, fraction and exponent, e.g.
+     * <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text            the text to parse
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(CharSequence text, double lo, double hi,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, 0, text == null ? 0 : text.length());
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is a decimal number with an optional sign, fraction and exponent, e.g.
+     * <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(CharSequence text, double lo, double hi, @Nonnull String message,
+                                               Object arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, 0, text == null ? 0 : text.length());
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is a decimal number with an optional sign, fraction and exponent, e.g.
+     * <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(CharSequence text, double lo, double hi, @Nonnull String message,
+                                               Object arg1, Object arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, 0, text == null ? 0 : text.length());
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is a decimal number with an optional sign, fraction and exponent, e.g.
+     * <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(CharSequence text, double lo, double hi, @Nonnull String message,
+                                               long arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, 0, text == null ? 0 : text.length());
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given text is a decimal number with an optional sign, fraction and exponent, e.g.
+     * <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(CharSequence text, double lo, double hi, @Nonnull String message,
+                                               long arg1, long arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, 0, text == null ? 0 : text.length());
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static double requireParsableDouble(CharSequence text, int start, int end, double lo, double hi,
+                                               @Nonnull String message) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, start, end);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text            the text to parse
+     * @param start           the index of the first character to parse (inclusive)
+     * @param end             the index of the last character to parse (exclusive)
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static double requireParsableDouble(CharSequence text, int start, int end, double lo, double hi,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, start, end);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static double requireParsableDouble(CharSequence text, int start, int end, double lo, double hi,
+                                               @Nonnull String message, Object arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, start, end);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static double requireParsableDouble(CharSequence text, int start, int end, double lo, double hi,
+                                               @Nonnull String message, Object arg1, Object arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, start, end);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static double requireParsableDouble(CharSequence text, int start, int end, double lo, double hi,
+                                               @Nonnull String message, long arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, start, end);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-sequence of the given text is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param text    the text to parse
+     * @param start   the index of the first character to parse (inclusive)
+     * @param end     the index of the last character to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the text bounds, or <tt>start &gt; end</tt>
+     */
+    public static double requireParsableDouble(CharSequence text, int start, int end, double lo, double hi,
+                                               @Nonnull String message, long arg1, long arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(text, start, end);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is a decimal number with an optional sign, fraction and
+     * exponent, e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(ByteBuffer buffer, double lo, double hi, @Nonnull String message) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(buffer);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is a decimal number with an optional sign, fraction and
+     * exponent, e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param buffer          the buffer to parse
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(ByteBuffer buffer, double lo, double hi,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(buffer);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is a decimal number with an optional sign, fraction and
+     * exponent, e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(ByteBuffer buffer, double lo, double hi, @Nonnull String message,
+                                               Object arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(buffer);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is a decimal number with an optional sign, fraction and
+     * exponent, e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(ByteBuffer buffer, double lo, double hi, @Nonnull String message,
+                                               Object arg1, Object arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(buffer);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is a decimal number with an optional sign, fraction and
+     * exponent, e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(ByteBuffer buffer, double lo, double hi, @Nonnull String message,
+                                               long arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(buffer);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the remaining bytes of the given buffer is a decimal number with an optional sign, fraction and
+     * exponent, e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param buffer  the buffer to parse
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    public static double requireParsableDouble(ByteBuffer buffer, double lo, double hi, @Nonnull String message,
+                                               long arg1, long arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(buffer);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message to use
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static double requireParsableDouble(byte[] bytes, int from, int to, double lo, double hi,
+                                               @Nonnull String message) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(bytes, from, to);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param bytes           the array to parse
+     * @param from            the index of the first byte to parse (inclusive)
+     * @param to              the index of the last byte to parse (exclusive)
+     * @param lo              the lowest allowed value (inclusive)
+     * @param hi              the highest allowed value (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static double requireParsableDouble(byte[] bytes, int from, int to, double lo, double hi,
+                                               @Nonnull Supplier<String> messageSupplier) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(bytes, from, to);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static double requireParsableDouble(byte[] bytes, int from, int to, double lo, double hi,
+                                               @Nonnull String message, Object arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(bytes, from, to);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static double requireParsableDouble(byte[] bytes, int from, int to, double lo, double hi,
+                                               @Nonnull String message, Object arg1, Object arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(bytes, from, to);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static double requireParsableDouble(byte[] bytes, int from, int to, double lo, double hi,
+                                               @Nonnull String message, long arg1) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(bytes, from, to);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that a sub-range of the given array is a decimal number with an optional sign, fraction and exponent,
+     * e.g. <tt>-12.5e3</tt>, and parse it to a <tt>double</tt> which is within a given range (inclusive)
+     *
+     * @param bytes   the array to parse
+     * @param from    the index of the first byte to parse (inclusive)
+     * @param to      the index of the last byte to parse (exclusive)
+     * @param lo      the lowest allowed value (inclusive)
+     * @param hi      the highest allowed value (inclusive)
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the parsed value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds, or <tt>from &gt; to</tt>
+     */
+    public static double requireParsableDouble(byte[] bytes, int from, int to, double lo, double hi,
+                                               @Nonnull String message, long arg1, long arg2) {
+        double value = 0;
+        boolean parsed;
+        try {
+            value = parseDouble(bytes, from, to);
+            parsed = true;
+        } catch (NotParsableException e) {
+            parsed = false;
+        }
+        if (enabled(CHEAP) && !record(parsed && value >= lo && value <= hi, message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    private static long parseLong(CharSequence text, int start, int end, long min, long max) {
+        if (text == null) {
+            throw NOT_PARSABLE;
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") of a text of length "
+                    + text.length());
+        }
+        int i = start;
+        if (i == end) {
+            throw NOT_PARSABLE;
+        }
+        int first = text.charAt(start);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            throw NOT_PARSABLE;
+        }
+        // accumulate the negated value (as Long.parseLong does, so Long.MIN_VALUE fits), and fail as soon as it is
+        // beyond the bound of the type on its side of zero, which also prevents any overflow
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long accumulated = 0;
+        for (; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || accumulated < multiplyLimit) {
+                throw NOT_PARSABLE;
+            }
+            accumulated *= 10;
+            if (accumulated < limit + digit) {
+                throw NOT_PARSABLE;
+            }
+            accumulated -= digit;
+        }
+        return negative ? accumulated : -accumulated;
+    }
+
+    private static double parseDouble(CharSequence text, int start, int end) {
+        if (text == null) {
+            throw NOT_PARSABLE;
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") of a text of length "
+                    + text.length());
+        }
+        int i = start;
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        for (; i < end && isDigit(text.charAt(i)); i++, digits++) {
+            if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                mantissa = mantissa * 10 + (text.charAt(i) - '0');
+                significantDigits += mantissa == 0 ? 0 : 1;
+            } else {
+                exponent++;
+                exact &= text.charAt(i) == '0';
+            }
+        }
+        if (i < end && text.charAt(i) == '.') {
+            for (i++; i < end && isDigit(text.charAt(i)); i++, digits++) {
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + (text.charAt(i) - '0');
+                    significantDigits += mantissa == 0 ? 0 : 1;
+                    exponent--;
+                } else {
+                    exact &= text.charAt(i) == '0';
+                }
+            }
+        }
+        if (digits == 0) {
+            throw NOT_PARSABLE;
+        }
+        if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            if (++i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            int explicitExponent = 0;
+            for (; i < end && isDigit(text.charAt(i)); i++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (text.charAt(i) - '0'), MAX_EXPONENT);
+            }
+            if (i == exponentStart) {
+                throw NOT_PARSABLE;
+            }
+            exponent += text.charAt(exponentStart - 1) == '-' ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) {
+            throw NOT_PARSABLE;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = negative ? -0.0 : 0.0;
+        } else if (exact && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            // both the mantissa and the power of ten are exact, so a single rounding gives the correct result
+            double magnitude = exponent >= 0
+                    ? mantissa * POWERS_OF_TEN[exponent]
+                    : mantissa / POWERS_OF_TEN[-exponent];
+            value = negative ? -magnitude : magnitude;
+        } else {
+            value = Double.parseDouble(text.subSequence(start, end).toString());
+        }
+        return value;
+    }
+
+    private static long parseLong(ByteBuffer buffer, long min, long max) {
+        if (buffer == null) {
+            throw NOT_PARSABLE;
+        }
+        int start = buffer.position();
+        int end = buffer.limit();
+        int i = start;
+        if (i == end) {
+            throw NOT_PARSABLE;
+        }
+        int first = buffer.get(start);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            throw NOT_PARSABLE;
+        }
+        // accumulate the negated value (as Long.parseLong does, so Long.MIN_VALUE fits), and fail as soon as it is
+        // beyond the bound of the type on its side of zero, which also prevents any overflow
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long accumulated = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || accumulated < multiplyLimit) {
+                throw NOT_PARSABLE;
+            }
+            accumulated *= 10;
+            if (accumulated < limit + digit) {
+                throw NOT_PARSABLE;
+            }
+            accumulated -= digit;
+        }
+        return negative ? accumulated : -accumulated;
+    }
+
+    private static double parseDouble(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw NOT_PARSABLE;
+        }
+        int start = buffer.position();
+        int end = buffer.limit();
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        for (; i < end && isDigit(buffer.get(i)); i++, digits++) {
+            if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                mantissa = mantissa * 10 + (buffer.get(i) - '0');
+                significantDigits += mantissa == 0 ? 0 : 1;
+            } else {
+                exponent++;
+                exact &= buffer.get(i) == '0';
+            }
+        }
+        if (i < end && buffer.get(i) == '.') {
+            for (i++; i < end && isDigit(buffer.get(i)); i++, digits++) {
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + (buffer.get(i) - '0');
+                    significantDigits += mantissa == 0 ? 0 : 1;
+                    exponent--;
+                } else {
+                    exact &= buffer.get(i) == '0';
+                }
+            }
+        }
+        if (digits == 0) {
+            throw NOT_PARSABLE;
+        }
+        if (i < end && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+            if (++i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            int explicitExponent = 0;
+            for (; i < end && isDigit(buffer.get(i)); i++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (buffer.get(i) - '0'), MAX_EXPONENT);
+            }
+            if (i == exponentStart) {
+                throw NOT_PARSABLE;
+            }
+            exponent += buffer.get(exponentStart - 1) == '-' ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) {
+            throw NOT_PARSABLE;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = negative ? -0.0 : 0.0;
+        } else if (exact && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            // both the mantissa and the power of ten are exact, so a single rounding gives the correct result
+            double magnitude = exponent >= 0
+                    ? mantissa * POWERS_OF_TEN[exponent]
+                    : mantissa / POWERS_OF_TEN[-exponent];
+            value = negative ? -magnitude : magnitude;
+        } else {
+            value = Double.parseDouble(asciiString(buffer, start, end));
+        }
+        return value;
+    }
+
+    private static long parseLong(byte[] bytes, int start, int end, long min, long max) {
+        if (bytes == null) {
+            throw NOT_PARSABLE;
+        }
+        if (start < 0 || end > bytes.length || start > end) {
+            throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") of an array of length "
+                    + bytes.length);
+        }
+        int i = start;
+        if (i == end) {
+            throw NOT_PARSABLE;
+        }
+        int first = bytes[start];
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            throw NOT_PARSABLE;
+        }
+        // accumulate the negated value (as Long.parseLong does, so Long.MIN_VALUE fits), and fail as soon as it is
+        // beyond the bound of the type on its side of zero, which also prevents any overflow
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long accumulated = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || accumulated < multiplyLimit) {
+                throw NOT_PARSABLE;
+            }
+            accumulated *= 10;
+            if (accumulated < limit + digit) {
+                throw NOT_PARSABLE;
+            }
+            accumulated -= digit;
+        }
+        return negative ? accumulated : -accumulated;
+    }
+
+    private static double parseDouble(byte[] bytes, int start, int end) {
+        if (bytes == null) {
+            throw NOT_PARSABLE;
+        }
+        if (start < 0 || end > bytes.length || start > end) {
+            throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") of an array of length "
+                    + bytes.length);
+        }
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        for (; i < end && isDigit(bytes[i]); i++, digits++) {
+            if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                mantissa = mantissa * 10 + (bytes[i] - '0');
+                significantDigits += mantissa == 0 ? 0 : 1;
+            } else {
+                exponent++;
+                exact &= bytes[i] == '0';
+            }
+        }
+        if (i < end && bytes[i] == '.') {
+            for (i++; i < end && isDigit(bytes[i]); i++, digits++) {
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + (bytes[i] - '0');
+                    significantDigits += mantissa == 0 ? 0 : 1;
+                    exponent--;
+                } else {
+                    exact &= bytes[i] == '0';
+                }
+            }
+        }
+        if (digits == 0) {
+            throw NOT_PARSABLE;
+        }
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            if (++i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            int explicitExponent = 0;
+            for (; i < end && isDigit(bytes[i]); i++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (bytes[i] - '0'), MAX_EXPONENT);
+            }
+            if (i == exponentStart) {
+                throw NOT_PARSABLE;
+            }
+            exponent += bytes[exponentStart - 1] == '-' ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) {
+            throw NOT_PARSABLE;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = negative ? -0.0 : 0.0;
+        } else if (exact && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            // both the mantissa and the power of ten are exact, so a single rounding gives the correct result
+            double magnitude = exponent >= 0
+                    ? mantissa * POWERS_OF_TEN[exponent]
+                    : mantissa / POWERS_OF_TEN[-exponent];
+            value = negative ? -magnitude : magnitude;
+        } else {
+            value = Double.parseDouble(asciiString(bytes, start, end));
+        }
+        return value;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return the ASCII characters of the bytes between two absolute indexes of the buffer
+     */
+    private static String asciiString(ByteBuffer buffer, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) buffer.get(start + i);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return the ASCII characters of the bytes between two indexes of the array
+     */
+    private static String asciiString(byte[] bytes, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) bytes[start + i];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Thrown by the parsing methods when the text cannot be parsed or is out of range. A single instance without a
+     * stack trace is used, so failing to parse does not allocate.
+     */
+    private static final class NotParsableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        NotParsableException() {
+            super(null, null, false, false);
+        }
+    }
+}
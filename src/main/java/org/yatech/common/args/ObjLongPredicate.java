@@ -0,0 +1,22 @@
+package org.yatech.common.args;
+
+/**
+ * Represents a predicate (boolean-valued function) of an object-valued and a <tt>long</tt>-valued argument.
+ * This is the (<tt>reference</tt>, <tt>long</tt>) specialization of {@link java.util.function.BiPredicate}.
+ *
+ * @param <T> the type of the object argument to the predicate
+ * @author Yinon Avraham.
+ * @see java.util.function.BiPredicate
+ */
+@FunctionalInterface
+public interface ObjLongPredicate<T> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t     the object argument
+     * @param value the <tt>long</tt> argument
+     * @return <tt>true</tt> if the arguments match the predicate, otherwise <tt>false</tt>
+     */
+    boolean test(T t, long value);
+}
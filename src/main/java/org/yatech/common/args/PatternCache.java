@@ -0,0 +1,102 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.util.regex.Pattern;
+
+/**
+ * A thread-safe cache of compiled regular expression {@link Pattern}s, with a bounded number of entries.
+ * <p>
+ * Looking up a cached pattern is lock-free. When the cache is full, the least recently used patterns are evicted
+ * (approximately, using the CLOCK policy). Hit, miss and eviction counts are kept for monitoring and for sizing the
+ * cache.
+ * <p>
+ * {@link StringArgs#requireMatches(CharSequence, String, String)} and its variants use the cache returned by
+ * {@link StringArgs#getPatternCache()}, which can be replaced with {@link StringArgs#setPatternCache(PatternCache)},
+ * e.g. with a larger cache for an application with thousands of distinct patterns.
+ *
+ * @author Yinon Avraham.
+ */
+public final class PatternCache {
+
+    /**
+     * The maximum number of patterns in the default cache
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final BoundedCache<String, Pattern> cache;
+
+    /**
+     * Create a pattern cache with the {@link #DEFAULT_MAXIMUM_SIZE default maximum size}
+     */
+    public PatternCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a pattern cache
+     * @param maximumSize the maximum number of patterns to keep in the cache
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public PatternCache(int maximumSize) {
+        this.cache = new BoundedCache<>(maximumSize, Pattern::compile);
+    }
+
+    /**
+     * Get the compiled pattern of a regular expression, compiling and caching it if it is not already cached
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public Pattern get(@Nonnull String regex) {
+        return cache.get(regex);
+    }
+
+    /**
+     * @return the maximum number of patterns to keep in the cache
+     */
+    public int getMaximumSize() {
+        return cache.maximumSize();
+    }
+
+    /**
+     * @return the current number of patterns in the cache
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of lookups which found the pattern in the cache
+     */
+    public long getHitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * @return the number of lookups which had to compile the pattern
+     */
+    public long getMissCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * @return the number of patterns evicted from the cache since it was created
+     */
+    public long getEvictionCount() {
+        return cache.evictionCount();
+    }
+
+    /**
+     * Remove all the patterns from the cache (the counts are not reset)
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache{size=" + getSize() + ", maximumSize=" + getMaximumSize() + ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + '}';
+    }
+}
@@ -0,0 +1,29 @@
+package org.yatech.common.args;
+
+/**
+ * An {@link IllegalArgumentException} without a stack trace.
+ * <p>
+ * Filling in the stack trace is usually most of the cost of creating an exception, and it grows with the depth of the
+ * stack. This exception skips it, so it is cheap to create, for cases where failures are expected to be frequent (e.g.
+ * rejecting invalid input) and the stack trace is of no interest.
+ *
+ * @author Yinon Avraham.
+ * @see FailureFactory#STACKLESS
+ */
+public class StacklessIllegalArgumentException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create a new exception
+     * @param message the error message
+     */
+    public StacklessIllegalArgumentException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
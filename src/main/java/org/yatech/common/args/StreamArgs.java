@@ -0,0 +1,292 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A utility class for validating the elements of an {@link Iterator}, a {@link Spliterator} or a {@link Stream}
+ * lazily, as they are consumed.
+ * <p>
+ * Each element is checked with a rule, which applies the requirements of the other <tt>*Args</tt> classes (or a
+ * {@link Validator}) to it, and is handled according to an {@link InvalidElementPolicy} if it does not satisfy them:
+ * <pre>
+ * Stream&lt;Person&gt; people = StreamArgs.validating(reader.lines().map(Person::parse), PERSON::validate,
+ *         InvalidElementPolicy.SKIP_INVALID,
+ *         (person, violations) -&gt; log.warn("Skipped {}: {}", person, violations));
+ * </pre>
+ * The returned adapters keep the laziness of the source, and the spliterator and stream adapters also keep its
+ * splitting for parallel processing and its characteristics, except for the sizes: the adapters are never
+ * {@link Spliterator#SIZED SIZED}, so that a stream operation which could otherwise skip the traversal of a sized
+ * stream (e.g. {@link Stream#count()} on Java 9 and later) still checks every element. Nothing is retained per
+ * element, so the memory used does not depend on the number of elements. In the parallel mode, the rule and the
+ * listener must be thread-safe.
+ *
+ * @author Yinon Avraham.
+ */
+public abstract class StreamArgs {
+
+    private StreamArgs() {
+        //utility
+    }
+
+    /**
+     * Validate the elements of an iterator as they are iterated
+     * @param iterator the source iterator
+     * @param rule     the rule which applies the requirements to an element
+     * @param policy   the handling of the invalid elements
+     * @param <E>      the element type
+     * @return an iterator over the elements of the source iterator
+     */
+    @Nonnull
+    public static <E> Iterator<E> validating(@Nonnull Iterator<E> iterator, @Nonnull Consumer<? super E> rule,
+                                             @Nonnull InvalidElementPolicy policy) {
+        return validating(iterator, rule, policy, null);
+    }
+
+    /**
+     * Validate the elements of an iterator as they are iterated. An element is checked when it is reached by
+     * {@link Iterator#hasNext()}, since skipping invalid elements requires looking ahead.
+     * @param iterator  the source iterator
+     * @param rule      the rule which applies the requirements to an element
+     * @param policy    the handling of the invalid elements
+     * @param onInvalid the listener to notify with each invalid element and its violations, if not failing fast
+     *                  (optional)
+     * @param <E>       the element type
+     * @return an iterator over the elements of the source iterator
+     */
+    @Nonnull
+    public static <E> Iterator<E> validating(@Nonnull Iterator<E> iterator, @Nonnull Consumer<? super E> rule,
+                                             @Nonnull InvalidElementPolicy policy,
+                                             BiConsumer<? super E, Violations> onInvalid) {
+        if (iterator == null) {
+            throw new IllegalArgumentException("iterator is required");
+        }
+        return new ValidatingIterator<>(iterator, ElementCheck.of(rule, policy, onInvalid));
+    }
+
+    /**
+     * Validate the elements of a spliterator as they are traversed
+     * @param spliterator the source spliterator
+     * @param rule        the rule which applies the requirements to an element
+     * @param policy      the handling of the invalid elements
+     * @param <E>         the element type
+     * @return a spliterator over the elements of the source spliterator
+     */
+    @Nonnull
+    public static <E> Spliterator<E> validating(@Nonnull Spliterator<E> spliterator,
+                                                @Nonnull Consumer<? super E> rule,
+                                                @Nonnull InvalidElementPolicy policy) {
+        return validating(spliterator, rule, policy, null);
+    }
+
+    /**
+     * Validate the elements of a spliterator as they are traversed
+     * @param spliterator the source spliterator
+     * @param rule        the rule which applies the requirements to an element
+     * @param policy      the handling of the invalid elements
+     * @param onInvalid   the listener to notify with each invalid element and its violations, if not failing fast
+     *                    (optional)
+     * @param <E>         the element type
+     * @return a spliterator over the elements of the source spliterator
+     */
+    @Nonnull
+    public static <E> Spliterator<E> validating(@Nonnull Spliterator<E> spliterator,
+                                                @Nonnull Consumer<? super E> rule,
+                                                @Nonnull InvalidElementPolicy policy,
+                                                BiConsumer<? super E, Violations> onInvalid) {
+        if (spliterator == null) {
+            throw new IllegalArgumentException("spliterator is required");
+        }
+        return new ValidatingSpliterator<>(spliterator, ElementCheck.of(rule, policy, onInvalid));
+    }
+
+    /**
+     * Validate the elements of a stream as they flow through it
+     * @param stream the source stream
+     * @param rule   the rule which applies the requirements to an element
+     * @param policy the handling of the invalid elements
+     * @param <E>    the element type
+     * @return a stream of the elements of the source stream, sequential or parallel as the source stream
+     */
+    @Nonnull
+    public static <E> Stream<E> validating(@Nonnull Stream<E> stream, @Nonnull Consumer<? super E> rule,
+                                           @Nonnull InvalidElementPolicy policy) {
+        return validating(stream, rule, policy, null);
+    }
+
+    /**
+     * Validate the elements of a stream as they flow through it. Closing the returned stream closes the source
+     * stream.
+     * @param stream    the source stream
+     * @param rule      the rule which applies the requirements to an element
+     * @param policy    the handling of the invalid elements
+     * @param onInvalid the listener to notify with each invalid element and its violations, if not failing fast
+     *                  (optional)
+     * @param <E>       the element type
+     * @return a stream of the elements of the source stream, sequential or parallel as the source stream
+     */
+    @Nonnull
+    public static <E> Stream<E> validating(@Nonnull Stream<E> stream, @Nonnull Consumer<? super E> rule,
+                                           @Nonnull InvalidElementPolicy policy,
+                                           BiConsumer<? super E, Violations> onInvalid) {
+        if (stream == null) {
+            throw new IllegalArgumentException("stream is required");
+        }
+        ElementCheck<E> check = ElementCheck.of(rule, policy, onInvalid);
+        return StreamSupport.stream(new ValidatingSpliterator<>(stream.spliterator(), check), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    /**
+     * The rule and the handling of the invalid elements, shared by all the adapters of the same source
+     */
+    private static final class ElementCheck<E> {
+
+        private final Consumer<? super E> rule;
+        private final InvalidElementPolicy policy;
+        private final BiConsumer<? super E, Violations> onInvalid;
+
+        private ElementCheck(Consumer<? super E> rule, InvalidElementPolicy policy,
+                             BiConsumer<? super E, Violations> onInvalid) {
+            this.rule = rule;
+            this.policy = policy;
+            this.onInvalid = onInvalid;
+        }
+
+        static <E> ElementCheck<E> of(Consumer<? super E> rule, InvalidElementPolicy policy,
+                                      BiConsumer<? super E, Violations> onInvalid) {
+            if (rule == null) {
+                throw new IllegalArgumentException("rule is required");
+            }
+            if (policy == null) {
+                throw new IllegalArgumentException("policy is required");
+            }
+            return new ElementCheck<>(rule, policy, onInvalid);
+        }
+
+        /**
+         * @return whether to pass the element on
+         */
+        boolean test(E element) {
+            if (policy == InvalidElementPolicy.FAIL_FAST) {
+                Violations.failFast(element, rule);
+                return true;
+            }
+            Violations violations = Violations.collect(element, rule);
+            if (violations.isEmpty()) {
+                return true;
+            }
+            if (onInvalid != null) {
+                onInvalid.accept(element, violations);
+            }
+            return policy == InvalidElementPolicy.COLLECT;
+        }
+    }
+
+    private static final class ValidatingIterator<E> implements Iterator<E> {
+
+        private final Iterator<E> source;
+        private final ElementCheck<E> check;
+        private E next;
+        private boolean ready;
+
+        ValidatingIterator(Iterator<E> source, ElementCheck<E> check) {
+            this.source = source;
+            this.check = check;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!ready && source.hasNext()) {
+                E element = source.next();
+                if (check.test(element)) {
+                    next = element;
+                    ready = true;
+                }
+            }
+            return ready;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E element = next;
+            next = null;
+            ready = false;
+            return element;
+        }
+    }
+
+    /**
+     * Passes the valid elements of the source spliterator to the action. The spliterator is its own consumer of the
+     * source elements, so that traversing it does not allocate.
+     */
+    private static final class ValidatingSpliterator<E> implements Spliterator<E>, Consumer<E> {
+
+        private final Spliterator<E> source;
+        private final ElementCheck<E> check;
+        private Consumer<? super E> action;
+        private boolean accepted;
+
+        ValidatingSpliterator(Spliterator<E> source, ElementCheck<E> check) {
+            this.source = source;
+            this.check = check;
+        }
+
+        @Override
+        public void accept(E element) {
+            if (check.test(element)) {
+                action.accept(element);
+                accepted = true;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            this.action = action;
+            accepted = false;
+            while (source.tryAdvance(this)) {
+                if (accepted) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            this.action = action;
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            Spliterator<E> prefix = source.trySplit();
+            return prefix == null ? null : new ValidatingSpliterator<>(prefix, check);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super E> getComparator() {
+            return source.getComparator();
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package org.yatech.common.args;
 
 import javax.annotation.Nonnull;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
 import static org.yatech.common.args.Args.requireSatisfies;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
+import static org.yatech.common.args.ValidationLevel.FULL;
 
 /**
+ * A utility class for common methods on arguments of type {@link CharSequence}.
+ * <p>
+ * The requirements and predicates read the characters of the value through the {@link CharSequence} interface, so a
+ * {@link StringBuilder}, a {@link java.nio.CharBuffer} or any other slice of a parsed input is checked in place,
+ * without copying it into a {@link String}. The requirements return the value with its own type.
+ *
  * @author Yinon Avraham.
  */
 public abstract class StringArgs {
@@ -19,17 +31,470 @@ public abstract class StringArgs {
      */
     public static final Pattern WHITESPACES_ONLY = Pattern.compile("\\s+");
 
+    private static volatile PatternCache patternCache = new PatternCache();
+
+    /**
+     * The characters considered as whitespaces when checking whether a value is blank
+     */
+    public enum Whitespace {
+        /**
+         * The whitespace characters of the <tt>\s</tt> regular expression character class, i.e.
+         * <tt>[ \t\n\x0B\f\r]</tt> (the default)
+         */
+        ASCII,
+        /**
+         * The characters (code points) for which {@link Character#isWhitespace(int)} returns <tt>true</tt>
+         */
+        UNICODE
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull String message) {
+        return requireSatisfies(value, StringArgs::isNonBlank, message);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Supplier<String> messageSupplier) {
+        return requireSatisfies(value, StringArgs::isNonBlank, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull String message, Object arg1) {
+        return requireSatisfies(value, StringArgs::isNonBlank, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull String message, Object arg1,
+                                                             Object arg2) {
+        return requireSatisfies(value, StringArgs::isNonBlank, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull String message, long arg1) {
+        return requireSatisfies(value, StringArgs::isNonBlank, message, arg1);
+    }
+
     /**
      * Require that the given value is non-blank (not whitespaces only)
      *
      * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull String message, long arg1, long arg2) {
+        return requireSatisfies(value, StringArgs::isNonBlank, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only). Kept for binary compatibility with the callers
+     * compiled against the <tt>String</tt> only version of this method.
+     *
+     * @param value   the value to check
      * @param message the error message to use
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
     @Nonnull
     public static String requireNonBlank(String value, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v.length() > 0 && !WHITESPACES_ONLY.matcher(v).matches(), message);
+        return requireSatisfies(value, StringArgs::isNonBlank, message);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value      the value to check
+     * @param whitespace the characters to consider as whitespaces
+     * @param message    the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             @Nonnull String message) {
+        return requireSatisfies(value, whitespace, StringArgs::isNonBlank, message);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value           the value to check
+     * @param whitespace      the characters to consider as whitespaces
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             @Nonnull Supplier<String> messageSupplier) {
+        return requireSatisfies(value, whitespace, StringArgs::isNonBlank, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value      the value to check
+     * @param whitespace the characters to consider as whitespaces
+     * @param message    the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1       the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             @Nonnull String message, Object arg1) {
+        return requireSatisfies(value, whitespace, StringArgs::isNonBlank, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value      the value to check
+     * @param whitespace the characters to consider as whitespaces
+     * @param message    the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1       the first argument of the error message template
+     * @param arg2       the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             @Nonnull String message, Object arg1, Object arg2) {
+        return requireSatisfies(value, whitespace, StringArgs::isNonBlank, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value      the value to check
+     * @param whitespace the characters to consider as whitespaces
+     * @param message    the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1       the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             @Nonnull String message, long arg1) {
+        return requireSatisfies(value, whitespace, StringArgs::isNonBlank, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only)
+     *
+     * @param value      the value to check
+     * @param whitespace the characters to consider as whitespaces
+     * @param message    the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1       the first argument of the error message template
+     * @param arg2       the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             @Nonnull String message, long arg1, long arg2) {
+        return requireSatisfies(value, whitespace, StringArgs::isNonBlank, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message) {
+        return requireNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength, message);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param messageSupplier  the supplier of the error message to use, invoked only if the requirement is not
+     *                         satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull Supplier<String> messageSupplier) {
+        return requireNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, Object arg1) {
+        return requireNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @param arg2             the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, Object arg1, Object arg2) {
+        return requireNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, long arg1) {
+        return requireNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength, message, arg1);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @param arg2             the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, long arg1, long arg2) {
+        return requireNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message) {
+        if (enabled(CHEAP)
+                && !record(isNonBlank(value, whitespace, minTrimmedLength, maxTrimmedLength), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param messageSupplier  the supplier of the error message to use, invoked only if the requirement is not
+     *                         satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP)
+                && !record(isNonBlank(value, whitespace, minTrimmedLength, maxTrimmedLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, Object arg1) {
+        if (enabled(CHEAP)
+                && !record(isNonBlank(value, whitespace, minTrimmedLength, maxTrimmedLength), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @param arg2             the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(CHEAP)
+                && !record(isNonBlank(value, whitespace, minTrimmedLength, maxTrimmedLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, long arg1) {
+        if (enabled(CHEAP)
+                && !record(isNonBlank(value, whitespace, minTrimmedLength, maxTrimmedLength), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is non-blank (not whitespaces only), and that its length without leading and
+     * trailing whitespaces is in a given range (inclusive)
+     *
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the value without leading and trailing whitespaces
+     * @param maxTrimmedLength the maximum length of the value without leading and trailing whitespaces
+     * @param message          the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1             the first argument of the error message template
+     * @param arg2             the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonBlank(S value, @Nonnull Whitespace whitespace,
+                                                             int minTrimmedLength, int maxTrimmedLength,
+                                                             @Nonnull String message, long arg1, long arg2) {
+        if (enabled(CHEAP)
+                && !record(isNonBlank(value, whitespace, minTrimmedLength, maxTrimmedLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
     }
 
     /**
@@ -41,22 +506,1319 @@ public abstract class StringArgs {
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
     @Nonnull
-    public static String requireNonEmpty(String value, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && v.length() > 0, message);
+    public static <S extends CharSequence> S requireNonEmpty(S value, @Nonnull String message) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, message);
     }
 
     /**
-     * Require that the given value matches the given pattern
+     * Require that the given value is not empty
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonEmpty(S value, @Nonnull Supplier<String> messageSupplier) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, messageSupplier);
+    }
+
+    /**
+     * Require that the given value is not empty
      *
      * @param value   the value to check
-     * @param pattern the pattern to match
-     * @param message the error message to use
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
      * @return the value if satisfies the requirement
      * @throws IllegalArgumentException if the value does not satisfy the requirement
      */
     @Nonnull
-    public static String requireMatches(String value, @Nonnull Pattern pattern, @Nonnull String message) {
-        return requireSatisfies(value, v -> v != null && pattern.matcher(v).matches(), message);
+    public static <S extends CharSequence> S requireNonEmpty(S value, @Nonnull String message, Object arg1) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, message, arg1);
+    }
+
+    /**
+     * Require that the given value is not empty
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonEmpty(S value, @Nonnull String message, Object arg1,
+                                                             Object arg2) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not empty
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonEmpty(S value, @Nonnull String message, long arg1) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, message, arg1);
     }
 
+    /**
+     * Require that the given value is not empty
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNonEmpty(S value, @Nonnull String message, long arg1, long arg2) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, message, arg1, arg2);
+    }
+
+    /**
+     * Require that the given value is not empty. Kept for binary compatibility with the callers compiled against
+     * the <tt>String</tt> only version of this method.
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static String requireNonEmpty(String value, @Nonnull String message) {
+        return requireSatisfies(value, StringArgs::isNonEmpty, message);
+    }
+
+    /**
+     * Require that the given value matches the given pattern
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull Pattern pattern,
+                                                            @Nonnull String message) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given pattern
+     *
+     * @param value           the value to check
+     * @param pattern         the pattern to match
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull Pattern pattern,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given pattern
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull Pattern pattern, @Nonnull String message,
+                                                            Object arg1) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given pattern
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull Pattern pattern, @Nonnull String message,
+                                                            Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given pattern
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull Pattern pattern, @Nonnull String message,
+                                                            long arg1) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given pattern
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull Pattern pattern, @Nonnull String message,
+                                                            long arg1, long arg2) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given pattern. Kept for binary compatibility with the callers compiled
+     * against the <tt>String</tt> only version of this method.
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static String requireMatches(String value, @Nonnull Pattern pattern, @Nonnull String message) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given linear time pattern, which is safe to use on untrusted input
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull LinearPattern pattern,
+                                                            @Nonnull String message) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given linear time pattern, which is safe to use on untrusted input
+     *
+     * @param value           the value to check
+     * @param pattern         the pattern to match
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull LinearPattern pattern,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given linear time pattern, which is safe to use on untrusted input
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull LinearPattern pattern,
+                                                            @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given linear time pattern, which is safe to use on untrusted input
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull LinearPattern pattern,
+                                                            @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given linear time pattern, which is safe to use on untrusted input
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull LinearPattern pattern,
+                                                            @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given linear time pattern, which is safe to use on untrusted input
+     *
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull LinearPattern pattern,
+                                                            @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isMatching(value, pattern), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param value   the value to check
+     * @param regex   the regular expression to match
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull String regex,
+                                                            @Nonnull String message) {
+        if (enabled(FULL) && !record(isMatching(value, patternCache.get(regex)), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param value           the value to check
+     * @param regex           the regular expression to match
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull String regex,
+                                                            @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isMatching(value, patternCache.get(regex)), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param value   the value to check
+     * @param regex   the regular expression to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull String regex, @Nonnull String message,
+                                                            Object arg1) {
+        if (enabled(FULL) && !record(isMatching(value, patternCache.get(regex)), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param value   the value to check
+     * @param regex   the regular expression to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull String regex, @Nonnull String message,
+                                                            Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isMatching(value, patternCache.get(regex)), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param value   the value to check
+     * @param regex   the regular expression to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull String regex, @Nonnull String message,
+                                                            long arg1) {
+        if (enabled(FULL) && !record(isMatching(value, patternCache.get(regex)), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value matches the given regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param value   the value to check
+     * @param regex   the regular expression to match
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMatches(S value, @Nonnull String regex, @Nonnull String message,
+                                                            long arg1, long arg2) {
+        if (enabled(FULL) && !record(isMatching(value, patternCache.get(regex)), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at least a given length
+     *
+     * @param value     the value to check
+     * @param minLength the minimum allowed length (inclusive)
+     * @param message   the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMinLength(S value, int minLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(value, minLength), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at least a given length
+     *
+     * @param value           the value to check
+     * @param minLength       the minimum allowed length (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMinLength(S value, int minLength,
+                                                              @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(value, minLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at least a given length
+     *
+     * @param value     the value to check
+     * @param minLength the minimum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMinLength(S value, int minLength, @Nonnull String message,
+                                                              Object arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(value, minLength), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at least a given length
+     *
+     * @param value     the value to check
+     * @param minLength the minimum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMinLength(S value, int minLength, @Nonnull String message,
+                                                              Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(value, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at least a given length
+     *
+     * @param value     the value to check
+     * @param minLength the minimum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMinLength(S value, int minLength, @Nonnull String message,
+                                                              long arg1) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(value, minLength), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at least a given length
+     *
+     * @param value     the value to check
+     * @param minLength the minimum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMinLength(S value, int minLength, @Nonnull String message,
+                                                              long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isAtLeastMinLength(value, minLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at most a given length
+     *
+     * @param value     the value to check
+     * @param maxLength the maximum allowed length (inclusive)
+     * @param message   the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxLength(S value, int maxLength, @Nonnull String message) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(value, maxLength), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at most a given length
+     *
+     * @param value           the value to check
+     * @param maxLength       the maximum allowed length (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxLength(S value, int maxLength,
+                                                              @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(value, maxLength), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at most a given length
+     *
+     * @param value     the value to check
+     * @param maxLength the maximum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxLength(S value, int maxLength, @Nonnull String message,
+                                                              Object arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(value, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at most a given length
+     *
+     * @param value     the value to check
+     * @param maxLength the maximum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxLength(S value, int maxLength, @Nonnull String message,
+                                                              Object arg1, Object arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(value, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at most a given length
+     *
+     * @param value     the value to check
+     * @param maxLength the maximum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxLength(S value, int maxLength, @Nonnull String message,
+                                                              long arg1) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(value, maxLength), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and has at most a given length
+     *
+     * @param value     the value to check
+     * @param maxLength the maximum allowed length (inclusive)
+     * @param message   the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1      the first argument of the error message template
+     * @param arg2      the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxLength(S value, int maxLength, @Nonnull String message,
+                                                              long arg1, long arg2) {
+        if (enabled(CHEAP) && !record(isWithinMaxLength(value, maxLength), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains only ASCII characters (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireAscii(S value, @Nonnull String message) {
+        if (enabled(FULL) && !record(isAscii(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains only ASCII characters (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireAscii(S value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isAscii(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains only ASCII characters (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireAscii(S value, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isAscii(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains only ASCII characters (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireAscii(S value, @Nonnull String message, Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isAscii(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains only ASCII characters (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireAscii(S value, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isAscii(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains only ASCII characters (<tt>0x00</tt> to
+     * <tt>0x7F</tt>)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireAscii(S value, @Nonnull String message, long arg1, long arg2) {
+        if (enabled(FULL) && !record(isAscii(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)} (note that this includes tabs and line breaks)
+     *
+     * @param value   the value to check
+     * @param message the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNoControlChars(S value, @Nonnull String message) {
+        if (enabled(FULL) && !record(isNoControlChars(value), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)} (note that this includes tabs and line breaks)
+     *
+     * @param value           the value to check
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNoControlChars(S value, @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isNoControlChars(value), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)} (note that this includes tabs and line breaks)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNoControlChars(S value, @Nonnull String message, Object arg1) {
+        if (enabled(FULL) && !record(isNoControlChars(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)} (note that this includes tabs and line breaks)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNoControlChars(S value, @Nonnull String message, Object arg1,
+                                                                   Object arg2) {
+        if (enabled(FULL) && !record(isNoControlChars(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)} (note that this includes tabs and line breaks)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNoControlChars(S value, @Nonnull String message, long arg1) {
+        if (enabled(FULL) && !record(isNoControlChars(value), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)} (note that this includes tabs and line breaks)
+     *
+     * @param value   the value to check
+     * @param message the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1    the first argument of the error message template
+     * @param arg2    the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireNoControlChars(S value, @Nonnull String message, long arg1,
+                                                                   long arg2) {
+        if (enabled(FULL) && !record(isNoControlChars(value), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length. The length is computed from the characters, without encoding the value.
+     *
+     * @param value         the value to check
+     * @param maxUtf8Length the maximum allowed length in bytes (inclusive)
+     * @param message       the error message to use
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @see #isWithinMaxUtf8Length(CharSequence, long)
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxUtf8Length(S value, long maxUtf8Length,
+                                                                  @Nonnull String message) {
+        if (enabled(FULL) && !record(isWithinMaxUtf8Length(value, maxUtf8Length), message)) {
+            fail(message);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length. The length is computed from the characters, without encoding the value.
+     *
+     * @param value           the value to check
+     * @param maxUtf8Length   the maximum allowed length in bytes (inclusive)
+     * @param messageSupplier the supplier of the error message to use, invoked only if the requirement is not satisfied
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @see #isWithinMaxUtf8Length(CharSequence, long)
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxUtf8Length(S value, long maxUtf8Length,
+                                                                  @Nonnull Supplier<String> messageSupplier) {
+        if (enabled(FULL) && !record(isWithinMaxUtf8Length(value, maxUtf8Length), messageSupplier)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length. The length is computed from the characters, without encoding the value.
+     *
+     * @param value         the value to check
+     * @param maxUtf8Length the maximum allowed length in bytes (inclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @see #isWithinMaxUtf8Length(CharSequence, long)
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxUtf8Length(S value, long maxUtf8Length, @Nonnull String message,
+                                                                  Object arg1) {
+        if (enabled(FULL) && !record(isWithinMaxUtf8Length(value, maxUtf8Length), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length. The length is computed from the characters, without encoding the value.
+     *
+     * @param value         the value to check
+     * @param maxUtf8Length the maximum allowed length in bytes (inclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @see #isWithinMaxUtf8Length(CharSequence, long)
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxUtf8Length(S value, long maxUtf8Length, @Nonnull String message,
+                                                                  Object arg1, Object arg2) {
+        if (enabled(FULL) && !record(isWithinMaxUtf8Length(value, maxUtf8Length), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length. The length is computed from the characters, without encoding the value.
+     *
+     * @param value         the value to check
+     * @param maxUtf8Length the maximum allowed length in bytes (inclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @see #isWithinMaxUtf8Length(CharSequence, long)
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxUtf8Length(S value, long maxUtf8Length, @Nonnull String message,
+                                                                  long arg1) {
+        if (enabled(FULL) && !record(isWithinMaxUtf8Length(value, maxUtf8Length), message)) {
+            fail(message, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Require that the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length. The length is computed from the characters, without encoding the value.
+     *
+     * @param value         the value to check
+     * @param maxUtf8Length the maximum allowed length in bytes (inclusive)
+     * @param message       the error message template to use, formatted only if the requirement is not satisfied
+     * @param arg1          the first argument of the error message template
+     * @param arg2          the second argument of the error message template
+     * @return the value if satisfies the requirement
+     * @throws IllegalArgumentException if the value does not satisfy the requirement
+     * @see #isWithinMaxUtf8Length(CharSequence, long)
+     */
+    @Nonnull
+    public static <S extends CharSequence> S requireMaxUtf8Length(S value, long maxUtf8Length, @Nonnull String message,
+                                                                  long arg1, long arg2) {
+        if (enabled(FULL) && !record(isWithinMaxUtf8Length(value, maxUtf8Length), message)) {
+            fail(message, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Get the cache of compiled patterns used by {@link #requireMatches(CharSequence, String, String)} and its
+     * variants
+     * @return the pattern cache
+     */
+    @Nonnull
+    public static PatternCache getPatternCache() {
+        return patternCache;
+    }
+
+    /**
+     * Replace the cache of compiled patterns used by {@link #requireMatches(CharSequence, String, String)} and its
+     * variants, e.g. in order to change its size
+     * @param patternCache the pattern cache to use
+     */
+    public static void setPatternCache(@Nonnull PatternCache patternCache) {
+        if (patternCache == null) {
+            throw new IllegalArgumentException("pattern cache is required");
+        }
+        StringArgs.patternCache = patternCache;
+    }
+
+    /* *********************************************************************************
+     * Predicates                                                                      *
+     ***********************************************************************************/
+
+    /**
+     * Check whether the given value is not blank, i.e. not null and contains at least one non-whitespace character
+     * (whitespaces as in {@link Whitespace#ASCII})
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonBlank(CharSequence value) {
+        return value != null && indexOfNonWhitespace(value, Whitespace.ASCII) < value.length();
+    }
+
+    /**
+     * Check whether the given value is not blank, i.e. not null and contains at least one non-whitespace character
+     * @param value      the value to check
+     * @param whitespace the characters to consider as whitespaces
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonBlank(CharSequence value, @Nonnull Whitespace whitespace) {
+        return value != null && indexOfNonWhitespace(value, whitespace) < value.length();
+    }
+
+    /**
+     * Check whether the given value is not blank, and its length without leading and trailing whitespaces is within
+     * the given bounds (whitespaces as in {@link Whitespace#ASCII})
+     * @param value            the value to check
+     * @param minTrimmedLength the minimum length of the trimmed value (inclusive)
+     * @param maxTrimmedLength the maximum length of the trimmed value (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonBlank(CharSequence value, int minTrimmedLength, int maxTrimmedLength) {
+        return isNonBlank(value, Whitespace.ASCII, minTrimmedLength, maxTrimmedLength);
+    }
+
+    /**
+     * Check whether the given value is not blank, and its length without leading and trailing whitespaces is within
+     * the given bounds
+     * @param value            the value to check
+     * @param whitespace       the characters to consider as whitespaces
+     * @param minTrimmedLength the minimum length of the trimmed value (inclusive)
+     * @param maxTrimmedLength the maximum length of the trimmed value (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonBlank(CharSequence value, @Nonnull Whitespace whitespace, int minTrimmedLength,
+                                     int maxTrimmedLength) {
+        if (value == null) {
+            return false;
+        }
+        int start = indexOfNonWhitespace(value, whitespace);
+        if (start == value.length()) {
+            return false;
+        }
+        int trimmedLength = lastIndexOfNonWhitespace(value, whitespace) - start;
+        return trimmedLength >= minTrimmedLength && trimmedLength <= maxTrimmedLength;
+    }
+
+    /**
+     * Check whether the given value is not empty, i.e. not null and with at least one character
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNonEmpty(CharSequence value) {
+        return value != null && value.length() > 0;
+    }
+
+    /**
+     * Check whether the given value is not null and matches the given pattern
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isMatching(CharSequence value, @Nonnull Pattern pattern) {
+        return value != null && pattern.matcher(value).matches();
+    }
+
+    /**
+     * Check whether the given value is not null and matches the given linear time pattern
+     * @param value   the value to check
+     * @param pattern the pattern to match
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isMatching(CharSequence value, @Nonnull LinearPattern pattern) {
+        return value != null && pattern.matches(value);
+    }
+
+    /**
+     * Check whether the given value is not null and matches the given regular expression. The compiled pattern is
+     * taken from the {@link #getPatternCache() pattern cache}.
+     * @param value the value to check
+     * @param regex the regular expression to match
+     * @return whether the value satisfies the requirement
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    public static boolean isMatching(CharSequence value, @Nonnull String regex) {
+        return isMatching(value, patternCache.get(regex));
+    }
+
+    /**
+     * Check whether the given value is not null and has at least a given length
+     * @param value     the value to check
+     * @param minLength the minimum allowed length (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isAtLeastMinLength(CharSequence value, int minLength) {
+        return value != null && value.length() >= minLength;
+    }
+
+    /**
+     * Check whether the given value is not null and has at most a given length
+     * @param value     the value to check
+     * @param maxLength the maximum allowed length (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isWithinMaxLength(CharSequence value, int maxLength) {
+        return value != null && value.length() <= maxLength;
+    }
+
+    /**
+     * Check whether the given value is not null and contains only ASCII characters. The check stops on the first
+     * non-ASCII character.
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isAscii(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given value is not null and contains no control characters, as in
+     * {@link Character#isISOControl(char)}. The check stops on the first control character.
+     * @param value the value to check
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isNoControlChars(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isISOControl(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given value is not null and its length in bytes when encoded in UTF-8 is at most a given
+     * length.
+     * <p>
+     * The length is computed from the characters without encoding the value: a character takes 1 to 3 bytes, a
+     * surrogate pair takes 4 bytes, and an unpaired surrogate takes 1 byte (it is encoded as <tt>'?'</tt>, as in
+     * {@link String#getBytes(java.nio.charset.Charset)}). Since the length in bytes is between 1 and 3 times the
+     * length in characters, the check usually completes without scanning the value, and otherwise it stops as soon
+     * as the limit is exceeded.
+     * @param value         the value to check
+     * @param maxUtf8Length the maximum allowed length in bytes (inclusive)
+     * @return whether the value satisfies the requirement
+     */
+    public static boolean isWithinMaxUtf8Length(CharSequence value, long maxUtf8Length) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        if (length > maxUtf8Length) {
+            return false;
+        }
+        if (3L * length <= maxUtf8Length) {
+            return true;
+        }
+        long utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                utf8Length++;
+            } else {
+                utf8Length += 3;
+            }
+            if (utf8Length > maxUtf8Length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* *********************************************************************************
+     * Whitespace scanning                                                             *
+     ***********************************************************************************/
+
+    /**
+     * @return the index of the first non-whitespace character, or the value length if there is none
+     */
+    private static int indexOfNonWhitespace(CharSequence value, Whitespace whitespace) {
+        int length = value.length();
+        if (whitespace == Whitespace.ASCII) {
+            for (int i = 0; i < length; i++) {
+                if (!isAsciiWhitespace(value.charAt(i))) {
+                    return i;
+                }
+            }
+            return length;
+        }
+        int i = 0;
+        while (i < length) {
+            int codePoint = Character.codePointAt(value, i);
+            if (!Character.isWhitespace(codePoint)) {
+                return i;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return length;
+    }
+
+    /**
+     * @return the index after the last non-whitespace character, or 0 if there is none
+     */
+    private static int lastIndexOfNonWhitespace(CharSequence value, Whitespace whitespace) {
+        int i = value.length();
+        if (whitespace == Whitespace.ASCII) {
+            while (i > 0 && isAsciiWhitespace(value.charAt(i - 1))) {
+                i--;
+            }
+            return i;
+        }
+        while (i > 0) {
+            int codePoint = Character.codePointBefore(value, i);
+            if (!Character.isWhitespace(codePoint)) {
+                return i;
+            }
+            i -= Character.charCount(codePoint);
+        }
+        return 0;
+    }
+
+    /**
+     * Same as the <tt>\s</tt> regular expression character class: <tt>[ \t\n\x0B\f\r]</tt>.
+     * Any character above the space character (including all non-ASCII characters) is not a whitespace, which makes
+     * the common case a single comparison.
+     */
+    private static boolean isAsciiWhitespace(char c) {
+        return c <= ' ' && (c == ' ' || (c >= '\t' && c <= '\r'));
+    }
 }
@@ -0,0 +1,31 @@
+package org.yatech.common.args;
+
+/**
+ * The level of the validation done by the requirement methods, from none to all the requirements.
+ * <p>
+ * Each requirement belongs to a tier: {@link #CHEAP} for the requirements which take constant time (or are bounded
+ * by their arguments), e.g. null, sign, range and size checks, and {@link #FULL} for the requirements which may scan
+ * their argument, e.g. looking up an element in a list, checking all the elements of a collection or an array, or
+ * matching a string with a regular expression. A requirement is checked only if the current level includes its tier,
+ * otherwise it returns the value without checking it.
+ *
+ * @author Yinon Avraham.
+ * @see Args#setValidationLevel(ValidationLevel)
+ */
+public enum ValidationLevel {
+
+    /**
+     * Do not check any requirement
+     */
+    OFF,
+
+    /**
+     * Check only the cheap requirements
+     */
+    CHEAP,
+
+    /**
+     * Check all the requirements (the default)
+     */
+    FULL
+}
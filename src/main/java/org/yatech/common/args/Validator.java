@@ -0,0 +1,389 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+
+import static org.yatech.common.args.Args.enabled;
+import static org.yatech.common.args.Args.fail;
+import static org.yatech.common.args.Args.record;
+import static org.yatech.common.args.ValidationLevel.CHEAP;
+
+/**
+ * A reusable set of requirements on the fields of a value, composed once and then executed many times.
+ * <p>
+ * A validator is built with a {@link Builder}, where each requirement takes an accessor function of the field to
+ * check, and the requirement arguments and error message to use. The built validator is immutable and thread-safe,
+ * so a single instance can be shared by all threads, and validating a value which satisfies all the requirements does
+ * not allocate (the accessors, predicates and messages are all bound when the validator is built):
+ * <pre>
+ * static final Validator&lt;Person&gt; PERSON = Validator.&lt;Person&gt;builder()
+ *         .requireNonBlank(Person::getName, "Person name is required")
+ *         .requireInRange(Person::getAge, 0, 150, "Person age must be in [0, 150]")
+ *         .build();
+ *
+ * PERSON.validate(person);
+ * </pre>
+ * The requirements are checked in the order they were added to the builder, and the first one which is not satisfied
+ * fails the validation. {@link #validateAll(Object)} checks all the requirements and returns all the violations.
+ *
+ * @param <T> the type of the validated values
+ * @author Yinon Avraham.
+ */
+public final class Validator<T> {
+
+    private final Rule<? super T>[] rules;
+    private final String[] names;
+    private final Consumer<T> validation = this::validate;
+
+    private Validator(Rule<? super T>[] rules, String[] names) {
+        this.rules = rules;
+        this.names = names;
+    }
+
+    /**
+     * Create a new validator builder
+     * @param <T> the type of the validated values
+     * @return a new builder, with no requirements
+     */
+    @Nonnull
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Require that the given value is not null and satisfies all the requirements of this validator
+     * @param value the value to validate
+     * @return the value if satisfies the requirements
+     * @throws IllegalArgumentException if the value does not satisfy any of the requirements
+     */
+    public T validate(T value) {
+        if (value == null) {
+            if (enabled(CHEAP) && !record(false, "value to validate is required")) {
+                fail("value to validate is required");
+            }
+            return null;
+        }
+        if (ArgsMetrics.ENABLED && ArgsMetrics.sampleLatency()) {
+            return validateTimed(value);
+        }
+        for (Rule<? super T> rule : rules) {
+            rule.check(value);
+        }
+        return value;
+    }
+
+    /**
+     * Validate the value, recording the time it takes to check each rule in the {@link ArgsMetrics}
+     */
+    private T validateTimed(T value) {
+        for (int i = 0; i < rules.length; i++) {
+            long start = System.nanoTime();
+            rules[i].check(value);
+            if (names[i] != null) {
+                ArgsMetrics.recordLatency(names[i], System.nanoTime() - start);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Check all the requirements of this validator on the given value, collecting the error messages of all the
+     * requirements which are not satisfied instead of failing on the first one
+     * @param value the value to validate
+     * @return the violations of the requirements, empty if the value is valid
+     * @see Violations#collect(Runnable)
+     */
+    @Nonnull
+    public Violations validateAll(T value) {
+        return Violations.collect(value, validation);
+    }
+
+    /**
+     * @return the number of requirements of this validator
+     */
+    public int size() {
+        return rules.length;
+    }
+
+    @FunctionalInterface
+    private interface Rule<T> {
+        void check(T value);
+    }
+
+    /**
+     * A builder of {@link Validator}s. A builder is not thread-safe, but the validators it builds are.
+     * @param <T> the type of the validated values
+     */
+    public static final class Builder<T> {
+
+        private final List<Rule<? super T>> rules = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Require that a field is not null
+         * @param accessor the accessor of the field to check
+         * @param message  the error message to use
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> requireNonNull(@Nonnull Function<? super T, ?> accessor, @Nonnull String message) {
+            return add(accessor, message, value -> Args.requireNonNull(accessor.apply(value), message));
+        }
+
+        /**
+         * Require that a field satisfies a predicate
+         * @param accessor  the accessor of the field to check
+         * @param predicate the predicate to satisfy
+         * @param message   the error message to use
+         * @param <F>       the field type
+         * @return this builder
+         */
+        @Nonnull
+        public <F> Builder<T> requireSatisfies(@Nonnull Function<? super T, ? extends F> accessor,
+                                               @Nonnull Predicate<? super F> predicate, @Nonnull String message) {
+            if (predicate == null) {
+                throw new IllegalArgumentException("predicate is required");
+            }
+            return add(accessor, message, value -> Args.requireSatisfies(accessor.apply(value), predicate, message));
+        }
+
+        /**
+         * Require that a field satisfies a predicate together with a context argument
+         * @param accessor  the accessor of the field to check
+         * @param context   the context argument to pass to the predicate, e.g. a bound to compare the field with
+         * @param predicate the predicate to satisfy
+         * @param message   the error message to use
+         * @param <F>       the field type
+         * @param <C>       the context type
+         * @return this builder
+         */
+        @Nonnull
+        public <F, C> Builder<T> requireSatisfies(@Nonnull Function<? super T, ? extends F> accessor, C context,
+                                                  @Nonnull BiPredicate<? super F, ? super C> predicate,
+                                                  @Nonnull String message) {
+            if (predicate == null) {
+                throw new IllegalArgumentException("predicate is required");
+            }
+            return add(accessor, message,
+                    value -> Args.requireSatisfies(accessor.apply(value), context, predicate, message));
+        }
+
+        /**
+         * Require that a <tt>long</tt> field satisfies a predicate
+         * @param accessor  the accessor of the field to check
+         * @param predicate the predicate to satisfy
+         * @param message   the error message to use
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> requireSatisfiesLong(@Nonnull ToLongFunction<? super T> accessor,
+                                               @Nonnull LongPredicate predicate, @Nonnull String message) {
+            if (predicate == null) {
+                throw new IllegalArgumentException("predicate is required");
+            }
+            return add(accessor, message,
+                    value -> Args.requireSatisfiesLong(accessor.applyAsLong(value), predicate, message));
+        }
+
+        /**
+         * Require that an <tt>int</tt> field satisfies a predicate
+         * @param accessor  the accessor of the field to check
+         * @param predicate the predicate to satisfy
+         * @param message   the error message to use
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> requireSatisfiesInt(@Nonnull ToIntFunction<? super T> accessor,
+                                              @Nonnull IntPredicate predicate, @Nonnull String message) {
+            if (predicate == null) {
+                throw new IllegalArgumentException("predicate is required");
+            }
+            return add(accessor, message,
+                    value -> Args.requireSatisfiesInt(accessor.applyAsInt(value), predicate, message));
+        }
+
+        /**
+         * Require that a <tt>double</tt> field satisfies a predicate
+         * @param accessor  the accessor of the field to check
+         * @param predicate the predicate to satisfy
+         * @param message   the error message to use
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> requireSatisfiesDouble(@Nonnull ToDoubleFunction<? super T> accessor,
+                                                 @Nonnull DoublePredicate predicate, @Nonnull String message) {
+            if (predicate == null) {
+                throw new IllegalArgumentException("predicate is required");
+            }
+            return add(accessor, message,
+                    value -> Args.requireSatisfiesDouble(accessor.applyAsDouble(value), predicate, message));
+        }
+
+        /**
+         * Require that a numeric field is within a given range (inclusive)
+         * @param accessor the accessor of the field to check
+         * @param min      the minimum allowed value (inclusive)
+         * @param max      the maximum allowed value (inclusive)
+         * @param message  the error message to use
+         * @return this builder
+         */
+        @Nonnull
+        public Builder<T> requireInRange(@Nonnull ToLongFunction<? super T> accessor, long min, long max,
+                                         @Nonnull String message) {
+            return add(accessor, message,
+                    value -> NumericArgs.requireInRange(accessor.applyAsLong(value), min, true, max, true, message));
+        }
+
+        /**
+         * Require that a string (character sequence) field is not blank
+         * @param accessor the accessor of the field to check
+         * @param message  the error message to use
+         * @return this builder
+         * @see StringArgs#requireNonBlank(CharSequence, String)
+         */
+        @Nonnull
+        public Builder<T> requireNonBlank(@Nonnull Function<? super T, ? extends CharSequence> accessor,
+                                          @Nonnull String message) {
+            return add(accessor, message, value -> StringArgs.requireNonBlank(accessor.apply(value), message));
+        }
+
+        /**
+         * Require that a string (character sequence) field is not empty
+         * @param accessor the accessor of the field to check
+         * @param message  the error message to use
+         * @return this builder
+         * @see StringArgs#requireNonEmpty(CharSequence, String)
+         */
+        @Nonnull
+        public Builder<T> requireNonEmpty(@Nonnull Function<? super T, ? extends CharSequence> accessor,
+                                          @Nonnull String message) {
+            return add(accessor, message, value -> StringArgs.requireNonEmpty(accessor.apply(value), message));
+        }
+
+        /**
+         * Require that a string (character sequence) field matches a pattern
+         * @param accessor the accessor of the field to check
+         * @param pattern  the pattern to match
+         * @param message  the error message to use
+         * @return this builder
+         * @see StringArgs#requireMatches(CharSequence, Pattern, String)
+         */
+        @Nonnull
+        public Builder<T> requireMatches(@Nonnull Function<? super T, ? extends CharSequence> accessor,
+                                         @Nonnull Pattern pattern, @Nonnull String message) {
+            if (pattern == null) {
+                throw new IllegalArgumentException("pattern is required");
+            }
+            return add(accessor, message, value -> StringArgs.requireMatches(accessor.apply(value), pattern, message));
+        }
+
+        /**
+         * Require that a string (character sequence) field matches a linear time pattern
+         * @param accessor the accessor of the field to check
+         * @param pattern  the pattern to match
+         * @param message  the error message to use
+         * @return this builder
+         * @see StringArgs#requireMatches(CharSequence, LinearPattern, String)
+         */
+        @Nonnull
+        public Builder<T> requireMatches(@Nonnull Function<? super T, ? extends CharSequence> accessor,
+                                         @Nonnull LinearPattern pattern, @Nonnull String message) {
+            if (pattern == null) {
+                throw new IllegalArgumentException("pattern is required");
+            }
+            return add(accessor, message, value -> StringArgs.requireMatches(accessor.apply(value), pattern, message));
+        }
+
+        /**
+         * Require that a collection field is not null and has at most a given size
+         * @param accessor the accessor of the field to check
+         * @param size     the maximum allowed size
+         * @param message  the error message to use
+         * @return this builder
+         * @see CollectionArgs#requireMaxSize(Collection, int, String)
+         */
+        @Nonnull
+        public Builder<T> requireMaxSize(@Nonnull Function<? super T, ? extends Collection<?>> accessor, int size,
+                                         @Nonnull String message) {
+            return add(accessor, message, value -> CollectionArgs.requireMaxSize(accessor.apply(value), size, message));
+        }
+
+        /**
+         * Require that a collection field is not null and has at least a given size
+         * @param accessor the accessor of the field to check
+         * @param size     the minimum allowed size
+         * @param message  the error message to use
+         * @return this builder
+         * @see CollectionArgs#requireMinSize(Collection, int, String)
+         */
+        @Nonnull
+        public Builder<T> requireMinSize(@Nonnull Function<? super T, ? extends Collection<?>> accessor, int size,
+                                         @Nonnull String message) {
+            return add(accessor, message, value -> CollectionArgs.requireMinSize(accessor.apply(value), size, message));
+        }
+
+        /**
+         * Require that a field is not null and satisfies all the requirements of another validator
+         * @param accessor  the accessor of the field to check
+         * @param validator the validator of the field
+         * @param message   the error message to use if the field is null
+         * @param <F>       the field type
+         * @return this builder
+         */
+        @Nonnull
+        public <F> Builder<T> requireValid(@Nonnull Function<? super T, ? extends F> accessor,
+                                           @Nonnull Validator<? super F> validator, @Nonnull String message) {
+            if (validator == null) {
+                throw new IllegalArgumentException("validator is required");
+            }
+            return add(accessor, null, value -> {
+                F field = accessor.apply(value);
+                if (field != null) {
+                    validator.validate(field);
+                } else if (enabled(CHEAP) && !record(false, message)) {
+                    fail(message);
+                }
+            });
+        }
+
+        /**
+         * Build a validator with the requirements added so far. The builder can still be used afterwards, without
+         * affecting the built validator.
+         * @return the validator
+         */
+        @Nonnull
+        @SuppressWarnings("unchecked")
+        public Validator<T> build() {
+            Rule<? super T>[] array = (Rule<? super T>[]) new Rule<?>[rules.size()];
+            return new Validator<T>(rules.toArray(array), names.toArray(new String[0]));
+        }
+
+        /**
+         * @param name the rule name in the {@link ArgsMetrics}, or null if the rule is not timed by itself
+         */
+        private Builder<T> add(Object accessor, String name, Rule<? super T> rule) {
+            if (accessor == null) {
+                throw new IllegalArgumentException("accessor is required");
+            }
+            rules.add(rule);
+            names.add(name);
+            return this;
+        }
+    }
+}
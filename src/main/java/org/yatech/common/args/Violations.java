@@ -0,0 +1,183 @@
+package org.yatech.common.args;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The error messages of the requirements which were not satisfied while running a block of code in the collecting
+ * mode.
+ * <p>
+ * By default, a requirement which is not satisfied throws an {@link IllegalArgumentException}. While a block runs in
+ * {@link #collect(Runnable)}, the requirements of {@link Args}, {@link NumericArgs}, {@link StringArgs},
+ * {@link CollectionArgs} and {@link Validator} record their error message instead and return, so all the invalid
+ * arguments can be reported at once without creating an exception per failure:
+ * <pre>
+ * Violations violations = Violations.collect(() -&gt; {
+ *     StringArgs.requireNonBlank(request.getName(), "name is required");
+ *     NumericArgs.requireInRange(request.getAge(), 0, true, 150, true, "age must be in [0, 150]");
+ * });
+ * violations.throwIfAny();
+ * </pre>
+ * Note that in the collecting mode the requirement methods return the value even if it does not satisfy the
+ * requirement (or <tt>0</tt> for a <tt>null</tt> boxed number), so the code in the block must not depend on the
+ * values being valid. The collecting mode applies only to the current thread, and collecting blocks may be nested
+ * (the violations of an inner block are not reported to the outer block). When all the requirements are satisfied,
+ * collecting does not allocate (apart from the first time on each thread).
+ *
+ * @author Yinon Avraham.
+ */
+public final class Violations {
+
+    private static final Violations NONE = new Violations(Collections.<String>emptyList());
+    private static final ThreadLocal<Collector> COLLECTOR = ThreadLocal.withInitial(Collector::new);
+
+    private final List<String> messages;
+
+    private Violations(List<String> messages) {
+        this.messages = messages;
+    }
+
+    /**
+     * Run a block of code, collecting the error messages of the requirements which are not satisfied instead of
+     * failing on the first one
+     * @param block the block to run
+     * @return the violations of the requirements in the block, in the order they occurred
+     */
+    @Nonnull
+    public static Violations collect(@Nonnull Runnable block) {
+        Collector collector = COLLECTOR.get();
+        int start = collector.begin();
+        try {
+            block.run();
+            return collector.violations(start);
+        } finally {
+            collector.end(start);
+        }
+    }
+
+    /**
+     * Run a block of code on a value, collecting the error messages of the requirements which are not satisfied
+     * instead of failing on the first one. Unlike {@link #collect(Runnable)}, this allows to pass the value to a
+     * non-capturing lambda or method reference, e.g. <tt>Violations.collect(request, Request::validate)</tt>.
+     * @param value the value to pass to the block
+     * @param block the block to run
+     * @param <T>   the value type
+     * @return the violations of the requirements in the block, in the order they occurred
+     */
+    @Nonnull
+    public static <T> Violations collect(T value, @Nonnull Consumer<? super T> block) {
+        Collector collector = COLLECTOR.get();
+        int start = collector.begin();
+        try {
+            block.accept(value);
+            return collector.violations(start);
+        } finally {
+            collector.end(start);
+        }
+    }
+
+    /**
+     * Run a block of code on a value with the requirements failing on the first one which is not satisfied, even if
+     * the current thread is collecting violations
+     * @param value the value to pass to the block
+     * @param block the block to run
+     * @param <T>   the value type
+     */
+    static <T> void failFast(T value, @Nonnull Consumer<? super T> block) {
+        Collector collector = COLLECTOR.get();
+        int depth = collector.depth;
+        collector.depth = 0;
+        try {
+            block.accept(value);
+        } finally {
+            collector.depth = depth;
+        }
+    }
+
+    /**
+     * Record a failure if the current thread is collecting violations
+     * @param message the error message of the failure
+     * @return whether the failure was recorded, otherwise the caller should throw
+     */
+    static boolean record(@Nonnull String message) {
+        Collector collector = COLLECTOR.get();
+        if (collector.depth == 0) {
+            return false;
+        }
+        collector.messages.add(message);
+        return true;
+    }
+
+    /**
+     * @return whether all the requirements were satisfied
+     */
+    public boolean isEmpty() {
+        return messages.isEmpty();
+    }
+
+    /**
+     * @return the number of requirements which were not satisfied
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    /**
+     * @return the error messages of the requirements which were not satisfied, in the order they occurred
+     */
+    @Nonnull
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Throw the exception of the current {@link FailureFactory} with all the error messages, if there are any
+     * violations (an {@link IllegalArgumentException} by default, like a requirement which fails directly)
+     * @throws RuntimeException if any of the requirements was not satisfied
+     */
+    public void throwIfAny() {
+        if (!messages.isEmpty()) {
+            throw Args.currentFailureFactory().create(String.join("; ", messages));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Violations" + messages;
+    }
+
+    private static final class Collector {
+
+        private static final int RETAINED_CAPACITY = 256;
+
+        final ArrayList<String> messages = new ArrayList<>();
+        int depth;
+
+        int begin() {
+            depth++;
+            return messages.size();
+        }
+
+        Violations violations(int start) {
+            int end = messages.size();
+            if (end == start) {
+                return NONE;
+            }
+            return new Violations(Collections.unmodifiableList(new ArrayList<>(messages.subList(start, end))));
+        }
+
+        void end(int start) {
+            depth--;
+            int end = messages.size();
+            if (end > start) {
+                messages.subList(start, end).clear();
+                if (depth == 0 && end > RETAINED_CAPACITY) {
+                    messages.trimToSize();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated numeric property is within a range. Supported on the same types as {@link Positive}.
+ * The range bounds must be representable in the type of the property, otherwise the processor reports an error.
+ * <p>
+ * The generated validator calls <tt>NumericArgs.requireInRange</tt> with the type of the property.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface InRange {
+
+    /**
+     * @return the lower bound of the range
+     */
+    long from();
+
+    /**
+     * @return whether the lower bound is included in the range
+     */
+    boolean fromInclusive() default true;
+
+    /**
+     * @return the upper bound of the range
+     */
+    long to();
+
+    /**
+     * @return whether the upper bound is included in the range
+     */
+    boolean toInclusive() default true;
+
+    /**
+     * @return the error message to use, or an empty string for a message derived from the property name
+     */
+    String message() default "";
+}
@@ -0,0 +1,32 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated {@link CharSequence} property matches a regular expression. The regular expression is
+ * checked by the processor, and compiled once when the generated validator is initialized.
+ * <p>
+ * The generated validator calls
+ * {@link org.yatech.common.args.StringArgs#requireMatches(CharSequence, java.util.regex.Pattern, String)}.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Matches {
+
+    /**
+     * @return the regular expression the property must match
+     */
+    String value();
+
+    /**
+     * @return the error message to use, or an empty string for a message derived from the property name
+     */
+    String message() default "";
+}
@@ -0,0 +1,31 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated {@link java.util.Collection} or {@link java.util.Map} property is not null and has at
+ * least a given size.
+ * <p>
+ * The generated validator calls <tt>CollectionArgs.requireMinSize</tt>.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface MinSize {
+
+    /**
+     * @return the minimum allowed size
+     */
+    int value();
+
+    /**
+     * @return the error message to use, or an empty string for a message derived from the property name
+     */
+    String message() default "";
+}
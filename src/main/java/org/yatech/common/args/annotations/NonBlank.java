@@ -0,0 +1,25 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated {@link CharSequence} property is not blank.
+ * <p>
+ * The generated validator calls {@link org.yatech.common.args.StringArgs#requireNonBlank(CharSequence, String)}.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface NonBlank {
+
+    /**
+     * @return the error message to use, or an empty string for a message derived from the property name
+     */
+    String message() default "";
+}
@@ -0,0 +1,26 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated {@link CharSequence}, {@link java.util.Collection} or {@link java.util.Map} property
+ * is not empty.
+ * <p>
+ * The generated validator calls <tt>StringArgs.requireNonEmpty</tt> or <tt>CollectionArgs.requireNonEmpty</tt>.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface NonEmpty {
+
+    /**
+     * @return the error message to use, or an empty string for a message derived from the property name
+     */
+    String message() default "";
+}
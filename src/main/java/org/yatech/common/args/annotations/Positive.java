@@ -0,0 +1,27 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated numeric property is positive. Supported on <tt>byte</tt>, <tt>short</tt>,
+ * <tt>int</tt>, <tt>long</tt>, <tt>float</tt> and <tt>double</tt> properties, and on their boxed types except for
+ * <tt>Byte</tt> and <tt>Short</tt>.
+ * <p>
+ * The generated validator calls <tt>NumericArgs.requirePositive</tt> with the type of the property.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Positive {
+
+    /**
+     * @return the error message to use, or an empty string for a message derived from the property name
+     */
+    String message() default "";
+}
@@ -0,0 +1,26 @@
+package org.yatech.common.args.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Require that the annotated property satisfies the requirements of its own type, i.e. that it is not null and is
+ * valid according to the validator generated for the type of the property. The type of the property (or one of its
+ * superclasses) must therefore have requirement annotations itself, otherwise it is reported as a compilation error.
+ *
+ * @author Yinon Avraham.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Valid {
+
+    /**
+     * @return the error message to use if the property is null, or an empty string for a message derived from the
+     *         property name
+     */
+    String message() default "";
+}
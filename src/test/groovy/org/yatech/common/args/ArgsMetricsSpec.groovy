@@ -0,0 +1,123 @@
+package org.yatech.common.args
+
+import spock.lang.Requires
+import spock.lang.Specification
+
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+import java.util.function.Predicate
+import java.util.function.Supplier
+
+/**
+ * The metrics are enabled only for these tests in the build, see the <tt>metricsTest</tt> task
+ *
+ * @author Yinon Avraham.
+ */
+@Requires({ ArgsMetrics.enabled })
+class ArgsMetricsSpec extends Specification {
+
+    def cleanup() {
+        ArgsMetrics.latencySampleRate = 0
+        ArgsMetrics.reset()
+    }
+
+    def 'count the invocations and failures of each rule'() {
+        when:
+        NumericArgs.requirePositive(1, 'metrics: count must be positive')
+        NumericArgs.requirePositive(2 as Integer, 'metrics: count must be positive')
+        StringArgs.requireNonBlank('name', 'metrics: name is required')
+        NumericArgs.requirePositive(0, 'metrics: count must be positive')
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        def snapshot = ArgsMetrics.snapshot()
+
+        then:
+        snapshot['metrics: count must be positive'].invocationCount == 3
+        snapshot['metrics: count must be positive'].failureCount == 1
+        snapshot['metrics: name is required'].invocationCount == 1
+        snapshot['metrics: name is required'].failureCount == 0
+    }
+
+    def 'identify a rule by its message template, and count the message supplier rules together'() {
+        given:
+        def supplier = { 'metrics: not even' } as Supplier<String>
+
+        when:
+        Args.requireSatisfies(3, { it > 0 } as Predicate, 'metrics: %s must be positive', 3)
+        NumericArgs.requireInRange(3L, 0L, true, 9L, true, 'metrics: %s is not in [%s, 9]', 3L, 0L)
+        Violations.collect { Args.requireSatisfies(3, { it % 2 == 0 } as Predicate, supplier) }
+        NumericArgs.requirePositive(3, { 'metrics: not positive' } as Supplier<String>)
+        def snapshot = ArgsMetrics.snapshot()
+
+        then:
+        snapshot['metrics: %s must be positive'].invocationCount == 1
+        snapshot['metrics: %s is not in [%s, 9]'].invocationCount == 1
+        snapshot[ArgsMetrics.SUPPLIED_MESSAGE_RULES].invocationCount == 2
+        snapshot[ArgsMetrics.SUPPLIED_MESSAGE_RULES].failureCount == 1
+    }
+
+    def 'sample the latency of the validator rules'() {
+        given:
+        def validator = Validator.<String> builder()
+                .requireNonBlank({ it } as java.util.function.Function, 'metrics: value is required')
+                .build()
+        ArgsMetrics.latencySampleRate = 1
+
+        when:
+        3.times { validator.validate('value') }
+        def metrics = ArgsMetrics.snapshot()['metrics: value is required']
+
+        then:
+        metrics.invocationCount == 3
+        metrics.latencySampleCount == 3
+        metrics.latencyHistogram.length == ArgsMetrics.LATENCY_BUCKETS
+        metrics.getLatencyPercentile(50) <= metrics.getLatencyPercentile(100)
+    }
+
+    def 'estimate a latency percentile by the histogram bucket'() {
+        given:
+        def histogram = new long[ArgsMetrics.LATENCY_BUCKETS]
+        histogram[0] = 1
+        histogram[4] = 8
+        histogram[10] = 1
+        def metrics = new ArgsMetrics.RuleMetrics('rule', 10, 0, histogram)
+
+        expect:
+        metrics.getLatencyPercentile(10) == 0
+        metrics.getLatencyPercentile(50) == 15
+        metrics.getLatencyPercentile(100) == 1023
+    }
+
+    def 'expose the metrics through JMX'() {
+        given:
+        def server = ManagementFactory.platformMBeanServer
+        def name = new ObjectName(ArgsMetrics.OBJECT_NAME)
+        NumericArgs.requireNonNegative(1, 'metrics: jmx')
+
+        when:
+        ArgsMetrics.registerMBean()
+        ArgsMetrics.registerMBean()
+
+        then:
+        server.getAttribute(name, 'Enabled') == true
+        server.getAttribute(name, 'InvocationCounts').get(['metrics: jmx'] as Object[]).get('value') == 1L
+
+        when:
+        ArgsMetrics.unregisterMBean()
+
+        then:
+        !server.isRegistered(name)
+    }
+
+    def 'fail to set a negative latency sample rate'() {
+        when:
+        ArgsMetrics.latencySampleRate = -1
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'latency sample rate must not be negative'
+    }
+}
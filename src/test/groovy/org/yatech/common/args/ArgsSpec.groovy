@@ -3,6 +3,14 @@ package org.yatech.common.args
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.BiPredicate
+import java.util.function.DoublePredicate
+import java.util.function.IntPredicate
+import java.util.function.LongPredicate
+import java.util.function.Predicate
+import java.util.function.Supplier
+import java.util.stream.Stream
+
 /**
  * @author Yinon Avraham.
  */
@@ -35,4 +43,302 @@ class ArgsSpec extends Specification {
         def e = thrown(IllegalArgumentException)
         e.message == 'value is null'
     }
-}
\ No newline at end of file
+
+    def 'message supplier is not invoked when the requirement is satisfied'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        Args.requireNonNull('foo', supplier)
+
+        then:
+        0 * supplier.get()
+    }
+
+    def 'fail to require non null with a message supplier'() {
+        when:
+        Args.requireNonNull(null, { 'value is null' } as Supplier)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'value is null'
+    }
+
+    @Unroll
+    def 'fail to require satisfies with a message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                                                | expected
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value %s is too small', 5) }          | 'value 5 is too small'
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value %s is below %s', 5, 7) }        | 'value 5 is below 7'
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value %s is below %s', 5L, 7L) }      | 'value 5 is below 7'
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value is too small', 5) }             | 'value is too small [5]'
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value is below minimum', 5, 7) }      | 'value is below minimum [5, 7]'
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value %s is below %s', 5) }           | 'value 5 is below %s'
+        { Args.requireSatisfies(5, { it > 7 } as Predicate, 'value %s is below %s', null, 'foo') } | 'value null is below foo'
+    }
+
+    @Unroll
+    def 'invoke the message supplier only when the requirement fails on #invalid'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        check.call(valid, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        check.call(invalid, supplier)
+
+        then:
+        1 * supplier.get() >> 'failed'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'failed'
+
+        where:
+        valid | invalid | check
+        'a'   | null    | { v, s -> Args.requireNonNull(v, s) }
+        2     | -2      | { v, s -> Args.requireSatisfies(v, { it > 0 } as Predicate, s) }
+        [1]   | [2]     | { v, s -> Args.requireSatisfies(v, 1, { c, e -> e in c } as BiPredicate, s) }
+        2L    | -2L     | { v, s -> Args.requireSatisfiesLong(v, { it > 0 } as LongPredicate, s) }
+        2     | -2      | { v, s -> Args.requireSatisfiesInt(v, { it > 0 } as IntPredicate, s) }
+        0.5d  | 1.5d    | { v, s -> Args.requireSatisfiesDouble(v, { it < 1 } as DoublePredicate, s) }
+    }
+
+    @Unroll
+    def 'fail with a formatted message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                                             | expected
+        { Args.requireNonNull(null, '%s is null', 'name') }                                     | 'name is null'
+        { Args.requireNonNull(null, '%s.%s is null', 'a', 'b') }                                | 'a.b is null'
+        { Args.requireSatisfiesLong(3L, { it < 0 } as LongPredicate, '%s >= 0', 3L) }           | '3 >= 0'
+        { Args.requireSatisfiesInt(3, { it < 0 } as IntPredicate, '%s >= %s', 3L, 0L) }         | '3 >= 0'
+        { Args.requireSatisfiesInt(3, { it < 0 } as IntPredicate, 'positive', 3L) }             | 'positive [3]'
+        { Args.requireSatisfiesDouble(1.5d, { it < 1 } as DoublePredicate, '%s >= 1', 'x') }    | 'x >= 1'
+        { Args.requireSatisfiesDouble(2d, { it < 1 } as DoublePredicate, '%s >= %s', 2d, 1d) }  | '2.0 >= 1.0'
+        { Args.requireSatisfiesDouble(2d, { it < 1 } as DoublePredicate, 'too large', 2d, 1d) } | 'too large [2.0, 1.0]'
+    }
+
+    def 'require satisfies with a context argument'() {
+        given:
+        def containsElement = { c, e -> c.contains(e) } as BiPredicate
+        def maxSize = { c, long max -> c.size() <= max } as ObjLongPredicate
+
+        expect:
+        Args.requireSatisfies([1, 2, 3], 2, containsElement, 'element is missing') == [1, 2, 3]
+        Args.requireSatisfies([1, 2, 3], 3L, maxSize, 'too many elements') == [1, 2, 3]
+
+        when:
+        Args.requireSatisfies([1, 2, 3], 4, containsElement, 'element %s is missing', 4)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'element 4 is missing'
+
+        when:
+        Args.requireSatisfies([1, 2, 3], 2L, maxSize, 'too many elements')
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message == 'too many elements'
+    }
+
+    def 'require primitive value satisfies'() {
+        expect:
+        Args.requireSatisfiesLong(4L, { long v -> v % 2 == 0 } as LongPredicate, 'odd value') == 4L
+        Args.requireSatisfiesInt(4, { int v -> v % 2 == 0 } as IntPredicate, 'odd value') == 4
+        Args.requireSatisfiesDouble(0.5d, { double v -> v < 1 } as DoublePredicate, 'too large') == 0.5d
+
+        when:
+        Args.requireSatisfiesLong(3L, { long v -> v % 2 == 0 } as LongPredicate, 'odd value %s', 3L)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'odd value 3'
+
+        when:
+        Args.requireSatisfiesDouble(1.5d, { double v -> v < 1 } as DoublePredicate, 'too large: %s', 1.5d)
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message == 'too large: 1.5'
+    }
+
+    def 'fail with a stackless exception'() {
+        given:
+        def original = Args.failureFactory
+        Args.failureFactory = FailureFactory.STACKLESS
+
+        when:
+        Args.requireNonNull(null, 'value is required')
+
+        then:
+        def e = thrown(StacklessIllegalArgumentException)
+        e.message == 'value is required'
+        e.stackTrace.length == 0
+
+        cleanup:
+        Args.failureFactory = original
+    }
+
+    def 'fail with an exception of the failure factory of the current block'() {
+        given:
+        def factory = { message -> new IllegalStateException(message) } as FailureFactory
+
+        when:
+        Args.withFailureFactory(factory, { Args.requireNonNull(null, 'value is required') } as Runnable)
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == 'value is required'
+
+        when:
+        Args.requireNonNull(null, 'value is required')
+
+        then:
+        thrown(IllegalArgumentException)
+        Args.failureFactory == FailureFactory.ILLEGAL_ARGUMENT
+    }
+
+    def 'return the result of a block with a failure factory'() {
+        expect:
+        Args.withFailureFactory(FailureFactory.STACKLESS,
+                { Args.requireNonNull('foo', 'value is required') } as Supplier) == 'foo'
+    }
+
+    def 'fail to set a null failure factory'() {
+        when:
+        Args.failureFactory = null
+
+        then:
+        thrown(IllegalArgumentException)
+        Args.failureFactory != null
+    }
+
+    @Unroll
+    def 'check the requirements of the validation level tiers: #level'() {
+        given:
+        Args.validationLevel = level
+
+        expect:
+        Args.validationLevel == level
+        isFailing { NumericArgs.requirePositive(-1, 'negative') } == cheap
+        isFailing { NumericArgs.requirePositive(null as Integer, 'null') } == cheap
+        isFailing { StringArgs.requireNonBlank(' ', 'blank') } == cheap
+        isFailing { CollectionArgs.requireContains(new HashSet([1]), 2, 'missing') } == cheap
+        isFailing { CollectionArgs.requireContains([1], 2, 'missing') } == full
+        isFailing { CollectionArgs.requireAllSatisfy([1, -1], { it > 0 } as Predicate, 'negative') } == full
+        isFailing { StringArgs.requireMatches('abc', '\\d+', 'not a number') } == full
+        isFailing { NumericArrayArgs.requireAllNonZero([1, 0] as int[], 'zero') } == full
+
+        cleanup:
+        Args.validationLevel = ValidationLevel.FULL
+
+        where:
+        level                 | cheap | full
+        ValidationLevel.OFF   | false | false
+        ValidationLevel.CHEAP | true  | false
+        ValidationLevel.FULL  | true  | true
+    }
+
+    def 'fail to set a null validation level'() {
+        when:
+        Args.validationLevel = null
+
+        then:
+        thrown(IllegalArgumentException)
+        Args.validationLevel == ValidationLevel.FULL
+    }
+
+    @Unroll
+    def 'check the configuration of the library at any validation level: #level'() {
+        given:
+        Args.validationLevel = level
+
+        expect:
+        isFailing { MemoizingPredicate.builder({ true } as Predicate).maximumSize(0) }
+        isFailing { MemoizingPredicate.builder({ true } as Predicate).expireAfterWrite(1, null) }
+        isFailing { BatchingRequirement.builder({ new boolean[it.size()] } as BatchPredicate).maxBatchSize(-1) }
+        isFailing { BatchingRequirement.builder({ new boolean[it.size()] } as BatchPredicate).maxDelay(-1, null) }
+        isFailing { Args.withFailureFactory(null, {} as Runnable) }
+        Violations.collect {
+            assert isFailing { MemoizingPredicate.builder(null) }
+            assert isFailing { KeySchema.builder().required('a', 'a') }
+        }.empty
+
+        cleanup:
+        Args.validationLevel = ValidationLevel.FULL
+
+        where:
+        level << ValidationLevel.values()
+    }
+
+    @Unroll
+    def 'consume the elements counted by a count requirement at any validation level: #level'() {
+        given:
+        def iterator = [1, 2, 3].iterator()
+        Args.validationLevel = level
+
+        expect:
+        CollectionArgs.requireMaxCount(iterator, 5, 'too many') == 3
+        !iterator.hasNext()
+        CollectionArgs.requireMinCount(Stream.of(1, 2, 3), 2, 'too few') == 2
+
+        cleanup:
+        Args.validationLevel = ValidationLevel.FULL
+
+        where:
+        level << ValidationLevel.values()
+    }
+
+    @Unroll
+    def 'read the initial validation level from the system property "#property"'() {
+        expect:
+        Args.toValidationLevel(property) == level
+
+        where:
+        property | level
+        null     | ValidationLevel.FULL
+        'cheap'  | ValidationLevel.CHEAP
+        ' OFF '  | ValidationLevel.OFF
+        'Full'   | ValidationLevel.FULL
+        'fulll'  | ValidationLevel.FULL
+        ''       | ValidationLevel.FULL
+    }
+
+    def 'skip the validation of a null value by a validator at the off validation level'() {
+        given:
+        def validator = Validator.<String> builder().build()
+        Args.validationLevel = ValidationLevel.OFF
+
+        expect:
+        validator.validate(null) == null
+
+        cleanup:
+        Args.validationLevel = ValidationLevel.FULL
+    }
+
+    private static boolean isFailing(Closure block) {
+        try {
+            block()
+            return false
+        } catch (IllegalArgumentException e) {
+            return true
+        }
+    }
+}
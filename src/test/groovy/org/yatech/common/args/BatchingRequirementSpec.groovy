@@ -0,0 +1,158 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.function.Supplier
+
+/**
+ * @author Yinon Avraham.
+ */
+class BatchingRequirementSpec extends Specification {
+
+    InMemoryStore store = new InMemoryStore(ids: [1L, 2L, 3L] as Set)
+
+    def cleanup() {
+        Args.validationLevel = ValidationLevel.FULL
+    }
+
+    def 'evaluate a batch when it is full'() {
+        given:
+        def requirement = BatchingRequirement.builder(store.&existing)
+                .maxBatchSize(3)
+                .maxDelay(1, TimeUnit.MINUTES)
+                .build()
+
+        when:
+        def results = [1L, 2L, 4L].collect { requirement.require(it, 'id does not exist') }
+
+        then:
+        results[0].get(1, TimeUnit.SECONDS) == 1L
+        results[1].get(1, TimeUnit.SECONDS) == 2L
+        store.batches == [[1L, 2L, 4L]]
+
+        when:
+        results[2].get(1, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof IllegalArgumentException
+        e.cause.message == 'id does not exist'
+    }
+
+    def 'evaluate a batch when its delay passes'() {
+        given:
+        def requirement = BatchingRequirement.builder(store.&existing)
+                .maxBatchSize(100)
+                .maxDelay(10, TimeUnit.MILLISECONDS)
+                .build()
+
+        when:
+        def results = [3L, 5L].collect { requirement.test(it) }
+
+        then:
+        results*.get(1, TimeUnit.SECONDS) == [true, false]
+        store.batches == [[3L, 5L]]
+    }
+
+    def 'evaluate the pending batch on flush'() {
+        given:
+        def requirement = BatchingRequirement.builder(store.&existing)
+                .maxDelay(1, TimeUnit.MINUTES)
+                .executor({ it.run() } as Executor)
+                .build()
+
+        when:
+        def result = requirement.test(1L)
+
+        then:
+        !result.done
+
+        when:
+        requirement.flush()
+
+        then:
+        result.getNow(false)
+    }
+
+    def 'group concurrent requirements into batches'() {
+        given:
+        def requirement = BatchingRequirement.builder(store.&existing)
+                .maxBatchSize(10)
+                .maxDelay(5, TimeUnit.MILLISECONDS)
+                .build()
+
+        when:
+        def results = Collections.synchronizedList([])
+        def threads = (1..4).collect { thread ->
+            Thread.start { (1..25).each { results << requirement.test((long) it) } }
+        }
+        threads*.join()
+        CompletableFuture.allOf(results as CompletableFuture[]).get(1, TimeUnit.SECONDS)
+
+        then:
+        results.size() == 100
+        results.count { it.get() } == 12
+        store.batches.size() < 100
+        store.batches.sum { it.size() } == 100
+        store.batches.every { it.size() <= 10 }
+    }
+
+    def 'fail all the requirements of a batch whose evaluation fails'() {
+        given:
+        def error = new IOException('store is down')
+        def requirement = BatchingRequirement.<Long> builder({ throw error } as BatchPredicate)
+                .maxBatchSize(2)
+                .build()
+
+        when:
+        def results = [1L, 2L].collect { requirement.require(it, 'id does not exist') }
+        results[1].get(1, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause.is(error)
+        results[0].completedExceptionally
+    }
+
+    def 'fail with the failure factory of the calling thread'() {
+        given:
+        def requirement = BatchingRequirement.builder(store.&existing).maxDelay(0, TimeUnit.MILLISECONDS).build()
+
+        when:
+        def result = Args.withFailureFactory(FailureFactory.STACKLESS, {
+            requirement.require(9L, { 'id 9 does not exist' })
+        } as Supplier)
+        result.get(1, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof StacklessIllegalArgumentException
+        e.cause.message == 'id 9 does not exist'
+    }
+
+    def 'skip the requirement below the full validation level'() {
+        given:
+        def requirement = BatchingRequirement.builder(store.&existing).build()
+        Args.validationLevel = ValidationLevel.CHEAP
+
+        expect:
+        requirement.require(9L, 'id does not exist').getNow(null) == 9L
+        store.batches.empty
+    }
+
+    static class InMemoryStore {
+
+        Set<Long> ids
+        List<List<Long>> batches = new CopyOnWriteArrayList<>()
+
+        boolean[] existing(List<Long> values) {
+            batches << new ArrayList<>(values)
+            return values.collect { ids.contains(it) } as boolean[]
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.yatech.common.args
+
+import org.yatech.common.args.ByteArgs.ByteSet
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.CharacterCodingException
+import java.nio.charset.CodingErrorAction
+import java.nio.charset.StandardCharsets
+import java.util.function.Supplier
+
+/**
+ * @author Yinon Avraham.
+ */
+class ByteArgsSpec extends Specification {
+
+    @Unroll
+    def 'require valid utf-8: #bytes'() {
+        expect:
+        isSatisfied { ByteArgs.requireValidUtf8(bytes as byte[], 'not utf-8') } == expected
+        ByteArgs.isValidUtf8(ByteBuffer.wrap(bytes as byte[])) == expected
+
+        where:
+        bytes                                            | expected
+        []                                               | true
+        'plain ascii, longer than a word'.bytes as List  | true
+        [0x63, 0x61, 0x66, 0xC3, 0xA9]                   | true
+        [0xE2, 0x82, 0xAC, 0x31]                         | true
+        [0xF0, 0x9F, 0x98, 0x80]                         | true
+        [0xF4, 0x8F, 0xBF, 0xBF]                         | true
+        [0xC3]                                           | false
+        [0xC0, 0xAF]                                     | false
+        [0xE0, 0x80, 0xAF]                               | false
+        [0xED, 0xA0, 0x80]                               | false
+        [0xF4, 0x90, 0x80, 0x80]                         | false
+        [0xF5, 0x80, 0x80, 0x80]                         | false
+        [0x61, 0x62, 0x63, 0x64, 0x65, 0x66, 0x67, 0x80] | false
+    }
+
+    def 'validate utf-8 the same as a strict decoder'() {
+        given:
+        def random = new Random(20)
+
+        expect:
+        (1..10000).every {
+            def bytes = new byte[random.nextInt(24)]
+            random.nextBytes(bytes)
+            if (it % 2 == 0) {
+                for (int i = 0; i < bytes.length; i += 2) {
+                    bytes[i] = (byte) (bytes[i] & 0x7F)
+                }
+            }
+            ByteArgs.isValidUtf8(bytes) == isDecodable(bytes)
+        }
+    }
+
+    @Unroll
+    def 'check the remaining bytes of a #kind buffer without moving its position'() {
+        given:
+        def buffer = allocate(32)
+        buffer.put('  hello world 123'.getBytes(StandardCharsets.US_ASCII)).flip()
+        buffer.position(2)
+
+        expect:
+        ByteArgs.requireAscii(buffer, 'not ascii').is(buffer)
+        ByteArgs.requireValidUtf8(buffer, 'not utf-8').is(buffer)
+        ByteArgs.requireNonBlank(buffer, 'blank').is(buffer)
+        ByteArgs.requireMaxLength(buffer, 15, 'too long').is(buffer)
+        ByteArgs.requireMinLength(buffer, 15, 'too short').is(buffer)
+        ByteArgs.requireStartsWith(buffer, 'hello'.bytes, 'no prefix').is(buffer)
+        ByteArgs.requireEndsWith(buffer, '123'.bytes, 'no suffix').is(buffer)
+        ByteArgs.requireOnly(buffer, ByteSet.of(' abcdefghijklmnopqrstuvwxyz0123456789'), 'not a token').is(buffer)
+        !ByteArgs.isWithinMaxLength(buffer, 14)
+        !ByteArgs.isStartingWith(buffer, ' '.bytes)
+        buffer.position() == 2
+        buffer.limit() == 17
+
+        where:
+        kind     | allocate
+        'heap'   | { ByteBuffer.allocate(it) }
+        'direct' | { ByteBuffer.allocateDirect(it) }
+    }
+
+    @Unroll
+    def 'require on a sub-range of an array [#from, #to): #expected'() {
+        given:
+        def bytes = 'ab caf\u00e9'.getBytes(StandardCharsets.UTF_8)
+
+        expect:
+        isSatisfied { ByteArgs.requireAscii(bytes, from, to, 'not ascii') } == expected
+        ByteArgs.isAscii(bytes, from, to) == expected
+
+        where:
+        from | to | expected
+        0    | 6  | true
+        3    | 6  | true
+        3    | 7  | false
+        6    | 8  | false
+    }
+
+    def 'fail on a sub-range out of the array bounds'() {
+        when:
+        ByteArgs.isAscii(new byte[3], 2, 5)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    @Unroll
+    def 'require non blank: #bytes'() {
+        expect:
+        ByteArgs.isNonBlank(bytes as byte[]) == expected
+
+        where:
+        bytes              | expected
+        []                 | false
+        [0x20, 0x09, 0x0D] | false
+        [0x20, 0x61, 0x20] | true
+        [0x20, 0xC2, 0xA0] | true
+    }
+
+    def 'fail to require on null values'() {
+        expect:
+        !isSatisfied { ByteArgs.requireValidUtf8((byte[]) null, 'is required') }
+        !isSatisfied { ByteArgs.requireMaxLength((ByteBuffer) null, 10, 'is required') }
+        !isSatisfied { ByteArgs.requireAscii((byte[]) null, 0, 0, 'is required') }
+    }
+
+    @Unroll
+    def 'invoke the message supplier only when the requirement fails on #invalid'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        check.call(valid, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        check.call(invalid, supplier)
+
+        then:
+        1 * supplier.get() >> 'failed'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'failed'
+
+        where:
+        valid | invalid     | check
+        'ab'  | 'a'         | { v, s -> ByteArgs.requireMinLength(ByteBuffer.wrap(v.bytes), 2, s) }
+        'a'   | 'caf\u00e9' | { v, s -> ByteArgs.requireAscii(v.getBytes('UTF-8'), s) }
+        'ab'  | '\u00e9'    | { v, s -> ByteArgs.requireValidUtf8(v.getBytes('ISO-8859-1'), s) }
+        'ab'  | 'ba'        | { v, s -> ByteArgs.requireStartsWith(v.bytes, 'a'.bytes, s) }
+        'ab'  | 'AB'        | { v, s -> ByteArgs.requireOnly(v.bytes, ByteSet.of('ab'), s) }
+    }
+
+    @Unroll
+    def 'fail with a formatted message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                                      | expected
+        { ByteArgs.requireNonBlank(' '.bytes, '%s is blank', 'name') }                   | 'name is blank'
+        { ByteArgs.requireMaxLength(new byte[5], 4, '%s is longer than %s', 'name', 4) } | 'name is longer than 4'
+        { ByteArgs.requireMinLength(ByteBuffer.allocate(1), 2, 'shorter than %s', 2L) }  | 'shorter than 2'
+        { ByteArgs.requireAscii([0x80] as byte[], 0, 1, 'byte %s is %s', 0L, 128L) }     | 'byte 0 is 128'
+        { ByteArgs.requireEndsWith('ab'.bytes, 'a'.bytes, 'bad suffix', 'ab') }          | 'bad suffix [ab]'
+    }
+
+    def 'build byte sets'() {
+        given:
+        def set = ByteSet.range(0x61, 0x7A).union(ByteSet.of('-_')).union(ByteSet.of(0xFF as byte))
+
+        expect:
+        set.contains('q' as char as byte)
+        set.contains('_' as char as byte)
+        set.contains(0xFF as byte)
+        !set.contains('A' as char as byte)
+        !set.contains(0x80 as byte)
+    }
+
+    @Unroll
+    def 'fail to build a byte set of #description'() {
+        when:
+        create.call()
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        description        | create
+        'an invalid range' | { ByteSet.range(10, 256) }
+        'a reversed range' | { ByteSet.range(10, 9) }
+        'non-ascii chars'  | { ByteSet.of('caf\u00e9') }
+    }
+
+    private static boolean isDecodable(byte[] bytes) {
+        try {
+            StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+            return true
+        } catch (CharacterCodingException ignored) {
+            return false
+        }
+    }
+
+    private static boolean isSatisfied(Closure requirement) {
+        try {
+            requirement.call()
+            return true
+        } catch (IllegalArgumentException ignored) {
+            return false
+        }
+    }
+}
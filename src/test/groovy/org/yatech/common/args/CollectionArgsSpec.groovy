@@ -3,6 +3,13 @@ package org.yatech.common.args
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ConcurrentSkipListMap
+import java.util.function.Predicate
+import java.util.function.Supplier
+import java.util.function.UnaryOperator
+import java.util.stream.Stream
+
 /**
  * @author Yinon Avraham.
  */
@@ -79,6 +86,40 @@ class CollectionArgsSpec extends Specification {
         [1, 2, 3]         | 3
         [1, 2, null]      | null
         [1, 2, 3].toSet() | 1
+        null              | 1
+    }
+
+    def 'look up an element only in a set or a null collection at the cheap validation level'() {
+        given:
+        Args.validationLevel = ValidationLevel.CHEAP
+
+        expect:
+        CollectionArgs.requireContains([1, 2, 3], 4, 'requirement failed') == [1, 2, 3]
+        CollectionArgs.requireExcludes([1, 2, 3], 3, 'requirement failed') == [1, 2, 3]
+
+        when:
+        CollectionArgs.requireContains([1, 2, 3].toSet(), 4, 'requirement failed')
+
+        then:
+        def e1 = thrown(IllegalArgumentException)
+        e1.message == 'requirement failed'
+
+        when:
+        CollectionArgs.requireContains(null, 1, 'collection is required')
+
+        then:
+        def e2 = thrown(IllegalArgumentException)
+        e2.message == 'collection is required'
+
+        when:
+        CollectionArgs.requireExcludes(null, 1, 'collection is required')
+
+        then:
+        def e3 = thrown(IllegalArgumentException)
+        e3.message == 'collection is required'
+
+        cleanup:
+        Args.validationLevel = ValidationLevel.FULL
     }
 
     /* **************************************************************
@@ -534,4 +575,374 @@ class CollectionArgsSpec extends Specification {
         e = thrown(IllegalArgumentException)
         e.message == 'requirement failed'
     }
+
+    @Unroll
+    def 'check a collection/map without throwing: #expected'() {
+        expect:
+        check.call() == expected
+
+        where:
+        check                                                   | expected
+        { CollectionArgs.isContaining([1, 2], 2) }              | true
+        { CollectionArgs.isContaining(null, 2) }                | false
+        { CollectionArgs.isExcluding([1, 2], 3) }               | true
+        { CollectionArgs.isExcluding(null, 3) }                 | false
+        { CollectionArgs.isContainingKey([a: 1], 'a') }         | true
+        { CollectionArgs.isExcludingValue([a: 1], 1) }          | false
+        { CollectionArgs.isWithinMaxSize([1, 2], 1) }           | false
+        { CollectionArgs.isAtLeastMinSize([a: 1], 1) }          | true
+        { CollectionArgs.isEmpty([]) }                          | true
+        { CollectionArgs.isEmpty((Collection) null) }           | false
+        { CollectionArgs.isNonEmpty([a: 1]) }                   | true
+        { CollectionArgs.isNonEmpty((Map) null) }               | false
+    }
+
+    @Unroll
+    def 'successfully require all elements satisfy (#type, parallel threshold: #threshold)'() {
+        given:
+        CollectionArgs.parallelThreshold = threshold
+        def collection = type.newInstance((1..5000).collect { it })
+
+        expect:
+        CollectionArgs.requireAllSatisfy(collection, { it > 0 } as Predicate, 'elements[%s] is not positive')
+                .is(collection)
+        CollectionArgs.requireNoneSatisfy(collection, { it > 5000 } as Predicate, 'elements[%s] is too big')
+                .is(collection)
+        CollectionArgs.requireNoNulls(collection, 'elements[%s] is null').is(collection)
+
+        cleanup:
+        CollectionArgs.parallelThreshold = CollectionArgs.DEFAULT_PARALLEL_THRESHOLD
+
+        where:
+        type          | threshold
+        ArrayList     | Integer.MAX_VALUE
+        ArrayList     | 1
+        LinkedList    | Integer.MAX_VALUE
+        LinkedList    | 1
+        LinkedHashSet | 1
+    }
+
+    @Unroll
+    def 'fail to require all elements satisfy reports the first index: #expected (parallel threshold: #threshold)'() {
+        given:
+        CollectionArgs.parallelThreshold = threshold
+        def collection = (0..<5000).collect { it }
+        invalid.each { collection[it] = -1 }
+
+        when:
+        CollectionArgs.requireAllSatisfy(collection, { it >= 0 } as Predicate, 'elements[%s] is negative')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "elements[$expected] is negative"
+
+        cleanup:
+        CollectionArgs.parallelThreshold = CollectionArgs.DEFAULT_PARALLEL_THRESHOLD
+
+        where:
+        invalid            | threshold         | expected
+        [0]                | Integer.MAX_VALUE | 0
+        [4999, 3000]       | Integer.MAX_VALUE | 3000
+        [0]                | 1                 | 0
+        [4999, 3000]       | 1                 | 3000
+        [4999, 1025, 1024] | 1                 | 1024
+    }
+
+    def 'fail to require no nulls'() {
+        when:
+        CollectionArgs.requireNoNulls(collection, 'elements[%s] is null')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == message
+
+        where:
+        collection                 | message
+        null                       | 'elements[-1] is null'
+        ['a', null, 'b']           | 'elements[1] is null'
+        new LinkedList([null])     | 'elements[0] is null'
+    }
+
+    def 'fail to require none satisfy'() {
+        when:
+        CollectionArgs.requireNoneSatisfy(['a', 'b', 'c'], { it == 'b' } as Predicate, 'reserved element')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'reserved element [1]'
+    }
+
+    def 'check all the elements without throwing'() {
+        expect:
+        CollectionArgs.isAllSatisfying([1, 2], { it > 0 } as Predicate)
+        !CollectionArgs.isAllSatisfying([1, -2], { it > 0 } as Predicate)
+        !CollectionArgs.isAllSatisfying(null, { it > 0 } as Predicate)
+        CollectionArgs.isNoneSatisfying([1, 2], { it > 2 } as Predicate)
+        CollectionArgs.isNoNulls([1, 2])
+        !CollectionArgs.isNoNulls([1, null])
+    }
+
+    def 'fail to set a non positive parallel threshold'() {
+        when:
+        CollectionArgs.parallelThreshold = 0
+
+        then:
+        thrown(IllegalArgumentException)
+        CollectionArgs.parallelThreshold == CollectionArgs.DEFAULT_PARALLEL_THRESHOLD
+    }
+
+    @Unroll
+    def 'require multiple elements (#collection, #elements, max index size: #maxIndexSize)'() {
+        given:
+        CollectionArgs.maxIndexSize = maxIndexSize
+
+        expect:
+        CollectionArgs.isContainingAll(collection, elements) == containsAll
+        CollectionArgs.isContainingAny(collection, elements) == containsAny
+        CollectionArgs.isExcludingAll(collection, elements) == !containsAny
+
+        cleanup:
+        CollectionArgs.maxIndexSize = CollectionArgs.DEFAULT_MAX_INDEX_SIZE
+
+        where:
+        collection             | elements                             | maxIndexSize | containsAll | containsAny
+        [1, 2, 3]              | []                                   | 100          | true        | false
+        [1, 2, 3]              | [3, 1]                               | 100          | true        | true
+        [1, 2, 3]              | [3, 4]                               | 100          | false       | true
+        (1..100).toList()      | (1..50).toList()                     | 100          | true        | true
+        (1..100).toList()      | (51..150).toList()                   | 100          | false       | true
+        (1..100).toList()      | (101..150).toList()                  | 100          | false       | false
+        (1..100).toList()      | (1..50).toList()                     | 7            | true        | true
+        (1..100).toList()      | (51..150).toList()                   | 7            | false       | true
+        (1..100).toList()      | (101..150).toList()                  | 7            | false       | false
+        new LinkedList(1..100) | new LinkedList(90..99)               | 3            | true        | true
+        new HashSet(1..100)    | (1..20).toList()                     | 3            | true        | true
+        (1..20).toList()       | new HashSet(15..40)                  | 3            | false       | true
+        [null, 1]              | [null, null, null, 1, 1, 1, 1, 1, 1] | 3            | true        | true
+    }
+
+    def 'fail to require multiple elements'() {
+        when:
+        CollectionArgs.requireContainsAll([1, 2, 3], [1, 4], 'missing elements')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'missing elements'
+
+        when:
+        CollectionArgs.requireContainsAny([1, 2, 3], [4, 5], 'none of %s', [4, 5])
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message == 'none of [4, 5]'
+
+        when:
+        CollectionArgs.requireExcludesAll(null, [4], 'reserved elements')
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message == 'reserved elements'
+    }
+
+    @Unroll
+    def 'require distinct: #collection (max index size: #maxIndexSize)'() {
+        given:
+        CollectionArgs.maxIndexSize = maxIndexSize
+
+        expect:
+        CollectionArgs.isDistinct(collection) == distinct
+
+        cleanup:
+        CollectionArgs.maxIndexSize = CollectionArgs.DEFAULT_MAX_INDEX_SIZE
+
+        where:
+        collection                     | maxIndexSize | distinct
+        null                           | 100          | false
+        []                             | 100          | true
+        [1, 2, 3]                      | 100          | true
+        [1, 2, 1]                      | 100          | false
+        [null, 2, null]                | 100          | false
+        new HashSet([1, 2])            | 1            | true
+        (1..100).toList()              | 7            | true
+        (1..100).toList() + [100]      | 7            | false
+        new LinkedList((1..10) + [1])  | 3            | false
+    }
+
+    def 'fail to require distinct'() {
+        when:
+        CollectionArgs.requireDistinct(['a', 'b', 'a'], 'duplicate elements')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'duplicate elements'
+    }
+
+    /* **************************************************************
+     * require size/count with bounded iteration
+     * **************************************************************/
+
+    @Unroll
+    def 'check the size of a linear size collection/map: #type'() {
+        expect:
+        CollectionArgs.hasLinearSize(collection)
+        CollectionArgs.isNonEmpty(collection)
+        CollectionArgs.isAtLeastMinSize(collection, 3)
+        !CollectionArgs.isAtLeastMinSize(collection, 4)
+        CollectionArgs.isWithinMaxSize(collection, 3)
+        !CollectionArgs.isWithinMaxSize(collection, 2)
+        !CollectionArgs.isEmpty(collection)
+
+        where:
+        type       | collection
+        'queue'    | new ConcurrentLinkedQueue([1, 2, 3])
+        'map'      | new ConcurrentSkipListMap([a: 1, b: 2, c: 3])
+        'map view' | new ConcurrentSkipListMap([a: 1, b: 2, c: 3]).values()
+    }
+
+    def 'check the size of an added linear size type without calling size()'() {
+        given:
+        CollectionArgs.addLinearSizeType(UnsizedCollection)
+        def collection = new UnsizedCollection(1000000)
+
+        expect:
+        !CollectionArgs.hasLinearSize([])
+        CollectionArgs.hasLinearSize(collection)
+        CollectionArgs.requireNonEmpty(collection, 'empty').is(collection)
+        CollectionArgs.requireMinSize(collection, 10, 'too small').is(collection)
+        !CollectionArgs.isWithinMaxSize(collection, 10)
+        collection.iterated == 1 + 10 + 11
+    }
+
+    @Unroll
+    def 'check the count of an iterable/iterator/stream: #type'() {
+        expect:
+        CollectionArgs.isAtLeastMinCount(elements(), 3)
+        !CollectionArgs.isAtLeastMinCount(elements(), 4)
+        CollectionArgs.isWithinMaxCount(elements(), 3)
+        !CollectionArgs.isWithinMaxCount(elements(), 2)
+
+        where:
+        type       | elements
+        'iterable' | { { [1, 2, 3].iterator() } as Iterable }
+        'iterator' | { [1, 2, 3].iterator() }
+        'stream'   | { Stream.of(1, 2, 3) }
+        'list'     | { [1, 2, 3] }
+    }
+
+    def 'require the count of an infinite iterator/stream stops early'() {
+        given:
+        def stream = Stream.iterate(0, { it + 1 } as UnaryOperator)
+        def iterator = Stream.iterate(0, { it + 1 } as UnaryOperator).iterator()
+
+        expect:
+        CollectionArgs.requireMinCount(stream, 5, 'not enough') == 5
+        CollectionArgs.requireMinCount(iterator, 5, 'not enough') == 5
+        iterator.next() == 5
+
+        when:
+        CollectionArgs.requireMaxCount(Stream.iterate(0, { it + 1 } as UnaryOperator), 5, 'too many')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'too many'
+    }
+
+    def 'fail to require the count of a null iterable/iterator/stream'() {
+        when:
+        CollectionArgs.requireMinCount((Iterable) null, 0, 'iterable is required')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'iterable is required'
+
+        when:
+        CollectionArgs.requireMaxCount((Iterator) null, 1, 'iterator is required')
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message == 'iterator is required'
+
+        when:
+        CollectionArgs.requireMinCount(Stream.of(1), 2, 'at least %s elements are required', 2)
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message == 'at least 2 elements are required'
+    }
+
+    @Unroll
+    def 'invoke the message supplier only when the requirement fails on #invalid'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        check.call(valid, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        check.call(invalid, supplier)
+
+        then:
+        1 * supplier.get() >> 'failed'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'failed'
+
+        where:
+        valid  | invalid | check
+        ['a']  | ['b']   | { v, s -> CollectionArgs.requireContains(v, 'a', s) }
+        [a: 1] | [b: 1]  | { v, s -> CollectionArgs.requireContainsKey(v, 'a', s) }
+        [1]    | [1, 2]  | { v, s -> CollectionArgs.requireMaxSize(v, 1, s) }
+        [1]    | []      | { v, s -> CollectionArgs.requireNonEmpty(v, s) }
+        [1, 2] | [1, 1]  | { v, s -> CollectionArgs.requireDistinct(v, s) }
+        [1, 2] | [1]     | { v, s -> CollectionArgs.requireMinCount(v, 2L, s) }
+        [1, 2] | [1, 0]  | { v, s -> CollectionArgs.requireAllSatisfy(v, { it > 0 } as Predicate, s) }
+        [1, 2] | null    | { v, s -> CollectionArgs.requireAllSatisfy(v, { it > 0 } as Predicate, s) }
+        [1, 2] | [1, 3]  | { v, s -> CollectionArgs.requireNoneSatisfy(v, { it > 2 } as Predicate, s) }
+        [1, 2] | [null]  | { v, s -> CollectionArgs.requireNoNulls(v, s) }
+    }
+
+    @Unroll
+    def 'fail with a formatted message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                                           | expected
+        { CollectionArgs.requireContains(['a'], 'b', '%s is missing', 'b') }                  | 'b is missing'
+        { CollectionArgs.requireContainsKey([a: 1], 'b', '%s of %s is missing', 'b', 'map') } | 'b of map is missing'
+        { CollectionArgs.requireMaxSize([1, 2], 1, 'size exceeds %s', 1L) }                   | 'size exceeds 1'
+        { CollectionArgs.requireMinCount([1], 2L, 'count %s is below %s', 1L, 2L) }           | 'count 1 is below 2'
+        { CollectionArgs.requireEmpty([1], 'not empty', [1]) }                                | 'not empty [[1]]'
+        { CollectionArgs.requireDistinct([1, 1], 'duplicates', 1L, 2L) }                      | 'duplicates [1, 2]'
+    }
+
+    /**
+     * A collection whose size is unknown without iterating it, counting the iterated elements
+     */
+    static class UnsizedCollection extends AbstractCollection<Integer> {
+
+        final int elements
+        int iterated
+
+        UnsizedCollection(int elements) {
+            this.elements = elements
+        }
+
+        @Override
+        Iterator<Integer> iterator() {
+            int next = 0
+            return [hasNext: { next < elements }, next: { iterated++; next++ }] as Iterator<Integer>
+        }
+
+        @Override
+        int size() {
+            throw new UnsupportedOperationException('size() should not be called')
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Yinon Avraham.
+ */
+class KeySchemaSpec extends Specification {
+
+    static final KeySchema<String> DATASOURCE = KeySchema.<String> builder()
+            .required('url', 'username')
+            .optional('password', 'poolSize')
+            .forbidden('jdbcPassword')
+            .build()
+
+    def cleanup() {
+        Args.validationLevel = ValidationLevel.FULL
+    }
+
+    @Unroll
+    def 'check the keys of #map'() {
+        expect:
+        DATASOURCE.isSatisfied(map) == expected
+        DATASOURCE.validateAll(map).messages == (expected ? [] : [message])
+
+        where:
+        map                                          | expected | message
+        [url: 'u', username: 'x']                    | true     | null
+        [url: 'u', username: 'x', password: 'p']     | true     | null
+        [url: 'u']                                   | false    | 'missing required keys [username]'
+        [url: 'u', username: 'x', other: 1]          | false    | 'unexpected keys [other]'
+        [url: 'u', username: 'x', jdbcPassword: 'p'] | false    | 'unexpected keys [jdbcPassword]'
+        [password: 'p']                              | false    | 'missing required keys [url, username]'
+    }
+
+    def 'allow unknown keys but not forbidden keys'() {
+        given:
+        def schema = KeySchema.<String> builder().required('a').forbidden('b').allowUnknown(true).build()
+
+        expect:
+        schema.isSatisfied([a: 1, z: 2])
+        !schema.isSatisfied([a: 1, b: 2])
+        schema.getUnexpectedKeys([a: 1, b: 2, z: 3]) == ['b']
+    }
+
+    def 'check a schema with more than 64 required keys'() {
+        given:
+        def keys = (0..<130).collect { "key$it".toString() }
+        def schema = KeySchema.<String> builder().required(keys as String[]).build()
+        def map = keys.collectEntries { [it, it] }
+
+        expect:
+        schema.isSatisfied(map)
+
+        when:
+        map.remove('key100')
+        map.other = 'x'
+
+        then:
+        !schema.isSatisfied(map)
+        schema.getMissingKeys(map) == ['key100']
+        schema.getUnexpectedKeys(map) == ['other']
+    }
+
+    def 'fail with all the missing and unexpected keys'() {
+        when:
+        DATASOURCE.validate([username: 'x', other: 1, jdbcPassword: 'p'])
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'missing required keys [url], unexpected keys [other, jdbcPassword]'
+    }
+
+    def 'fail to validate a null map'() {
+        when:
+        DATASOURCE.validate(null)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'map to validate is required'
+    }
+
+    def 'skip the check below the full validation level'() {
+        given:
+        Args.validationLevel = ValidationLevel.CHEAP
+
+        expect:
+        DATASOURCE.validate([:]) == [:]
+    }
+
+    @Unroll
+    def 'fail to declare #description'() {
+        when:
+        declare.call(KeySchema.<String> builder().required('a'))
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        description       | declare
+        'a duplicate key' | { it.optional('a') }
+        'a null key'      | { it.forbidden('b', null) }
+    }
+
+    def 'build a schema which is not affected by later declarations'() {
+        given:
+        def builder = KeySchema.<String> builder().required('a')
+        def schema = builder.build()
+        builder.required('b')
+
+        expect:
+        schema.requiredKeys == ['a']
+        schema.isSatisfied([a: 1])
+    }
+}
@@ -0,0 +1,92 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.regex.Pattern
+import java.util.regex.PatternSyntaxException
+
+/**
+ * @author Yinon Avraham.
+ */
+class LinearPatternSpec extends Specification {
+
+    static final List<String> INPUTS = ['a', 'b', 'c', 'x', '-', '.', '1', ' ', '\n', '\u00e9', '\uD83D\uDE00',
+                                        '\uD83D']
+
+    @Unroll
+    def 'match the same inputs as java.util.regex: #regex'() {
+        given:
+        def pattern = LinearPattern.compile(regex)
+        def jdkPattern = Pattern.compile(regex)
+        def random = new Random(25)
+
+        expect:
+        pattern.linear
+        (1..2000).every {
+            def input = (1..random.nextInt(8)).collect { INPUTS[random.nextInt(INPUTS.size())] }.join()
+            pattern.matches(input) == jdkPattern.matcher(input).matches()
+        }
+
+        where:
+        regex << ['[a-z0-9]+(-[a-z0-9]+)*', '[\\w.+-]+@[a-z0-9-]+(\\.[a-z0-9-]+)*\\.[a-z]{2,}', '(a+)+b', '^\\d{1,3}$',
+                  'a|b|', '(?:ab)*c??', '[^,\\s]*', '.*', 'x{2,4}-?', '\\W\\S\\D', '[a-]|[-c]', '', '\\x41|\\u00e9.',
+                  '\\.\\*}', '(a|ab)(c|bcd)(d*)', '^a|b$']
+    }
+
+    @Unroll
+    def 'fall back to java.util.regex for #construct'() {
+        given:
+        def pattern = LinearPattern.compile(regex)
+
+        expect:
+        !pattern.linear
+        pattern.matches(input) == Pattern.compile(regex).matcher(input).matches()
+
+        where:
+        construct           | regex              | input
+        'a back reference'  | '(a)\\1'           | 'aa'
+        'a flag'            | '(?i)abc'          | 'ABC'
+        'a look-ahead'      | '(?=a)\\w+'        | 'ab'
+        'a possessive'      | 'a*+a'             | 'aaa'
+        'a word boundary'   | 'a\\b'             | 'a'
+        'a nested class'    | '[a[bc]]+'         | 'abc'
+        'an inner anchor'   | '(^a)b'            | 'ab'
+        'a large automaton' | '(a|b)*a(a|b){12}' | 'a' * 13
+    }
+
+    def 'match a long input in linear time'() {
+        given:
+        def pattern = LinearPattern.compile('(a+)+b')
+        def input = 'a' * 100_000 + 'c'
+
+        expect:
+        pattern.linear
+        !pattern.matches(input)
+        pattern.matches('a' * 100_000 + 'b')
+    }
+
+    def 'fail to compile an invalid regular expression'() {
+        when:
+        LinearPattern.compile('a{')
+
+        then:
+        thrown(PatternSyntaxException)
+    }
+
+    def 'require that a value matches a linear pattern'() {
+        given:
+        def slug = LinearPattern.compile('[a-z0-9]+(-[a-z0-9]+)*')
+
+        expect:
+        StringArgs.requireMatches('linear-pattern', slug, 'invalid slug') == 'linear-pattern'
+        !StringArgs.isMatching(null, slug)
+
+        when:
+        StringArgs.requireMatches('Linear Pattern', slug, 'invalid slug %s', 'Linear Pattern')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'invalid slug Linear Pattern'
+    }
+}
@@ -0,0 +1,161 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+import java.util.function.Predicate
+
+/**
+ * @author Yinon Avraham.
+ */
+class MemoizingPredicateSpec extends Specification {
+
+    int calls
+
+    Predicate<Object> countingPredicate(Closure<Boolean> predicate) {
+        return { value -> calls++; predicate.call(value) } as Predicate
+    }
+
+    def 'remember the results of the predicate'() {
+        given:
+        def lowerCase = MemoizingPredicate.builder(countingPredicate { it ==~ /[a-z]+/ }).build()
+
+        when:
+        def results = ['abc', 'abc', 'A1', 'A1', 'abc'].collect { lowerCase.test(it) }
+
+        then:
+        results == [true, true, false, false, true]
+        calls == 2
+        lowerCase.size == 2
+        lowerCase.hitCount == 3
+        lowerCase.missCount == 2
+        lowerCase.hitRate == 0.6d
+    }
+
+    def 'use the predicate in a requirement'() {
+        given:
+        def lowerCase = MemoizingPredicate.<String> builder(countingPredicate { it ==~ /[a-z]+/ }).build()
+
+        when:
+        Args.requireSatisfies('abc', lowerCase, 'not lower case')
+        Args.requireSatisfies('abc', lowerCase, 'not lower case')
+        Args.requireSatisfies('ABC', lowerCase, 'not lower case')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'not lower case'
+        calls == 2
+    }
+
+    def 'evict the least recently used results when full'() {
+        given:
+        def predicate = MemoizingPredicate.builder(countingPredicate { true }).maximumSize(2).build()
+        predicate.test('hot')
+        predicate.test('cold')
+
+        when:
+        predicate.test('hot')
+        predicate.test('new')
+        predicate.test('hot')
+
+        then:
+        predicate.size == 2
+        predicate.evictionCount == 1
+        calls == 3
+    }
+
+    def 'evaluate the predicate again when a result expires'() {
+        given:
+        def predicate = MemoizingPredicate.builder(countingPredicate { true })
+                .expireAfterWrite(20, TimeUnit.MILLISECONDS)
+                .build()
+
+        when:
+        predicate.test('a')
+        predicate.test('a')
+
+        then:
+        calls == 1
+
+        when:
+        Thread.sleep(40)
+        predicate.test('a')
+
+        then:
+        calls == 2
+        predicate.size == 1
+        predicate.evictionCount == 0
+    }
+
+    def 'compare the values by identity'() {
+        given:
+        def predicate = MemoizingPredicate.builder(countingPredicate { true })."$keys"().build()
+        def value = [1, 2]
+
+        when:
+        predicate.test(value)
+        predicate.test(value)
+        predicate.test([1, 2])
+
+        then:
+        calls == 2
+        predicate.hitCount == 1
+
+        where:
+        keys << ['identityKeys', 'weakKeys']
+    }
+
+    def 'remove the results of weak keys which were garbage collected'() {
+        given:
+        def predicate = MemoizingPredicate.builder(countingPredicate { true }).weakKeys().build()
+
+        when:
+        def sizes = (1..50).collect {
+            predicate.test(new Object())
+            System.gc()
+            Thread.sleep(10)
+            predicate.size
+        }
+
+        then:
+        sizes.last() < 50
+        predicate.evictionCount == 0
+        calls == 50
+    }
+
+    def 'test a null value with the predicate'() {
+        given:
+        def predicate = MemoizingPredicate.builder(countingPredicate { it == null }).build()
+
+        expect:
+        predicate.test(null)
+        predicate.test(null)
+        calls == 2
+        predicate.size == 0
+    }
+
+    def 'forget all the results on clear'() {
+        given:
+        def predicate = MemoizingPredicate.builder(countingPredicate { true }).build()
+        predicate.test('a')
+
+        when:
+        predicate.clear()
+        predicate.test('a')
+
+        then:
+        calls == 2
+        predicate.missCount == 2
+    }
+
+    def 'fail to build with invalid settings'() {
+        when:
+        build.call(MemoizingPredicate.builder(countingPredicate { true }))
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        build << [{ it.maximumSize(0) }, { it.expireAfterWrite(0, TimeUnit.SECONDS) }]
+    }
+}
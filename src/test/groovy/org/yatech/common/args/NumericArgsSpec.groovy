@@ -3,6 +3,8 @@ package org.yatech.common.args
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.Supplier
+
 /**
  * @author Yinon Avraham.
  */
@@ -842,4 +844,202 @@ class NumericArgsSpec extends Specification {
         e.message == 'requirement failed'
     }
 
+    /* *************************************************************************
+     * primitive specializations
+     * *************************************************************************/
+
+    @Unroll
+    def 'successfully require positive for primitive types: #value (#value.class.simpleName)'() {
+        when:
+        def result = NumericArgs.requirePositive(value, 'positive value required')
+
+        then:
+        result == value
+        result.class == value.class
+
+        where:
+        value     | _
+        (short) 1 | _
+        (byte) 1  | _
+    }
+
+    @Unroll
+    def 'fail to require positive for primitive types: #value (#value.class.simpleName)'() {
+        when:
+        NumericArgs.requirePositive(value, 'positive value required')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'positive value required'
+
+        where:
+        value      | _
+        (short) 0  | _
+        (byte) 0   | _
+        (short) -1 | _
+        (byte) -1  | _
+    }
+
+    @Unroll
+    def 'successfully require in-range for primitive types: #value (#value.class.simpleName)'() {
+        when:
+        def result = NumericArgs.requireInRange(value, from, fromInclusive, to, toInclusive, 'requirement failed')
+
+        then:
+        result == value
+
+        where:
+        value            | from             | fromInclusive | to               | toInclusive
+        (short) 1        | (short) 1        | true          | (short) 2        | false
+        (byte) 2         | (byte) 1         | false         | (byte) 2         | true
+        (char) 'b'       | (char) 'a'       | false         | (char) 'z'       | true
+        Long.MAX_VALUE   | 0L               | true          | Long.MAX_VALUE   | true
+    }
+
+    @Unroll
+    def 'fail to require in-range for primitive types: #value (#value.class.simpleName)'() {
+        when:
+        NumericArgs.requireInRange(value, from, fromInclusive, to, toInclusive, 'requirement failed')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'requirement failed'
+
+        where:
+        value            | from             | fromInclusive | to               | toInclusive
+        (short) 1        | (short) 1        | false         | (short) 2        | true
+        (byte) 2         | (byte) 1         | true          | (byte) 2         | false
+        (char) 'a'       | (char) 'b'       | true          | (char) 'z'       | true
+        Double.NaN       | 0.0d             | true          | 1.0d             | true
+        Float.NaN        | 0.0f             | true          | 1.0f             | true
+    }
+
+    @Unroll
+    def 'NaN never satisfies a comparison: #type'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'requirement failed'
+
+        where:
+        type                  | requirement
+        'greater than'        | { NumericArgs.requireGreaterThan(Double.NaN, 0.0d, 'requirement failed') }
+        'greater than equals' | { NumericArgs.requireGreaterThanEquals(Float.NaN, 0.0f, 'requirement failed') }
+        'less than'           | { NumericArgs.requireLessThan(Double.NaN, 0.0d, 'requirement failed') }
+        'less than equals'    | { NumericArgs.requireLessThanEquals(Float.NaN, 0.0f, 'requirement failed') }
+    }
+
+    def 'require non-zero for char'() {
+        expect:
+        NumericArgs.requireNonZero((char) 'a', 'requirement failed') == (char) 'a'
+
+        when:
+        NumericArgs.requireNonZero((char) 0, 'requirement failed')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'requirement failed'
+    }
+
+    /* *************************************************************************
+     * deferred messages
+     * *************************************************************************/
+
+    def 'message supplier is invoked only on failure'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        NumericArgs.requireInRange(5L, 0L, true, 10L, true, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        NumericArgs.requireInRange(11L, 0L, true, 10L, true, supplier)
+
+        then:
+        1 * supplier.get() >> 'out of range'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'out of range'
+    }
+
+    @Unroll
+    def 'invoke the message supplier only when the requirement fails on #invalid'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        check.call(valid, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        check.call(invalid, supplier)
+
+        then:
+        1 * supplier.get() >> 'failed'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'failed'
+
+        where:
+        valid     | invalid   | check
+        1L        | 0L        | { v, s -> NumericArgs.requirePositive(v, s) }
+        1         | 0         | { v, s -> NumericArgs.requirePositive(v, s) }
+        (short) 1 | (short) 5 | { v, s -> NumericArgs.requireLessThan(v, (short) 5, s) }
+        0.0d      | -0.5d     | { v, s -> NumericArgs.requireNonNegative(v, s) }
+        1.0f      | 0.0f      | { v, s -> NumericArgs.requireNonZero(v, s) }
+        5L        | 11L       | { v, s -> NumericArgs.requireInRange(v, 0L, true, 9L, true, s) }
+    }
+
+    @Unroll
+    def 'fail with a formatted message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                                                   | expected
+        { NumericArgs.requireLessThanEquals(11L, 10L, 'limit %s exceeds %s', 11L, 10L) }              | 'limit 11 exceeds 10'
+        { NumericArgs.requirePositive(-1, 'count is %s', -1) }                                        | 'count is -1'
+        { NumericArgs.requireNonNegative(-0.5d, 'ratio is %s', -0.5d) }                               | 'ratio is -0.5'
+        { NumericArgs.requireInRangeInclusive(2.5f, 0.0f, 1.0f, 'probability %s', 'p') }              | 'probability p'
+        { NumericArgs.requireGreaterThan((Integer) null, 0, 'missing %s', 'count') }                  | 'missing count'
+        { NumericArgs.requireInRange((short) 9, (short) 0, true, (short) 5, false, 'bad shard', 9) } | 'bad shard [9]'
+        { NumericArgs.requirePositive(-1L, '%s < 1', 'count') }                                       | 'count < 1'
+        { NumericArgs.requireNonZero(0, '%s of %s', 'size', 'batch') }                                | 'size of batch'
+        { NumericArgs.requireLessThan(11, 10, 'limit is %s', 10L) }                                   | 'limit is 10'
+        { NumericArgs.requireNonPositive(2L, 'above 0', 2L, 3L) }                                    | 'above 0 [2, 3]'
+        { NumericArgs.requireNegative(1.5d, '%s >= %s', 1.5d, 0.0d) }                                 | '1.5 >= 0.0'
+        { NumericArgs.requireInRangeExclusive(1.0f, 0.0f, 1.0f, 'p = %s', 1.0d) }                     | 'p = 1.0'
+        { NumericArgs.requireGreaterThanEquals(0.5d, 1.0d, 'below 1', 0.5d) }                       | 'below 1 [0.5]'
+        { NumericArgs.requireInRange(11L, 0L, true, 9L, true, '%s of [%s, %s]', 11L, 0L) }            | '11 of [0, %s]'
+    }
+
+    @Unroll
+    def 'check a value without throwing: #expected'() {
+        expect:
+        check.call() == expected
+
+        where:
+        check                                                                        | expected
+        { NumericArgs.isPositive(1L) }                                               | true
+        { NumericArgs.isPositive(0) }                                                | false
+        { NumericArgs.isPositive((Long) null) }                                      | false
+        { NumericArgs.isNonNegative(0.0d) }                                          | true
+        { NumericArgs.isNegative(-0.5f) }                                            | true
+        { NumericArgs.isGreaterThan(Double.NaN, 0.0d) }                              | false
+        { NumericArgs.isLessThanEquals((Integer) 10, 10) }                           | true
+        { NumericArgs.isNonZero((char) 0) }                                          | false
+        { NumericArgs.isInRange(5L, 0L, true, 5L, false) }                           | false
+        { NumericArgs.isInRange(5L, 0L, true, 5L, true) }                            | true
+        { NumericArgs.isInRangeInclusive((byte) 3, (byte) 1, (byte) 3) }             | true
+        { NumericArgs.isInRangeExclusive((short) 3, (short) 1, (short) 3) }          | false
+    }
 }
@@ -0,0 +1,105 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Yinon Avraham.
+ */
+class NumericArrayArgsSpec extends Specification {
+
+    @Unroll
+    def 'successfully require all elements of a #type array'() {
+        expect:
+        NumericArrayArgs.requireAllInRange(values, lo, hi, 'out of range').is(values)
+        NumericArrayArgs.requireAllNonNegative(values, 'negative').is(values)
+        NumericArrayArgs.requireAllNonZero(values, 'zero').is(values)
+
+        where:
+        type     | values                                    | lo   | hi
+        'long'   | (1L..5000L) as long[]                     | 1L   | 5000L
+        'int'    | (1..5000) as int[]                        | 1    | 5000
+        'double' | (1..5000).collect { it / 2d } as double[] | 0.5d | 2500d
+        'float'  | (1..5000).collect { it / 2f } as float[]  | 0.5f | 2500f
+        'empty'  | new long[0]                               | 1L   | 0L
+    }
+
+    @Unroll
+    def 'fail to require all elements in range: #expected'() {
+        when:
+        NumericArrayArgs.requireAllInRange(values, lo, hi, 'values[%s] = %s is out of range')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        values                         | lo | hi | expected
+        [1L, 2L, 3L] as long[]         | 1L | 2L | 'values[2] = 3 is out of range'
+        [5, 0, -1] as int[]            | 1  | 5  | 'values[1] = 0 is out of range'
+        [0.5d, Double.NaN] as double[] | 0d | 1d | 'values[1] = NaN is out of range'
+        [0.5f, 1.5f] as float[]        | 0f | 1f | 'values[1] = 1.5 is out of range'
+        null as double[]               | 0d | 1d | 'values[-1] = null is out of range'
+    }
+
+    def 'report the first offending element of a large array'() {
+        given:
+        def values = new double[10000]
+        java.util.Arrays.fill(values, 1d)
+        values[9999] = -1d
+        values[4321] = Double.POSITIVE_INFINITY
+        values[1234] = 0d
+
+        expect:
+        NumericArrayArgs.indexOfNonFinite(values, 0, values.length) == 4321
+        NumericArrayArgs.indexOfZero(values, 0, values.length) == 1234
+        NumericArrayArgs.indexOfNegative(values, 0, values.length) == 9999
+        NumericArrayArgs.indexOfOutOfRange(values, 0, values.length, 0.5d, 1d) == 1234
+        NumericArrayArgs.indexOfOutOfRange(values, 1235, 4321, 0.5d, 1d) == -1
+
+        when:
+        NumericArrayArgs.requireAllFinite(values, 'values[%s] = %s is not finite')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'values[4321] = Infinity is not finite'
+    }
+
+    def 'check only the given sub-range'() {
+        given:
+        def values = [0L, 1L, 2L, 0L] as long[]
+
+        expect:
+        NumericArrayArgs.requireAllNonZero(values, 1, 3, 'zero').is(values)
+
+        when:
+        NumericArrayArgs.requireAllNonZero(values, 1, 4, 'values[%s] = %s is zero')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'values[3] = 0 is zero'
+    }
+
+    def 'detect the minimal values'() {
+        expect:
+        NumericArrayArgs.indexOfZero([Integer.MIN_VALUE, 0] as int[], 0, 2) == 1
+        NumericArrayArgs.indexOfNegative([Long.MAX_VALUE, Long.MIN_VALUE] as long[], 0, 2) == 1
+        NumericArrayArgs.indexOfNegative([-0.0d] as double[], 0, 1) == -1
+        NumericArrayArgs.indexOfZero([-0.0f] as float[], 0, 1) == 0
+    }
+
+    @Unroll
+    def 'fail on an invalid sub-range [#from, #to)'() {
+        when:
+        NumericArrayArgs.indexOfZero(new int[3], from, to)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+
+        where:
+        from | to
+        -1   | 2
+        0    | 4
+        2    | 1
+    }
+}
@@ -0,0 +1,269 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.util.function.Consumer
+import java.util.function.Supplier
+
+/**
+ * @author Yinon Avraham.
+ */
+class NumericTextArgsSpec extends Specification {
+
+    @Unroll
+    def 'require parsable long: "#text" in [#lo, #hi]'() {
+        expect:
+        isSatisfied { NumericTextArgs.requireParsableLong(text, lo, hi, 'not parsable') } == expected
+        isSatisfied { NumericTextArgs.requireParsableLong(ByteBuffer.wrap(text.bytes), lo, hi, 'not parsable') } ==
+                expected
+        isSatisfied {
+            NumericTextArgs.requireParsableLong(" $text ".bytes, 1, text.length() + 1, lo, hi, 'not parsable')
+        } == expected
+
+        where:
+        text                   | lo             | hi             | expected
+        '0'                    | 0              | 0              | true
+        '+42'                  | 0              | 100            | true
+        '-42'                  | -100           | 0              | true
+        '9223372036854775807'  | Long.MIN_VALUE | Long.MAX_VALUE | true
+        '-9223372036854775808' | Long.MIN_VALUE | Long.MAX_VALUE | true
+        '9223372036854775808'  | Long.MIN_VALUE | Long.MAX_VALUE | false
+        '101'                  | 0              | 100            | false
+        '-1'                   | 0              | 100            | false
+        '12345678901234567890' | 0              | 100            | false
+        ''                     | 0              | 100            | false
+        '-'                    | 0              | 100            | false
+        ' 1'                   | 0              | 100            | false
+        '1_000'                | 0              | 10000          | false
+        '0x10'                 | 0              | 100            | false
+    }
+
+    def 'parse long the same as the jdk'() {
+        given:
+        def random = new Random(21)
+
+        expect:
+        (1..10000).every {
+            def text = random.nextBoolean() ? Long.toString(random.nextLong()) : randomText(random, '0123456789+-')
+            expectedLong(text) == parsedLong(text)
+        }
+    }
+
+    @Unroll
+    def 'require parsable int: "#text"'() {
+        expect:
+        isSatisfied { NumericTextArgs.requireParsableInt(text, Integer.MIN_VALUE, Integer.MAX_VALUE, 'nan') } ==
+                expected
+
+        where:
+        text          | expected
+        '2147483647'  | true
+        '-2147483648' | true
+        '2147483648'  | false
+        '-2147483649' | false
+    }
+
+    @Unroll
+    def 'require parsable double: "#text"'() {
+        expect:
+        isSatisfied { NumericTextArgs.requireParsableDouble(text, -1e300, 1e300, 'not parsable') } == expected
+        isSatisfied {
+            NumericTextArgs.requireParsableDouble(" $text ".bytes, 1, text.length() + 1, -1e300, 1e300, 'not parsable')
+        } == expected
+
+        where:
+        text       | expected
+        '1'        | true
+        '-1.5'     | true
+        '.5'       | true
+        '5.'       | true
+        '+1.25e-3' | true
+        '1E10'     | true
+        '1e301'    | false
+        '.'        | false
+        '1e'       | false
+        '1e+'      | false
+        'NaN'      | false
+        'Infinity' | false
+        '1.5d'     | false
+        '0x1p3'    | false
+        ' 1.5'     | false
+    }
+
+    def 'parse double the same as the jdk'() {
+        given:
+        def random = new Random(21)
+
+        expect:
+        (1..10000).every {
+            def text = (random.nextBoolean() ? '-' : '') + random.nextLong().abs() % (10L**random.nextInt(19)) +
+                    '.' + random.nextInt(100000) + (random.nextBoolean() ? 'e' + (random.nextInt(60) - 30) : '')
+            def parsed = NumericTextArgs.requireParsableDouble(text, Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY, 'not parsable')
+            parsed == Double.parseDouble(text)
+        }
+    }
+
+    def 'parse a sub-range of the text'() {
+        expect:
+        NumericTextArgs.requireParsableInt('limit=250&', 6, 9, 1, 1000, 'not parsable') == 250
+        NumericTextArgs.requireParsableLong('a=-7;'.getBytes(StandardCharsets.US_ASCII), 2, 4, -10, 10, 'nan') == -7
+        NumericTextArgs.requireParsableDouble('[2.5]', 1, 4, 0, 10, 'not parsable') == 2.5d
+    }
+
+    def 'parse the remaining bytes of a buffer without moving its position'() {
+        given:
+        def buffer = ByteBuffer.allocateDirect(16)
+        buffer.put('id=12345'.getBytes(StandardCharsets.US_ASCII)).flip()
+        buffer.position(3)
+
+        expect:
+        NumericTextArgs.requireParsableLong(buffer, 0, Long.MAX_VALUE, 'not parsable') == 12345L
+        NumericTextArgs.requireParsableDouble(buffer, 0, 1e6, 'not parsable') == 12345d
+        buffer.position() == 3
+    }
+
+    def 'fail on a sub-range out of the text bounds'() {
+        when:
+        NumericTextArgs.requireParsableInt('123', 1, 4, 0, 100, 'not parsable')
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def 'fail on a sub-range out of the array bounds'() {
+        when:
+        NumericTextArgs.requireParsableDouble('123'.getBytes(StandardCharsets.US_ASCII), 2, 1, 0, 100, 'not parsable')
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def 'fail to require on null values'() {
+        expect:
+        !isSatisfied { NumericTextArgs.requireParsableLong((CharSequence) null, 0, 1, 'is required') }
+        !isSatisfied { NumericTextArgs.requireParsableInt((ByteBuffer) null, 0, 1, 'is required') }
+        !isSatisfied { NumericTextArgs.requireParsableDouble((byte[]) null, 0, 0, 0, 1, 'is required') }
+    }
+
+    @Unroll
+    def 'invoke the message supplier only when the requirement fails on #invalid'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        check.call(valid, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        check.call(invalid, supplier)
+
+        then:
+        1 * supplier.get() >> 'failed'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'failed'
+
+        where:
+        valid | invalid | check
+        '5'   | 'x'     | { v, s -> NumericTextArgs.requireParsableLong(v, 0L, 9L, s) }
+        '5'   | '11'    | { v, s -> NumericTextArgs.requireParsableInt(ByteBuffer.wrap(v.bytes), 0, 9, s) }
+        '.5'  | '1e3'   | { v, s -> NumericTextArgs.requireParsableDouble(v.bytes, 0, v.length(), 0, 1, s) }
+    }
+
+    @Unroll
+    def 'fail with a formatted message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                                          | expected
+        { NumericTextArgs.requireParsableLong('x', 0L, 9L, '%s is not a number', 'x') }      | 'x is not a number'
+        { NumericTextArgs.requireParsableInt('abc', 1, 9, '%s not in [1, %s]', 'limit', 9) } | 'limit not in [1, 9]'
+        { NumericTextArgs.requireParsableLong('11', 0L, 9L, 'above %s', 9L) }                | 'above 9'
+        { NumericTextArgs.requireParsableDouble('2', 0, 1, 'not in [%s, %s]', 0L, 1L) }      | 'not in [0, 1]'
+        { NumericTextArgs.requireParsableInt('x', 0, 9, 'not an int', 'x', 'y') }            | 'not an int [x, y]'
+    }
+
+    def 'parse a text which is not parsable as zero when collecting violations'() {
+        given:
+        def values = []
+
+        when:
+        def violations = Violations.collect('abc', { values << NumericTextArgs.requireParsableInt(it, 1, 10, 'nan') }
+                as Consumer)
+
+        then:
+        violations.messages == ['nan']
+        values == [0]
+    }
+
+    def 'return a parsable value which is out of range when collecting violations'() {
+        given:
+        def values = []
+
+        when:
+        def violations = Violations.collect('1500', {
+            values << NumericTextArgs.requireParsableInt(it, 1, 1000, 'too large')
+            values << NumericTextArgs.requireParsableLong(ByteBuffer.wrap(it.bytes), 1L, 1000L, 'too large')
+            values << NumericTextArgs.requireParsableDouble(it.bytes, 0, 4, 1d, 1000d, 'too large')
+        } as Consumer)
+
+        then:
+        violations.messages == ['too large', 'too large', 'too large']
+        values == [1500, 1500L, 1500d]
+    }
+
+    def 'return a parsable value which is out of range at the off validation level'() {
+        given:
+        Args.validationLevel = ValidationLevel.OFF
+
+        expect:
+        NumericTextArgs.requireParsableInt('-7', 0, 10, 'negative') == -7
+        NumericTextArgs.requireParsableLong('12345678901', 0L, 10L, 'too large') == 12345678901L
+        NumericTextArgs.requireParsableDouble('2.5', 0d, 1d, 'too large') == 2.5d
+        NumericTextArgs.requireParsableInt('2147483648', 0, 10, 'overflow') == 0
+
+        cleanup:
+        Args.validationLevel = ValidationLevel.FULL
+    }
+
+    private static Long expectedLong(String text) {
+        try {
+            return Long.parseLong(text)
+        } catch (NumberFormatException ignored) {
+            return null
+        }
+    }
+
+    private static Long parsedLong(String text) {
+        try {
+            return NumericTextArgs.requireParsableLong(text, Long.MIN_VALUE, Long.MAX_VALUE, 'not parsable')
+        } catch (IllegalArgumentException ignored) {
+            return null
+        }
+    }
+
+    private static String randomText(Random random, String alphabet) {
+        def builder = new StringBuilder()
+        random.nextInt(8).times { builder.append(alphabet.charAt(random.nextInt(alphabet.length()))) }
+        return builder.toString()
+    }
+
+    private static boolean isSatisfied(Closure requirement) {
+        try {
+            requirement.call()
+            return true
+        } catch (IllegalArgumentException ignored) {
+            return false
+        }
+    }
+}
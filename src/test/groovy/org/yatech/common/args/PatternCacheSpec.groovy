@@ -0,0 +1,94 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+
+import java.util.regex.PatternSyntaxException
+
+/**
+ * @author Yinon Avraham.
+ */
+class PatternCacheSpec extends Specification {
+
+    def 'get compiles a pattern once and then reuses it'() {
+        given:
+        def cache = new PatternCache(4)
+
+        when:
+        def first = cache.get('[a-z]+')
+        def second = cache.get('[a-z]+')
+
+        then:
+        first.pattern() == '[a-z]+'
+        first.is(second)
+        cache.size == 1
+        cache.missCount == 1
+        cache.hitCount == 1
+        cache.evictionCount == 0
+    }
+
+    def 'cache size is bounded'() {
+        given:
+        def cache = new PatternCache(4)
+
+        when:
+        (1..10).each { cache.get("a{$it}") }
+
+        then:
+        cache.size == 4
+        cache.missCount == 10
+        cache.evictionCount == 6
+    }
+
+    def 'recently used patterns are evicted last'() {
+        given:
+        def cache = new PatternCache(2)
+        def hot = cache.get('hot')
+        cache.get('cold')
+
+        when:
+        cache.get('hot')
+        cache.get('new')
+
+        then:
+        cache.get('hot').is(hot)
+        cache.evictionCount == 1
+        cache.hitCount == 2
+    }
+
+    def 'clear removes all the patterns'() {
+        given:
+        def cache = new PatternCache()
+        cache.get('a')
+        cache.get('b')
+
+        when:
+        cache.clear()
+
+        then:
+        cache.size == 0
+        cache.maximumSize == PatternCache.DEFAULT_MAXIMUM_SIZE
+    }
+
+    def 'fail to get an invalid pattern'() {
+        given:
+        def cache = new PatternCache()
+
+        when:
+        cache.get('[a-z')
+
+        then:
+        thrown(PatternSyntaxException)
+        cache.size == 0
+    }
+
+    def 'fail to create a cache with a non positive maximum size'() {
+        when:
+        new PatternCache(maximumSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        maximumSize << [0, -1]
+    }
+}
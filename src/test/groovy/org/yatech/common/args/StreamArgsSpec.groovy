@@ -0,0 +1,177 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.BiConsumer
+import java.util.function.Consumer
+import java.util.stream.Collectors
+import java.util.stream.IntStream
+import java.util.stream.Stream
+
+import static org.yatech.common.args.InvalidElementPolicy.COLLECT
+import static org.yatech.common.args.InvalidElementPolicy.FAIL_FAST
+import static org.yatech.common.args.InvalidElementPolicy.SKIP_INVALID
+
+/**
+ * @author Yinon Avraham.
+ */
+class StreamArgsSpec extends Specification {
+
+    static final Consumer<Integer> POSITIVE = { NumericArgs.requirePositive(it as Integer, "$it is not positive") }
+
+    @Unroll
+    def 'validate the elements of an iterator (#policy)'() {
+        given:
+        def invalid = []
+        def iterator = StreamArgs.validating([1, -2, 3, 0].iterator(), POSITIVE, policy,
+                { e, v -> invalid << v.messages } as BiConsumer)
+
+        expect:
+        iterator.collect() == expected
+        invalid == violations
+
+        where:
+        policy       | expected      | violations
+        SKIP_INVALID | [1, 3]        | [['-2 is not positive'], ['0 is not positive']]
+        COLLECT      | [1, -2, 3, 0] | [['-2 is not positive'], ['0 is not positive']]
+    }
+
+    def 'fail fast on the first invalid element of an iterator, only when reaching it'() {
+        given:
+        def iterator = StreamArgs.validating([1, -2, 3].iterator(), POSITIVE, FAIL_FAST)
+
+        expect:
+        iterator.next() == 1
+
+        when:
+        iterator.hasNext()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == '-2 is not positive'
+    }
+
+    def 'validate the elements of a stream lazily'() {
+        given:
+        def checked = []
+        def rule = { checked << it; POSITIVE.accept(it) } as Consumer<Integer>
+
+        when:
+        def first = StreamArgs.validating(Stream.of(-1, 0, 2, 3, 4), rule, SKIP_INVALID).findFirst()
+
+        then:
+        first.get() == 2
+        checked == [-1, 0, 2]
+    }
+
+    def 'fail fast on the first invalid element of a stream'() {
+        when:
+        StreamArgs.validating(Stream.of(1, 2, -3), POSITIVE, FAIL_FAST).collect(Collectors.toList())
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == '-3 is not positive'
+    }
+
+    def 'fail fast on the first invalid element of a stream inside a violations collecting block'() {
+        given:
+        def passed = []
+
+        when:
+        Violations.collect {
+            NumericArgs.requirePositive(0, 'count must be positive')
+            StreamArgs.validating(Stream.of(1, -2, 3), POSITIVE, FAIL_FAST).forEach { passed << it }
+        }
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == '-2 is not positive'
+        passed == [1]
+
+        and: 'the violations of an outer block are still collected after the stream'
+        Violations.collect {
+            NumericArgs.requirePositive(0, 'count must be positive')
+            StreamArgs.validating(Stream.of(1, 2), POSITIVE, FAIL_FAST).count()
+            NumericArgs.requirePositive(-1, 'size must be positive')
+        }.messages == ['count must be positive', 'size must be positive']
+    }
+
+    def 'validate the elements of a parallel stream'() {
+        given:
+        def source = IntStream.range(-50000, 50000).boxed().parallel()
+
+        when:
+        def stream = StreamArgs.validating(source, POSITIVE, SKIP_INVALID)
+
+        then:
+        stream.isParallel()
+        stream.mapToLong { it as long }.sum() == (1..49999).sum()
+    }
+
+    @Unroll
+    def 'keep the characteristics of a spliterator except the sizes (#policy)'() {
+        given:
+        def source = new TreeSet([3, 1, 2]).spliterator()
+
+        when:
+        def spliterator = StreamArgs.validating(source, POSITIVE, policy)
+
+        then:
+        spliterator.hasCharacteristics(Spliterator.SORTED)
+        spliterator.hasCharacteristics(Spliterator.DISTINCT)
+        !spliterator.hasCharacteristics(Spliterator.SIZED)
+        !spliterator.hasCharacteristics(Spliterator.SUBSIZED)
+        spliterator.comparator == null
+
+        where:
+        policy << [FAIL_FAST, COLLECT, SKIP_INVALID]
+    }
+
+    @Unroll
+    def 'validate the elements of a sized stream when counting them (#policy)'() {
+        given:
+        def invalid = []
+        def stream = StreamArgs.validating([1, -2, 3, 0].stream(), POSITIVE, policy,
+                { e, v -> invalid << v.messages } as BiConsumer)
+
+        expect:
+        stream.count() == count
+        invalid == [['-2 is not positive'], ['0 is not positive']]
+
+        where:
+        policy       | count
+        SKIP_INVALID | 2
+        COLLECT      | 4
+    }
+
+    def 'fail fast on an invalid element of a sized stream when counting them'() {
+        when:
+        StreamArgs.validating([1, -2, 3].stream(), POSITIVE, FAIL_FAST).count()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == '-2 is not positive'
+    }
+
+    def 'close the source stream'() {
+        given:
+        def closed = false
+        def source = Stream.of(1).onClose { closed = true }
+
+        when:
+        StreamArgs.validating(source, POSITIVE, FAIL_FAST).close()
+
+        then:
+        closed
+    }
+
+    def 'fail to validate without a rule'() {
+        when:
+        StreamArgs.validating(Stream.of(1), null, FAIL_FAST)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'rule is required'
+    }
+}
@@ -3,6 +3,9 @@ package org.yatech.common.args
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets
+import java.util.function.Supplier
 import java.util.regex.Pattern
 
 /**
@@ -10,6 +13,21 @@ import java.util.regex.Pattern
  */
 class StringArgsSpec extends Specification {
 
+    @Unroll
+    def 'keep the String signature of #name for binary compatibility'() {
+        when:
+        def method = StringArgs.getMethod(name, parameterTypes as Class[])
+
+        then:
+        method.returnType == String
+
+        where:
+        name              | parameterTypes
+        'requireNonBlank' | [String, String]
+        'requireNonEmpty' | [String, String]
+        'requireMatches'  | [String, Pattern, String]
+    }
+
     @Unroll
     def 'successfully require non blank: "#value"'() {
         when:
@@ -35,13 +53,111 @@ class StringArgsSpec extends Specification {
         e.message == 'value is blank'
 
         where:
-        value | _
-        null  | _
-        ''    | _
-        ' '   | _
-        '   ' | _
-        '\t'  | _
-        '\n'  | _
+        value         | _
+        null          | _
+        ''            | _
+        ' '           | _
+        '   '         | _
+        '\t'          | _
+        '\n'          | _
+        ' \u000B\f\r' | _
+    }
+
+    @Unroll
+    def 'require non blank treats only the regex whitespaces as blank: "#value"'() {
+        when:
+        def res = StringArgs.requireNonBlank(value, 'value is blank')
+
+        then:
+        value == res
+
+        where:
+        value              | _
+        '\u3000'           | _
+        '\u00A0'           | _
+        '\u001C'           | _
+        '\uD83D\uDE00'     | _
+        '  \uD83D\uDE00  ' | _
+    }
+
+    @Unroll
+    def 'require non blank with unicode whitespaces: "#value"'() {
+        when:
+        def res = StringArgs.requireNonBlank(value, StringArgs.Whitespace.UNICODE, 'value is blank')
+
+        then:
+        value == res
+
+        where:
+        value             | _
+        'foo'             | _
+        '\u3000foo\u2003' | _
+        '\u00A0'          | _
+        '\uD83D\uDE00'    | _
+    }
+
+    @Unroll
+    def 'fail to require non blank with unicode whitespaces: "#value"'() {
+        when:
+        StringArgs.requireNonBlank(value, StringArgs.Whitespace.UNICODE, 'value is blank')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'value is blank'
+
+        where:
+        value          | _
+        null           | _
+        ''             | _
+        ' \t\n'        | _
+        '\u3000\u2003' | _
+        '\u001C'       | _
+    }
+
+    @Unroll
+    def 'successfully require non blank with trimmed length in [#min, #max]: "#value"'() {
+        when:
+        def res = StringArgs.requireNonBlank(value, min, max, 'invalid value')
+
+        then:
+        value == res
+
+        where:
+        value         | min | max
+        'a'           | 1   | 1
+        '  ab  '      | 2   | 2
+        ' a b '       | 0   | 3
+        '\tfoo bar\n' | 1   | 7
+    }
+
+    @Unroll
+    def 'fail to require non blank with trimmed length in [#min, #max]: "#value"'() {
+        when:
+        StringArgs.requireNonBlank(value, min, max, 'invalid value')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'invalid value'
+
+        where:
+        value     | min | max
+        null      | 0   | 10
+        ''        | 0   | 10
+        '   '     | 0   | 10
+        '  abc  ' | 1   | 2
+        '  abc  ' | 4   | 10
+    }
+
+    def 'require non blank with unicode whitespaces and trimmed length'() {
+        expect:
+        StringArgs.requireNonBlank('\u3000ab\u2003', StringArgs.Whitespace.UNICODE, 2, 2, 'invalid') == '\u3000ab\u2003'
+
+        when:
+        StringArgs.requireNonBlank('\u3000ab\u2003', StringArgs.Whitespace.ASCII, 2, 2, 'invalid')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'invalid'
     }
 
     @Unroll
@@ -109,4 +225,200 @@ class StringArgsSpec extends Specification {
         '123' | ~/[a-z]+/
     }
 
+    @Unroll
+    def 'require matches a regex: "#value", regex: #regex'() {
+        given:
+        def cache = new PatternCache()
+        def originalCache = StringArgs.patternCache
+        StringArgs.patternCache = cache
+
+        when:
+        def res = StringArgs.requireMatches(value, regex, 'value pattern mismatch')
+
+        then:
+        res == value
+
+        when:
+        StringArgs.requireMatches(mismatch, regex, 'value pattern mismatch')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'value pattern mismatch'
+        cache.hitCount == 1
+        cache.missCount == 1
+
+        cleanup:
+        StringArgs.patternCache = originalCache
+
+        where:
+        value         | mismatch | regex
+        'foo bar 123' | null     | '.*'
+        '1234'        | 'foo'    | '\\d+'
+        'abc'         | '123'    | '[a-z]+'
+    }
+
+    def 'fail to set a null pattern cache'() {
+        when:
+        StringArgs.patternCache = null
+
+        then:
+        thrown(IllegalArgumentException)
+        StringArgs.patternCache != null
+    }
+
+    @Unroll
+    def 'check a string without throwing: #expected'() {
+        expect:
+        check.call() == expected
+
+        where:
+        check                                                              | expected
+        { StringArgs.isNonBlank(' a ') }                                   | true
+        { StringArgs.isNonBlank(' ') }                                     | false
+        { StringArgs.isNonBlank(null) }                                    | false
+        { StringArgs.isNonBlank('\u2003', StringArgs.Whitespace.UNICODE) } | false
+        { StringArgs.isNonBlank(' ab ', 1, 2) }                            | true
+        { StringArgs.isNonBlank(' abc ', 1, 2) }                           | false
+        { StringArgs.isNonEmpty('') }                                      | false
+        { StringArgs.isMatching('123', ~/\d+/) }                           | true
+        { StringArgs.isMatching('abc', '\\d+') }                           | false
+        { StringArgs.isMatching(null, '.*') }                              | false
+    }
+
+    @Unroll
+    def 'require non blank, non empty and matches on a #type without copying it'() {
+        expect:
+        StringArgs.requireNonBlank(value, 'value is blank').is(value)
+        StringArgs.requireNonEmpty(value, 'value is empty').is(value)
+        StringArgs.requireMatches(value, ~/\s*foo/, 'value does not match').is(value)
+
+        where:
+        value                              | type
+        new StringBuilder(' foo')          | 'StringBuilder'
+        CharBuffer.wrap('xx foo yy', 2, 6) | 'CharBuffer'
+    }
+
+    @Unroll
+    def 'require length of "#value" in [#min, #max]: #expected'() {
+        expect:
+        isSatisfied { StringArgs.requireMinLength(value, min, 'too short') } == (expected || value?.length() > max)
+        isSatisfied { StringArgs.requireMaxLength(value, max, 'too long') } == (expected || value?.length() < min)
+        (StringArgs.isAtLeastMinLength(value, min) && StringArgs.isWithinMaxLength(value, max)) == expected
+
+        where:
+        value                   | min | max | expected
+        'abc'                   | 1   | 3   | true
+        new StringBuilder('ab') | 2   | 2   | true
+        ''                      | 1   | 3   | false
+        'abcd'                  | 1   | 3   | false
+    }
+
+    def 'fail to require length of a null value'() {
+        expect:
+        !isSatisfied { StringArgs.requireMinLength(null, 0, 'is required') }
+        !isSatisfied { StringArgs.requireMaxLength(null, 10, 'is required') }
+    }
+
+    @Unroll
+    def 'require ascii and no control chars: "#value"'() {
+        expect:
+        isSatisfied { StringArgs.requireAscii(value, 'not ascii') } == ascii
+        isSatisfied { StringArgs.requireNoControlChars(value, 'has control chars') } == noControlChars
+
+        where:
+        value                     | ascii | noControlChars
+        'foo bar'                 | true  | true
+        new StringBuilder('foo~') | true  | true
+        'caf\u00e9'               | false | true
+        'foo\tbar'                | true  | false
+        'foo\u0085'               | false | false
+        '\u007f'                  | true  | false
+        ''                        | true  | true
+        null                      | false | false
+    }
+
+    @Unroll
+    def 'require max utf-8 length #max of "#value" without encoding it'() {
+        given:
+        def utf8Length = value.toString().getBytes(StandardCharsets.UTF_8).length
+
+        expect:
+        StringArgs.isWithinMaxUtf8Length(value, utf8Length)
+        !StringArgs.isWithinMaxUtf8Length(value, utf8Length - 1)
+        isSatisfied { StringArgs.requireMaxUtf8Length(value, max, 'too long') } == (utf8Length <= max)
+
+        where:
+        value                        | max
+        'foo'                        | 3
+        'caf\u00e9'                  | 4
+        '\u20ac100'                  | 5
+        '\ud83d\ude00!'              | 5
+        new StringBuilder('\ud83dx') | 2
+        'x\udc00\ud800'              | 3
+        '\u0800\u0800'               | 6
+    }
+
+    def 'fail to require max utf-8 length of a null value'() {
+        expect:
+        !isSatisfied { StringArgs.requireMaxUtf8Length(null, 10, 'is required') }
+        !StringArgs.isWithinMaxUtf8Length(null, 10)
+    }
+
+    @Unroll
+    def 'invoke the message supplier only when the requirement fails on #invalid'() {
+        given:
+        def supplier = Mock(Supplier)
+
+        when:
+        check.call(valid, supplier)
+
+        then:
+        0 * supplier.get()
+
+        when:
+        check.call(invalid, supplier)
+
+        then:
+        1 * supplier.get() >> 'failed'
+        def e = thrown(IllegalArgumentException)
+        e.message == 'failed'
+
+        where:
+        valid | invalid     | check
+        'a'   | ' '         | { v, s -> StringArgs.requireNonBlank(v, s) }
+        'a'   | ''          | { v, s -> StringArgs.requireNonEmpty(v, s) }
+        'abc' | 'ab'        | { v, s -> StringArgs.requireMinLength(v, 3, s) }
+        'abc' | 'abcd'      | { v, s -> StringArgs.requireMaxLength(v, 3, s) }
+        'abc' | 'ABC'       | { v, s -> StringArgs.requireMatches(v, ~/[a-z]+/, s) }
+        'abc' | 'caf\u00e9' | { v, s -> StringArgs.requireAscii(v, s) }
+    }
+
+    @Unroll
+    def 'fail with a formatted message template: "#expected"'() {
+        when:
+        requirement.call()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == expected
+
+        where:
+        requirement                                                               | expected
+        { StringArgs.requireNonBlank(' ', '%s is blank', 'name') }                | 'name is blank'
+        { StringArgs.requireNonEmpty('', '%s of %s is empty', 'name', 'user') }   | 'name of user is empty'
+        { StringArgs.requireMaxLength('abcd', 3, 'longer than %s', 3L) }          | 'longer than 3'
+        { StringArgs.requireMinLength('ab', 3, 'length %s is below %s', 2L, 3L) } | 'length 2 is below 3'
+        { StringArgs.requireMatches('ABC', ~/[a-z]+/, 'invalid value', 'ABC') }   | 'invalid value [ABC]'
+        { StringArgs.requireAscii('caf\u00e9', 'not ascii', 3L, 4L) }             | 'not ascii [3, 4]'
+        { StringArgs.requireNonBlank(' ', '%s is blank: %s', 'name') }            | 'name is blank: %s'
+    }
+
+    private static boolean isSatisfied(Closure requirement) {
+        try {
+            requirement.call()
+            return true
+        } catch (IllegalArgumentException ignored) {
+            return false
+        }
+    }
 }
@@ -0,0 +1,159 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.BiPredicate
+import java.util.function.Function
+import java.util.function.IntPredicate
+import java.util.function.Predicate
+import java.util.function.ToIntFunction
+import java.util.function.ToLongFunction
+
+/**
+ * @author Yinon Avraham.
+ */
+class ValidatorSpec extends Specification {
+
+    static class Person {
+        String name
+        int age
+        List<String> tags
+        Person partner
+    }
+
+    static final Validator<Person> PERSON = Validator.<Person> builder()
+            .requireNonBlank({ it.name } as Function, 'name is required')
+            .requireMatches({ it.name } as Function, ~/[A-Z][a-z]*/, 'name must be capitalized')
+            .requireInRange({ it.age as long } as ToLongFunction, 0, 150, 'age must be in [0, 150]')
+            .requireSatisfiesInt({ it.age } as ToIntFunction, { it % 2 == 0 } as IntPredicate, 'age must be even')
+            .requireMaxSize({ it.tags } as Function, 2, 'too many tags')
+            .build()
+
+    def 'successfully validate'() {
+        given:
+        def person = new Person(name: 'Alice', age: 30, tags: ['a'])
+
+        expect:
+        PERSON.validate(person).is(person)
+        PERSON.size() == 5
+    }
+
+    @Unroll
+    def 'fail to validate: #message'() {
+        given:
+        def person = new Person(name: name, age: age, tags: tags)
+
+        when:
+        PERSON.validate(person)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == message
+
+        where:
+        name    | age | tags            | message
+        null    | 30  | []              | 'name is required'
+        ' '     | 30  | []              | 'name is required'
+        'alice' | 30  | []              | 'name must be capitalized'
+        'Alice' | -2  | []              | 'age must be in [0, 150]'
+        'Alice' | 31  | []              | 'age must be even'
+        'Alice' | 30  | ['a', 'b', 'c'] | 'too many tags'
+        'Alice' | 30  | null            | 'too many tags'
+    }
+
+    def 'validate all collects all the violations'() {
+        given:
+        def person = new Person(name: 'alice', age: 31, tags: ['a', 'b', 'c'])
+
+        when:
+        def violations = PERSON.validateAll(person)
+
+        then:
+        violations.messages == ['name must be capitalized', 'age must be even', 'too many tags']
+    }
+
+    def 'validate all a valid value'() {
+        expect:
+        PERSON.validateAll(new Person(name: 'Alice', age: 30, tags: [])).empty
+    }
+
+    def 'fail to validate null'() {
+        when:
+        PERSON.validate(null)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'validate a nested value'() {
+        given:
+        def validator = Validator.<Person> builder()
+                .requireNonNull({ it.name } as Function, 'name is required')
+                .requireValid({ it.partner } as Function, PERSON, 'partner is required')
+                .build()
+
+        when:
+        validator.validate(new Person(name: 'Bob', partner: new Person(name: 'alice', age: 30, tags: [])))
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'name must be capitalized'
+    }
+
+    def 'fail to validate a null nested value'() {
+        given:
+        def validator = Validator.<Person> builder()
+                .requireValid({ it.partner } as Function, PERSON, 'partner is required')
+                .build()
+
+        expect:
+        validator.validateAll(new Person(name: 'Bob')).messages == ['partner is required']
+
+        when:
+        validator.validate(new Person(name: 'Bob'))
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'partner is required'
+    }
+
+    def 'validate with generic predicates'() {
+        given:
+        def validator = Validator.<Person> builder()
+                .requireSatisfies({ it.tags } as Function, { it.every { tag -> !tag.empty } } as Predicate,
+                        'empty tag')
+                .requireSatisfies({ it.tags } as Function, 'x', { t, c -> !t.contains(c) } as BiPredicate,
+                        'tag x is reserved')
+                .build()
+
+        expect:
+        validator.validate(new Person(tags: ['a', 'b']))
+
+        when:
+        validator.validate(new Person(tags: tags))
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == message
+
+        where:
+        tags       | message
+        ['a', '']  | 'empty tag'
+        ['a', 'x'] | 'tag x is reserved'
+    }
+
+    def 'a built validator is not affected by the builder'() {
+        given:
+        def builder = Validator.<Person> builder()
+                .requireNonNull({ it.name } as Function, 'name is required')
+        def validator = builder.build()
+
+        when:
+        builder.requireNonNull({ it.tags } as Function, 'tags are required')
+
+        then:
+        validator.size() == 1
+        builder.build().size() == 2
+    }
+}
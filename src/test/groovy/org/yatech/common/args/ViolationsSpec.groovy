@@ -0,0 +1,134 @@
+package org.yatech.common.args
+
+import spock.lang.Specification
+
+import java.util.function.Consumer
+import java.util.function.Supplier
+
+/**
+ * @author Yinon Avraham.
+ */
+class ViolationsSpec extends Specification {
+
+    def 'collect no violations'() {
+        when:
+        def violations = Violations.collect {
+            StringArgs.requireNonBlank('foo', 'name is required')
+            NumericArgs.requirePositive(1, 'count must be positive')
+        }
+
+        then:
+        violations.empty
+        violations.size() == 0
+        violations.messages == []
+
+        when:
+        violations.throwIfAny()
+
+        then:
+        notThrown(IllegalArgumentException)
+    }
+
+    def 'collect all the violations in order'() {
+        when:
+        def violations = Violations.collect {
+            StringArgs.requireNonBlank(' ', 'name is required')
+            NumericArgs.requirePositive(0, 'count must be positive')
+            NumericArgs.requireInRange((Long) null, 0, true, 10, true, 'size must be in [%s, %s]', 0, 10)
+            CollectionArgs.requireNonEmpty([], { 'tags are required' } as Supplier)
+            Args.requireNonNull('ok', 'never')
+        }
+
+        then:
+        violations.size() == 4
+        violations.messages == ['name is required', 'count must be positive', 'size must be in [0, 10]',
+                                'tags are required']
+
+        when:
+        violations.throwIfAny()
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'name is required; count must be positive; size must be in [0, 10]; tags are required'
+    }
+
+    def 'collect violations of a value'() {
+        when:
+        def violations = Violations.collect(-1, { NumericArgs.requireNonNegative(it, 'negative') } as Consumer)
+
+        then:
+        violations.messages == ['negative']
+    }
+
+    def 'requirements throw outside of collect'() {
+        given:
+        Violations.collect { NumericArgs.requirePositive(0, 'inside') }
+
+        when:
+        NumericArgs.requirePositive(0, 'outside')
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == 'outside'
+    }
+
+    def 'nested collect blocks report their own violations'() {
+        given:
+        def inner = null
+
+        when:
+        def outer = Violations.collect {
+            NumericArgs.requirePositive(0, 'outer 1')
+            inner = Violations.collect { NumericArgs.requirePositive(0, 'inner') }
+            NumericArgs.requirePositive(0, 'outer 2')
+        }
+
+        then:
+        inner.messages == ['inner']
+        outer.messages == ['outer 1', 'outer 2']
+    }
+
+    def 'collect stops on an exception of the block'() {
+        when:
+        Violations.collect {
+            NumericArgs.requirePositive(0, 'count must be positive')
+            throw new IllegalStateException('boom')
+        }
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        def violations = Violations.collect { NumericArgs.requirePositive(1, 'count must be positive') }
+
+        then:
+        violations.empty
+    }
+
+    def 'violations messages are unmodifiable'() {
+        given:
+        def violations = Violations.collect { NumericArgs.requirePositive(0, 'count must be positive') }
+
+        when:
+        violations.messages.add('foo')
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def 'throw the violations with the exception of the failure factory of the current block'() {
+        given:
+        def factory = { message -> new IllegalStateException(message) } as FailureFactory
+        def violations = Violations.collect {
+            NumericArgs.requirePositive(0, 'count must be positive')
+            StringArgs.requireNonBlank(' ', 'name is required')
+        }
+
+        when:
+        Args.withFailureFactory(factory, { violations.throwIfAny() } as Runnable)
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == 'count must be positive; name is required'
+    }
+}